@@ -0,0 +1,305 @@
+package com.personal.backend.admission;
+
+import com.personal.backend.config.order.AdmissionProperties;
+import com.personal.backend.dto.OrderDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.exception.TooManyRequestsException;
+import com.personal.backend.repository.ProductRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 생성 앞에서 상품별로 DB까지 보낼 주문 수를 제한하는 접수 창구입니다.
+ * 한 상품에 주문이 몰려도 DB 커넥션과 요청 스레드가 그 상품의 재고 UPDATE를 기다리며 모두 묶이지 않도록,
+ * - 상품별로 동시에 진행하는 주문은 maxConcurrent개, 차례를 기다리는 주문은 queueCapacity개까지만 받고
+ * - 메모리에 둔 남은 재고 추정치보다 많은 주문은 DB에 보내지 않고
+ * 나머지는 바로 429로 돌려보냅니다.
+ * 남은 재고 추정치는 이 서버 안에서만 유지하는 근사값이며, 실제 재고 확인은 여전히 DB의 조건부 UPDATE가 담당합니다.
+ * 트랜잭션이 시작되기 전에 거절해야 커넥션을 잡지 않으므로, 컨트롤러에서 OrderService를 호출할 때 감싸서 사용합니다.
+ */
+@Component
+public class CheckoutAdmissionGate {
+
+    private static final String METRIC_NAME = "order.admission";
+
+    private final AdmissionProperties properties;
+    private final ProductRepository productRepository;
+    private final Clock clock;
+    private final ConcurrentMap<Long, ProductGate> gates = new ConcurrentHashMap<>();
+
+    private final Counter admitted;
+    private final Counter rejectedBusy;
+    private final Counter rejectedSoldOut;
+
+    @Autowired
+    public CheckoutAdmissionGate(AdmissionProperties properties, ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this(properties, productRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    CheckoutAdmissionGate(AdmissionProperties properties, ProductRepository productRepository, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.productRepository = productRepository;
+        this.clock = clock;
+
+        this.admitted = Counter.builder(METRIC_NAME).tag("result", "admitted").register(meterRegistry);
+        this.rejectedBusy = Counter.builder(METRIC_NAME).tag("result", "busy").register(meterRegistry);
+        this.rejectedSoldOut = Counter.builder(METRIC_NAME).tag("result", "sold_out").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".products", gates, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 주문에 담긴 모든 상품의 차례를 얻은 뒤 checkout을 실행합니다.
+     * 하나라도 얻지 못하면 checkout을 실행하지 않고 {@link TooManyRequestsException}을 던집니다.
+     * checkout이 성공하면 접수한 수량은 DB의 예약 수량에 반영된 것으로 보고, 실패하면 남은 재고 추정치에 되돌립니다.
+     */
+    public <T> T admit(List<OrderDto.OrderItemRequest> items, Supplier<T> checkout) {
+        if (!properties.enabled()) {
+            return checkout.get();
+        }
+
+        // 상품 ID 오름차순으로 차례를 얻어, 여러 상품을 담은 주문끼리 서로의 차례를 붙잡고 기다리지 않도록 합니다.
+        Map<Long, Integer> quantities = new TreeMap<>();
+        items.stream()
+                .filter(item -> item.productId() != null)
+                .forEach(item -> quantities.merge(item.productId(), item.count(), Integer::sum));
+
+        List<Ticket> tickets = new ArrayList<>(quantities.size());
+        boolean succeeded = false;
+        try {
+            for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+                tickets.add(gateFor(entry.getKey()).enter(entry.getValue()));
+            }
+            admitted.increment();
+            T result = checkout.get();
+            succeeded = true;
+            return result;
+        } finally {
+            for (Ticket ticket : tickets) {
+                ticket.leave(succeeded);
+            }
+        }
+    }
+
+    /**
+     * 주문 가능 재고가 바뀐 상품(주문 취소, 관리자 수정 등)은 다음 주문 때 남은 재고를 DB에서 다시 읽도록 표시합니다.
+     * 결제 완료처럼 이미 접수한 예약 수량이 재고 차감으로 바뀌기만 한 변경은 추정치에 반영되어 있으므로 다시 읽지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.availableStockChanged()) {
+            return;
+        }
+        ProductGate gate = gates.get(event.productId());
+        if (gate != null) {
+            gate.markStale();
+        }
+    }
+
+    /**
+     * 한동안 주문이 없던 상품의 접수 상태를 제거합니다.
+     * 제거 직전에 들어온 주문이 새로 만든 상태와 잠시 나뉠 수 있지만, 재고는 DB가 최종적으로 확인하므로 문제가 되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${order.admission.idle-timeout:PT10M}", initialDelayString = "${order.admission.idle-timeout:PT10M}")
+    public void evictIdle() {
+        long now = clock.millis();
+        gates.values().removeIf(gate -> gate.isIdle(now));
+    }
+
+    int trackedProducts() {
+        return gates.size();
+    }
+
+    private ProductGate gateFor(Long productId) {
+        return gates.computeIfAbsent(productId, ProductGate::new);
+    }
+
+    private TooManyRequestsException busy() {
+        rejectedBusy.increment();
+        return new TooManyRequestsException("주문이 몰려 잠시 접수를 멈췄습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds());
+    }
+
+    private TooManyRequestsException soldOut(Long productId) {
+        rejectedSoldOut.increment();
+        return new TooManyRequestsException("재고가 모두 소진되었습니다. (상품 ID: " + productId + ")", retryAfterSeconds());
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, properties.retryAfter().toSeconds());
+    }
+
+    private final class ProductGate {
+
+        private final Long productId;
+        private final Semaphore permits = new Semaphore(properties.maxConcurrent());
+        private final AtomicInteger waiting = new AtomicInteger();
+        private volatile long lastUsedAt = clock.millis();
+
+        // 아래 값들은 lock으로 보호합니다. DB 조회 중에는 lock을 잡지 않으므로 다른 요청이 조회를 기다리며 묶이지 않습니다.
+        // remaining: DB의 주문 가능 재고에서 처리 중인 주문 수량(inFlight)을 뺀 추정치
+        // tracked: 상품을 찾지 못하면 재고로 거르지 않고 그대로 보내 주문 서비스가 404로 응답하게 합니다.
+        // generation: 상품 변경 이벤트를 받을 때마다 늘려, DB 조회 중에 들어온 변경을 놓치지 않도록 합니다.
+        private final ReentrantLock lock = new ReentrantLock();
+        private int remaining;
+        private int inFlight;
+        private boolean tracked;
+        private boolean stale = true;
+        private long refreshedAt;
+        private long generation;
+
+        // DB 조회는 한 번에 한 요청만 보내고, 그동안 기다린 요청은 그 결과를 그대로 씁니다.
+        private final ReentrantLock refreshLock = new ReentrantLock();
+
+        private ProductGate(Long productId) {
+            this.productId = productId;
+        }
+
+        Ticket enter(int quantity) {
+            lastUsedAt = clock.millis();
+            takeStock(quantity);
+            try {
+                acquirePermit();
+            } catch (TooManyRequestsException e) {
+                returnStock(quantity, false);
+                throw e;
+            }
+            return new Ticket(this, quantity);
+        }
+
+        private void takeStock(int quantity) {
+            if (needsRefresh(quantity)) {
+                refresh(quantity);
+            }
+            lock.lock();
+            try {
+                if (!tracked) {
+                    return;
+                }
+                if (remaining < quantity) {
+                    throw soldOut(productId);
+                }
+                remaining -= quantity;
+                inFlight += quantity;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 남은 재고가 부족할 때만, 그것도 stockRefreshInterval에 한 번만 DB를 읽으므로 품절 상품에 몰린 주문이 DB로 번지지 않습니다.
+        private boolean needsRefresh(int quantity) {
+            lock.lock();
+            try {
+                return stale || (tracked && remaining < quantity && clock.millis() - refreshedAt >= properties.stockRefreshInterval().toMillis());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refresh(int quantity) {
+            refreshLock.lock();
+            try {
+                // 기다리는 사이 앞선 요청이 이미 다시 읽었으면 그 결과를 씁니다.
+                if (!needsRefresh(quantity)) {
+                    return;
+                }
+                long startedGeneration;
+                lock.lock();
+                try {
+                    startedGeneration = generation;
+                } finally {
+                    lock.unlock();
+                }
+                Integer available = productRepository.findAvailableStockById(productId).orElse(null);
+                lock.lock();
+                try {
+                    tracked = available != null;
+                    remaining = tracked ? available - inFlight : 0;
+                    stale = generation != startedGeneration;
+                    refreshedAt = clock.millis();
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private void returnStock(int quantity, boolean reserved) {
+            lock.lock();
+            try {
+                if (!tracked) {
+                    return;
+                }
+                inFlight = Math.max(0, inFlight - quantity);
+                if (!reserved) {
+                    remaining += quantity;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void acquirePermit() {
+            if (permits.tryAcquire()) {
+                return;
+            }
+            if (waiting.incrementAndGet() > properties.queueCapacity()) {
+                waiting.decrementAndGet();
+                throw busy();
+            }
+            try {
+                if (!permits.tryAcquire(properties.maxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw busy();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw busy();
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        void markStale() {
+            lock.lock();
+            try {
+                stale = true;
+                generation++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isIdle(long now) {
+            return now - lastUsedAt >= properties.idleTimeout().toMillis()
+                    && permits.availablePermits() == properties.maxConcurrent()
+                    && waiting.get() == 0;
+        }
+    }
+
+    private record Ticket(ProductGate gate, int quantity) {
+
+        void leave(boolean reserved) {
+            gate.permits.release();
+            gate.returnStock(quantity, reserved);
+        }
+    }
+}
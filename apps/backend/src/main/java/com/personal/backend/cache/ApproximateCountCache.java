@@ -0,0 +1,121 @@
+package com.personal.backend.cache;
+
+import com.personal.backend.config.cache.ApproximateCountProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 조건(필터)별 대략적인 전체 개수를 보관하는 캐시입니다.
+ * 처음 요청된 조건은 바로 COUNT 쿼리를 실행하고, 이후에는 저장된 값을 반환합니다.
+ * TTL이 지난 값도 그대로 반환하되 백그라운드에서 한 번만 다시 계산하므로 요청이 COUNT 쿼리를 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class ApproximateCountCache {
+
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Map<String, Entry> entries;
+
+    // 같은 조건의 갱신이 동시에 여러 번 실행되지 않도록 갱신 중인 키를 기록합니다.
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ApproximateCountCache(ApproximateCountProperties properties) {
+        this(properties, Clock.systemUTC(), newRefreshExecutor());
+    }
+
+    ApproximateCountCache(ApproximateCountProperties properties, Clock clock, Executor refreshExecutor) {
+        this.maximumSize = properties.maximumSize();
+        this.ttlMillis = properties.ttl().toMillis();
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ApproximateCountCache.this.maximumSize;
+            }
+        };
+    }
+
+    // COUNT 쿼리가 커넥션 풀을 점유하지 않도록 갱신은 한 스레드에서 순서대로 처리하고, 밀리면 건너뜁니다.
+    private static Executor newRefreshExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("approximate-count-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 조건에 해당하는 대략적인 전체 개수를 반환합니다.
+     * @param key 조회 조건을 나타내는 키 (예: "reviews:product:1")
+     * @param counter 실제 개수를 구하는 COUNT 쿼리
+     */
+    public long get(String key, LongSupplier counter) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            long count = counter.getAsLong();
+            put(key, count);
+            return count;
+        }
+        if (clock.millis() - entry.refreshedAt() > ttlMillis) {
+            refreshAsync(key, counter);
+        }
+        return entry.count();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void refreshAsync(String key, LongSupplier counter) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    put(key, counter.getAsLong());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh approximate count for {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 작업이 밀려 있으면 이번 갱신은 건너뛰고 다음 요청 때 다시 시도합니다.
+            refreshing.remove(key);
+        }
+    }
+
+    private void put(String key, long count) {
+        synchronized (entries) {
+            entries.put(key, new Entry(count, clock.millis()));
+        }
+    }
+
+    private record Entry(long count, long refreshedAt) {}
+}
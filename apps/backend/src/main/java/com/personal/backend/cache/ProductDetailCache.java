@@ -0,0 +1,121 @@
+package com.personal.backend.cache;
+
+import com.personal.backend.config.cache.ProductCacheProperties;
+import com.personal.backend.dto.ProductDto;
+import com.personal.backend.event.ProductChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 상세 응답 중 사용자와 무관한 부분(isLiked 제외)을 보관하는 프로세스 내 캐시입니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, TTL이 지난 항목은 조회 시 만료시킵니다.
+ * 상품이 변경되면 트랜잭션 커밋 이후 {@link ProductChangedEvent}를 받아 해당 항목을 제거합니다.
+ */
+@Component
+public class ProductDetailCache {
+
+    private static final String CACHE_NAME = "productDetail";
+
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Long, Entry> entries;
+
+    // 무효화가 일어날 때마다 증가합니다. 조회 도중 무효화가 발생했다면 읽어 온 값은 오래된 값일 수 있으므로 저장하지 않습니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public ProductDetailCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    ProductDetailCache(ProductCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.maximumSize = properties.maximumSize();
+        this.ttlMillis = properties.ttl().toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean full = size() > ProductDetailCache.this.maximumSize;
+                if (full) {
+                    evictions.increment();
+                }
+                return full;
+            }
+        };
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", this, ProductDetailCache::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 상품 응답을 찾고, 없거나 만료되었으면 loader로 읽어 와 저장합니다.
+     * 반환되는 응답의 isLiked는 항상 false이므로 호출하는 쪽에서 사용자별 값을 덮어써야 합니다.
+     */
+    public ProductDto.Response getOrLoad(Long productId, Supplier<ProductDto.Response> loader) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(productId);
+            if (entry != null && entry.expiresAt() > now) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(productId);
+            }
+        }
+        misses.increment();
+
+        long invalidationsBeforeLoad = invalidations.get();
+        ProductDto.Response loaded = loader.get().withLiked(false);
+
+        synchronized (entries) {
+            if (invalidations.get() == invalidationsBeforeLoad) {
+                entries.put(productId, new Entry(loaded, clock.millis() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Long productId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(productId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 무효화해야 커밋 전의 값이 다시 캐시에 채워지는 것을 막을 수 있습니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.productId());
+    }
+
+    private record Entry(ProductDto.Response value, long expiresAt) {}
+}
@@ -59,6 +59,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/products/**", "/categories/**","/qna/**","/reviews/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/graphql/**", "/graphiql/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // 메트릭에는 내부 구성과 트래픽 정보가 드러나므로 관리자(수집 서버 계정)만 읽을 수 있습니다.
+                        .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
                         
                         // 위에서 지정한 경로 외의 모든 요청은 인증을 요구
                         .anyRequest().authenticated()
@@ -0,0 +1,18 @@
+package com.personal.backend.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'cache.approximate-count'로 시작하는 설정값들을 담는 클래스
+ * @param maximumSize 개수를 보관할 최대 필터(조회 조건) 수
+ * @param ttl 이 시간이 지난 개수는 응답에 그대로 사용하되 백그라운드에서 다시 계산합니다.
+ */
+@ConfigurationProperties(prefix = "cache.approximate-count")
+public record ApproximateCountProperties(
+    @DefaultValue("10000") int maximumSize,
+    @DefaultValue("30s") Duration ttl
+) {
+}
@@ -0,0 +1,18 @@
+package com.personal.backend.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'cache.product-detail'로 시작하는 설정값들을 담는 클래스
+ * @param maximumSize 캐시에 보관할 최대 상품 수 (초과 시 가장 오래 사용되지 않은 항목부터 제거)
+ * @param ttl 항목이 저장된 후 만료되기까지의 시간
+ */
+@ConfigurationProperties(prefix = "cache.product-detail")
+public record ProductCacheProperties(
+    @DefaultValue("1000") int maximumSize,
+    @DefaultValue("5m") Duration ttl
+) {
+}
@@ -1,6 +1,5 @@
 package com.personal.backend.config.data;
 
-import com.personal.backend.config.oci.OciProperties;
 import com.personal.backend.domain.*;
 import com.personal.backend.repository.*;
 
@@ -30,7 +29,6 @@ public class DataInitializer implements CommandLineRunner {
     private final OrderRepository orderRepository;
     private final PasswordEncoder passwordEncoder;
     private final Dataproperties dataproperties;
-    private final OciProperties ociproperties;
 
     @Override
     @Transactional
@@ -99,16 +97,15 @@ public class DataInitializer implements CommandLineRunner {
         categoryRepository.findByName("문구")
                 .orElseGet(() -> categoryRepository.save(new Category("문구")));
 
-        String testOciUrl = "https://objectstorage.ap-chuncheon-1.oraclecloud.com/n/"+ociproperties.namespace()+"/b/"+ociproperties.bucketName()+"/o/";
         
         List<Product> products = List.of(
-            Product.builder().name("고성능 노트북").description("최신 M4 칩이 탑재된 노트북입니다.").price(2500000).imageUrl(List.of(testOciUrl+"1252cac8-e82d-458e-a5a1-b245a6364ae7_laptop.jpg")).category(computers).user(user).stockQuantity(10).discountRate(0.1).build(),
-            Product.builder().name("기계식 키보드").description("타건감이 뛰어난 기계식 키보드입니다.").price(120000).imageUrl(List.of(testOciUrl+"30371fe9-4dae-49da-a61a-7c5eee276106_keyboard.jpg")).category(computers).user(user).stockQuantity(10).discountRate(0.0).build(),
-            Product.builder().name("QHD 모니터").description("27인치 고해상도 모니터입니다.").price(350000).imageUrl(List.of(testOciUrl+"55b7f62b-f789-4843-b6b3-6e66ec809baf_monitor.jpg")).category(computers).user(user).stockQuantity(10).discountRate(0.0).build(),
-            Product.builder().name("편안한 반팔 티셔츠").description("100% 순면으로 만든 부드러운 티셔츠입니다.").price(25000).imageUrl(List.of(testOciUrl+"330fc4ef-15cb-4cca-a25f-f5eaf2caab85_tshirt.jpg")).category(clothes).user(user).stockQuantity(10).discountRate(0.0).build(),
-            Product.builder().name("데님 청바지").description("어디에나 잘 어울리는 클래식한 청바지입니다.").price(79000).imageUrl(List.of(testOciUrl+"b958d224-576c-4262-bcec-e491005cbacd_jeans.jpg")).category(clothes).user(user).stockQuantity(10).discountRate(0.0).build(),
-            Product.builder().name("스프링 부트 완벽 가이드").description("실무 예제로 배우는 스프링 부트의 모든 것.").price(38000).imageUrl(List.of(testOciUrl+"66820148-d942-4199-89e9-57a3f18e334e_spring_book.jpg")).category(books).user(user).stockQuantity(10).discountRate(0.0).build(),
-            Product.builder().name("JPA 프로그래밍 입문").description("자바 ORM 표준 기술을 익혀보세요.").price(35000).imageUrl(List.of(testOciUrl+"155a3427-1262-4957-b390-204e7d38a18f_jpa_book.jpg")).category(books).user(user).stockQuantity(10).discountRate(0.0).build()
+            Product.builder().name("고성능 노트북").description("최신 M4 칩이 탑재된 노트북입니다.").price(2500000).imageUrl(List.of("1252cac8-e82d-458e-a5a1-b245a6364ae7_laptop.jpg")).category(computers).user(user).stockQuantity(10).discountRate(0.1).build(),
+            Product.builder().name("기계식 키보드").description("타건감이 뛰어난 기계식 키보드입니다.").price(120000).imageUrl(List.of("30371fe9-4dae-49da-a61a-7c5eee276106_keyboard.jpg")).category(computers).user(user).stockQuantity(10).discountRate(0.0).build(),
+            Product.builder().name("QHD 모니터").description("27인치 고해상도 모니터입니다.").price(350000).imageUrl(List.of("55b7f62b-f789-4843-b6b3-6e66ec809baf_monitor.jpg")).category(computers).user(user).stockQuantity(10).discountRate(0.0).build(),
+            Product.builder().name("편안한 반팔 티셔츠").description("100% 순면으로 만든 부드러운 티셔츠입니다.").price(25000).imageUrl(List.of("330fc4ef-15cb-4cca-a25f-f5eaf2caab85_tshirt.jpg")).category(clothes).user(user).stockQuantity(10).discountRate(0.0).build(),
+            Product.builder().name("데님 청바지").description("어디에나 잘 어울리는 클래식한 청바지입니다.").price(79000).imageUrl(List.of("b958d224-576c-4262-bcec-e491005cbacd_jeans.jpg")).category(clothes).user(user).stockQuantity(10).discountRate(0.0).build(),
+            Product.builder().name("스프링 부트 완벽 가이드").description("실무 예제로 배우는 스프링 부트의 모든 것.").price(38000).imageUrl(List.of("66820148-d942-4199-89e9-57a3f18e334e_spring_book.jpg")).category(books).user(user).stockQuantity(10).discountRate(0.0).build(),
+            Product.builder().name("JPA 프로그래밍 입문").description("자바 ORM 표준 기술을 익혀보세요.").price(35000).imageUrl(List.of("155a3427-1262-4957-b390-204e7d38a18f_jpa_book.jpg")).category(books).user(user).stockQuantity(10).discountRate(0.0).build()
         );
 
         for (Product product : products) {
@@ -0,0 +1,21 @@
+package com.personal.backend.config.graphql;
+
+import com.personal.backend.pagination.CursorPagination;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.graphql.data.pagination.EncodingCursorStrategy;
+
+/**
+ * GraphQL Connection 커서를 REST 커서 조회와 같은 형식으로 만들도록 CursorStrategy를 등록합니다.
+ * 이 빈이 있으면 Spring Boot의 기본 CursorStrategy는 등록되지 않습니다.
+ */
+@Configuration
+public class GraphQlPaginationConfig {
+
+    @Bean
+    public EncodingCursorStrategy<ScrollPosition> cursorStrategy() {
+        return CursorPagination.cursorStrategy();
+    }
+}
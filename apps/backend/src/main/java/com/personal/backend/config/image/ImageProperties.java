@@ -0,0 +1,11 @@
+package com.personal.backend.config.image;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * application.properties의 'image'로 시작하는 설정값들을 담는 클래스
+ * @param baseUrl 이미지 객체 키 앞에 붙여 실제 URL을 만드는 주소 (Object Storage 버킷 경로 또는 CDN 주소)
+ */
+@ConfigurationProperties(prefix = "image")
+public record ImageProperties(String baseUrl) {
+}
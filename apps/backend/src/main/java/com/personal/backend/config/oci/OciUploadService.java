@@ -9,12 +9,15 @@ import com.oracle.bmc.objectstorage.responses.CreatePreauthenticatedRequestRespo
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.User;
 import com.personal.backend.dto.ImageDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.image.ImageUrlResolver;
 import com.personal.backend.repository.ProductRepository;
 import com.personal.backend.repository.UserRepository;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +41,10 @@ public class OciUploadService {
 
     private final UserRepository userRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ImageUrlResolver imageUrlResolver;
+
     public List<ImageDto.UploadInfoResponse> generatePreAuthenticatedUploadUrls(ImageDto.GenerateUploadUrlsRequest request) {
     return request.fileNames().stream()
             .map(fileName -> {
@@ -81,7 +88,8 @@ public class OciUploadService {
         String ociHost = objectStorageClient.getEndpoint().replace("/20160918", "");
         
         String uploadUrl = ociHost + fullPath;
-        String imageUrl = ociHost + "/n/" + ociProperties.namespace() + "/b/" + ociProperties.bucketName() + "/o/" + uniqueObjectName;
+        // 조회용 URL은 설정된 기본 주소(CDN 등)를 붙여 만들고, 상품 저장 시에는 다시 객체 키로 바뀝니다.
+        String imageUrl = imageUrlResolver.toUrl(uniqueObjectName);
 
         return new ImageDto.GenerateUploadUrlResponse(uploadUrl, imageUrl);
     }
@@ -111,6 +119,7 @@ public class OciUploadService {
 
             product.deleteImageUrl(objectName);
             productRepository.save(product);
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
 
         }catch (BmcException e) {
             throw new RuntimeException("Failed to delete image from cloud storage.", e);
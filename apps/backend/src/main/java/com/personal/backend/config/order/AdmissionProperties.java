@@ -0,0 +1,28 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.admission'으로 시작하는 설정값들을 담는 클래스
+ * @param enabled false이면 주문 접수 제한 없이 모든 주문을 바로 처리
+ * @param maxConcurrent 상품별로 동시에 DB까지 진행할 수 있는 주문 수
+ * @param queueCapacity 상품별로 차례를 기다릴 수 있는 주문 수 (가득 차면 기다리지 않고 바로 거절)
+ * @param maxWait 차례를 기다리는 최대 시간
+ * @param stockRefreshInterval 남은 재고가 부족할 때 DB에서 재고를 다시 읽어 오는 최소 간격
+ * @param idleTimeout 이 시간 동안 주문이 없던 상품의 접수 상태는 메모리에서 제거
+ * @param retryAfter 거절한 요청에 알려 줄 재시도 대기 시간
+ */
+@ConfigurationProperties(prefix = "order.admission")
+public record AdmissionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("4") int maxConcurrent,
+    @DefaultValue("32") int queueCapacity,
+    @DefaultValue("300ms") Duration maxWait,
+    @DefaultValue("1s") Duration stockRefreshInterval,
+    @DefaultValue("10m") Duration idleTimeout,
+    @DefaultValue("1s") Duration retryAfter
+) {
+}
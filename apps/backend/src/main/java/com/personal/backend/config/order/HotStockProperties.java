@@ -0,0 +1,20 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.hot-stock'으로 시작하는 설정값들을 담는 클래스
+ * @param stripes 핫 상품 재고 카운터를 나눌 조각 수 (많을수록 동시 차감 시 충돌이 줄어듦)
+ * @param flushInterval 쌓인 재고 변경 기록을 DB 재고에 반영하는 주기
+ * @param flushBatchSize 한 트랜잭션에서 반영할 기록 수
+ */
+@ConfigurationProperties(prefix = "order.hot-stock")
+public record HotStockProperties(
+    @DefaultValue("8") int stripes,
+    @DefaultValue("1s") Duration flushInterval,
+    @DefaultValue("1000") int flushBatchSize
+) {
+}
@@ -0,0 +1,22 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.idempotency'로 시작하는 설정값들을 담는 클래스
+ * @param maximumSize 보관할 최대 응답 수 (초과 시 가장 오래 사용되지 않은 완료 응답부터 제거)
+ * @param ttl 처리가 끝난 응답을 같은 Idempotency-Key 재요청에 돌려줄 수 있는 시간
+ * @param maxWait 같은 키의 요청이 처리 중일 때 그 결과를 기다리는 최대 시간
+ * @param retryAfter 기다리다 시간이 초과된 요청에 알려 줄 재시도 대기 시간
+ */
+@ConfigurationProperties(prefix = "order.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("10000") int maximumSize,
+    @DefaultValue("24h") Duration ttl,
+    @DefaultValue("10s") Duration maxWait,
+    @DefaultValue("1s") Duration retryAfter
+) {
+}
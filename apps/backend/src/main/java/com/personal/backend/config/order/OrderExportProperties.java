@@ -0,0 +1,18 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.export'로 시작하는 설정값들을 담는 클래스
+ * @param fetchSize 내보내기 커서가 DB에서 한 번에 가져올 행 수 (클수록 왕복이 줄고 메모리는 조금 더 씀)
+ * @param maxRange 전체 주문 내보내기에서 한 번에 요청할 수 있는 최대 기간
+ */
+@ConfigurationProperties(prefix = "order.export")
+public record OrderExportProperties(
+    @DefaultValue("500") int fetchSize,
+    @DefaultValue("366d") Duration maxRange
+) {
+}
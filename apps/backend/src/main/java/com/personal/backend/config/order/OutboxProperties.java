@@ -0,0 +1,24 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.outbox'로 시작하는 설정값들을 담는 클래스
+ * @param relayInterval 쌓인 아웃박스 이벤트를 처리하는 주기 (매출 집계 등에 반영되기까지의 지연)
+ * @param batchSize 한 트랜잭션에서 처리할 이벤트 수
+ * @param maxAttempts 이벤트별 최대 시도 횟수 (넘으면 자동 재시도를 멈추고 수동 처리 대상으로 남김)
+ * @param initialBackoff 첫 실패 뒤 다시 시도하기까지의 시간 (실패할수록 두 배씩 늘어남)
+ * @param maxBackoff 재시도 간격의 상한
+ */
+@ConfigurationProperties(prefix = "order.outbox")
+public record OutboxProperties(
+    @DefaultValue("1s") Duration relayInterval,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("1s") Duration initialBackoff,
+    @DefaultValue("10m") Duration maxBackoff
+) {
+}
@@ -0,0 +1,22 @@
+package com.personal.backend.config.order;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.reconciliation'으로 시작하는 설정값들을 담는 클래스
+ * @param cron 정산 대사를 실행할 시각 (cron 식, '-'이면 자동 실행하지 않음)
+ * @param settlementFile PG사 정산 파일 경로 (pg_order_id 순으로 정렬된 CSV)
+ * @param reportDirectory 대사 결과 파일을 쓸 디렉터리
+ * @param fetchSize 주문 커서가 DB에서 한 번에 가져올 행 수
+ */
+@ConfigurationProperties(prefix = "order.reconciliation")
+public record ReconciliationProperties(
+    @DefaultValue("0 0 3 * * *") String cron,
+    @DefaultValue("settlement/settlement.csv") Path settlementFile,
+    @DefaultValue("reconciliation") Path reportDirectory,
+    @DefaultValue("1000") int fetchSize
+) {
+}
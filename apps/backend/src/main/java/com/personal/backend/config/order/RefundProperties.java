@@ -0,0 +1,28 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.refund'로 시작하는 설정값들을 담는 클래스
+ * @param interval 환불 대기열을 확인하는 주기
+ * @param batchSize 한 번에 가져올 환불 건수
+ * @param concurrency 동시에 진행할 PG사 환불 요청 수
+ * @param lease 가져간 환불이 이 시간 안에 끝나지 않으면(서버 종료 등) 다른 작업이 다시 가져감
+ * @param maxAttempts 최대 시도 횟수 (넘으면 자동 재시도를 멈추고 수동 처리 대상으로 남김)
+ * @param initialBackoff 첫 실패 뒤 다시 시도하기까지의 시간 (실패할수록 두 배씩 늘어남)
+ * @param maxBackoff 재시도 간격의 상한
+ */
+@ConfigurationProperties(prefix = "order.refund")
+public record RefundProperties(
+    @DefaultValue("1s") Duration interval,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("16") int concurrency,
+    @DefaultValue("5m") Duration lease,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("10s") Duration initialBackoff,
+    @DefaultValue("30m") Duration maxBackoff
+) {
+}
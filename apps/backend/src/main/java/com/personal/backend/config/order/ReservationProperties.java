@@ -0,0 +1,18 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.reservation'으로 시작하는 설정값들을 담는 클래스
+ * @param ttl 결제 대기 주문이 재고를 잡아 두는 시간 (지나면 예약이 풀리고 주문은 만료 처리)
+ * @param sweepBatchSize 만료된 예약을 정리할 때 한 번에 처리할 주문 수
+ */
+@ConfigurationProperties(prefix = "order.reservation")
+public record ReservationProperties(
+    @DefaultValue("15m") Duration ttl,
+    @DefaultValue("500") int sweepBatchSize
+) {
+}
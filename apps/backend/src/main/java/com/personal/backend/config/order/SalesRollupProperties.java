@@ -0,0 +1,18 @@
+package com.personal.backend.config.order;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'order.sales-rollup'으로 시작하는 설정값들을 담는 클래스
+ * @param maxHourlyRange 시간별 집계를 한 번에 조회할 수 있는 최대 기간
+ * @param maxDailyRange 일별 집계와 기간 합계를 한 번에 조회할 수 있는 최대 기간
+ */
+@ConfigurationProperties(prefix = "order.sales-rollup")
+public record SalesRollupProperties(
+    @DefaultValue("31d") Duration maxHourlyRange,
+    @DefaultValue("732d") Duration maxDailyRange
+) {
+}
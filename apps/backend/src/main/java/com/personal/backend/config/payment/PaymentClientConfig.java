@@ -0,0 +1,27 @@
+package com.personal.backend.config.payment;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * PG사 호출 전용 커넥션 풀
+ * 다른 외부 호출과 풀을 나눠, PG사가 느려져도 커넥션과 대기열이 정해진 크기 이상 늘어나지 않게 합니다.
+ * 풀 사용량은 reactor.netty.connection.provider.* 지표로 내보냅니다.
+ */
+@Configuration
+public class PaymentClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider paymentConnectionProvider(PaymentClientProperties properties) {
+        return ConnectionProvider.builder("payment")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .evictInBackground(properties.maxIdleTime())
+                .metrics(true)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.personal.backend.config.payment;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'payment.client'로 시작하는 설정값들을 담는 클래스 (PG사 호출 전용 HTTP 클라이언트)
+ * @param maxConnections PG사로 열어 둘 수 있는 최대 커넥션 수
+ * @param pendingAcquireMaxCount 커넥션을 기다릴 수 있는 요청 수 (넘으면 바로 실패)
+ * @param pendingAcquireTimeout 커넥션을 기다리는 최대 시간
+ * @param maxIdleTime 이 시간 동안 쓰지 않은 커넥션은 닫음
+ * @param connectTimeout TCP 연결 최대 시간
+ * @param readTimeout 응답 바이트 사이의 최대 간격
+ * @param responseTimeout 요청을 보낸 뒤 응답을 받기까지의 최대 시간
+ * @param maxConcurrentCalls 동시에 진행할 수 있는 PG사 호출 수 (넘으면 기다리지 않고 바로 거절)
+ * @param failureRateThreshold 최근 호출 중 실패 비율(%)이 이 값 이상이면 회로를 열어 호출을 막음
+ * @param slidingWindowSize 실패 비율을 계산할 최근 호출 수
+ * @param minimumCalls 실패 비율을 계산하기 위한 최소 호출 수
+ * @param openDuration 회로를 연 뒤 시험 호출을 허용하기까지의 시간
+ * @param halfOpenProbes 시험 단계에서 허용할 호출 수 (모두 성공해야 회로를 닫음)
+ * @param maxAttempts 멱등한 호출의 최대 시도 횟수 (첫 시도 포함)
+ * @param retryBackoff 재시도 간격의 시작값 (시도할수록 두 배씩 늘어남)
+ * @param retryJitter 재시도 간격에 더하거나 뺄 무작위 비율 (0~1)
+ */
+@ConfigurationProperties(prefix = "payment.client")
+public record PaymentClientProperties(
+    @DefaultValue("50") int maxConnections,
+    @DefaultValue("100") int pendingAcquireMaxCount,
+    @DefaultValue("1s") Duration pendingAcquireTimeout,
+    @DefaultValue("30s") Duration maxIdleTime,
+    @DefaultValue("2s") Duration connectTimeout,
+    @DefaultValue("5s") Duration readTimeout,
+    @DefaultValue("10s") Duration responseTimeout,
+    @DefaultValue("40") int maxConcurrentCalls,
+    @DefaultValue("50") int failureRateThreshold,
+    @DefaultValue("20") int slidingWindowSize,
+    @DefaultValue("10") int minimumCalls,
+    @DefaultValue("30s") Duration openDuration,
+    @DefaultValue("3") int halfOpenProbes,
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("200ms") Duration retryBackoff,
+    @DefaultValue("0.5") double retryJitter
+) {
+}
@@ -1,6 +1,7 @@
 package com.personal.backend.config.payment;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * application.properties의 'payment'로 시작하는 설정값들을 담는 클래스
@@ -13,6 +14,7 @@ public record PaymentProperties(
     /**
      * Toss Payments 관련 설정값
      * @param secretKey 서버 사이드에서 결제 승인 시 사용할 테스트 또는 운영 시크릿 키
+     * @param baseUrl API 주소 (부하 테스트 때는 pg-sim-http 프로필의 로컬 스텁 주소로 바꿈)
      */
-    public record Toss(String secretKey) {}
-}
\ No newline at end of file
+    public record Toss(String secretKey, @DefaultValue("https://api.tosspayments.com") String baseUrl) {}
+}
@@ -0,0 +1,27 @@
+package com.personal.backend.config.payment;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties의 'payment.simulator'로 시작하는 설정값들을 담는 클래스 (pg-sim, pg-sim-http 프로필 전용)
+ * 응답 지연은 중앙값과 p99를 맞춘 로그정규분포로 뽑습니다. (두 값이 같으면 항상 같은 지연)
+ * @param medianLatency 응답 지연의 중앙값
+ * @param p99Latency 응답 지연의 99번째 백분위수
+ * @param maxLatency 한 번의 응답 지연 상한 (분포의 긴 꼬리를 자름)
+ * @param errorRate PG사 오류(500)로 응답할 비율 (0~1)
+ * @param timeoutRate 응답하지 않고 timeoutDelay 동안 붙잡아 둘 비율 (0~1)
+ * @param timeoutDelay 타임아웃을 흉내 낼 때 응답을 붙잡아 두는 시간 (클라이언트의 응답 타임아웃보다 길게)
+ */
+@ConfigurationProperties(prefix = "payment.simulator")
+public record PaymentSimulatorProperties(
+    @DefaultValue("80ms") Duration medianLatency,
+    @DefaultValue("400ms") Duration p99Latency,
+    @DefaultValue("3s") Duration maxLatency,
+    @DefaultValue("0.01") double errorRate,
+    @DefaultValue("0.001") double timeoutRate,
+    @DefaultValue("15s") Duration timeoutDelay
+) {
+}
@@ -0,0 +1,32 @@
+package com.personal.backend.config.payment;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 부하 테스트용 PG 스텁(/pg-sim)을 인증 없이 열어 두는 보안 설정 (pg-sim-http 프로필 전용)
+ * TossPaymentGateway가 PG사 비밀 키로 호출하므로 JWT가 없습니다. 다른 프로필에서는 이 규칙이 등록되지 않아 /pg-sim도 인증을 요구합니다.
+ */
+@Configuration
+@Profile("pg-sim-http")
+public class PaymentSimulatorSecurityConfig {
+
+    // 기본 보안 설정(SecurityConfig)보다 먼저 /pg-sim 요청만 골라 처리합니다.
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain paymentSimulatorFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/pg-sim/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authz -> authz.anyRequest().permitAll());
+        return http.build();
+    }
+}
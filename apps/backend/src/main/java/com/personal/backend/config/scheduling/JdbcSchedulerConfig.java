@@ -0,0 +1,33 @@
+package com.personal.backend.config.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 결제 승인/취소처럼 Mono로 이어지는 흐름에서 JPA 같은 블로킹 DB 작업을 실행할 스케줄러
+ * 스레드 수를 커넥션 풀 크기에 맞춰, 커넥션을 얻지 못한 스레드가 쌓이는 대신 작업이 큐에서 차례를 기다리게 합니다.
+ * 큐까지 가득 차면 작업을 받지 않고 바로 실패시킵니다.
+ */
+@Configuration
+public class JdbcSchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                   @Value("${payment.jdbc-queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(maximumPoolSize, queueCapacity, "jdbc");
+    }
+
+    /**
+     * PG사 승인이 끝난 결제의 완료 처리(재고 차감, 실패 시 환불 접수)를 실행할 스케줄러
+     * 돈이 이미 빠져나간 뒤의 작업이므로 거절하지 않도록 대기 큐에 한도를 두지 않습니다.
+     * 동시에 진행 중인 PG사 호출 수가 payment.client.max-concurrent-calls로 제한되므로 큐도 그 이상 쌓이지 않습니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler paymentCompletionScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        return Schedulers.newBoundedElastic(maximumPoolSize, Integer.MAX_VALUE, "payment-completion");
+    }
+}
@@ -0,0 +1,10 @@
+package com.personal.backend.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled가 붙은 주기 작업(예: 만료된 재고 예약 정리)을 실행하도록 합니다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,62 @@
+package com.personal.backend.controller;
+
+import com.personal.backend.dto.HotStockDto;
+import com.personal.backend.hotstock.HotStockService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "핫 상품 재고 API", description = "주문이 몰리는 상품의 재고를 메모리 카운터로 관리하도록 지정, 해제, 조회하는 관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/products/{productId}/hot-stock")
+@Validated
+@PreAuthorize("hasRole('ADMIN')")
+public class HotStockController {
+
+    private final HotStockService hotStockService;
+
+    /**
+     * 핫 상품 지정 여부와 카운터의 주문 가능 재고를 조회하는 API
+     * GET /api/products/{productId}/hot-stock
+     */
+    @Operation(summary = "핫 상품 상태 조회", description = "핫 상품 지정 여부와 메모리 카운터의 주문 가능 재고 조회 API")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping
+    public ResponseEntity<HotStockDto.StatusResponse> getStatus(
+            @Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId) {
+        return ResponseEntity.ok(hotStockService.status(productId));
+    }
+
+    /**
+     * 상품을 핫 상품으로 지정하는 API (판매 시작 전에 지정)
+     * PUT /api/products/{productId}/hot-stock
+     */
+    @Operation(summary = "핫 상품 지정", description = "상품 재고를 메모리 카운터로 관리하도록 지정하는 API")
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping
+    public ResponseEntity<HotStockDto.StatusResponse> promote(
+            @Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId) {
+        return ResponseEntity.ok(hotStockService.promote(productId));
+    }
+
+    /**
+     * 핫 상품 지정을 해제하는 API (쌓인 재고 변경을 DB에 반영한 뒤 DB 재고로 돌아감)
+     * DELETE /api/products/{productId}/hot-stock
+     */
+    @Operation(summary = "핫 상품 해제", description = "메모리 카운터의 재고 변경을 DB에 반영하고 DB 재고 관리로 돌아가는 API")
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping
+    public ResponseEntity<HotStockDto.StatusResponse> demote(
+            @Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId) {
+        return ResponseEntity.ok(hotStockService.demote(productId));
+    }
+}
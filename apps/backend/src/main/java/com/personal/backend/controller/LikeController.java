@@ -1,15 +1,18 @@
 package com.personal.backend.controller;
 
+import com.personal.backend.dto.CursorDto;
 import com.personal.backend.dto.LikeDto;
 import com.personal.backend.dto.PageableDto;
 import com.personal.backend.dto.ProductDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.LikeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -46,13 +49,28 @@ public class LikeController {
     @Operation(summary = "내 찜 목록 조회", description = "현재 사용자가 찜한 상품 목록을 조회합니다.")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping
-    public ResponseEntity<Page<ProductDto.Response>> getMyLikes(
+    public ResponseEntity<Slice<ProductDto.Response>> getMyLikes(
             @AuthenticationPrincipal UserDetails userDetails,
             @ParameterObject PageableDto.PageableRequest pageableRequest) {
-        Page<ProductDto.Response> likedProducts = likeService.getLikedProducts(
+        Slice<ProductDto.Response> likedProducts = likeService.getLikedProducts(
                 userDetails.getUsername(),
-                pageableRequest.toPageable()
+                pageableRequest.toPageable(),
+                pageableRequest.pageMode()
         );
         return ResponseEntity.ok(likedProducts);
     }
+
+    @Operation(summary = "내 찜 목록 커서 조회", description = "현재 사용자가 찜한 상품 목록을 최근에 찜한 순서대로 커서 기반 조회합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorDto.CursorResponse<ProductDto.Response>> scrollMyLikes(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @ParameterObject CursorDto.CursorRequest cursorRequest) {
+        Window<ProductDto.Response> likedProducts = likeService.scrollLikedProducts(
+                userDetails.getUsername(),
+                CursorPagination.decode(cursorRequest.cursor()),
+                CursorPagination.limit(cursorRequest.size())
+        );
+        return ResponseEntity.ok(CursorPagination.toResponse(likedProducts));
+    }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.personal.backend.controller;
 
+import com.personal.backend.admission.CheckoutAdmissionGate;
+import com.personal.backend.dto.CursorDto;
 import com.personal.backend.dto.OrderDto;
 import com.personal.backend.dto.PageableDto;
+import com.personal.backend.idempotency.IdempotencyStore;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.OrderService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +17,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,19 +35,25 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final CheckoutAdmissionGate checkoutAdmissionGate;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 새로운 주문을 생성하는 API
      * POST /api/orders
+     * Idempotency-Key 헤더를 보내면 같은 키로 다시 요청해도 주문을 새로 만들지 않고 처음 만든 주문을 돌려줍니다.
      */
     @Operation(summary = "주문 생성", description = "주문 생성 API")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping
     public ResponseEntity<OrderDto.CreateResponse> createOrder(
         @Valid @RequestBody OrderDto.CreateRequest request,
+        @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
         @AuthenticationPrincipal UserDetails userDetails) {
         String userEmail = userDetails.getUsername();
-        OrderDto.CreateResponse newOrder = orderService.createOrder(userEmail, request);
+        // 인기 상품에 주문이 몰리면 트랜잭션을 시작하기 전에 접수 단계에서 거절합니다. (429 Too Many Requests)
+        OrderDto.CreateResponse newOrder = idempotencyStore.execute("createOrder", userEmail, idempotencyKey, request,
+                () -> checkoutAdmissionGate.admit(request.orderItems(), () -> orderService.createOrder(userEmail, request)));
         return ResponseEntity.ok(newOrder);
     }
 
@@ -53,16 +64,32 @@ public class OrderController {
     @Operation(summary = "모든 주문 조회", description = "모든 주문 조회 API")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/history")
-    public ResponseEntity<Page<OrderDto.HistoryResponse>> getOrderHistory(
+    public ResponseEntity<Slice<OrderDto.HistoryResponse>> getOrderHistory(
         @AuthenticationPrincipal UserDetails userDetails,
         @ParameterObject PageableDto.PageableRequest pageableRequest
         ){
         Pageable pageable = pageableRequest.toPageable();
         String userEmail = userDetails.getUsername();
-        Page<OrderDto.HistoryResponse> history = orderService.getOrderHistory(userEmail, pageable);
+        Slice<OrderDto.HistoryResponse> history = orderService.getOrderHistory(userEmail, pageable, pageableRequest.pageMode());
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * 현재 사용자의 주문 내역을 커서 기반으로 조회하는 API
+     * GET /api/orders/history/scroll?cursor=...
+     */
+    @Operation(summary = "주문 내역 커서 조회", description = "최신 주문부터 커서 기반으로 조회하는 API")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/history/scroll")
+    public ResponseEntity<CursorDto.CursorResponse<OrderDto.HistoryResponse>> scrollOrderHistory(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @ParameterObject CursorDto.CursorRequest cursorRequest
+        ){
+        Window<OrderDto.HistoryResponse> history = orderService.scrollOrderHistory(userDetails.getUsername(),
+                CursorPagination.decode(cursorRequest.cursor()), CursorPagination.limit(cursorRequest.size()));
+        return ResponseEntity.ok(CursorPagination.toResponse(history));
+    }
+
     /**
      * 특정 주문을 상세 조회하는 API
      * GET /api/orders/{orderId}
@@ -90,8 +117,8 @@ public class OrderController {
             @NotNull @RequestBody OrderDto.CancelRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
         String userEmail = userDetails.getUsername();
-        // 서비스로부터 업데이트된 주문 정보를 받아 반환합니다.
-        OrderDto.HistoryResponse canceledOrder = orderService.cancelOrder(userEmail, orderId, request.reason());
-        return ResponseEntity.ok(canceledOrder);
+        // 취소를 접수만 하고 바로 응답합니다. PG사 환불과 재고 복구는 환불 작업이 이어서 처리합니다. (202 Accepted, 상태 CANCEL_REQUESTED)
+        OrderDto.HistoryResponse cancelRequested = orderService.requestCancel(userEmail, orderId, request.reason());
+        return ResponseEntity.accepted().body(cancelRequested);
     }
 }
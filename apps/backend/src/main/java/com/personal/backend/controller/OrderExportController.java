@@ -0,0 +1,73 @@
+package com.personal.backend.controller;
+
+import com.personal.backend.export.OrderExportFormat;
+import com.personal.backend.export.OrderExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+@Tag(name = "주문 내보내기 API", description = "정산용 주문 내역을 CSV/NDJSON 파일로 내려받는 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/orders/export")
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * 현재 사용자의 주문 내역을 파일로 내려받는 API (주문 항목 한 건이 한 줄)
+     * GET /api/orders/export?format=CSV&gzip=false
+     */
+    @Operation(summary = "내 주문 내보내기", description = "내 주문 내역을 CSV 또는 NDJSON으로 내려받는 API (gzip=true면 gzip으로 압축)")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping
+    public void exportMyOrders(
+            @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        prepare(response, "orders", format, gzip);
+        orderExportService.exportUserOrders(userDetails.getUsername(), format, gzip, response.getOutputStream());
+    }
+
+    /**
+     * 기간 안의 전체 주문 내역을 파일로 내려받는 관리자 API (from, to 모두 포함)
+     * GET /api/orders/export/all?from=2026-01-01&to=2026-01-31&format=NDJSON&gzip=true
+     */
+    @Operation(summary = "전체 주문 내보내기", description = "기간 안의 전체 주문 내역을 CSV 또는 NDJSON으로 내려받는 관리자 API")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/all")
+    public void exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 기간부터 확인합니다.
+        orderExportService.validateRange(from, to);
+        prepare(response, "orders-" + from + "-" + to, format, gzip);
+        orderExportService.exportOrders(from, to, format, gzip, response.getOutputStream());
+    }
+
+    // 행을 만드는 대로 내보내므로 Content-Length 없이 청크 단위로 전송됩니다.
+    private void prepare(HttpServletResponse response, String baseName, OrderExportFormat format, boolean gzip) {
+        String fileName = baseName + "." + format.extension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.mediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+    }
+}
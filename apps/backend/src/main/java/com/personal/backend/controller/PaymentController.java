@@ -1,6 +1,7 @@
 package com.personal.backend.controller;
 
 import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.idempotency.IdempotencyStore;
 import com.personal.backend.service.PaymentService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,7 +10,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 
 @Tag(name = "결제 API", description = "외부 결제 결과를 검증")
@@ -19,15 +23,22 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
-    
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     * Idempotency-Key 헤더를 보내면 같은 키로 다시 요청해도 토스페이먼츠를 다시 호출하지 않고 처음 승인 결과를 돌려줍니다.
+     */
     @Operation(summary = "결제 확인 (토스페이먼츠)", description = "결제 확인 API")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/confirm-toss")
-    public ResponseEntity<PaymentDto.ConfirmationResponse> confirmPayment(
-            @Valid @RequestBody PaymentDto.VerificationRequest request
+    public Mono<ResponseEntity<PaymentDto.ConfirmationResponse>> confirmPayment(
+            @Valid @RequestBody PaymentDto.VerificationRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal UserDetails userDetails
     ) {
-        PaymentDto.ConfirmationResponse response = paymentService.confirmPayment(request).block();
-        
-        return ResponseEntity.ok(response);
+        // PG사 응답을 기다리는 동안 요청 스레드를 잡지 않도록 Mono를 그대로 반환합니다. (Spring MVC 비동기 처리)
+        return idempotencyStore.executeAsync("confirmTossPayment", userDetails.getUsername(), idempotencyKey, request,
+                () -> paymentService.confirmPayment(request))
+                .map(ResponseEntity::ok);
     }
 }
\ No newline at end of file
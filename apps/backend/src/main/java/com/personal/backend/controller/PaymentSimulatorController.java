@@ -0,0 +1,47 @@
+package com.personal.backend.controller;
+
+import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.payment.simulator.PaymentSimulator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 승인/취소 API를 흉내 내는 로컬 HTTP 스텁 (pg-sim-http 프로필 전용)
+ * payment.toss.base-url을 이 서버의 /pg-sim으로 지정하면, TossPaymentGateway와 PG 전용 커넥션 풀/타임아웃까지
+ * 실제 HTTP로 거치면서도 외부 네트워크 없이 부하 테스트를 할 수 있습니다.
+ */
+@RestController
+@Profile("pg-sim-http")
+@RequestMapping("/pg-sim/v1/payments")
+@RequiredArgsConstructor
+public class PaymentSimulatorController {
+
+    private final PaymentSimulator paymentSimulator;
+
+    @PostMapping("/confirm")
+    public Mono<ResponseEntity<PaymentDto.ConfirmationResponse>> confirm(@RequestBody PaymentDto.VerificationRequest request) {
+        return respond(new PaymentDto.ConfirmationResponse("DONE", request.orderId(), request.amount()));
+    }
+
+    @PostMapping("/{paymentKey}/cancel")
+    public Mono<ResponseEntity<PaymentDto.ConfirmationResponse>> cancel(@PathVariable String paymentKey, @RequestBody Map<String, String> request) {
+        return respond(new PaymentDto.ConfirmationResponse("CANCELED", null, null));
+    }
+
+    private Mono<ResponseEntity<PaymentDto.ConfirmationResponse>> respond(PaymentDto.ConfirmationResponse body) {
+        return paymentSimulator.next()
+                .map(status -> status.is2xxSuccessful()
+                        ? ResponseEntity.ok(body)
+                        : ResponseEntity.status(status).<PaymentDto.ConfirmationResponse>build());
+    }
+}
@@ -1,20 +1,27 @@
 package com.personal.backend.controller;
 
+import com.personal.backend.dto.CursorDto;
 import com.personal.backend.dto.PageableDto;
 import com.personal.backend.dto.ProductDto;
 import com.personal.backend.dto.ShippingInfoDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -88,7 +95,7 @@ public class ProductController {
      */
     @Operation(summary = "상품 목록 조회", description = "상품 목록 조회 API Keyword, categoryId로 검색과 카테고리별 필터링 가능")
     @GetMapping
-    public ResponseEntity<Page<ProductDto.Response>> getAllProducts(
+    public ResponseEntity<Slice<ProductDto.Response>> getAllProducts(
         @RequestParam(required = false) String keyword,
         @Min(value = 0, message = "유효하지 않은 카테고리 ID입니다.") @RequestParam(required = false) Long categoryId,
         @ParameterObject PageableDto.PageableRequest pageableRequest,
@@ -96,22 +103,64 @@ public class ProductController {
         ){
         String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
         Pageable pageable = pageableRequest.toPageable();
-        Page<ProductDto.Response> productsPage = productService.findProducts(keyword, categoryId, pageable, userEmail);
+        Slice<ProductDto.Response> productsPage = productService.findProducts(keyword, categoryId, pageable, userEmail, pageableRequest.pageMode());
         return ResponseEntity.ok(productsPage); // 조회된 상품 목록과 함께 200 OK 응답을 반환합니다.
     }
 
+    /**
+     * 상품 목록을 커서 기반으로 조회하는 API
+     * 기존 목록 API의 응답 형식(Page)을 유지하기 위해 별도 경로로 제공합니다.
+     * GET /api/products/scroll?cursor=...
+     */
+    @Operation(summary = "상품 목록 커서 조회", description = "COUNT 쿼리 없이 다음 커서로 이어서 조회하는 상품 목록 API")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorDto.CursorResponse<ProductDto.Response>> scrollProducts(
+        @RequestParam(required = false) String keyword,
+        @Min(value = 0, message = "유효하지 않은 카테고리 ID입니다.") @RequestParam(required = false) Long categoryId,
+        @ParameterObject CursorDto.CursorRequest cursorRequest,
+        @AuthenticationPrincipal UserDetails userDetails
+        ){
+        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        Window<ProductDto.Response> products = productService.scrollProducts(keyword, categoryId,
+                CursorPagination.decode(cursorRequest.cursor()), CursorPagination.limit(cursorRequest.size()), userEmail);
+        return ResponseEntity.ok(CursorPagination.toResponse(products));
+    }
+
     /**
      * 특정 ID의 상품을 조회하는 API
      * GET /api/products/{id}
      */
     @Operation(summary = "상품 상세 조회", description = "상품 상세 조회 API")
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductDto.Response> getProductById(@Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ProductDto.Response> getProductById(
+        @Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId,
+        @RequestParam(defaultValue = "false") boolean includeDetail, // true일 때만 상세 본문(detailContent)을 함께 내려줍니다.
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
         String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
-        ProductDto.Response product = productService.findProductById(productId, userEmail);
+        ProductDto.Response product = productService.findProductById(productId, userEmail, includeDetail);
         return ResponseEntity.ok(product); // 조회된 상품 정보와 함께 200 OK 응답을 반환합니다.
     }
 
+    /**
+     * 상품 상세 본문을 HTML 그대로 내려주는 API
+     * 본문을 하나의 문자열로 만들지 않고 압축을 풀면서 응답으로 바로 흘려보냅니다.
+     * GET /api/products/{id}/detail-content
+     */
+    @Operation(summary = "상품 상세 본문 조회", description = "상품 상세 본문(HTML)을 스트리밍으로 조회합니다.")
+    @GetMapping("/{productId}/detail-content")
+    public void getProductDetailContent(
+        @Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId,
+        HttpServletResponse response
+    ) {
+        // 응답 형식은 본문이 있는 것을 확인한 뒤에 정하므로, 본문이 없으면 예외 처리기가 평소처럼 JSON 오류를 내려줍니다.
+        productService.writeDetailContent(productId, () -> {
+            response.setContentType(MediaType.TEXT_HTML_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            return response.getOutputStream();
+        });
+    }
+
     @Operation(summary = "상품 배송 정책 조회", description = "특정 상품의 배송 정책 정보를 조회합니다.")
     @GetMapping("/{productId}/shipping")
     public ResponseEntity<ShippingInfoDto.Response> getProductShippingInfo(@Min(value = 0, message = "유효하지 않은 상품 ID입니다.") @PathVariable Long productId) {
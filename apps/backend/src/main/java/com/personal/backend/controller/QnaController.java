@@ -1,7 +1,9 @@
 package com.personal.backend.controller;
 
+import com.personal.backend.dto.CursorDto;
 import com.personal.backend.dto.PageableDto;
 import com.personal.backend.dto.QnaDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.QnaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,8 +12,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -28,15 +31,26 @@ public class QnaController {
 
     @Operation(summary = "상품별 Q&A 목록 조회", description = "특정 상품에 달린 Q&A 목록을 페이지네이션으로 조회합니다.")
     @GetMapping("/product/{productId}")
-    public ResponseEntity<Page<QnaDto.Response>> getQna(
+    public ResponseEntity<Slice<QnaDto.Response>> getQna(
             @PathVariable Long productId,
             @ParameterObject PageableDto.PageableRequest pageableRequest
         ){
         Pageable pageable = pageableRequest.toPageable();
-        Page<QnaDto.Response> qnaPage = qnaService.getQnaByProductId(productId, pageable);
+        Slice<QnaDto.Response> qnaPage = qnaService.getQnaByProductId(productId, pageable, pageableRequest.pageMode());
         return ResponseEntity.ok(qnaPage);
     }
 
+    @Operation(summary = "상품별 Q&A 목록 커서 조회", description = "특정 상품에 달린 Q&A 목록을 최신순으로 커서 기반 조회합니다.")
+    @GetMapping("/product/{productId}/scroll")
+    public ResponseEntity<CursorDto.CursorResponse<QnaDto.Response>> scrollQna(
+            @PathVariable Long productId,
+            @ParameterObject CursorDto.CursorRequest cursorRequest
+        ){
+        Window<QnaDto.Response> qnas = qnaService.scrollQnaByProductId(productId,
+                CursorPagination.decode(cursorRequest.cursor()), CursorPagination.limit(cursorRequest.size()));
+        return ResponseEntity.ok(CursorPagination.toResponse(qnas));
+    }
+
     @Operation(summary = "질문 작성", description = "상품에 대한 새로운 질문을 작성합니다.")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/questions")
@@ -1,7 +1,9 @@
 package com.personal.backend.controller;
 
+import com.personal.backend.dto.CursorDto;
 import com.personal.backend.dto.PageableDto;
 import com.personal.backend.dto.ReviewDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,8 +12,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,15 +30,26 @@ public class ReviewController {
 
     @Operation(summary = "상품별 리뷰 목록 조회", description = "특정 상품에 달린 리뷰 목록을 페이지네이션으로 조회합니다.")
     @GetMapping("/product/{productId}")
-    public ResponseEntity<Page<ReviewDto.Response>> getReviews(
+    public ResponseEntity<Slice<ReviewDto.Response>> getReviews(
             @PathVariable Long productId,
             @ParameterObject PageableDto.PageableRequest pageableRequest
         ){
         Pageable pageable = pageableRequest.toPageable();
-        Page<ReviewDto.Response> reviews = reviewService.getReviewsByProductId(productId, pageable);
+        Slice<ReviewDto.Response> reviews = reviewService.getReviewsByProductId(productId, pageable, pageableRequest.pageMode());
         return ResponseEntity.ok(reviews);
     }
 
+    @Operation(summary = "상품별 리뷰 목록 커서 조회", description = "특정 상품에 달린 리뷰 목록을 최신순으로 커서 기반 조회합니다.")
+    @GetMapping("/product/{productId}/scroll")
+    public ResponseEntity<CursorDto.CursorResponse<ReviewDto.Response>> scrollReviews(
+            @PathVariable Long productId,
+            @ParameterObject CursorDto.CursorRequest cursorRequest
+        ){
+        Window<ReviewDto.Response> reviews = reviewService.scrollReviewsByProductId(productId,
+                CursorPagination.decode(cursorRequest.cursor()), CursorPagination.limit(cursorRequest.size()));
+        return ResponseEntity.ok(CursorPagination.toResponse(reviews));
+    }
+
     @Operation(summary = "리뷰 작성", description = "상품에 대한 새로운 리뷰를 작성합니다.")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping
@@ -0,0 +1,57 @@
+package com.personal.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핫 상품의 재고 변경 기록 (변경 1건당 1행, INSERT만 하므로 상품 행을 잠그지 않음)
+ * 주문/결제/취소와 같은 트랜잭션에 저장되므로, 서버가 중간에 멈춰도 커밋된 변경은 사라지지 않습니다.
+ * 주기적으로 상품(또는 옵션)별 합계를 products/product_options에 한 번에 반영한 뒤 삭제됩니다.
+ * productId와 optionId 중 하나만 채워집니다.
+ */
+@Entity
+@Table(name = "hot_stock_journal")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HotStockJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hot_stock_journal_seq_generator")
+    @SequenceGenerator(
+            name = "hot_stock_journal_seq_generator",
+            sequenceName = "HOT_STOCK_JOURNAL_SEQ",
+            allocationSize = 1
+    )
+    private Long id;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "option_id")
+    private Long optionId;
+
+    // 재고(stockQuantity)에 더할 값
+    @Column(name = "stock_delta", nullable = false)
+    private int stockDelta;
+
+    // 예약 수량(reservedQuantity)에 더할 값 (옵션은 예약하지 않으므로 항상 0)
+    @Column(name = "reserved_delta", nullable = false)
+    private int reservedDelta;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public HotStockJournal(Long productId, Long optionId, int stockDelta, int reservedDelta) {
+        this.productId = productId;
+        this.optionId = optionId;
+        this.stockDelta = stockDelta;
+        this.reservedDelta = reservedDelta;
+        this.createdAt = LocalDateTime.now();
+    }
+}
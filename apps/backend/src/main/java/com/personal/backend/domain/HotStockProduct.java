@@ -0,0 +1,31 @@
+package com.personal.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고를 DB 대신 서버 메모리의 카운터로 관리하는 인기 상품(핫 상품) 목록
+ * 관리자가 지정하거나 해제하며, 서버가 다시 시작되면 이 목록을 읽어 카운터를 다시 만듭니다.
+ */
+@Entity
+@Table(name = "hot_stock_products")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HotStockProduct {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "promoted_at", nullable = false)
+    private LocalDateTime promotedAt;
+
+    public HotStockProduct(Long productId, LocalDateTime promotedAt) {
+        this.productId = productId;
+        this.promotedAt = promotedAt;
+    }
+}
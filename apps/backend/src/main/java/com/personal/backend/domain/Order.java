@@ -10,7 +10,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders") // DB 예약어와 충돌을 피하기 위해 'orders' 사용
+@Table(name = "orders", // DB 예약어와 충돌을 피하기 위해 'orders' 사용
+       indexes = {
+               @Index(name = "idx_orders_user_id_id", columnList = "user_id, id"),
+               @Index(name = "idx_orders_order_date", columnList = "order_date"), // 기간별 주문 내보내기
+               @Index(name = "idx_orders_status_next_refund_at", columnList = "status, next_refund_at") // 환불 대기열
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -40,6 +45,21 @@ public class Order {
 
     private LocalDateTime orderDate;
 
+    // 결제 완료/취소 시각 (매출 집계의 기준 시각)
+    private LocalDateTime paidAt;
+
+    private LocalDateTime canceledAt;
+
+    // 취소 접수 후 PG사 환불 대기열 상태 (nextRefundAt이 null이면 더 이상 자동으로 시도하지 않음)
+    private LocalDateTime cancelRequestedAt;
+
+    private LocalDateTime nextRefundAt;
+
+    private int refundAttempts;
+
+    // PG사 승인 뒤 결제 완료 처리에 실패해 환불하는 주문 (재고를 차감한 적이 없고 매출에도 들어가지 않음)
+    private boolean paymentFailed;
+
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
@@ -62,28 +82,67 @@ public class Order {
         orderItem.setOrder(this);
     }
 
+    // PG사 승인을 기다리는 사이 결제 기한이 지나 만료된 주문도, 재고를 다시 확보할 수 있으면 결제 완료로 처리합니다.
     public void markAsPaid(String paymentKey) {
-        if (this.status != OrderStatus.PENDING) {
+        if (this.status != OrderStatus.PENDING && this.status != OrderStatus.EXPIRED) {
             throw new IllegalStateException("결제 대기 상태의 주문만 결제 완료 처리할 수 있습니다.");
         }
         this.paymentKey = paymentKey;
         this.status = OrderStatus.PAID;
+        this.paidAt = LocalDateTime.now();
     }
 
 
-    public void cancel(String reason) {
+    // 취소를 접수하고 환불 대기열에 넣습니다. PG사 환불과 재고 복구는 환불 작업이 처리합니다.
+    public void requestCancel(String reason) {
         if (status != OrderStatus.PAID) {
             throw new IllegalStateException("결제 완료 상태의 주문만 취소가 가능합니다.");
         }
-        
-        // 재고 복구 로직 (기존과 동일)
-        for (OrderItem orderItem : orderItems) {
-            orderItem.getProduct().increaseStock(orderItem.getCount());
+
+        this.status = OrderStatus.CANCEL_REQUESTED;
+        this.cancelReason = reason;
+        this.cancelRequestedAt = LocalDateTime.now();
+        this.nextRefundAt = this.cancelRequestedAt;
+        this.refundAttempts = 0;
+    }
+
+    // PG사 승인은 되었지만 결제 완료 처리(재고 차감 등)에 실패한 주문을 환불 대기열에 넣습니다.
+    public void requestRefundForFailedPayment(String paymentKey, String reason) {
+        if (status != OrderStatus.PENDING && status != OrderStatus.EXPIRED) {
+            throw new IllegalStateException("결제 완료 처리 전의 주문만 승인된 결제를 환불할 수 있습니다.");
         }
 
-        this.status = OrderStatus.CANCELED;
+        this.paymentKey = paymentKey;
+        this.paymentFailed = true;
+        this.status = OrderStatus.CANCEL_REQUESTED;
         this.cancelReason = reason;
+        this.cancelRequestedAt = LocalDateTime.now();
+        this.nextRefundAt = this.cancelRequestedAt;
+        this.refundAttempts = 0;
+    }
+
+    // 환불 작업이 이 주문을 가져갔음을 기록합니다. leaseUntil까지 끝나지 않으면(서버 종료 등) 다시 대기열에 나타납니다.
+    public void claimRefund(LocalDateTime leaseUntil) {
+        this.refundAttempts++;
+        this.nextRefundAt = leaseUntil;
+    }
+
+    // 환불이 실패하면 다음 시도 시각을 정합니다. (null이면 자동 재시도를 멈춤)
+    public void scheduleRefundRetry(LocalDateTime nextRefundAt) {
+        this.nextRefundAt = nextRefundAt;
+    }
+
+    // PG사 환불이 성공하면 취소를 확정합니다. 재고 복구는 서비스 계층에서 조건부 UPDATE로 처리합니다.
+    // 결제 완료 처리에 실패해 환불한 주문은 결제된 적이 없으므로 취소가 아닌 만료로 끝냅니다.
+    public void completeRefund() {
+        if (status != OrderStatus.CANCEL_REQUESTED) {
+            throw new IllegalStateException("취소 접수된 주문만 환불을 완료할 수 있습니다.");
+        }
+
+        this.status = paymentFailed ? OrderStatus.EXPIRED : OrderStatus.CANCELED;
         this.refundedAmount = calculateTotalAmount(); // 환불액 기록
+        this.canceledAt = LocalDateTime.now();
+        this.nextRefundAt = null;
     }
     public int calculateTotalAmount() {
         return orderItems.stream()
@@ -91,14 +150,4 @@ public class Order {
                 .sum();
     }
 
-    public void processPayment() {
-        // 이 주문이 '결제 대기' 상태일 때만 재고를 차감하도록 방어
-        if (this.status != OrderStatus.PENDING) {
-            throw new IllegalStateException("결제 대기 상태의 주문에 대해서만 결제 처리를 할 수 있습니다.");
-        }
-
-        for (OrderItem orderItem : this.orderItems) {
-            orderItem.getProduct().decreaseStock(orderItem.getCount());
-        }
-    }
 }
\ No newline at end of file
@@ -31,15 +31,33 @@ public class OrderItem {
     @JoinColumn(name = "product_id")
     private Product product;
 
+    // 선택한 상품 옵션 (옵션 없이 주문하면 null), 결제 완료 시 옵션 재고도 함께 차감됩니다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_option_id")
+    private ProductOption option;
+
     private int orderPrice; // 주문 당시의 가격 (할인 등 변동 가능성)
     private int count;      // 주문 수량
 
+    // 주문 당시의 상품 정보 스냅샷: 주문 내역은 상품/옵션을 조회하지 않고 이 값으로 보여 주며, 이후 상품 이름이 바뀌어도 그대로 남습니다.
+    private String productName;
+    private String imageKey;   // 대표 이미지의 객체 키 (URL은 응답 직렬화 시점에 만듦)
+    private String optionName; // 예: "사이즈: 270" (옵션 없이 주문하면 null)
+
     @Builder
-    public OrderItem(Order order, Product product, int orderPrice, int count) {
+    public OrderItem(Order order, Product product, ProductOption option, int orderPrice, int count) {
         this.order = order;
         this.product = product;
+        this.option = option;
         this.orderPrice = orderPrice;
         this.count = count;
+        if (product != null) {
+            this.productName = product.getName();
+            this.imageKey = product.getImageUrl() == null || product.getImageUrl().isEmpty() ? null : product.getImageUrl().get(0);
+        }
+        if (option != null) {
+            this.optionName = option.getOptionGroupName() + ": " + option.getOptionName();
+        }
     }
     void setOrder(Order order) {
         this.order = order;
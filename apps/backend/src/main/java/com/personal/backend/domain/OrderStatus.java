@@ -4,6 +4,8 @@ package com.personal.backend.domain;
 public enum OrderStatus {
     PENDING,   // 주문 대기 (결제 전)
     PAID,      // 결제 완료
+    CANCEL_REQUESTED, // 취소 접수 (PG사 환불 대기, 환불이 끝나면 CANCELED)
     COMPLETED, // 배송 완료 (선택사항)
-    CANCELED   // 주문 취소
+    CANCELED,  // 주문 취소
+    EXPIRED    // 결제 기한 만료 (재고 예약 해제)
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.personal.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 완료/취소 후 바로 하지 않아도 되는 후속 처리(매출 집계 등)를 기록하는 아웃박스 (이벤트 1건당 1행)
+ * 결제 완료/취소와 같은 트랜잭션에 INSERT만 하므로, 커밋된 주문 변경의 후속 처리는 서버가 멈춰도 사라지지 않고
+ * 롤백된 변경의 후속 처리는 실행되지 않습니다.
+ * 주기적으로 모아 종류별로 한 번에 처리한 뒤 삭제됩니다.
+ * 처리에 실패한 이벤트는 실패 횟수에 따라 뒤로 미뤄 다시 시도하고, 최대 시도 횟수를 넘기면 삭제하지 않고 남겨 수동 처리 대상으로 둡니다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(
+            name = "outbox_event_seq_generator",
+            sequenceName = "OUTBOX_EVENT_SEQ",
+            allocationSize = 1
+    )
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 처리 재시도 상태 (nextAttemptAt이 null이면 더 이상 자동으로 시도하지 않음)
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public OutboxEvent(OutboxEventType type, Long aggregateId) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 처리에 실패한 시도를 기록하고 다음 시도 시각을 정합니다. (null이면 자동 재시도를 멈춤)
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
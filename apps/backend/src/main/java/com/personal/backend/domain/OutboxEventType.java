@@ -0,0 +1,9 @@
+package com.personal.backend.domain;
+
+/**
+ * 아웃박스에 기록하는 후속 처리 종류 (aggregateId는 모두 주문 ID)
+ */
+public enum OutboxEventType {
+    ORDER_PAID,
+    ORDER_CANCELED
+}
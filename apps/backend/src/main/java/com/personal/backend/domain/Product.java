@@ -11,9 +11,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
+// 주문, 결제, 취소에 따른 재고(stockQuantity, reservedQuantity) 변경은 ProductRepository의 조건부 UPDATE 한 문장으로 처리합니다.
+// @DynamicUpdate로 변경된 컬럼만 UPDATE하여, 좋아요 수 변경 등 엔티티 수정이 그 사이 바뀐 재고 값을 덮어쓰지 않도록 합니다.
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+       indexes = @Index(name = "idx_products_category_id_id", columnList = "category_id, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
@@ -38,6 +42,10 @@ public class Product {
     @Column(nullable = false)
     private int stockQuantity;
 
+    // 결제 대기 주문이 잡아 둔 수량 (주문 가능 재고 = stockQuantity - reservedQuantity)
+    @Column(nullable = false)
+    private int reservedQuantity = 0;
+
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "product_image_urls",
         joinColumns = @JoinColumn(name = "product_id"))
@@ -113,24 +121,10 @@ public class Product {
     }
 
     /**
-     * 재고를 감소시킵니다.
-     * @param quantity 감소시킬 수량
-     */
-    public void decreaseStock(int quantity) {
-        int restStock = this.stockQuantity - quantity;
-        if (restStock < 0) {
-            // 재고가 부족하면 예외를 발생시켜 주문 진행을 막습니다.
-            throw new IllegalStateException("재고가 부족합니다. (상품명: " + this.getName() + ")");
-        }
-        this.stockQuantity = restStock;
-    }
-
-    /**
-     * 재고를 증가시킵니다. (주문 취소 시 사용)
-     * @param quantity 증가시킬 수량
+     * 다른 결제 대기 주문이 예약한 수량을 뺀, 지금 주문할 수 있는 재고입니다.
      */
-    public void increaseStock(int quantity) {
-        this.stockQuantity += quantity;
+    public int getAvailableStock() {
+        return this.stockQuantity - this.reservedQuantity;
     }
 
     public void increaseLikeCount() { this.likeCount++; }
@@ -6,6 +6,24 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.engine.jdbc.BlobProxy;
+
+/**
+ * 상품 상세 정보 (HTML, Markdown 등)
+ * 본문은 gzip으로 압축해 BLOB으로 저장하고, 읽을 때는 스트림으로 풀어 씁니다.
+ * BLOB은 접근하기 전까지 내용을 가져오지 않으므로, 본문이 필요한 요청에서만 읽히게 됩니다.
+ */
 @Entity
 @Table(name = "product_details")
 @Getter
@@ -21,16 +39,56 @@ public class ProductDetail {
     private Product product;
 
     @Lob
-    @Column(nullable = false)
-    private String content; // 상품 상세 정보 (HTML, Markdown 등)
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "content_gzip", nullable = false)
+    @Getter(AccessLevel.NONE)
+    private Blob compressedContent;
 
     @Builder
     public ProductDetail(Product product, String content) {
         this.product = product;
-        this.content = content;
+        this.compressedContent = compress(content);
     }
 
     public void updateContent(String content) {
-        this.content = content;
+        this.compressedContent = compress(content);
+    }
+
+    /**
+     * 압축을 푼 본문을 출력 스트림으로 그대로 흘려보냅니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    public void writeContentTo(OutputStream out) {
+        try (InputStream in = openContent()) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 본문 전체를 문자열로 읽습니다. 문자열 필드로만 내려줄 수 있는 응답(JSON, GraphQL)에서 사용합니다.
+     */
+    public String readContent() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeContentTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private InputStream openContent() throws IOException {
+        try {
+            return new GZIPInputStream(compressedContent.getBinaryStream());
+        } catch (SQLException e) {
+            throw new IOException("상품 상세 정보를 읽을 수 없습니다. id=" + id, e);
+        }
+    }
+
+    private static Blob compress(String content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return BlobProxy.generateProxy(compressed.toByteArray());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.personal.backend.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.personal.backend.domain.converter.SummaryTagListConverter;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 조회 전용 읽기 모델 (상품 1개당 1행)
+ * 목록 화면에 필요한 값(대표 이미지, 카테고리 이름, 태그, 옵션 개수)을 미리 펼쳐 저장해 두어
+ * 목록 조회 시 categories, product_image_urls, product_tags, product_option 테이블을 조인하지 않도록 합니다.
+ * 상품이 바뀔 때마다 같은 트랜잭션 안에서 {@link #refresh}로 다시 채워집니다.
+ */
+@Entity
+@Table(name = "product_summary",
+       indexes = @Index(name = "idx_product_summary_category_id_id", columnList = "category_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSummary {
+
+    // 상품 ID를 그대로 사용합니다. (목록 정렬 기준 필드 이름도 상품과 같게 유지)
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String description;
+
+    @Column(nullable = false)
+    private int price;
+
+    @Column(nullable = false)
+    private int stockQuantity;
+
+    @Column(length = 1000)
+    private String primaryImageUrl;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    private String categoryName;
+
+    @Convert(converter = SummaryTagListConverter.class)
+    @Column(length = 4000)
+    private List<SummaryTag> tags = new ArrayList<>();
+
+    private int optionCount;
+
+    private int likeCount;
+
+    private int reviewCount;
+
+    private double averageRating;
+
+    private double discountRate;
+
+    public ProductSummary(Long productId) {
+        this.id = productId;
+    }
+
+    /**
+     * 상품의 현재 값으로 요약 정보를 다시 채웁니다.
+     * @param imageUrls 상품 이미지 URL 목록 (첫 번째를 대표 이미지로 사용)
+     * @param tags 상품에 달린 태그 목록
+     * @param optionCount 상품 옵션 개수
+     */
+    public void refresh(Product product, List<String> imageUrls, List<Tag> tags, int optionCount) {
+        this.name = product.getName();
+        this.description = product.getDescription();
+        this.price = product.getPrice();
+        this.stockQuantity = product.getStockQuantity();
+        this.primaryImageUrl = imageUrls.isEmpty() ? null : imageUrls.get(0);
+        this.categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        this.categoryName = product.getCategory() != null ? product.getCategory().getName() : null;
+        this.tags = tags.stream().map(tag -> new SummaryTag(tag.getId(), tag.getName())).toList();
+        this.optionCount = optionCount;
+        this.likeCount = product.getLikeCount();
+        this.reviewCount = product.getReviewCount();
+        this.averageRating = product.getAverageRating();
+        this.discountRate = product.getDiscountRate();
+    }
+
+    public int getDiscountedPrice() {
+        return (int) (this.price * (1 - this.discountRate));
+    }
+
+    /**
+     * 요약 정보에 함께 저장하는 태그
+     */
+    public record SummaryTag(Long id, String name) {
+    }
+}
@@ -8,7 +8,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "qnas")
+@Table(name = "qnas",
+       indexes = @Index(name = "idx_qnas_product_id_id", columnList = "product_id, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Qna {
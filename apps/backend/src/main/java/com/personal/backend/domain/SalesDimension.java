@@ -0,0 +1,8 @@
+package com.personal.backend.domain;
+
+// 매출 집계 기준: 상품별, 카테고리별, 판매자(상품 등록자)별
+public enum SalesDimension {
+    PRODUCT,
+    CATEGORY,
+    SELLER
+}
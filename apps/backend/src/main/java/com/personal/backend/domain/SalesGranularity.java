@@ -0,0 +1,20 @@
+package com.personal.backend.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 매출 집계 단위: 시각을 구간 시작 시각으로 내림합니다.
+public enum SalesGranularity {
+    HOUR(ChronoUnit.HOURS), // 시간별
+    DAY(ChronoUnit.DAYS);   // 일별
+
+    private final ChronoUnit unit;
+
+    SalesGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
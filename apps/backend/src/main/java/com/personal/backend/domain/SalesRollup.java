@@ -0,0 +1,67 @@
+package com.personal.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매출 집계 (집계 단위 × 기준 × 구간 하나당 1행)
+ * 관리자 대시보드는 주문/주문 항목을 직접 합산하지 않고 이 테이블만 읽습니다.
+ * 카테고리나 판매자가 없는 상품의 매출은 dimensionId 0으로 모읍니다.
+ */
+@Entity
+@Table(name = "sales_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollups_key",
+               columnNames = {"granularity", "dimension", "dimension_id", "bucket_start"}),
+       indexes = @Index(name = "idx_sales_rollups_bucket", columnList = "granularity, dimension, bucket_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesRollup {
+
+    public static final long UNKNOWN_DIMENSION_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_rollup_seq_generator")
+    @SequenceGenerator(
+            name = "sales_rollup_seq_generator",
+            sequenceName = "SALES_ROLLUP_SEQ",
+            allocationSize = 1
+    )
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SalesGranularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SalesDimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long units;          // 판매 수량
+    private long grossAmount;    // 판매 금액 (할인 적용 후 주문 금액)
+    private long refundedUnits;  // 환불 수량
+    private long refundedAmount; // 환불 금액
+
+    public SalesRollup(SalesGranularity granularity, SalesDimension dimension, Long dimensionId, LocalDateTime bucketStart) {
+        this.granularity = granularity;
+        this.dimension = dimension;
+        this.dimensionId = dimensionId;
+        this.bucketStart = bucketStart;
+    }
+
+    public void add(long units, long grossAmount, long refundedUnits, long refundedAmount) {
+        this.units += units;
+        this.grossAmount += grossAmount;
+        this.refundedUnits += refundedUnits;
+        this.refundedAmount += refundedAmount;
+    }
+}
@@ -0,0 +1,57 @@
+package com.personal.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 대기(PENDING) 주문이 잡아 둔 재고 (주문 상품 1개당 1행)
+ * 주문을 만들 때 생성되고, 결제가 완료되면 실제 재고 차감으로 바뀌면서 삭제됩니다.
+ * 결제되지 않은 채 만료 시각이 지나면 정리 작업이 한꺼번에 삭제하여 재고를 다시 풀어 줍니다.
+ * 상품별 예약 수량의 합계는 {@link Product#getReservedQuantity()}에 함께 반영되어 있습니다.
+ */
+@Entity
+@Table(name = "stock_reservations",
+       indexes = {
+           @Index(name = "idx_stock_reservations_product_id", columnList = "product_id, expires_at"),
+           @Index(name = "idx_stock_reservations_order_id", columnList = "order_id"),
+           @Index(name = "idx_stock_reservations_expires_at", columnList = "expires_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservation_seq_generator")
+    @SequenceGenerator(
+            name = "stock_reservation_seq_generator",
+            sequenceName = "STOCK_RESERVATION_SEQ",
+            allocationSize = 1
+    )
+    private Long id;
+
+    // 대량 삭제와 합계 조회만 하므로 연관관계 대신 ID만 저장합니다.
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public StockReservation(Long orderId, Long productId, int quantity, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+}
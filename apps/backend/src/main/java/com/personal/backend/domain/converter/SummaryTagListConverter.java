@@ -0,0 +1,45 @@
+package com.personal.backend.domain.converter;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.backend.domain.ProductSummary;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 상품 요약의 태그 목록을 하나의 JSON 문자열 컬럼으로 저장합니다.
+ */
+@Converter
+public class SummaryTagListConverter implements AttributeConverter<List<ProductSummary.SummaryTag>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ProductSummary.SummaryTag>> TAG_LIST = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<ProductSummary.SummaryTag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 목록을 변환할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<ProductSummary.SummaryTag> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, TAG_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 목록을 읽을 수 없습니다.", e);
+        }
+    }
+}
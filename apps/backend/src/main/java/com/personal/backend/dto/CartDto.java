@@ -2,6 +2,10 @@ package com.personal.backend.dto;
 
 import java.util.List;
 
+import com.personal.backend.image.ImageUrlSerializer;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -35,7 +39,8 @@ public class CartDto {
             Long productId,
             String productName,
             int price,
-            String imageUrl,
+            @JsonSerialize(using = ImageUrlSerializer.class)
+            String imageUrl, // 대표 이미지 객체 키 (JSON 응답에서 URL로 변환)
             int quantity
     ) {}
 }
\ No newline at end of file
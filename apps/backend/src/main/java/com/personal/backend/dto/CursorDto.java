@@ -0,0 +1,31 @@
+package com.personal.backend.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class CursorDto {
+
+    public record CursorRequest(
+        @Parameter(description = "이전 응답의 nextCursor 값 (첫 페이지는 생략)", schema = @Schema(type = "string"))
+        String cursor,
+
+        @Parameter(description = "가져올 항목 수 (최대 100)", schema = @Schema(type = "integer", defaultValue = "10"))
+        Integer size
+    ) {
+    }
+
+    /**
+     * 커서 기반 목록 응답
+     * @param content 현재 조회된 항목 목록
+     * @param nextCursor 다음 항목을 조회할 때 전달할 커서 (마지막이면 null)
+     * @param hasNext 다음 항목이 더 있는지 여부
+     */
+    public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.personal.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class HotStockDto {
+    @Schema(name = "HotStockStatusResponse", description = "핫 상품 재고 모드 상태 응답")
+    public record StatusResponse(
+            Long productId,
+            boolean hot, // true이면 재고를 서버 메모리 카운터로 관리 중
+            Integer availableStock // 핫 상품일 때 카운터의 주문 가능 재고 (아니면 null)
+    ) {}
+}
@@ -3,6 +3,9 @@ package com.personal.backend.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.personal.backend.image.ImageUrlSerializer;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
@@ -23,9 +26,14 @@ public class OrderDto {
     public record OrderItemRequest(
         @NotNull(message = "상품 ID는 필수입니다.")
         Long productId,
+        Long optionId, // 선택한 상품 옵션 ID (옵션이 없으면 생략)
         @Min(value = 1, message = "주문 수량은 1개 이상이어야 합니다.")
         int count
-    ) {}
+    ) {
+        public OrderItemRequest(Long productId, int count) {
+            this(productId, null, count);
+        }
+    }
 
     @Schema(name = "OrderCancelRequest", description = "주문 취소 요청")
     public record CancelRequest(
@@ -50,9 +58,14 @@ public class OrderDto {
             List<OrderItemResponse> orderItems
     ) {}
 
-    @Schema(name = "OrderItemResponse", description = "주문 항목 응답")
+    @Schema(name = "OrderItemResponse", description = "주문 항목 응답 (상품 정보는 주문 당시 스냅샷)")
     public record OrderItemResponse(
+            Long id,
+            Long productId,
             String productName,
+            String optionName,
+            @JsonSerialize(using = ImageUrlSerializer.class)
+            String imageUrl,
             int count,
             int orderPrice
     ) {}
@@ -2,6 +2,8 @@ package com.personal.backend.dto;
 
 import java.util.Objects;
 
+import com.personal.backend.pagination.PageMode;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,7 +24,10 @@ public class PageableDto {
         String sortBy,
 
         @Parameter(description = "정렬 순서 (ASC 또는 DESC)", schema = @Schema(type = "string", defaultValue = "DESC", allowableValues = {"ASC", "DESC"}))
-        String sortOrder
+        String sortOrder,
+
+        @Parameter(description = "전체 개수 조회 방식 (EXACT: COUNT 조회, SLICE: 다음 페이지 여부만 조회, APPROXIMATE: 캐시된 대략적인 개수)", schema = @Schema(type = "string", defaultValue = "EXACT", allowableValues = {"EXACT", "SLICE", "APPROXIMATE"}))
+        PageMode pageMode
     ) {
         /**
          * 이 DTO를 Spring Data의 Pageable 객체로 변환합니다.
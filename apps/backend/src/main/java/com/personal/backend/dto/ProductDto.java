@@ -5,8 +5,13 @@ import java.util.stream.Collectors;
 
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.ProductOption;
+import com.personal.backend.domain.ProductSummary;
 import com.personal.backend.domain.Tag;
 import com.personal.backend.domain.User;
+import com.personal.backend.image.ImageUrlSerializer;
+import com.personal.backend.search.ProductFacetResult;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -37,12 +42,13 @@ public class ProductDto {
     ) {
         // 이 DTO를 실제 데이터베이스에 저장될 Product 엔티티로 변환하는 메소드
         // Category는 Service 계층에서 ID를 이용해 조회 후 주입합니다.
-        public Product toEntity(User user) {
+        // 이미지는 Service 계층에서 요청의 URL을 객체 키로 바꿔 전달합니다.
+        public Product toEntity(User user, List<String> imageKeys) {
             return Product.builder()
                     .name(name)
                     .description(description)
                     .price(price)
-                    .imageUrl(imageUrl)
+                    .imageUrl(imageKeys)
                     .user(user)
                     .stockQuantity(stockQuantity)
                     .discountRate(discountRate)
@@ -82,7 +88,8 @@ public class ProductDto {
         int originalPrice,
         int discountedPrice,
         int stockQuantity,
-        List<String> imageUrl,
+        @JsonSerialize(contentUsing = ImageUrlSerializer.class)
+        List<String> imageUrl, // 이미지 객체 키 (JSON 응답에서 URL로 변환)
         String categoryName,
         String detailContent,
         int likeCount,
@@ -91,10 +98,18 @@ public class ProductDto {
         double discountRate,
         boolean isLiked,
         List<ProductOptionDto.Response> options,
-        List<TagDto.Response> tags
+        List<TagDto.Response> tags,
+        int optionCount
     ) {
         // 정적 팩토리 메소드는 그대로 유지하여 변환 로직을 캡슐화합니다.
         public static Response from(Product product, boolean isLiked, String detailContent, List<ProductOption> options, List<Tag> tags) {
+            return from(product, product.getImageUrl(), isLiked, detailContent, options, tags);
+        }
+
+        /**
+         * 이미지 URL 컬렉션을 미리 조회해 둔 경우(목록 조회) 사용하는 팩토리 메소드입니다.
+         */
+        public static Response from(Product product, List<String> imageUrl, boolean isLiked, String detailContent, List<ProductOption> options, List<Tag> tags) {
             List<ProductOptionDto.Response> optionResponses = options.stream()
                     .map(ProductOptionDto.Response::fromEntity)
                     .toList();
@@ -109,7 +124,7 @@ public class ProductDto {
                     product.getOriginalPrice(),
                     product.getDiscountedPrice(),
                     product.getStockQuantity(),
-                    product.getImageUrl(),
+                    imageUrl != null ? List.copyOf(imageUrl) : null, // 영속성 컨텍스트의 컬렉션을 그대로 노출하지 않도록 복사합니다.
                     product.getCategory() != null ? product.getCategory().getName() : null,
                     detailContent,
                     product.getLikeCount(),
@@ -118,12 +133,75 @@ public class ProductDto {
                     product.getDiscountRate(),
                     isLiked,
                     optionResponses,
-                    tagResponses
+                    tagResponses,
+                    optionResponses.size()
             );
         }
 
+        /**
+         * 목록 조회용 팩토리 메소드입니다. 상품 요약 읽기 모델만으로 응답을 만듭니다.
+         * 이미지는 대표 이미지 1개만, 옵션은 개수(optionCount)만 담습니다.
+         */
+        public static Response fromSummary(ProductSummary summary, boolean isLiked) {
+            List<TagDto.Response> tagResponses = summary.getTags().stream()
+                    .map(tag -> new TagDto.Response(tag.id(), tag.name()))
+                    .toList();
+
+            return new Response(
+                    summary.getId(),
+                    summary.getName(),
+                    summary.getDescription(),
+                    summary.getPrice(),
+                    summary.getDiscountedPrice(),
+                    summary.getStockQuantity(),
+                    summary.getPrimaryImageUrl() != null ? List.of(summary.getPrimaryImageUrl()) : List.of(),
+                    summary.getCategoryName(),
+                    null,
+                    summary.getLikeCount(),
+                    summary.getReviewCount(),
+                    summary.getAverageRating(),
+                    summary.getDiscountRate(),
+                    isLiked,
+                    List.of(),
+                    tagResponses,
+                    summary.getOptionCount()
+            );
+        }
+
+        /**
+         * 사용자별 값인 isLiked만 바꾼 응답을 반환합니다. (캐시된 응답에 요청자 정보를 덧씌울 때 사용)
+         */
+        public Response withLiked(boolean liked) {
+            if (this.isLiked == liked) {
+                return this;
+            }
+            return new Response(id, name, description, originalPrice, discountedPrice, stockQuantity, imageUrl,
+                    categoryName, detailContent, likeCount, reviewCount, averageRating, discountRate, liked, options, tags, optionCount);
+        }
+
+        /**
+         * 상세 본문을 채운 응답을 반환합니다. (본문을 요청한 경우에만 별도로 읽어 덧씌울 때 사용)
+         */
+        public Response withDetailContent(String content) {
+            return new Response(id, name, description, originalPrice, discountedPrice, stockQuantity, imageUrl,
+                    categoryName, content, likeCount, reviewCount, averageRating, discountRate, isLiked, options, tags, optionCount);
+        }
+
         public static Response fromEntity(Product product) {
             return from(product, false, null, product.getOptions(), product.getProductTags().stream().map(pt -> pt.getTag()).toList());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 필터 검색 결과 DTO (상품 목록과 항목별 상품 수)
+     */
+    public record FacetSearchResponse(
+        List<Response> content,
+        long totalElements,
+        int totalPages,
+        int size,
+        int number,
+        boolean hasNext,
+        ProductFacetResult.Facets facets
+    ) {}
+}
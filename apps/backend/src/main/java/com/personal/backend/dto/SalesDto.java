@@ -0,0 +1,46 @@
+package com.personal.backend.dto;
+
+import com.personal.backend.domain.SalesDimension;
+import com.personal.backend.domain.SalesGranularity;
+import com.personal.backend.domain.SalesRollup;
+import com.personal.backend.repository.SalesRollupRepository;
+
+public class SalesDto {
+
+    /**
+     * 구간 하나의 매출 (구간 시작 시각은 ISO-8601 문자열)
+     * 카테고리/판매자가 없는 상품의 매출은 dimensionId 0으로 모입니다.
+     */
+    public record Bucket(
+            String bucketStart,
+            SalesGranularity granularity,
+            SalesDimension dimension,
+            Long dimensionId,
+            long units,
+            long grossAmount,
+            long refundedUnits,
+            long refundedAmount,
+            long netAmount
+    ) {
+        public static Bucket from(SalesRollup rollup) {
+            return new Bucket(rollup.getBucketStart().toString(), rollup.getGranularity(), rollup.getDimension(), rollup.getDimensionId(),
+                    rollup.getUnits(), rollup.getGrossAmount(), rollup.getRefundedUnits(), rollup.getRefundedAmount(),
+                    rollup.getGrossAmount() - rollup.getRefundedAmount());
+        }
+    }
+
+    // 기간 전체의 항목별 합계
+    public record Total(
+            Long dimensionId,
+            long units,
+            long grossAmount,
+            long refundedUnits,
+            long refundedAmount,
+            long netAmount
+    ) {
+        public static Total from(SalesRollupRepository.TotalRow row) {
+            return new Total(row.getDimensionId(), row.getUnits(), row.getGrossAmount(), row.getRefundedUnits(), row.getRefundedAmount(),
+                    row.getGrossAmount() - row.getRefundedAmount());
+        }
+    }
+}
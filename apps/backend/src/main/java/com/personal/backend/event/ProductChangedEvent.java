@@ -0,0 +1,15 @@
+package com.personal.backend.event;
+
+/**
+ * 상품이 생성/수정/삭제되었거나 상품 응답에 포함되는 데이터(옵션, 이미지, 좋아요 수 등)가 변경되었음을 알리는 이벤트
+ * 트랜잭션이 커밋된 뒤 캐시 무효화, 검색 색인 갱신 등 후속 처리를 위해 사용합니다.
+ * @param productId 변경된 상품의 ID
+ * @param availableStockChanged 주문 가능 재고(재고 - 예약 수량)가 바뀌었을 수 있으면 true
+ *                              (결제 완료로 예약 수량이 그대로 재고 차감으로 바뀐 경우에만 false)
+ */
+public record ProductChangedEvent(Long productId, boolean availableStockChanged) {
+
+    public ProductChangedEvent(Long productId) {
+        this(productId, true);
+    }
+}
@@ -1,10 +1,14 @@
 package com.personal.backend.exception;
 
+import graphql.ErrorClassification;
 import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
 import graphql.schema.DataFetchingEnvironment;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.graphql.execution.ErrorType;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -60,7 +64,27 @@ public class GraphqlExceptionHandler extends DataFetcherExceptionResolverAdapter
                     .location(env.getField().getSourceLocation())
                     .build();
         }
-        // 4. 그 외 예측하지 못한 모든 서버 내부 오류
+        // 4. 일시적인 경합으로 처리하지 못한 경우: 다시 시도해도 되는 오류임을 extensions로 알려줍니다.
+        else if (ex instanceof RetryableException retryable) {
+            return GraphqlErrorBuilder.newError()
+                    .errorType(ErrorClassification.errorClassification("UNAVAILABLE"))
+                    .message(ex.getMessage())
+                    .extensions(Map.of("retryable", true, "retryAfterSeconds", retryable.getRetryAfterSeconds()))
+                    .path(env.getExecutionStepInfo().getPath())
+                    .location(env.getField().getSourceLocation())
+                    .build();
+        }
+        // 5. 요청이 몰려 접수하지 않고 돌려보낸 경우
+        else if (ex instanceof TooManyRequestsException tooMany) {
+            return GraphqlErrorBuilder.newError()
+                    .errorType(ErrorClassification.errorClassification("TOO_MANY_REQUESTS"))
+                    .message(ex.getMessage())
+                    .extensions(Map.of("retryable", true, "retryAfterSeconds", tooMany.getRetryAfterSeconds()))
+                    .path(env.getExecutionStepInfo().getPath())
+                    .location(env.getField().getSourceLocation())
+                    .build();
+        }
+        // 6. 그 외 예측하지 못한 모든 서버 내부 오류
         else {
             log.error("Internal Server Error in GraphQL resolver", ex);
             return GraphqlErrorBuilder.newError()
@@ -0,0 +1,18 @@
+package com.personal.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 자체는 올바르지만 일시적인 경합(예: 재고 잠금 대기 시간 초과) 때문에 처리하지 못했을 때 발생하는 예외
+ * 클라이언트가 retryAfterSeconds 뒤에 같은 요청을 다시 보내면 성공할 수 있습니다. (503 Service Unavailable + Retry-After)
+ */
+@Getter
+public class RetryableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
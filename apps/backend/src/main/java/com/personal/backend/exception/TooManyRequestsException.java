@@ -0,0 +1,18 @@
+package com.personal.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리할 수 있는 양보다 많은 요청이 몰려 서버가 요청을 받지 않고 바로 돌려보낼 때 발생하는 예외
+ * 예: 인기 상품 주문 대기열이 가득 찼거나, 남은 재고보다 많은 주문이 이미 처리 중일 때 (429 Too Many Requests + Retry-After)
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,27 @@
+package com.personal.backend.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 주문 내보내기 파일 형식
+ */
+public enum OrderExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    OrderExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return MediaType.parseMediaType(mediaType + ";charset=UTF-8");
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
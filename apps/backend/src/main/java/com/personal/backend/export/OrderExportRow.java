@@ -0,0 +1,23 @@
+package com.personal.backend.export;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 파일의 한 줄 (주문 항목 하나)
+ * 상품 이름과 옵션은 주문 당시 스냅샷 값입니다.
+ */
+public record OrderExportRow(
+        Long orderId,
+        String pgOrderId,
+        LocalDateTime orderDate,
+        String status,
+        String userEmail,
+        Long orderItemId,
+        Long productId,
+        String productName,
+        String optionName,
+        int count,
+        int orderPrice,
+        long amount
+) {
+}
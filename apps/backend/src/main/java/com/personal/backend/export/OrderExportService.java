@@ -0,0 +1,200 @@
+package com.personal.backend.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.personal.backend.config.order.OrderExportProperties;
+import com.personal.backend.domain.User;
+import com.personal.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 내역을 CSV/NDJSON으로 내보내는 서비스
+ * 페이지 단위로 엔티티를 모으지 않고, 앞으로만 읽는 JDBC 커서에서 한 행씩 읽어 바로 출력 스트림에 씁니다.
+ * 한 번에 메모리에 있는 행은 커서의 fetch size만큼이므로, 주문 항목이 수백만 건이어도 메모리 사용량이 일정합니다.
+ * 내보내는 동안 DB 연결 하나를 계속 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String SELECT_ROWS =
+            "SELECT o.id AS order_id, o.pg_order_id, o.order_date, o.status, u.email, " +
+            "i.id AS order_item_id, i.product_id, i.product_name, i.option_name, i.count, i.order_price " +
+            "FROM orders o JOIN order_items i ON i.order_id = o.id JOIN users u ON u.id = o.user_id ";
+
+    private static final String[] CSV_HEADER = {
+            "order_id", "pg_order_id", "order_date", "status", "user_email",
+            "order_item_id", "product_id", "product_name", "option_name", "count", "order_price", "amount"
+    };
+
+    // 엑셀에서 한글이 깨지지 않도록 CSV 앞에 UTF-8 BOM을 붙입니다.
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final OrderExportProperties properties;
+
+    /**
+     * 사용자 본인의 주문 내역을 내보냅니다.
+     * @return 내보낸 행(주문 항목) 수
+     */
+    public long exportUserOrders(String userEmail, OrderExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        return export(SELECT_ROWS + "WHERE o.user_id = ? ORDER BY o.id, i.id",
+                new Object[]{user.getId()}, format, gzip, out);
+    }
+
+    /**
+     * 기간 안에 주문된 전체 주문 내역을 내보냅니다. (from, to 모두 포함)
+     * @return 내보낸 행(주문 항목) 수
+     */
+    public long exportOrders(LocalDate from, LocalDate to, OrderExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        validateRange(from, to);
+        return export(SELECT_ROWS + "WHERE o.order_date >= ? AND o.order_date < ? ORDER BY o.id, i.id",
+                new Object[]{Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay())},
+                format, gzip, out);
+    }
+
+    /**
+     * 응답을 쓰기 시작하기 전에 호출해, 잘못된 기간은 400 응답으로 돌려줄 수 있게 합니다.
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("내보낼 기간이 올바르지 않습니다.");
+        }
+        if (Duration.ofDays(to.toEpochDay() - from.toEpochDay() + 1).compareTo(properties.maxRange()) > 0) {
+            throw new IllegalArgumentException("한 번에 내보낼 수 있는 기간은 최대 " + properties.maxRange().toDays() + "일입니다.");
+        }
+    }
+
+    private long export(String sql, Object[] args, OrderExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 8192) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == OrderExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(properties.fetchSize());
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                return statement;
+            }, (ResultSet resultSet) -> {
+                try {
+                    rowWriter.write(toRow(resultSet));
+                    rows[0]++;
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊으면 커서를 닫고 내보내기를 중단합니다.
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+        return rows[0];
+    }
+
+    private static OrderExportRow toRow(ResultSet resultSet) throws SQLException {
+        Timestamp orderDate = resultSet.getTimestamp("order_date");
+        int count = resultSet.getInt("count");
+        int orderPrice = resultSet.getInt("order_price");
+        return new OrderExportRow(
+                resultSet.getLong("order_id"),
+                resultSet.getString("pg_order_id"),
+                orderDate != null ? orderDate.toLocalDateTime() : null,
+                resultSet.getString("status"),
+                resultSet.getString("email"),
+                resultSet.getLong("order_item_id"),
+                resultSet.getObject("product_id", Long.class),
+                resultSet.getString("product_name"),
+                resultSet.getString("option_name"),
+                count,
+                orderPrice,
+                (long) count * orderPrice);
+    }
+
+    private interface RowWriter {
+        void write(OrderExportRow row) throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(UTF8_BOM);
+            writeLine((Object[]) CSV_HEADER);
+        }
+
+        @Override
+        public void write(OrderExportRow row) throws IOException {
+            writeLine(row.orderId(), row.pgOrderId(), row.orderDate(), row.status(), row.userEmail(),
+                    row.orderItemId(), row.productId(), row.productName(), row.optionName(),
+                    row.count(), row.orderPrice(), row.amount());
+        }
+
+        private void writeLine(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 들어간 값만 따옴표로 감싸고 안의 따옴표는 두 번 씁니다. (RFC 4180)
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    // 한 줄에 JSON 객체 하나, 마지막 줄도 줄바꿈으로 끝납니다. (행이 없으면 빈 파일)
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final ObjectWriter rowJson = objectMapper.writerFor(OrderExportRow.class);
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(OrderExportRow row) throws IOException {
+            writer.write(rowJson.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+}
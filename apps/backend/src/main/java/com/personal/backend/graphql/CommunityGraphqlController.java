@@ -5,6 +5,8 @@ import com.personal.backend.dto.QnaDto;
 import com.personal.backend.dto.ReviewDto;
 import com.personal.backend.graphql.dto.QnaInput;
 import com.personal.backend.graphql.dto.ReviewInput;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
 import com.personal.backend.service.QnaService;
 import com.personal.backend.service.ReviewService;
 import com.personal.backend.service.UserService;
@@ -16,14 +18,16 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -40,19 +44,31 @@ public class CommunityGraphqlController {
     // --- Query Resolvers ---
 
     @QueryMapping
-    public Page<ReviewDto.Response> reviews(
+    public Slice<ReviewDto.Response> reviews(
             @Argument Long productId,
-            @Argument Integer page, @Argument Integer size) {
+            @Argument Integer page, @Argument Integer size, @Argument PageMode pageMode) {
         Pageable pageable = createPageable(page, size, "id", "DESC");
-        return reviewService.getReviewsByProductId(productId, pageable);
+        return reviewService.getReviewsByProductId(productId, pageable, pageMode);
     }
 
     @QueryMapping
-    public Page<QnaDto.Response> qnas(
+    public Slice<QnaDto.Response> qnas(
             @Argument Long productId,
-            @Argument Integer page, @Argument Integer size) {
+            @Argument Integer page, @Argument Integer size, @Argument PageMode pageMode) {
         Pageable pageable = createPageable(page, size, "id", "DESC");
-        return qnaService.getQnaByProductId(productId, pageable);
+        return qnaService.getQnaByProductId(productId, pageable, pageMode);
+    }
+
+    @QueryMapping
+    public Window<ReviewDto.Response> reviewsConnection(@Argument Long productId, ScrollSubrange subrange) {
+        return reviewService.scrollReviewsByProductId(productId,
+                CursorPagination.position(subrange), CursorPagination.limit(subrange));
+    }
+
+    @QueryMapping
+    public Window<QnaDto.Response> qnasConnection(@Argument Long productId, ScrollSubrange subrange) {
+        return qnaService.scrollQnaByProductId(productId,
+                CursorPagination.position(subrange), CursorPagination.limit(subrange));
     }
 
     // --- Mutation Resolvers ---
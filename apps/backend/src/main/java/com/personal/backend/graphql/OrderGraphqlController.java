@@ -1,32 +1,41 @@
 package com.personal.backend.graphql;
 
+import com.personal.backend.admission.CheckoutAdmissionGate;
 import com.personal.backend.domain.Order;
 import com.personal.backend.domain.OrderStatus; // OrderStatus Enum 임포트
 import com.personal.backend.domain.Product;
 import com.personal.backend.dto.CartDto;
 import com.personal.backend.dto.OrderDto;
 import com.personal.backend.graphql.dto.OrderInput;
+import com.personal.backend.image.ImageUrlResolver;
 import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.idempotency.IdempotencyStore;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
 import com.personal.backend.service.CartService;
 import com.personal.backend.service.OrderService;
 import com.personal.backend.service.PaymentService;
 import com.personal.backend.service.ProductService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -39,6 +48,9 @@ public class OrderGraphqlController {
     private final OrderService orderService;
     private final PaymentService paymentService;
     private final ProductService productService; // For field resolver
+    private final CheckoutAdmissionGate checkoutAdmissionGate;
+    private final ImageUrlResolver imageUrlResolver;
+    private final IdempotencyStore idempotencyStore;
 
 
     // --- Query Resolvers ---
@@ -49,12 +61,19 @@ public class OrderGraphqlController {
     }
 
     @QueryMapping
-    public Page<OrderDto.HistoryResponse> myOrders(
+    public Slice<OrderDto.HistoryResponse> myOrders(
             @Argument Integer page, @Argument Integer size,
             @Argument String sortBy, @Argument String sortOrder,
+            @Argument PageMode pageMode,
             @AuthenticationPrincipal UserDetails userDetails) {
         Pageable pageable = createPageable(page, size, sortBy, sortOrder);
-        return orderService.getOrderHistory(userDetails.getUsername(), pageable);
+        return orderService.getOrderHistory(userDetails.getUsername(), pageable, pageMode);
+    }
+
+    @QueryMapping
+    public Window<OrderDto.HistoryResponse> myOrdersConnection(ScrollSubrange subrange, @AuthenticationPrincipal UserDetails userDetails) {
+        return orderService.scrollOrderHistory(userDetails.getUsername(),
+                CursorPagination.position(subrange), CursorPagination.limit(subrange));
     }
 
     @QueryMapping
@@ -76,13 +95,22 @@ public class OrderGraphqlController {
     }
 
     @MutationMapping
-    public OrderDto.HistoryResponse createOrder(@Argument("input") OrderInput input, @AuthenticationPrincipal UserDetails userDetails) {
+    public OrderDto.HistoryResponse createOrder(@Argument("input") OrderInput input, @Argument String idempotencyKey,
+                                                @AuthenticationPrincipal UserDetails userDetails) {
         List<OrderDto.OrderItemRequest> orderItems = input.items().stream()
-                .map(item -> new OrderDto.OrderItemRequest(item.productId(), item.count()))
+                .map(item -> new OrderDto.OrderItemRequest(item.productId(), item.optionId(), item.count()))
                 .toList();
         OrderDto.CreateRequest request = new OrderDto.CreateRequest(orderItems);
+        // idempotencyKey를 보내면 같은 키로 다시 요청해도 주문을 새로 만들지 않고 처음 응답을 돌려줍니다.
+        return idempotencyStore.execute("createOrder", userDetails.getUsername(), idempotencyKey, request,
+                () -> placeOrder(request, userDetails));
+    }
+
+    private OrderDto.HistoryResponse placeOrder(OrderDto.CreateRequest request, UserDetails userDetails) {
         // 1. 주문 생성 로직은 그대로 사용합니다.
-        OrderDto.CreateResponse createResponse = orderService.createOrder(userDetails.getUsername(), request);
+        //    인기 상품에 주문이 몰리면 트랜잭션을 시작하기 전에 접수 단계에서 거절합니다.
+        OrderDto.CreateResponse createResponse = checkoutAdmissionGate.admit(request.orderItems(),
+                () -> orderService.createOrder(userDetails.getUsername(), request));
 
         // 2. 생성된 주문의 상세 정보를 DTO 형태로 조회하여 반환합니다.
         //    (이를 위해 OrderService에 pgOrderId로 조회하는 기능이 필요할 수 있습니다.)
@@ -96,12 +124,17 @@ public class OrderGraphqlController {
     
     @MutationMapping
     public OrderDto.HistoryResponse cancelOrder(@Argument Long orderId, @Argument String reason, @AuthenticationPrincipal UserDetails userDetails) {
-        return orderService.cancelOrder(userDetails.getUsername(), orderId, reason);
+        // 취소 접수까지만 하고 CANCEL_REQUESTED 상태를 돌려줍니다. 환불은 RefundWorker가 처리합니다.
+        return orderService.requestCancel(userDetails.getUsername(), orderId, reason);
     }
 
     @MutationMapping
-    public PaymentDto.ConfirmationResponse confirmTossPayment(@Argument("input") PaymentDto.VerificationRequest input) {
-        return paymentService.confirmPayment(input).block(); // Mono<T> to T
+    public Mono<PaymentDto.ConfirmationResponse> confirmTossPayment(@Argument("input") PaymentDto.VerificationRequest input, @Argument String idempotencyKey,
+                                                              @AuthenticationPrincipal UserDetails userDetails) {
+        String principal = userDetails != null ? userDetails.getUsername() : null;
+        // PG사 응답을 기다리는 동안 스레드를 잡지 않도록 Mono를 그대로 반환합니다.
+        return idempotencyStore.executeAsync("confirmTossPayment", principal, idempotencyKey, input,
+                () -> paymentService.confirmPayment(input));
     }
 
     // --- Field Resolvers (N+1 해결) ---
@@ -131,6 +164,41 @@ public class OrderGraphqlController {
         return response.orderDate().toString();
     }
 
+    // 주문 항목은 서비스가 한 페이지 분량을 한 번에 조회해 DTO에 담아 두었으므로 그대로 돌려줍니다.
+    @SchemaMapping(typeName = "Order", field = "items")
+    public List<OrderDto.OrderItemResponse> resolveOrderItems(OrderDto.HistoryResponse response) {
+        return response.orderItems();
+    }
+
+    @SchemaMapping(typeName = "Order", field = "totalAmount")
+    public int resolveTotalAmount(OrderDto.HistoryResponse response) {
+        return response.orderItems().stream()
+                .mapToInt(item -> item.orderPrice() * item.count())
+                .sum();
+    }
+
+    // 주문 항목에는 주문 당시 대표 이미지의 객체 키가 담겨 있으므로 내보낼 때 URL로 바꿉니다.
+    @SchemaMapping(typeName = "OrderItem", field = "imageUrl")
+    public String resolveOrderItemImageUrl(OrderDto.OrderItemResponse item) {
+        return item.imageUrl() != null ? imageUrlResolver.toUrl(item.imageUrl()) : null;
+    }
+
+    // 현재 상품 정보가 필요할 때만 한 번에 조회합니다. (삭제된 상품은 null)
+    @BatchMapping(typeName = "OrderItem", field = "product")
+    public Map<OrderDto.OrderItemResponse, Product> getOrderItemProduct(List<OrderDto.OrderItemResponse> orderItems) {
+        Set<Long> productIds = orderItems.stream()
+                .map(OrderDto.OrderItemResponse::productId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Product> productsById = productService.findProductsByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return orderItems.stream()
+                .filter(item -> productsById.containsKey(item.productId()))
+                .collect(Collectors.toMap(Function.identity(), item -> productsById.get(item.productId())));
+    }
+
 
     @BatchMapping(typeName = "CartItem", field = "product")
     public Map<CartDto.CartItemResponse, Product> getProduct(List<CartDto.CartItemResponse> cartItems) {
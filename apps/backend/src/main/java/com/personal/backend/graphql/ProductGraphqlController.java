@@ -6,25 +6,35 @@ import com.personal.backend.domain.Tag;
 import com.personal.backend.domain.User;
 import com.personal.backend.dto.CategoryDto;
 import com.personal.backend.dto.ProductDto;
+import com.personal.backend.dto.ProductOptionDto;
 import com.personal.backend.graphql.dto.ProductInput;
+import com.personal.backend.image.ImageUrlResolver;
+import com.personal.backend.graphql.dto.ProductSearchFilterInput;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
+import com.personal.backend.search.ProductFacetSort;
 import com.personal.backend.service.CategoryService;
 import com.personal.backend.service.LikeService;
 import com.personal.backend.service.ProductService;
 import com.personal.backend.service.TagService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,19 +50,21 @@ public class ProductGraphqlController {
     private final LikeService likeService;
     private final TagService tagService;
     private final CategoryService categoryService;
+    private final ImageUrlResolver imageUrlResolver;
 
 
     // --- Query Resolvers ---
 
     @QueryMapping
-    public Page<ProductDto.Response> products(
+    public Slice<ProductDto.Response> products(
             @Argument String keyword, @Argument Long categoryId,
             @Argument Integer page, @Argument Integer size,
             @Argument String sortBy, @Argument String sortOrder,
+            @Argument PageMode pageMode,
             @AuthenticationPrincipal UserDetails userDetails) {
         String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
         Pageable pageable = createPageable(page, size, sortBy, sortOrder);
-        return productService.findProducts(keyword, categoryId, pageable, userEmail);
+        return productService.findProducts(keyword, categoryId, pageable, userEmail, pageMode);
     }
 
     @QueryMapping
@@ -62,12 +74,39 @@ public class ProductGraphqlController {
     }
 
     @QueryMapping
-    public Page<ProductDto.Response> myLikes(
+    public ProductDto.FacetSearchResponse productSearch(
+            @Argument ProductSearchFilterInput filter, @Argument ProductFacetSort sort,
+            @Argument Integer page, @Argument Integer size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        return productService.searchByFacets(filter != null ? filter.toQuery() : null, sort,
+                page != null ? page : 0, size != null ? size : 0, userEmail);
+    }
+
+    @QueryMapping
+    public Window<ProductDto.Response> productsConnection(
+            @Argument String keyword, @Argument Long categoryId,
+            ScrollSubrange subrange,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        return productService.scrollProducts(keyword, categoryId,
+                CursorPagination.position(subrange), CursorPagination.limit(subrange), userEmail);
+    }
+
+    @QueryMapping
+    public Window<ProductDto.Response> myLikesConnection(ScrollSubrange subrange, @AuthenticationPrincipal UserDetails userDetails) {
+        return likeService.scrollLikedProducts(userDetails.getUsername(),
+                CursorPagination.position(subrange), CursorPagination.limit(subrange));
+    }
+
+    @QueryMapping
+    public Slice<ProductDto.Response> myLikes(
             @Argument Integer page, @Argument Integer size,
             @Argument String sortBy, @Argument String sortOrder,
+            @Argument PageMode pageMode,
             @AuthenticationPrincipal UserDetails userDetails) {
         Pageable pageable = createPageable(page, size, sortBy, sortOrder);
-        return likeService.getLikedProducts(userDetails.getUsername(), pageable);
+        return likeService.getLikedProducts(userDetails.getUsername(), pageable, pageMode);
     }
 
     @QueryMapping
@@ -132,6 +171,12 @@ public class ProductGraphqlController {
 
     // --- Field Resolvers (N+1 해결) ---
 
+    // 응답 DTO에는 이미지 객체 키가 담겨 있으므로 내보낼 때 URL로 바꿉니다.
+    @SchemaMapping(typeName = "Product", field = "imageUrl")
+    public List<String> getImageUrl(ProductDto.Response product) {
+        return imageUrlResolver.toUrls(product.imageUrl());
+    }
+
     @BatchMapping(typeName = "Product", field = "category")
     public Map<ProductDto.Response, Category> getCategory(List<ProductDto.Response> products) {
         Set<String> categoryNames = products.stream()
@@ -151,6 +196,50 @@ public class ProductGraphqlController {
                 ));
     }
 
+    /**
+     * 목록 응답은 옵션 개수만 담고 있으므로, 옵션이 비어 있지만 optionCount가 있는 상품만 모아 한 번에 조회합니다.
+     * 상세 조회처럼 옵션이 이미 채워진 응답은 그대로 사용합니다.
+     */
+    @BatchMapping(typeName = "Product", field = "options")
+    public Map<ProductDto.Response, List<ProductOptionDto.Response>> getOptions(List<ProductDto.Response> products) {
+        Set<Long> productIdsToLoad = products.stream()
+                .filter(product -> product.options().isEmpty() && product.optionCount() > 0)
+                .map(ProductDto.Response::id)
+                .collect(Collectors.toSet());
+        Map<Long, List<ProductOptionDto.Response>> loadedOptions = productService.findOptionsByProductIds(productIdsToLoad);
+
+        return products.stream()
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        product -> product.options().isEmpty()
+                                ? loadedOptions.getOrDefault(product.id(), List.of())
+                                : product.options(),
+                        (first, second) -> first));
+    }
+
+    /**
+     * 상세 본문은 쿼리에서 detailContent를 선택한 경우에만 읽습니다.
+     * 수정 결과처럼 본문이 이미 채워진 응답은 그대로 사용하고, 나머지 상품은 한 번에 조회합니다.
+     */
+    @BatchMapping(typeName = "Product", field = "detailContent")
+    public Map<ProductDto.Response, String> getDetailContent(List<ProductDto.Response> products) {
+        Set<Long> productIdsToLoad = products.stream()
+                .filter(product -> product.detailContent() == null && product.id() != null)
+                .map(ProductDto.Response::id)
+                .collect(Collectors.toSet());
+        Map<Long, String> loadedContents = productService.findDetailContents(productIdsToLoad);
+
+        // 본문이 없는 상품은 맵에서 빠지며 null로 응답됩니다.
+        Map<ProductDto.Response, String> contents = new HashMap<>();
+        for (ProductDto.Response product : products) {
+            String content = product.detailContent() != null ? product.detailContent() : loadedContents.get(product.id());
+            if (content != null) {
+                contents.put(product, content);
+            }
+        }
+        return contents;
+    }
+
     @BatchMapping(typeName = "Product", field = "user")
     public Map<ProductDto.Response, User> getUser(List<ProductDto.Response> products) {
         Set<Long> productIds = products.stream()
@@ -0,0 +1,58 @@
+package com.personal.backend.graphql;
+
+import com.personal.backend.domain.SalesDimension;
+import com.personal.backend.domain.SalesGranularity;
+import com.personal.backend.dto.SalesDto;
+import com.personal.backend.sales.SalesRollupJob;
+import com.personal.backend.sales.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 관리자 대시보드용 매출 조회 (주문 원본이 아닌 매출 집계 테이블만 읽음)
+ */
+@Controller
+@RequiredArgsConstructor
+public class SalesGraphqlController {
+
+    private static final int DEFAULT_TOTALS_LIMIT = 100;
+
+    private final SalesRollupService salesRollupService;
+    private final SalesRollupJob salesRollupJob;
+
+    @QueryMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SalesDto.Bucket> salesReport(@Argument SalesDimension dimension, @Argument SalesGranularity granularity,
+                                             @Argument String from, @Argument String to, @Argument Long dimensionId) {
+        return salesRollupService.report(dimension, granularity, dimensionId, parseDate(from), parseDate(to));
+    }
+
+    @QueryMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SalesDto.Total> salesTotals(@Argument SalesDimension dimension, @Argument String from, @Argument String to,
+                                            @Argument Integer limit) {
+        return salesRollupService.totals(dimension, parseDate(from), parseDate(to), limit != null ? limit : DEFAULT_TOTALS_LIMIT);
+    }
+
+    @MutationMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public int rebuildSalesRollups(@Argument String from, @Argument String to) {
+        return salesRollupJob.rebuild(parseDate(from), parseDate(to));
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜는 yyyy-MM-dd 형식이어야 합니다: " + value);
+        }
+    }
+}
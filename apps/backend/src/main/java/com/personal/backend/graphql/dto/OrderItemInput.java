@@ -10,6 +10,8 @@ public record OrderItemInput(
         @NotNull
         Long productId,
 
+        Long optionId,
+
         @Min(1)
         int count
 ) {}
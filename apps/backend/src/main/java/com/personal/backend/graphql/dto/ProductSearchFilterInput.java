@@ -0,0 +1,19 @@
+package com.personal.backend.graphql.dto;
+
+import com.personal.backend.search.ProductFacetQuery;
+
+import java.util.List;
+
+public record ProductSearchFilterInput(
+        List<Long> categoryIds,
+        List<Long> tagIds,
+        Integer minPrice,
+        Integer maxPrice,
+        Double minDiscountRate,
+        Double minRating,
+        Boolean inStock
+) {
+    public ProductFacetQuery toQuery() {
+        return new ProductFacetQuery(categoryIds, tagIds, minPrice, maxPrice, minDiscountRate, minRating, inStock);
+    }
+}
@@ -0,0 +1,55 @@
+package com.personal.backend.hotstock;
+
+import com.personal.backend.config.order.HotStockProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 핫 상품 재고 변경 기록을 주기적으로 DB 재고에 반영하고, 서버 시작 시 카운터를 복구하는 작업
+ * 한 번에 flushBatchSize건씩 나눠 각각 별도 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotStockFlusher {
+
+    private final HotStockService hotStockService;
+    private final HotStockProperties hotStockProperties;
+
+    @Scheduled(fixedDelayString = "${order.hot-stock.flush-interval:PT1S}", initialDelayString = "${order.hot-stock.flush-interval:PT1S}")
+    public void flush() {
+        flushAll();
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못한 기록을 모두 반영한 뒤, DB 재고로 핫 상품 카운터를 다시 만듭니다.
+     * 기록이 남은 채로 카운터를 만들면 반영되지 않은 변경만큼 재고가 틀어지므로 순서를 지켜야 합니다.
+     */
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        int flushed = flushAll();
+        int loaded = hotStockService.loadHotProducts();
+        if (flushed > 0 || loaded > 0) {
+            log.info("Hot stock reconciled: {} pending journal entries applied, {} hot products loaded", flushed, loaded);
+        }
+    }
+
+    private int flushAll() {
+        int batchSize = hotStockProperties.flushBatchSize();
+        int total = 0;
+        int flushed;
+        do {
+            flushed = hotStockService.flush(batchSize);
+            total += flushed;
+        } while (flushed == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,302 @@
+package com.personal.backend.hotstock;
+
+import com.personal.backend.config.order.HotStockProperties;
+import com.personal.backend.domain.HotStockJournal;
+import com.personal.backend.domain.HotStockProduct;
+import com.personal.backend.domain.ProductOption;
+import com.personal.backend.dto.HotStockDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.exception.RetryableException;
+import com.personal.backend.repository.HotStockJournalRepository;
+import com.personal.backend.repository.HotStockProductRepository;
+import com.personal.backend.repository.ProductOptionRepository;
+import com.personal.backend.repository.ProductRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캠페인 상품처럼 주문이 한꺼번에 몰리는 상품(핫 상품)의 재고를 DB 행 대신 서버 메모리의 카운터로 관리합니다.
+ * - 주문/결제/취소 시 상품 행을 UPDATE하지 않고 카운터만 바꾼 뒤, 변경 기록(hot_stock_journal)을 같은 트랜잭션에 INSERT합니다.
+ * - 기록은 주기적으로 상품/옵션별로 합산되어 products, product_options에 한 번에 반영됩니다. (write-behind)
+ * - 서버가 멈춰도 커밋된 기록은 남아 있으므로, 시작할 때 남은 기록을 모두 반영한 뒤 DB 재고로 카운터를 다시 만듭니다.
+ * 카운터는 이 서버 안에만 있으므로 핫 상품 주문은 한 서버에서 처리되어야 합니다.
+ * 지정/해제 순간 DB 경로로 처리 중이던 주문은 카운터에 반영되지 않을 수 있으므로, 판매 시작 전에 지정하고 끝난 뒤에 해제합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HotStockService {
+
+    private final HotStockProductRepository hotStockProductRepository;
+    private final HotStockJournalRepository hotStockJournalRepository;
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final HotStockProperties hotStockProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentMap<Long, HotProduct> products = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, StripedStockCounter> options = new ConcurrentHashMap<>();
+
+    public boolean isHot(Long productId) {
+        return products.containsKey(productId);
+    }
+
+    public boolean isHotOption(Long optionId) {
+        return options.containsKey(optionId);
+    }
+
+    // 핫 상품의 주문 가능 재고 (DB의 stockQuantity - reservedQuantity에 아직 반영되지 않은 변경까지 포함)
+    public int availableStock(Long productId) {
+        return productCounter(productId).available();
+    }
+
+    public int optionStock(Long optionId) {
+        return optionCounter(optionId).available();
+    }
+
+    public HotStockDto.StatusResponse status(Long productId) {
+        HotProduct hotProduct = products.get(productId);
+        return new HotStockDto.StatusResponse(productId, hotProduct != null,
+                hotProduct != null ? hotProduct.counter().available() : null);
+    }
+
+    // --- 주문/결제/취소: 호출한 트랜잭션 안에서 실행되며, 카운터는 트랜잭션 결과에 맞춰 조정됩니다. ---
+
+    /**
+     * 주문 생성: 카운터에서 예약 수량만큼 차감합니다. (DB의 reservedQuantity 증가로 반영)
+     * @return 주문 가능 재고가 부족하면 false
+     */
+    @Transactional
+    public boolean reserve(Long productId, int quantity) {
+        StripedStockCounter counter = productCounter(productId);
+        if (!counter.tryTake(quantity)) {
+            return false;
+        }
+        journal(productId, null, 0, quantity);
+        onCompletion(() -> {}, () -> counter.give(quantity));
+        return true;
+    }
+
+    // 결제 완료: 주문 가능 재고는 그대로이고, DB에는 재고와 예약 수량을 함께 줄이는 기록만 남깁니다.
+    @Transactional
+    public void commitReserved(Long productId, int quantity) {
+        productCounter(productId);
+        journal(productId, null, -quantity, -quantity);
+    }
+
+    // 예약 만료: 예약했던 수량을 카운터에 되돌립니다.
+    @Transactional
+    public void release(Long productId, int quantity) {
+        StripedStockCounter counter = productCounter(productId);
+        journal(productId, null, 0, -quantity);
+        onCompletion(() -> counter.give(quantity), () -> {});
+    }
+
+    // 주문 취소: 차감했던 재고를 카운터에 되돌립니다.
+    @Transactional
+    public void restock(Long productId, int quantity) {
+        StripedStockCounter counter = productCounter(productId);
+        journal(productId, null, quantity, 0);
+        onCompletion(() -> counter.give(quantity), () -> {});
+    }
+
+    @Transactional
+    public boolean decreaseOptionStock(Long productId, Long optionId, int quantity) {
+        StripedStockCounter counter = optionCounter(optionId);
+        if (!counter.tryTake(quantity)) {
+            return false;
+        }
+        journal(productId, optionId, -quantity, 0);
+        onCompletion(() -> {}, () -> counter.give(quantity));
+        return true;
+    }
+
+    @Transactional
+    public void restockOption(Long productId, Long optionId, int quantity) {
+        StripedStockCounter counter = optionCounter(optionId);
+        journal(productId, optionId, quantity, 0);
+        onCompletion(() -> counter.give(quantity), () -> {});
+    }
+
+    // --- 관리자: 핫 상품 지정/해제 ---
+
+    @Transactional
+    public HotStockDto.StatusResponse promote(Long productId) {
+        int available = productRepository.findAvailableStockById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + productId));
+        if (!hotStockProductRepository.existsById(productId)) {
+            hotStockProductRepository.save(new HotStockProduct(productId, LocalDateTime.now()));
+            load(productId, available);
+            onCompletion(() -> {}, () -> unload(productId));
+        }
+        return status(productId);
+    }
+
+    /**
+     * 카운터를 먼저 치워 이후 주문이 DB 경로로 가게 한 뒤, 쌓인 기록을 DB 재고에 반영합니다.
+     */
+    @Transactional
+    public HotStockDto.StatusResponse demote(Long productId) {
+        HotProduct removed = unload(productId);
+        hotStockProductRepository.deleteById(productId);
+        int batchSize = hotStockProperties.flushBatchSize();
+        int flushed;
+        do {
+            flushed = flush(batchSize);
+        } while (flushed == batchSize);
+        if (removed != null) {
+            onCompletion(() -> {}, () -> {
+                products.put(productId, removed);
+                removed.options().forEach(options::put);
+            });
+        }
+        return status(productId);
+    }
+
+    // --- 기록 반영과 시작 시 복구 ---
+
+    /**
+     * 가장 오래된 기록부터 최대 limit건을 상품/옵션별로 합산하여 DB 재고에 반영하고 삭제합니다.
+     * 반영할 기록을 잠가서 읽고 같은 트랜잭션에서 삭제하므로, 같은 기록이 두 번 반영되지 않습니다.
+     * @return 반영한 기록 수 (limit보다 작으면 더 반영할 기록이 없음)
+     */
+    @Transactional
+    public int flush(int limit) {
+        List<Long> ids = hotStockJournalRepository.findPendingIds(PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<HotStockJournal> entries = hotStockJournalRepository.findByIdInForUpdate(ids);
+
+        // 상품/옵션 ID 오름차순으로 UPDATE하여 다른 트랜잭션과 행 잠금 순서가 엇갈리지 않도록 합니다.
+        Map<Long, int[]> productDeltas = new TreeMap<>();
+        Map<Long, Integer> optionDeltas = new TreeMap<>();
+        for (HotStockJournal entry : entries) {
+            if (entry.getOptionId() == null) {
+                int[] delta = productDeltas.computeIfAbsent(entry.getProductId(), id -> new int[2]);
+                delta[0] += entry.getStockDelta();
+                delta[1] += entry.getReservedDelta();
+            } else {
+                optionDeltas.merge(entry.getOptionId(), entry.getStockDelta(), Integer::sum);
+            }
+        }
+        productDeltas.forEach((productId, delta) -> productRepository.applyStockDelta(productId, delta[0], delta[1]));
+        optionDeltas.forEach(productOptionRepository::increaseStock);
+        hotStockJournalRepository.deleteAllInBatch(entries);
+
+        // 반영된 재고가 캐시, 검색/필터 색인, 목록용 요약 정보에도 보이도록 상품 변경 이벤트를 발행합니다.
+        entries.stream()
+                .map(HotStockJournal::getProductId)
+                .distinct()
+                .forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId)));
+        return entries.size();
+    }
+
+    /**
+     * 핫 상품 목록을 읽어 DB 재고로 카운터를 만듭니다. 남은 기록을 모두 반영한 뒤에 호출해야 합니다.
+     * @return 카운터를 만든 상품 수
+     */
+    @Transactional
+    public int loadHotProducts() {
+        int loaded = 0;
+        for (HotStockProduct hotStockProduct : hotStockProductRepository.findAll()) {
+            Long productId = hotStockProduct.getProductId();
+            Integer available = productRepository.findAvailableStockById(productId).orElse(null);
+            if (available == null) {
+                // 핫 상품으로 지정된 뒤 삭제된 상품
+                hotStockProductRepository.delete(hotStockProduct);
+                continue;
+            }
+            unload(productId);
+            load(productId, available);
+            loaded++;
+        }
+        return loaded;
+    }
+
+    private void load(Long productId, int available) {
+        Map<Long, StripedStockCounter> optionCounters = new TreeMap<>();
+        for (ProductOption option : productOptionRepository.findByProductId(productId)) {
+            optionCounters.put(option.getId(), new StripedStockCounter(hotStockProperties.stripes(), option.getStockQuantity()));
+        }
+        options.putAll(optionCounters);
+        products.put(productId, new HotProduct(new StripedStockCounter(hotStockProperties.stripes(), available), optionCounters));
+    }
+
+    private HotProduct unload(Long productId) {
+        HotProduct removed = products.remove(productId);
+        if (removed != null) {
+            removed.options().keySet().forEach(options::remove);
+        }
+        return removed;
+    }
+
+    private StripedStockCounter productCounter(Long productId) {
+        HotProduct hotProduct = products.get(productId);
+        if (hotProduct == null) {
+            throw demoted();
+        }
+        return hotProduct.counter();
+    }
+
+    private StripedStockCounter optionCounter(Long optionId) {
+        StripedStockCounter counter = options.get(optionId);
+        if (counter == null) {
+            throw demoted();
+        }
+        return counter;
+    }
+
+    // 핫 상품 여부를 확인한 직후 관리자가 해제한 경우입니다. 다시 시도하면 DB 경로로 처리됩니다.
+    private static RetryableException demoted() {
+        return new RetryableException("상품의 재고 관리 방식이 바뀌는 중입니다. 잠시 후 다시 시도해 주세요.", 1, null);
+    }
+
+    private void journal(Long productId, Long optionId, int stockDelta, int reservedDelta) {
+        hotStockJournalRepository.save(HotStockJournal.builder()
+                .productId(productId)
+                .optionId(optionId)
+                .stockDelta(stockDelta)
+                .reservedDelta(reservedDelta)
+                .build());
+    }
+
+    /**
+     * 트랜잭션 결과에 맞춰 카운터를 조정합니다.
+     * 차감은 먼저 해 두고 롤백되면 되돌리며(onRollback), 되돌려 주는 변경은 커밋된 뒤에만 반영합니다(onCommit).
+     * 그래야 어느 순간에도 카운터가 실제보다 많은 재고를 내어 주지 않습니다.
+     */
+    private static void onCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private record HotProduct(StripedStockCounter counter, Map<Long, StripedStockCounter> options) {}
+}
@@ -0,0 +1,69 @@
+package com.personal.backend.hotstock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 재고 하나를 여러 조각(stripe)에 나눠 담은 카운터
+ * 스레드마다 임의의 조각에서 CAS로 차감하므로, 한 값을 두고 모든 스레드가 경쟁하는 것보다 충돌이 적습니다.
+ * 어느 한 조각만으로 부족하면 모든 조각을 모아 다시 나누며, 이때만 잠금을 사용합니다.
+ * 어떤 경우에도 조각 값은 음수가 되지 않으므로 합계보다 많이 차감되지 않습니다.
+ */
+final class StripedStockCounter {
+
+    private final AtomicIntegerArray stripes;
+
+    StripedStockCounter(int stripeCount, int initial) {
+        this.stripes = new AtomicIntegerArray(Math.max(1, stripeCount));
+        distribute(Math.max(0, initial));
+    }
+
+    /**
+     * quantity만큼 차감합니다.
+     * @return 남은 재고가 부족하면 false (아무것도 차감하지 않음)
+     */
+    boolean tryTake(int quantity) {
+        int length = stripes.length();
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            int current;
+            while ((current = stripes.get(index)) >= quantity) {
+                if (stripes.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return rebalanceAndTake(quantity);
+    }
+
+    void give(int quantity) {
+        stripes.addAndGet(ThreadLocalRandom.current().nextInt(stripes.length()), quantity);
+    }
+
+    int available() {
+        int sum = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            sum += stripes.get(i);
+        }
+        return sum;
+    }
+
+    // 조각을 모두 0으로 비우며 합계를 구하므로, 그 사이 다른 스레드의 차감은 실패하여 이 잠금을 기다리게 됩니다.
+    private synchronized boolean rebalanceAndTake(int quantity) {
+        int total = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            total += stripes.getAndSet(i, 0);
+        }
+        boolean taken = total >= quantity;
+        distribute(taken ? total - quantity : total);
+        return taken;
+    }
+
+    private void distribute(int total) {
+        int length = stripes.length();
+        for (int i = 0; i < length; i++) {
+            stripes.addAndGet(i, total / length + (i < total % length ? 1 : 0));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.personal.backend.idempotency;
+
+import com.personal.backend.config.order.IdempotencyProperties;
+import com.personal.backend.exception.RetryableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Idempotency-Key로 주문 생성/결제 승인 같은 요청의 첫 결과를 보관하는 프로세스 내 저장소입니다.
+ * - 같은 키로 다시 들어온 요청은 DB나 PG를 거치지 않고 보관한 결과를 그대로 돌려받습니다.
+ * - 첫 요청이 아직 처리 중이면 새로 실행하지 않고 그 결과를 maxWait까지 기다립니다.
+ * - 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ * 키는 작업 이름과 사용자별로 구분하며, 같은 키에 다른 요청 내용을 보내면 거절합니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 완료 응답부터 제거하고, TTL이 지난 응답은 주기적으로 정리합니다.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String METRIC_NAME = "order.idempotency";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter waited;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            // 처리 중인 요청은 기다리는 요청이 있을 수 있으므로 크기를 넘어도 제거하지 않습니다.
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > IdempotencyStore.this.properties.maximumSize() && eldest.getValue().result.isDone();
+            }
+        };
+
+        this.executed = Counter.builder(METRIC_NAME).tag("result", "executed").register(meterRegistry);
+        this.replayed = Counter.builder(METRIC_NAME).tag("result", "replayed").register(meterRegistry);
+        this.waited = Counter.builder(METRIC_NAME).tag("result", "waited").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, IdempotencyStore::size).register(meterRegistry);
+    }
+
+    /**
+     * key가 없으면 action을 그대로 실행합니다.
+     * key가 있으면 (operation, principal, key)마다 action을 한 번만 실행하고, 같은 키의 요청에는 그 결과를 돌려줍니다.
+     * @param principal 요청한 사용자 (인증 없이 호출할 수 있는 작업이면 null)
+     * @param request 요청 내용 (같은 키에 다른 요청이 오는 것을 막기 위해 equals로 비교)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String principal, String key, Object request, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        String scopedKey = scopedKey(operation, principal, key);
+        Entry entry = new Entry(request);
+        Entry existing = putIfAbsent(scopedKey, entry);
+        if (existing != null) {
+            return (T) await(existing.result);
+        }
+
+        executed.increment();
+        try {
+            T value = action.get();
+            complete(scopedKey, entry, value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            fail(scopedKey, entry, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #execute}와 같지만 결과를 Mono로 다룹니다. 처리 중인 같은 키의 요청을 기다리는 동안에도 스레드를 잡지 않습니다.
+     * 작업은 요청과 분리해 끝까지 실행하므로, 구독이 취소되어도(클라이언트 연결 종료 등) 결과를 보관해 같은 키의 재시도에 돌려줍니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> executeAsync(String operation, String principal, String key, Object request, Supplier<Mono<T>> action) {
+        if (key == null) {
+            return Mono.defer(action);
+        }
+        return Mono.defer(() -> {
+            String scopedKey = scopedKey(operation, principal, key);
+            Entry entry = new Entry(request);
+            Entry existing = putIfAbsent(scopedKey, entry);
+            if (existing != null) {
+                countReplay(existing.result);
+                // 기다리던 요청이 취소되어도 처음 요청의 결과는 그대로 남도록 취소를 전달하지 않습니다.
+                return Mono.fromFuture(existing.result, true)
+                        .map(value -> (T) value)
+                        .timeout(properties.maxWait())
+                        .onErrorMap(TimeoutException.class, this::stillRunning);
+            }
+
+            executed.increment();
+            // 취소된 요청의 항목을 지우면 같은 키의 재시도가 아직 실행 중인 작업(PG 승인 등)을 한 번 더 실행하므로,
+            // 작업의 결과로만 항목을 완료하거나 지웁니다.
+            Mono.defer(action).toFuture().whenComplete((value, e) -> {
+                if (e == null) {
+                    complete(scopedKey, entry, value);
+                } else {
+                    fail(scopedKey, entry, e);
+                }
+            });
+            return Mono.fromFuture(entry.result, true).map(value -> (T) value);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.ttl:PT24H}", initialDelayString = "${order.idempotency.ttl:PT24H}")
+    public void evictExpired() {
+        long now = clock.millis();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry putIfAbsent(String scopedKey, Entry entry) {
+        Entry existing;
+        synchronized (entries) {
+            existing = entries.get(scopedKey);
+            if (existing != null && existing.isExpired(clock.millis())) {
+                entries.remove(scopedKey);
+                existing = null;
+            }
+            if (existing == null) {
+                entries.put(scopedKey, entry);
+                return null;
+            }
+        }
+        if (!Objects.equals(existing.request, entry.request)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        }
+        return existing;
+    }
+
+    private void complete(String scopedKey, Entry entry, Object value) {
+        synchronized (entries) {
+            entry.expiresAt = clock.millis() + properties.ttl().toMillis();
+        }
+        entry.result.complete(value);
+    }
+
+    // 실패한 결과는 보관하지 않습니다. 기다리던 요청에는 같은 예외를 전달합니다.
+    private void fail(String scopedKey, Entry entry, Throwable error) {
+        if (entry.result.isDone()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(scopedKey, entry);
+        }
+        entry.result.completeExceptionally(error);
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        countReplay(result);
+        try {
+            return result.get(properties.maxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw stillRunning(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryableException("같은 요청의 결과를 기다리다 중단되었습니다.", retryAfterSeconds(), e);
+        }
+    }
+
+    private void countReplay(CompletableFuture<Object> result) {
+        if (result.isDone()) {
+            replayed.increment();
+        } else {
+            waited.increment();
+        }
+    }
+
+    private RetryableException stillRunning(TimeoutException e) {
+        return new RetryableException("같은 요청을 아직 처리하고 있습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds(), e);
+    }
+
+    private static String scopedKey(String operation, String principal, String key) {
+        validateKey(key);
+        return operation + ":" + principal + ":" + key;
+    }
+
+    private static void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, properties.retryAfter().toSeconds());
+    }
+
+    // expiresAt은 처리가 끝난 뒤에 정해지며 entries의 잠금 안에서만 읽고 씁니다.
+    private static final class Entry {
+        private final Object request;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private long expiresAt = Long.MAX_VALUE;
+
+        Entry(Object request) {
+            this.request = request;
+        }
+
+        boolean isExpired(long now) {
+            return result.isDone() && expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.personal.backend.image;
+
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.summary.ProductSummaryUpdater;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이미지 객체 키 도입 이전에 전체 URL로 저장된 상품 이미지를 객체 키로 바꾸는 일회성 이전 작업
+ * 시작할 때마다 실행되지만, 이미 바뀐 값은 조회되지 않으므로 이전이 끝난 뒤에는 조회 한 번으로 끝납니다.
+ * 외부 이미지처럼 객체 키로 바꿀 수 없는 URL은 그대로 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageKeyMigration {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ImageUrlResolver imageUrlResolver;
+    private final ProductSummaryUpdater productSummaryUpdater;
+
+    // 요약 정보 보충보다 먼저 실행하여, 새로 채우는 요약 정보에도 객체 키가 들어가도록 합니다.
+    @Order(-1)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrate() {
+        long startedAt = System.currentTimeMillis();
+        int migrated = 0;
+        Set<Long> changedProductIds = new HashSet<>();
+        String lastUrl = "";
+        while (true) {
+            List<String> imageUrls = productRepository.findAbsoluteImageUrlsAfter(lastUrl, PageRequest.of(0, CHUNK_SIZE));
+            if (imageUrls.isEmpty()) {
+                break;
+            }
+            List<String> convertible = imageUrls.stream()
+                    .filter(url -> !url.equals(imageUrlResolver.toKey(url)))
+                    .toList();
+            if (!convertible.isEmpty()) {
+                changedProductIds.addAll(productRepository.findIdsByImageUrlIn(convertible));
+                for (String url : convertible) {
+                    migrated += productRepository.replaceImageUrl(url, imageUrlResolver.toKey(url));
+                }
+            }
+            lastUrl = imageUrls.get(imageUrls.size() - 1);
+        }
+        if (!changedProductIds.isEmpty()) {
+            // 요약 정보의 대표 이미지도 객체 키로 다시 채웁니다.
+            productSummaryUpdater.refresh(changedProductIds);
+            log.info("Product image URLs migrated to object keys: {} rows of {} products in {} ms",
+                    migrated, changedProductIds.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+}
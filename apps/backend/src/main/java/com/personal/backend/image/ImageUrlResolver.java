@@ -0,0 +1,74 @@
+package com.personal.backend.image;
+
+import com.personal.backend.config.image.ImageProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 객체 키와 URL을 서로 바꿔 주는 클래스
+ * DB와 캐시에는 버킷 안의 객체 키(예: "uuid_laptop.jpg")만 저장하고,
+ * 응답으로 내보낼 때 설정된 기본 주소(image.base-url)를 붙여 URL로 만듭니다.
+ */
+@Component
+public class ImageUrlResolver {
+
+    // Object Storage 객체 URL 형식: https://{host}/n/{namespace}/b/{bucket}/o/{objectKey}
+    private static final Pattern OBJECT_STORAGE_URL = Pattern.compile("^https?://[^/]+/n/[^/]+/b/[^/]+/o/(.+)$");
+
+    private final String baseUrl;
+
+    public ImageUrlResolver(ImageProperties properties) {
+        String configured = properties.baseUrl() != null ? properties.baseUrl() : "";
+        this.baseUrl = configured.isEmpty() || configured.endsWith("/") ? configured : configured + "/";
+    }
+
+    /**
+     * 객체 키를 응답용 URL로 바꿉니다. 이미 절대 URL이면(외부 이미지 등) 그대로 반환합니다.
+     */
+    public String toUrl(String key) {
+        if (key == null || isAbsolute(key)) {
+            return key;
+        }
+        return baseUrl + key;
+    }
+
+    public List<String> toUrls(List<String> keys) {
+        if (keys == null) {
+            return null;
+        }
+        return keys.stream().map(this::toUrl).toList();
+    }
+
+    /**
+     * 클라이언트가 보낸 이미지 URL을 저장용 객체 키로 바꿉니다.
+     * 기본 주소나 Object Storage 주소로 시작하지 않는 URL(외부 이미지)은 그대로 둡니다.
+     */
+    public String toKey(String urlOrKey) {
+        if (urlOrKey == null || !isAbsolute(urlOrKey)) {
+            return urlOrKey;
+        }
+        if (!baseUrl.isEmpty() && urlOrKey.startsWith(baseUrl)) {
+            return urlOrKey.substring(baseUrl.length());
+        }
+        Matcher matcher = OBJECT_STORAGE_URL.matcher(urlOrKey);
+        return matcher.matches() ? matcher.group(1) : urlOrKey;
+    }
+
+    // 엔티티의 이미지 컬렉션에 그대로 넣을 수 있도록 변경 가능한 목록으로 반환합니다.
+    public List<String> toKeys(List<String> urlsOrKeys) {
+        if (urlsOrKeys == null) {
+            return null;
+        }
+        return urlsOrKeys.stream().map(this::toKey).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static boolean isAbsolute(String value) {
+        return value.startsWith("http://") || value.startsWith("https://");
+    }
+}
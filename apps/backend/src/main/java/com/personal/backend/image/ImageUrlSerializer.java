@@ -0,0 +1,40 @@
+package com.personal.backend.image;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이미지 객체 키 필드를 JSON으로 내보낼 때 URL로 바꿔 쓰는 직렬화기
+ * 응답 DTO와 캐시에는 짧은 객체 키만 들고 있다가 직렬화 시점에만 URL 문자열을 만듭니다.
+ * 사용: {@code @JsonSerialize(using = ImageUrlSerializer.class)} 또는 목록이면 {@code contentUsing}
+ */
+public class ImageUrlSerializer extends StdSerializer<String> {
+
+    private final ImageUrlResolver imageUrlResolver;
+
+    // Spring 컨텍스트 밖에서 만든 ObjectMapper에서는 변환 없이 그대로 씁니다.
+    public ImageUrlSerializer() {
+        this((ImageUrlResolver) null);
+    }
+
+    @Autowired
+    public ImageUrlSerializer(ObjectProvider<ImageUrlResolver> imageUrlResolver) {
+        this(imageUrlResolver.getIfAvailable());
+    }
+
+    private ImageUrlSerializer(ImageUrlResolver imageUrlResolver) {
+        super(String.class);
+        this.imageUrlResolver = imageUrlResolver;
+    }
+
+    @Override
+    public void serialize(String key, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(imageUrlResolver != null ? imageUrlResolver.toUrl(key) : key);
+    }
+}
@@ -0,0 +1,21 @@
+package com.personal.backend.outbox;
+
+import com.personal.backend.domain.OutboxEventType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트를 처리하는 후속 작업
+ * 이벤트를 꺼낸 트랜잭션 안에서 호출되며, 예외를 던지면 함께 꺼낸 묶음 전체가 롤백됩니다.
+ * 그러면 같은 이벤트를 하나씩 따로 처리해 실패한 이벤트만 뒤로 미루므로, DB 작업은 호출한 트랜잭션에 참여해 함께 롤백되어야 합니다.
+ */
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> types();
+
+    /**
+     * @param aggregateIds 같은 종류의 이벤트 대상 ID (기록된 순서)
+     */
+    void handle(OutboxEventType type, List<Long> aggregateIds);
+}
@@ -0,0 +1,81 @@
+package com.personal.backend.outbox;
+
+import com.personal.backend.config.order.OutboxProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 주기적으로 처리하는 작업
+ * 한 번에 batchSize건씩 나눠 각각 별도 트랜잭션으로 처리합니다.
+ * 묶음 처리가 실패하면 같은 이벤트를 하나씩 각자의 트랜잭션으로 다시 처리해, 실패한 이벤트만 뒤로 미루고 나머지는 그대로 처리합니다.
+ * 처리할 수 없는 이벤트 하나가 매 주기 묶음 전체를 막지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final OutboxProperties properties;
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval:PT1S}", initialDelayString = "${order.outbox.relay-interval:PT1S}")
+    public void relay() {
+        try {
+            relayAll();
+        } catch (RuntimeException e) {
+            // 실패 기록조차 남기지 못하면(DB 장애 등) 이벤트는 그대로 남아 다음 주기에 다시 처리합니다.
+            log.warn("Outbox relay failed, retrying next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지금 처리할 차례인 이벤트를 모두 처리합니다.
+     * @return 처리한 이벤트 수
+     */
+    public int relayAll() {
+        int batchSize = properties.batchSize();
+        int total = 0;
+        int fetched;
+        do {
+            try {
+                fetched = outboxService.relay(batchSize);
+                total += fetched;
+            } catch (RuntimeException e) {
+                // 여러 서버가 같은 집계 행을 동시에 처음 만드는 충돌도 여기로 와서, 하나씩 다시 처리하면 대부분 성공합니다.
+                log.warn("Outbox batch failed, relaying events one by one: {}", e.getMessage());
+                List<Long> ids = outboxService.findDueIds(batchSize);
+                fetched = ids.size();
+                total += relayEach(ids);
+            }
+        } while (fetched == batchSize);
+        return total;
+    }
+
+    private int relayEach(List<Long> ids) {
+        int relayed = 0;
+        for (Long id : ids) {
+            try {
+                if (outboxService.relayOne(id)) {
+                    relayed++;
+                }
+            } catch (RuntimeException e) {
+                retryLater(id, e);
+            }
+        }
+        return relayed;
+    }
+
+    private void retryLater(Long id, RuntimeException error) {
+        switch (outboxService.recordFailure(id, error)) {
+            case SCHEDULED -> log.warn("Outbox event {} failed, retrying later: {}", id, error.getMessage());
+            case GAVE_UP -> log.error("Outbox event {} failed too many times, giving up until handled manually", id, error);
+            case ALREADY_DONE -> log.info("Outbox event {} was already relayed elsewhere", id);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.personal.backend.outbox;
+
+import com.personal.backend.config.order.OutboxProperties;
+import com.personal.backend.domain.OutboxEvent;
+import com.personal.backend.domain.OutboxEventType;
+import com.personal.backend.repository.OutboxEventRepository;
+import com.personal.backend.retry.RetryBackoff;
+import com.personal.backend.retry.RetryOutcome;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트랜잭션 아웃박스
+ * 주문 변경과 같은 트랜잭션에 후속 처리를 기록해 두고, 주기적으로 모아 종류별로 {@link OutboxEventHandler}에 한 번에 넘깁니다.
+ * 묶음 처리가 실패하면 {@link OutboxRelay}가 이벤트를 하나씩 각자의 트랜잭션으로 다시 처리하고,
+ * 그래도 실패한 이벤트는 지수 백오프로 뒤로 미루다 최대 시도 횟수를 넘기면 자동 재시도를 멈춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final OutboxProperties properties;
+
+    /**
+     * 후속 처리를 기록합니다. 주문 변경과 함께 커밋되어야 하므로 반드시 진행 중인 트랜잭션 안에서 호출합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId) {
+        outboxEventRepository.save(new OutboxEvent(type, aggregateId));
+    }
+
+    /**
+     * 처리할 차례가 된 이벤트를 최대 limit건까지 한 트랜잭션으로 처리하고 삭제합니다.
+     * 한 이벤트라도 처리에 실패하면 묶음 전체가 롤백되고 예외가 그대로 전달됩니다.
+     * @return 처리한 이벤트 수 (limit보다 적으면 남은 이벤트가 없음)
+     */
+    @Transactional
+    public int relay(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxEventRepository.findDueIds(now, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<OutboxEvent> events = outboxEventRepository.findDueByIdInForUpdate(ids, now);
+        dispatch(events);
+        outboxEventRepository.deleteAllInBatch(events);
+        return events.size();
+    }
+
+    /**
+     * 처리할 차례가 된 이벤트의 ID를 최대 limit건 가져옵니다. (묶음 처리가 실패해 하나씩 다시 처리할 때 사용)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(int limit) {
+        return outboxEventRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 이벤트 한 건만 처리하고 삭제합니다.
+     * @return 그 사이 다른 서버가 처리했거나 뒤로 미뤄 처리할 이벤트가 없으면 false
+     */
+    @Transactional
+    public boolean relayOne(Long id) {
+        List<OutboxEvent> events = outboxEventRepository.findDueByIdInForUpdate(List.of(id), LocalDateTime.now());
+        if (events.isEmpty()) {
+            return false;
+        }
+        dispatch(events);
+        outboxEventRepository.deleteAllInBatch(events);
+        return true;
+    }
+
+    /**
+     * 처리에 실패한 이벤트의 실패 횟수를 늘리고 다음 시도 시각을 정합니다.
+     */
+    @Transactional
+    public RetryOutcome recordFailure(Long id, Throwable error) {
+        OutboxEvent event = outboxEventRepository.findById(id).orElse(null);
+        if (event == null) {
+            return RetryOutcome.ALREADY_DONE;
+        }
+        int attempt = event.getAttempts() + 1;
+        if (attempt >= properties.maxAttempts()) {
+            event.recordFailure(error.toString(), null);
+            return RetryOutcome.GAVE_UP;
+        }
+        event.recordFailure(error.toString(), LocalDateTime.now().plus(RetryBackoff.exponential(attempt, properties.initialBackoff(), properties.maxBackoff())));
+        return RetryOutcome.SCHEDULED;
+    }
+
+    // 이벤트를 종류별로 묶어 처리할 수 있는 핸들러에 한 번씩 넘깁니다.
+    private void dispatch(List<OutboxEvent> events) {
+        Map<OutboxEventType, List<Long>> aggregateIdsByType = new EnumMap<>(OutboxEventType.class);
+        events.forEach(event -> aggregateIdsByType.computeIfAbsent(event.getType(), type -> new ArrayList<>()).add(event.getAggregateId()));
+        aggregateIdsByType.forEach((type, aggregateIds) -> handlers.stream()
+                .filter(handler -> handler.types().contains(type))
+                .forEach(handler -> handler.handle(type, aggregateIds)));
+    }
+}
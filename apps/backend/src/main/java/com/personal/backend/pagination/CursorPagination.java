@@ -0,0 +1,94 @@
+package com.personal.backend.pagination;
+
+import com.personal.backend.dto.CursorDto;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.graphql.data.pagination.CursorEncoder;
+import org.springframework.graphql.data.pagination.CursorStrategy;
+import org.springframework.graphql.data.pagination.EncodingCursorStrategy;
+import org.springframework.graphql.data.query.ScrollSubrange;
+import org.springframework.graphql.data.query.ScrollPositionCursorStrategy;
+
+import java.util.Set;
+
+/**
+ * 커서(keyset) 기반 목록 조회에 공통으로 쓰이는 설정과 변환 기능
+ * OFFSET + COUNT(*) 대신 마지막으로 본 항목의 정렬 키(id) 이후만 조회하므로
+ * 뒤쪽 페이지로 갈수록 느려지지 않습니다.
+ * REST 응답과 GraphQL Connection은 같은 {@link #cursorStrategy()}로 커서를 만들어 두 API가 같은 형식을 사용합니다.
+ */
+public final class CursorPagination {
+
+    // 커서 조회는 인덱스가 걸린 id 내림차순(최신순)으로만 정렬합니다.
+    public static final Sort ID_DESC = Sort.by(Sort.Direction.DESC, "id");
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    private static final EncodingCursorStrategy<ScrollPosition> CURSOR_STRATEGY =
+            CursorStrategy.withEncoder(new ScrollPositionCursorStrategy(new LongKeysetCursorStrategy()), CursorEncoder.base64());
+
+    private CursorPagination() {
+    }
+
+    public static EncodingCursorStrategy<ScrollPosition> cursorStrategy() {
+        return CURSOR_STRATEGY;
+    }
+
+    public static Limit limit(Integer size) {
+        if (size == null || size <= 0) {
+            return Limit.of(DEFAULT_SIZE);
+        }
+        return Limit.of(Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * GraphQL Connection 인자(first/after, last/before)에서 조회 개수를 구합니다.
+     */
+    public static Limit limit(ScrollSubrange subrange) {
+        return limit(subrange.count().isPresent() ? subrange.count().getAsInt() : null);
+    }
+
+    public static ScrollPosition position(ScrollSubrange subrange) {
+        return subrange.position().orElse(null);
+    }
+
+    /**
+     * id 내림차순 keyset 조회에 쓸 위치를 확인합니다. 커서가 없으면 처음부터 조회하는 keyset 위치를 반환합니다.
+     * 커서는 클라이언트가 그대로 돌려보내는 값이므로, 조작해서 offset 위치나 id가 아닌 정렬 키를 보내면 거절합니다.
+     */
+    public static ScrollPosition idKeyset(ScrollPosition position) {
+        if (position == null) {
+            return ScrollPosition.keyset();
+        }
+        if (!(position instanceof KeysetScrollPosition keyset) || !(keyset.isInitial() || keyset.getKeys().keySet().equals(Set.of("id")))) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return keyset;
+    }
+
+    /**
+     * REST 요청의 커서 문자열을 조회 위치로 변환합니다. 커서가 없으면 null을 반환합니다.
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return CURSOR_STRATEGY.fromCursor(cursor);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static <T> CursorDto.CursorResponse<T> toResponse(Window<T> window) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? CURSOR_STRATEGY.toCursor(window.positionAt(window.size() - 1))
+                : null;
+        return new CursorDto.CursorResponse<>(window.getContent(), nextCursor, window.hasNext());
+    }
+}
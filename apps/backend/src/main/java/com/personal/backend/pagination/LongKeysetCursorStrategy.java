@@ -0,0 +1,50 @@
+package com.personal.backend.pagination;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.graphql.data.pagination.CursorStrategy;
+
+/**
+ * keyset 커서의 정렬 키 값을 "키:값" 형태의 문자열로 변환합니다.
+ * 커서 조회의 정렬 키는 모두 Long 타입 id이므로 JSON 직렬화 대신 단순한 형식을 사용합니다.
+ * (기본 JSON 방식은 Spring Data가 만든 읽기 전용 Map 타입을 역직렬화하지 못해 커서를 되돌릴 수 없습니다.)
+ */
+final class LongKeysetCursorStrategy implements CursorStrategy<Map<String, Object>> {
+
+    private static final String KEY_SEPARATOR = ",";
+    private static final String VALUE_SEPARATOR = ":";
+
+    @Override
+    public boolean supports(Class<?> targetType) {
+        return Map.class.isAssignableFrom(targetType);
+    }
+
+    @Override
+    public String toCursor(Map<String, Object> keys) {
+        StringBuilder cursor = new StringBuilder();
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            if (!(key.getValue() instanceof Number number)) {
+                throw new IllegalArgumentException("숫자가 아닌 정렬 키는 커서로 만들 수 없습니다: " + key.getKey());
+            }
+            if (!cursor.isEmpty()) {
+                cursor.append(KEY_SEPARATOR);
+            }
+            cursor.append(key.getKey()).append(VALUE_SEPARATOR).append(number.longValue());
+        }
+        return cursor.toString();
+    }
+
+    @Override
+    public Map<String, Object> fromCursor(String cursor) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String pair : cursor.split(KEY_SEPARATOR)) {
+            String[] keyAndValue = pair.split(VALUE_SEPARATOR, 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            keys.put(keyAndValue[0], Long.parseLong(keyAndValue[1]));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,52 @@
+package com.personal.backend.pagination;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 목록 조회 시 전체 개수를 어떻게 구할지 정하는 모드
+ * 무한 스크롤처럼 전체 개수를 보여주지 않는 화면은 COUNT(*) 쿼리를 생략할 수 있습니다.
+ */
+public enum PageMode {
+
+    /** COUNT(*)로 정확한 전체 개수를 구합니다. (기본값) */
+    EXACT,
+
+    /** 전체 개수 없이 다음 페이지가 있는지만 확인합니다. (size + 1개를 조회) */
+    SLICE,
+
+    /** 다음 페이지 여부는 정확히 확인하고, 전체 개수는 주기적으로 갱신되는 캐시 값을 사용합니다. */
+    APPROXIMATE;
+
+    public static PageMode orDefault(PageMode pageMode) {
+        return pageMode != null ? pageMode : EXACT;
+    }
+
+    /**
+     * 모드에 맞는 조회 방식으로 목록을 가져옵니다.
+     * @param exactQuery COUNT(*)를 포함한 Page 조회
+     * @param sliceQuery COUNT(*) 없이 다음 페이지 여부만 확인하는 Slice 조회
+     * @param approximateTotal 캐시된 대략적인 전체 개수
+     */
+    public <T> Slice<T> fetch(Pageable pageable, Supplier<Page<T>> exactQuery, Supplier<Slice<T>> sliceQuery, LongSupplier approximateTotal) {
+        return switch (this) {
+            case EXACT -> exactQuery.get();
+            case SLICE -> sliceQuery.get();
+            case APPROXIMATE -> {
+                Slice<T> slice = sliceQuery.get();
+                // 캐시된 개수가 오래되어 실제보다 작더라도 현재 페이지와 다음 페이지 여부와는 어긋나지 않도록 보정합니다.
+                long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+                long total = Math.max(approximateTotal.getAsLong(), seen);
+                if (!slice.hasNext()) {
+                    total = seen;
+                }
+                yield new PageImpl<>(slice.getContent(), pageable, total);
+            }
+        };
+    }
+}
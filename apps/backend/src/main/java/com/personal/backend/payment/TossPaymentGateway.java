@@ -2,34 +2,40 @@ package com.personal.backend.payment;
 
 import com.personal.backend.config.payment.PaymentProperties;
 import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.payment.client.PaymentHttpClient;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import java.util.Base64;
 import java.util.Map;
 
 @Component // 이 클래스를 스프링 Bean으로 등록
+@Profile("!pg-sim") // 부하 테스트용 pg-sim 프로필에서는 SimulatedPaymentGateway가 대신 동작
 @RequiredArgsConstructor
 public class TossPaymentGateway implements PaymentGateway {
 
-    private final WebClient webClient;
+    private final PaymentHttpClient paymentHttpClient;
     private final PaymentProperties paymentProperties;
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-    private static final String TOSS_CANCEL_URL = "https://api.tosspayments.com/v1/payments/";
+    private static final String TOSS_CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String TOSS_CANCEL_PATH = "/v1/payments/{paymentKey}/cancel";
+    // 토스페이먼츠는 같은 멱등키로 다시 보낸 요청을 한 번만 처리하므로, 승인/취소 모두 안전하게 재시도할 수 있습니다.
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Override
     public Mono<PaymentDto.ConfirmationResponse> confirm(PaymentDto.VerificationRequest request) {
         String secretKey = paymentProperties.toss().secretKey();
         String encodedSecretKey = Base64.getEncoder().encodeToString((secretKey + ":").getBytes());
 
-        return webClient.post()
-                .uri(TOSS_CONFIRM_URL)
+        return paymentHttpClient.callIdempotent("toss.confirm", webClient -> webClient.post()
+                .uri(paymentProperties.toss().baseUrl() + TOSS_CONFIRM_PATH)
                 .header("Authorization", "Basic " + encodedSecretKey)
+                .header(IDEMPOTENCY_KEY_HEADER, "confirm-" + request.orderId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(PaymentDto.ConfirmationResponse.class);
+                .bodyToMono(PaymentDto.ConfirmationResponse.class));
     }
 
     @Override
@@ -37,14 +43,15 @@ public class TossPaymentGateway implements PaymentGateway {
         String secretKey = paymentProperties.toss().secretKey();
         String encodedSecretKey = Base64.getEncoder().encodeToString((secretKey + ":").getBytes());
 
-        // WebClient를 사용하여 토스페이먼츠의 결제 취소 API를 호출하고,
+        // 토스페이먼츠의 결제 취소 API를 호출하고,
         // 그 결과를 Mono<ConfirmationResponse> 형태로 즉시 반환합니다.
-        return webClient.post()
-                .uri(TOSS_CANCEL_URL + paymentKey + "/cancel")
+        return paymentHttpClient.callIdempotent("toss.cancel", webClient -> webClient.post()
+                .uri(paymentProperties.toss().baseUrl() + TOSS_CANCEL_PATH, paymentKey)
                 .header("Authorization", "Basic " + encodedSecretKey)
+                .header(IDEMPOTENCY_KEY_HEADER, "cancel-" + paymentKey)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(Map.of("cancelReason", cancelReason))
                 .retrieve()
-                .bodyToMono(PaymentDto.ConfirmationResponse.class);
+                .bodyToMono(PaymentDto.ConfirmationResponse.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.personal.backend.payment.client;
+
+import com.personal.backend.config.payment.PaymentClientProperties;
+
+import java.time.Clock;
+
+/**
+ * PG사 호출의 최근 결과로 회로를 열고 닫는 서킷 브레이커입니다.
+ * - CLOSED: 모든 호출을 허용하고, 최근 slidingWindowSize개 호출의 실패 비율이 기준을 넘으면 OPEN으로 바꿉니다.
+ * - OPEN: openDuration 동안 호출하지 않고 바로 거절합니다.
+ * - HALF_OPEN: 시험 호출을 halfOpenProbes개까지만 허용해, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN으로 바꿉니다.
+ * 상태가 바뀌면 세대(generation)가 올라가며, 이전 세대에 시작한 호출의 결과는 새 상태에 반영하지 않습니다.
+ */
+final class PaymentCircuitBreaker {
+
+    static final long REJECTED = -1;
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final PaymentClientProperties properties;
+    private final Clock clock;
+
+    // 최근 호출 결과를 담는 고리 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openUntil;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    PaymentCircuitBreaker(PaymentClientProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.window = new boolean[Math.max(1, properties.slidingWindowSize())];
+    }
+
+    /**
+     * 호출해도 되면 현재 세대를, 회로가 열려 있으면 {@link #REJECTED}를 돌려줍니다.
+     * 허용된 호출은 끝난 뒤 반드시 onSuccess/onFailure/onIgnored 중 하나로 결과를 알려야 합니다.
+     */
+    synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() < openUntil) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= properties.halfOpenProbes()) {
+                return REJECTED;
+            }
+            probesInFlight++;
+        }
+        return generation;
+    }
+
+    synchronized void onSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (++probeSuccesses >= properties.halfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (windowCount >= properties.minimumCalls()
+                && windowFailures * 100L >= (long) properties.failureRateThreshold() * windowCount) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 취소되었거나 PG사 상태와 무관한 결과(4xx 등)로 끝난 시험 호출의 자리를 돌려줍니다.
+    synchronized void onIgnored(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    // 회로가 다시 시험 호출을 허용하기까지 남은 시간 (최소 1초)
+    synchronized long retryAfterSeconds() {
+        long remaining = state == State.OPEN ? openUntil - clock.millis() : 0;
+        return Math.max(1, (remaining + 999) / 1000);
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openUntil = clock.millis() + properties.openDuration().toMillis();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.personal.backend.payment.client;
+
+import com.personal.backend.config.payment.PaymentClientProperties;
+import com.personal.backend.exception.RetryableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+
+import java.time.Clock;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+/**
+ * PG사 API를 호출하는 전용 HTTP 클라이언트입니다. PG사가 느려지거나 장애가 나도 우리 서버의 자원이 묶이지 않도록,
+ * - 전용 커넥션 풀과 연결/읽기/응답 타임아웃을 두고
+ * - 동시에 진행하는 호출을 maxConcurrentCalls개로 제한하며 (넘으면 기다리지 않고 503)
+ * - 최근 실패 비율이 높으면 서킷 브레이커가 회로를 열어 openDuration 동안 호출하지 않고 바로 503으로 돌려보내고
+ * - 멱등한 호출만 일시적 오류(연결 실패, 타임아웃, 5xx, 429)에 한해 지수 백오프 + 지터로 재시도합니다.
+ * 시도마다 걸린 시간을 endpoint/outcome별 히스토그램(payment.client.requests)으로 내보냅니다.
+ */
+@Component
+public class PaymentHttpClient {
+
+    private static final String METRIC_NAME = "payment.client";
+
+    private final PaymentClientProperties properties;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+
+    private final Counter rejectedBulkhead;
+    private final Counter rejectedCircuitOpen;
+    private final Counter retried;
+
+    @Autowired
+    public PaymentHttpClient(PaymentClientProperties properties, WebClient.Builder webClientBuilder,
+                             ConnectionProvider paymentConnectionProvider, MeterRegistry meterRegistry) {
+        this(properties, webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient(properties, paymentConnectionProvider))).build(),
+                meterRegistry, Clock.systemUTC());
+    }
+
+    PaymentHttpClient(PaymentClientProperties properties, WebClient webClient, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new PaymentCircuitBreaker(properties, clock);
+        this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+
+        this.rejectedBulkhead = Counter.builder(METRIC_NAME + ".rejected").tag("reason", "bulkhead").register(meterRegistry);
+        this.rejectedCircuitOpen = Counter.builder(METRIC_NAME + ".rejected").tag("reason", "circuit_open").register(meterRegistry);
+        this.retried = Counter.builder(METRIC_NAME + ".retries").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".in_flight", bulkhead, b -> properties.maxConcurrentCalls() - b.availablePermits()).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".circuit.state", circuitBreaker, b -> b.state().ordinal())
+                .description("0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * PG사 API를 한 번 호출합니다. (재시도 없음)
+     * @param endpoint 지표에 붙일 호출 이름 (예: toss.confirm)
+     */
+    public <T> Mono<T> call(String endpoint, Function<WebClient, Mono<T>> request) {
+        return Mono.defer(() -> attempt(endpoint, request));
+    }
+
+    /**
+     * 여러 번 보내도 PG사에서 한 번만 처리되는 호출(조회, 멱등키를 붙인 요청 등)을 일시적 오류에 한해 재시도합니다.
+     */
+    public <T> Mono<T> callIdempotent(String endpoint, Function<WebClient, Mono<T>> request) {
+        return call(endpoint, request)
+                .retryWhen(Retry.backoff(properties.maxAttempts() - 1, properties.retryBackoff())
+                        .jitter(properties.retryJitter())
+                        .filter(PaymentHttpClient::isTransient)
+                        .doBeforeRetry(signal -> retried.increment())
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    PaymentCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private <T> Mono<T> attempt(String endpoint, Function<WebClient, Mono<T>> request) {
+        if (!bulkhead.tryAcquire()) {
+            rejectedBulkhead.increment();
+            return Mono.error(new RetryableException("결제 요청이 몰려 잠시 처리를 멈췄습니다. 잠시 후 다시 시도해 주세요.", 1, null));
+        }
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == PaymentCircuitBreaker.REJECTED) {
+            bulkhead.release();
+            rejectedCircuitOpen.increment();
+            return Mono.error(new RetryableException("결제 서비스 응답이 원활하지 않아 잠시 요청을 막았습니다. 잠시 후 다시 시도해 주세요.",
+                    circuitBreaker.retryAfterSeconds(), null));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return Mono.defer(() -> request.apply(webClient))
+                .doOnSuccess(value -> {
+                    circuitBreaker.onSuccess(permit);
+                    record(sample, endpoint, "success");
+                })
+                .doOnError(e -> {
+                    // 4xx 등 PG사가 정상적으로 응답한 오류는 회로를 열 이유가 아닙니다.
+                    if (isTransient(e)) {
+                        circuitBreaker.onFailure(permit);
+                    } else {
+                        circuitBreaker.onSuccess(permit);
+                    }
+                    record(sample, endpoint, outcome(e));
+                })
+                .doOnCancel(() -> {
+                    circuitBreaker.onIgnored(permit);
+                    record(sample, endpoint, "canceled");
+                })
+                .doFinally(signal -> bulkhead.release());
+    }
+
+    private void record(Timer.Sample sample, String endpoint, String outcome) {
+        sample.stop(Timer.builder(METRIC_NAME + ".requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+        }
+        return isTransient(e) ? "io_error" : "unknown";
+    }
+
+    // 연결 실패, 타임아웃, 5xx, 429는 PG사 쪽의 일시적인 문제로 봅니다.
+    static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private static HttpClient httpClient(PaymentClientProperties properties, ConnectionProvider connectionProvider) {
+        return HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.connectTimeout().toMillis()))
+                .responseTimeout(properties.responseTimeout())
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(properties.readTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+    }
+}
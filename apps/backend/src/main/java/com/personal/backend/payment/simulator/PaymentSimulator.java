@@ -0,0 +1,90 @@
+package com.personal.backend.payment.simulator;
+
+import com.personal.backend.config.payment.PaymentSimulatorProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 부하/내구 테스트에서 실제 PG사 대신 응답 지연과 오류를 만들어 내는 시뮬레이터입니다.
+ * 호출마다 설정한 비율에 따라 정상(200), PG사 오류(500), 타임아웃 중 하나를 고르고,
+ * 스레드를 잡지 않는 Mono.delay로 지연을 흉내 내므로 한 대에서도 초당 수천 건을 처리할 수 있습니다.
+ */
+@Component
+@Profile({"pg-sim", "pg-sim-http"})
+public class PaymentSimulator {
+
+    private static final String METRIC_NAME = "payment.simulator";
+    // 표준정규분포의 99번째 백분위수
+    private static final double Z_99 = 2.3263478740;
+
+    private final PaymentSimulatorProperties properties;
+    private final Supplier<RandomGenerator> random;
+    private final double mu;
+    private final double sigma;
+
+    private final Counter ok;
+    private final Counter error;
+    private final Counter timeout;
+
+    @Autowired
+    public PaymentSimulator(PaymentSimulatorProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, ThreadLocalRandom::current);
+    }
+
+    PaymentSimulator(PaymentSimulatorProperties properties, MeterRegistry meterRegistry, Supplier<RandomGenerator> random) {
+        if (properties.p99Latency().compareTo(properties.medianLatency()) < 0) {
+            throw new IllegalArgumentException("payment.simulator.p99-latency는 median-latency보다 작을 수 없습니다.");
+        }
+        this.properties = properties;
+        this.random = random;
+        // 로그정규분포: 중앙값 = e^mu, p99 = e^(mu + Z_99 * sigma)
+        this.mu = Math.log(Math.max(1, properties.medianLatency().toNanos()));
+        this.sigma = Math.log((double) Math.max(1, properties.p99Latency().toNanos()) / Math.max(1, properties.medianLatency().toNanos())) / Z_99;
+
+        this.ok = Counter.builder(METRIC_NAME).tag("result", "ok").register(meterRegistry);
+        this.error = Counter.builder(METRIC_NAME).tag("result", "error").register(meterRegistry);
+        this.timeout = Counter.builder(METRIC_NAME).tag("result", "timeout").register(meterRegistry);
+    }
+
+    /**
+     * 한 번의 PG사 호출 결과를 정해 지연 뒤에 돌려줍니다.
+     * 타임아웃으로 정해진 호출은 timeoutDelay 뒤에 504를 돌려주므로, 그 전에 호출한 쪽의 타임아웃이 먼저 동작합니다.
+     */
+    public Mono<HttpStatus> next() {
+        return Mono.defer(() -> {
+            RandomGenerator generator = random.get();
+            double roll = generator.nextDouble();
+            if (roll < properties.timeoutRate()) {
+                timeout.increment();
+                return Mono.delay(properties.timeoutDelay()).thenReturn(HttpStatus.GATEWAY_TIMEOUT);
+            }
+            HttpStatus status;
+            if (roll < properties.timeoutRate() + properties.errorRate()) {
+                error.increment();
+                status = HttpStatus.INTERNAL_SERVER_ERROR;
+            } else {
+                ok.increment();
+                status = HttpStatus.OK;
+            }
+            return Mono.delay(latency(generator)).thenReturn(status);
+        });
+    }
+
+    Duration latency(RandomGenerator generator) {
+        long nanos = (long) Math.exp(mu + sigma * generator.nextGaussian());
+        return Duration.ofNanos(Math.min(nanos, properties.maxLatency().toNanos()));
+    }
+}
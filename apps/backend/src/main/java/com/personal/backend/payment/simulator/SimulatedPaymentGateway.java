@@ -0,0 +1,54 @@
+package com.personal.backend.payment.simulator;
+
+import com.personal.backend.config.payment.PaymentClientProperties;
+import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.payment.PaymentGateway;
+import com.personal.backend.payment.client.PaymentHttpClient;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * pg-sim 프로필에서 TossPaymentGateway 대신 동작하는 결제 게이트웨이
+ * 네트워크 없이 PaymentSimulator가 정한 지연/오류로 응답하되, PaymentHttpClient를 그대로 거치므로
+ * 벌크헤드, 서킷 브레이커, 재시도, 지연 시간 지표까지 실제 결제 흐름과 같은 경로로 부하를 받습니다.
+ */
+@Component
+@Profile("pg-sim")
+@RequiredArgsConstructor
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    private final PaymentSimulator paymentSimulator;
+    private final PaymentHttpClient paymentHttpClient;
+    private final PaymentClientProperties paymentClientProperties;
+
+    @Override
+    public Mono<PaymentDto.ConfirmationResponse> confirm(PaymentDto.VerificationRequest request) {
+        return paymentHttpClient.callIdempotent("sim.confirm", webClient ->
+                respond(new PaymentDto.ConfirmationResponse("DONE", request.orderId(), request.amount())));
+    }
+
+    @Override
+    public Mono<PaymentDto.ConfirmationResponse> cancel(String paymentKey, String cancelReason) {
+        return paymentHttpClient.callIdempotent("sim.cancel", webClient ->
+                respond(new PaymentDto.ConfirmationResponse("CANCELED", null, null)));
+    }
+
+    // 실제 HTTP 호출과 같은 예외가 나도록, 오류는 WebClientResponseException으로, 지연은 응답 타임아웃으로 바꿉니다.
+    private Mono<PaymentDto.ConfirmationResponse> respond(PaymentDto.ConfirmationResponse body) {
+        return paymentSimulator.next()
+                .timeout(paymentClientProperties.responseTimeout())
+                .flatMap(status -> status.is2xxSuccessful()
+                        ? Mono.just(body)
+                        : Mono.error(error(status)));
+    }
+
+    private static WebClientResponseException error(HttpStatus status) {
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(), HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
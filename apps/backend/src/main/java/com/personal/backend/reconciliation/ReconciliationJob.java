@@ -0,0 +1,70 @@
+package com.personal.backend.reconciliation;
+
+import com.personal.backend.config.order.ReconciliationProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 매일 밤 PG사 정산 파일과 주문을 맞춰 보는 배치 작업
+ * 보고서는 '{reportDirectory}/reconciliation-{날짜}.csv.part'에 불일치를 찾는 대로 쓰고, 끝까지 비교한 뒤에만 '.part'를 떼어
+ * 완성된 보고서와 중간에 멈춘 보고서를 구분할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReconciliationJob {
+
+    private final ReconciliationService reconciliationService;
+    private final ReconciliationProperties properties;
+
+    @Scheduled(cron = "${order.reconciliation.cron:0 0 3 * * *}")
+    public void runNightly() {
+        if (!Files.isRegularFile(properties.settlementFile())) {
+            log.warn("Settlement file {} not found, skipping reconciliation", properties.settlementFile());
+            return;
+        }
+        try {
+            run(LocalDate.now());
+        } catch (IOException | RuntimeException e) {
+            log.error("Reconciliation against {} failed", properties.settlementFile(), e);
+        }
+    }
+
+    /**
+     * 정산 파일을 만든 시각(파일 수정 시각) 이전의 주문과 맞춰 보고 보고서 파일을 씁니다.
+     * @return 완성된 보고서 파일 경로
+     */
+    public Path run(LocalDate reportDate) throws IOException {
+        Path settlementFile = properties.settlementFile();
+        LocalDateTime cutoff = LocalDateTime.ofInstant(Files.getLastModifiedTime(settlementFile).toInstant(), ZoneId.systemDefault());
+        Files.createDirectories(properties.reportDirectory());
+        Path report = properties.reportDirectory().resolve("reconciliation-" + reportDate + ".csv");
+        Path partial = report.resolveSibling(report.getFileName() + ".part");
+
+        long startedAt = System.currentTimeMillis();
+        ReconciliationResult result;
+        try (Writer writer = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+            result = reconciliationService.reconcile(settlementFile, cutoff, writer);
+        }
+        Files.move(partial, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("Reconciliation finished in {} ms: {} orders, {} settlements, {} matched, {} mismatches {} -> {}",
+                System.currentTimeMillis() - startedAt, result.orders(), result.settlements(), result.matched(),
+                result.mismatchCount(), result.mismatches(), report);
+        return report;
+    }
+}
@@ -0,0 +1,10 @@
+package com.personal.backend.reconciliation;
+
+public enum ReconciliationMismatchType {
+    MISSING_IN_PG,        // 결제/취소된 주문인데 PG사 정산에 없음
+    MISSING_IN_ORDERS,    // PG사 정산에는 있는데 주문이 없음
+    STATUS_MISMATCH,      // 주문 상태와 PG사 결제 상태가 맞지 않음 (결제 대기/만료 주문이 PG사에서 승인된 경우 포함)
+    PAYMENT_KEY_MISMATCH, // 주문에 저장한 paymentKey가 PG사와 다름
+    AMOUNT_MISMATCH,      // 주문 금액과 PG사 결제 금액이 다름
+    REFUND_MISMATCH       // 취소된 주문의 환불액이 PG사 환불액과 다름
+}
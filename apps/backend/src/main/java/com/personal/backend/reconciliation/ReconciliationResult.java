@@ -0,0 +1,22 @@
+package com.personal.backend.reconciliation;
+
+import java.util.Map;
+
+/**
+ * 정산 대사 결과 요약
+ * @param orders 비교한 주문 수
+ * @param settlements 읽은 PG사 정산 건수
+ * @param matched 양쪽에 모두 있고 모든 항목이 일치한 건수
+ * @param mismatches 불일치 유형별 건수
+ */
+public record ReconciliationResult(
+        long orders,
+        long settlements,
+        long matched,
+        Map<ReconciliationMismatchType, Long> mismatches
+) {
+
+    public long mismatchCount() {
+        return mismatches.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,237 @@
+package com.personal.backend.reconciliation;
+
+import com.personal.backend.config.order.ReconciliationProperties;
+import com.personal.backend.domain.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 주문과 PG사 정산 파일을 맞춰 보는 대사(reconciliation) 서비스
+ * 양쪽을 메모리에 올리지 않고, pg_order_id 순으로 정렬된 두 스트림을 한 건씩 앞으로만 읽으며 병합(sort-merge)합니다.
+ * - 주문: 앞으로만 읽는 JDBC 커서 (fetch size만큼만 메모리에 있음)
+ * - 정산: 정렬된 CSV 파일을 한 줄씩 읽음
+ * - 결과: 불일치를 찾는 즉시 한 줄씩 보고서에 씀
+ * 따라서 건수가 수천만 건이어도 메모리 사용량은 일정하고, 걸리는 시간은 DB 정렬 + 양쪽을 한 번씩 읽는 시간입니다.
+ * 두 쪽의 정렬 순서가 같아야 하므로 pg_order_id는 ASCII(UUID)로만 만들고, DB 세션은 바이트 순서 정렬(Oracle NLS_SORT=BINARY, 기본값)을 써야 합니다.
+ * 순서가 어긋나면 잘못된 결과를 내지 않도록 바로 실패합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    // 주문 항목 금액을 주문별로 더해 주문 한 건당 한 행으로 읽습니다. 결제 전 주문도 PG사에서 승인된 경우를 찾기 위해 모두 읽습니다.
+    private static final String SELECT_ORDERS =
+            "SELECT o.pg_order_id, o.payment_key, o.status, o.refunded_amount, COALESCE(SUM(i.order_price * i.count), 0) AS amount " +
+            "FROM orders o LEFT JOIN order_items i ON i.order_id = o.id " +
+            "WHERE o.order_date < ? " +
+            "GROUP BY o.id, o.pg_order_id, o.payment_key, o.status, o.refunded_amount " +
+            "ORDER BY o.pg_order_id";
+
+    static final String REPORT_HEADER = "type,pg_order_id,order_status,pg_status,order_amount,pg_amount," +
+            "order_refunded_amount,pg_refunded_amount,order_payment_key,pg_payment_key";
+
+    // PG사 결제 상태 (토스페이먼츠 기준)
+    static final String PG_DONE = "DONE";
+    static final String PG_CANCELED = "CANCELED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReconciliationProperties properties;
+
+    /**
+     * 정산 파일과 cutoff 이전에 생성된 주문을 맞춰 보고, 불일치를 찾는 대로 report에 CSV 한 줄씩 씁니다.
+     * cutoff 이후의 주문은 아직 정산 파일에 있을 수 없으므로 비교하지 않습니다.
+     * @param cutoff 정산 파일을 만든 시각
+     * @return 비교한 건수와 불일치 유형별 건수
+     */
+    public ReconciliationResult reconcile(Path settlementFile, LocalDateTime cutoff, Writer report) throws IOException {
+        try (SettlementFileReader settlements = SettlementFileReader.open(settlementFile)) {
+            Merge merge = new Merge(settlements, report);
+            try {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_ORDERS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(properties.fetchSize());
+                    statement.setTimestamp(1, Timestamp.valueOf(cutoff));
+                    return statement;
+                }, (ResultSet resultSet) -> {
+                    try {
+                        merge.onOrder(toOrderRow(resultSet));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            merge.finish();
+            report.flush();
+            return merge.result();
+        }
+    }
+
+    private static OrderRow toOrderRow(ResultSet resultSet) throws SQLException {
+        return new OrderRow(
+                resultSet.getString("pg_order_id"),
+                resultSet.getString("payment_key"),
+                OrderStatus.valueOf(resultSet.getString("status")),
+                resultSet.getLong("amount"),
+                resultSet.getLong("refunded_amount"));
+    }
+
+    private record OrderRow(String pgOrderId, String paymentKey, OrderStatus status, long amount, long refundedAmount) {
+    }
+
+    /**
+     * 두 정렬된 스트림의 병합 상태
+     * 주문은 JDBC 커서가 한 건씩 밀어 넣고, 정산은 주문의 pg_order_id를 따라잡을 때까지 당겨 읽습니다.
+     * 한 번에 들고 있는 것은 아직 짝을 찾지 못한 정산 한 건뿐입니다.
+     */
+    private static final class Merge {
+        private final SettlementFileReader settlements;
+        private final Writer report;
+        private final Map<ReconciliationMismatchType, Long> mismatches = new EnumMap<>(ReconciliationMismatchType.class);
+
+        private SettlementRecord pending;
+        private boolean settlementsExhausted;
+        private String lastPgOrderId;
+        private long orders;
+        private long settlementCount;
+        private long matched;
+
+        private Merge(SettlementFileReader settlements, Writer report) throws IOException {
+            this.settlements = settlements;
+            this.report = report;
+            report.write(REPORT_HEADER);
+            report.write('\n');
+        }
+
+        private void onOrder(OrderRow order) throws IOException {
+            if (lastPgOrderId != null && lastPgOrderId.compareTo(order.pgOrderId()) >= 0) {
+                throw new IllegalStateException("주문이 pg_order_id 순으로 정렬되어 오지 않았습니다. DB 정렬 규칙(NLS_SORT=BINARY)을 확인하세요.");
+            }
+            lastPgOrderId = order.pgOrderId();
+            orders++;
+
+            // 이 주문보다 앞선 정산 건은 짝이 되는 주문이 없습니다.
+            SettlementRecord settlement = peek();
+            while (settlement != null && settlement.pgOrderId().compareTo(order.pgOrderId()) < 0) {
+                report(ReconciliationMismatchType.MISSING_IN_ORDERS, null, settlement);
+                settlement = advance();
+            }
+
+            if (settlement != null && settlement.pgOrderId().equals(order.pgOrderId())) {
+                compare(order, settlement);
+                advance();
+            } else if (expectedPgStatus(order) != null) {
+                report(ReconciliationMismatchType.MISSING_IN_PG, order, null);
+            }
+        }
+
+        private void finish() throws IOException {
+            for (SettlementRecord settlement = peek(); settlement != null; settlement = advance()) {
+                report(ReconciliationMismatchType.MISSING_IN_ORDERS, null, settlement);
+            }
+        }
+
+        private ReconciliationResult result() {
+            return new ReconciliationResult(orders, settlementCount, matched, new EnumMap<>(mismatches));
+        }
+
+        private void compare(OrderRow order, SettlementRecord settlement) throws IOException {
+            boolean mismatch = false;
+            String expected = expectedPgStatus(order);
+            boolean statusMatches = expected != null && (expected.equals(settlement.status())
+                    // 환불 대기 중인 주문은 PG사 취소가 끝났지만 아직 DB에 반영하지 못했을 수 있습니다.
+                    || order.status() == OrderStatus.CANCEL_REQUESTED && PG_CANCELED.equals(settlement.status()));
+            if (!statusMatches) {
+                report(ReconciliationMismatchType.STATUS_MISMATCH, order, settlement);
+                mismatch = true;
+            }
+            if (order.paymentKey() != null && !order.paymentKey().equals(settlement.paymentKey())) {
+                report(ReconciliationMismatchType.PAYMENT_KEY_MISMATCH, order, settlement);
+                mismatch = true;
+            }
+            if (order.amount() != settlement.amount()) {
+                report(ReconciliationMismatchType.AMOUNT_MISMATCH, order, settlement);
+                mismatch = true;
+            }
+            // 환불액은 양쪽 상태가 확정되어 일치할 때만 비교합니다. (상태가 다르면 이미 STATUS_MISMATCH로 보고함)
+            if (statusMatches && order.status() != OrderStatus.CANCEL_REQUESTED && order.refundedAmount() != settlement.refundedAmount()) {
+                report(ReconciliationMismatchType.REFUND_MISMATCH, order, settlement);
+                mismatch = true;
+            }
+            if (!mismatch) {
+                matched++;
+            }
+        }
+
+        // 주문 상태별로 PG사에 있어야 할 결제 상태 (null이면 PG사에서 승인된 결제가 없어야 함)
+        // 만료된 주문에 paymentKey가 있으면 승인 뒤 결제 완료 처리에 실패해 환불을 마친 주문입니다.
+        private static String expectedPgStatus(OrderRow order) {
+            return switch (order.status()) {
+                case PAID, COMPLETED, CANCEL_REQUESTED -> PG_DONE;
+                case CANCELED -> PG_CANCELED;
+                case EXPIRED -> order.paymentKey() != null ? PG_CANCELED : null;
+                case PENDING -> null;
+            };
+        }
+
+        private SettlementRecord peek() throws IOException {
+            if (pending == null && !settlementsExhausted) {
+                advance();
+            }
+            return pending;
+        }
+
+        private SettlementRecord advance() throws IOException {
+            pending = settlements.next();
+            if (pending == null) {
+                settlementsExhausted = true;
+            } else {
+                settlementCount++;
+            }
+            return pending;
+        }
+
+        private void report(ReconciliationMismatchType type, OrderRow order, SettlementRecord settlement) throws IOException {
+            mismatches.merge(type, 1L, Long::sum);
+            writeLine(type,
+                    order != null ? order.pgOrderId() : settlement.pgOrderId(),
+                    order != null ? order.status() : null,
+                    settlement != null ? settlement.status() : null,
+                    order != null ? order.amount() : null,
+                    settlement != null ? settlement.amount() : null,
+                    order != null ? order.refundedAmount() : null,
+                    settlement != null ? settlement.refundedAmount() : null,
+                    order != null ? order.paymentKey() : null,
+                    settlement != null ? settlement.paymentKey() : null);
+        }
+
+        // 값은 식별자/숫자/상태 코드뿐이라 따옴표로 감쌀 필요가 없습니다.
+        private void writeLine(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    report.write(',');
+                }
+                if (values[i] != null) {
+                    report.write(values[i].toString());
+                }
+            }
+            report.write('\n');
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.personal.backend.reconciliation;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * PG사 정산 파일을 한 줄씩 읽습니다. (.gz로 끝나면 압축을 풀며 읽음)
+ * 파일 형식: 'pg_order_id,payment_key,amount,status,refunded_amount' 헤더 + pg_order_id 오름차순(바이트 순서)으로 정렬된 CSV
+ * 값에 쉼표가 들어가지 않는 식별자/숫자/상태 코드뿐이므로 따옴표 없는 CSV만 받습니다.
+ * 정렬이 어긋나거나 중복된 pg_order_id를 만나면 그 줄 번호와 함께 실패합니다. (정렬되지 않은 파일은 'LC_ALL=C sort'로 정렬해 넣어야 함)
+ */
+final class SettlementFileReader implements Closeable {
+
+    static final String HEADER = "pg_order_id,payment_key,amount,status,refunded_amount";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private String lastPgOrderId;
+
+    private SettlementFileReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static SettlementFileReader open(Path file) throws IOException {
+        BufferedReader reader = file.getFileName().toString().endsWith(".gz")
+                ? new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE)
+                : new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE);
+        SettlementFileReader settlements = new SettlementFileReader(reader);
+        try {
+            settlements.readHeader();
+        } catch (RuntimeException | IOException e) {
+            settlements.close();
+            throw e;
+        }
+        return settlements;
+    }
+
+    /**
+     * 다음 정산 건을 읽습니다.
+     * @return 파일 끝이면 null
+     */
+    SettlementRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        SettlementRecord record = parse(line);
+        if (lastPgOrderId != null && lastPgOrderId.compareTo(record.pgOrderId()) >= 0) {
+            throw new IllegalStateException("정산 파일이 pg_order_id 순으로 정렬되어 있지 않거나 중복이 있습니다. (" + lineNumber + "번째 줄)");
+        }
+        lastPgOrderId = record.pgOrderId();
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        // 엑셀 등에서 저장해 UTF-8 BOM이 붙은 파일도 받습니다.
+        if (header != null && header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        if (header == null || !HEADER.equals(header.strip())) {
+            throw new IllegalStateException("정산 파일의 헤더가 올바르지 않습니다. (기대값: " + HEADER + ")");
+        }
+    }
+
+    private SettlementRecord parse(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5 || fields[0].isBlank()) {
+            throw new IllegalStateException("정산 파일의 " + lineNumber + "번째 줄 형식이 올바르지 않습니다.");
+        }
+        try {
+            return new SettlementRecord(
+                    fields[0].strip(),
+                    fields[1].isBlank() ? null : fields[1].strip(),
+                    Long.parseLong(fields[2].strip()),
+                    fields[3].strip(),
+                    fields[4].isBlank() ? 0 : Long.parseLong(fields[4].strip()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("정산 파일의 " + lineNumber + "번째 줄 금액이 숫자가 아닙니다.", e);
+        }
+    }
+}
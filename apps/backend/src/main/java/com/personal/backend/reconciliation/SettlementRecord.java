@@ -0,0 +1,15 @@
+package com.personal.backend.reconciliation;
+
+/**
+ * PG사 정산 파일의 한 줄 (결제 한 건)
+ * @param status PG사 결제 상태 (DONE: 승인, CANCELED: 전액 취소)
+ * @param refundedAmount PG사가 환불한 금액 (취소되지 않았으면 0)
+ */
+public record SettlementRecord(
+        String pgOrderId,
+        String paymentKey,
+        long amount,
+        String status,
+        long refundedAmount
+) {
+}
@@ -0,0 +1,68 @@
+package com.personal.backend.refund;
+
+import com.personal.backend.config.order.RefundProperties;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.retry.RetryBackoff;
+import com.personal.backend.retry.RetryOutcome;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 취소 접수 주문의 환불 대기열
+ * 주문 테이블의 CANCEL_REQUESTED 상태와 nextRefundAt을 대기열로 씁니다.
+ * 가져간 주문은 lease만큼 뒤로 미뤄 두어, 처리하던 서버가 멈춰도 lease가 지나면 다시 대기열에 나타납니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefundService {
+
+    private final OrderRepository orderRepository;
+    private final RefundProperties properties;
+
+    /**
+     * 환불할 차례가 된 주문을 최대 limit건 가져갑니다.
+     */
+    @Transactional
+    public List<RefundTask> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = orderRepository.findRefundDueIds(now, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime leaseUntil = now.plus(properties.lease());
+        return orderRepository.findRefundDueForUpdate(ids, now).stream()
+                .map(order -> {
+                    order.claimRefund(leaseUntil);
+                    return new RefundTask(order.getId(), order.getPaymentKey(), order.getCancelReason(), order.getRefundAttempts());
+                })
+                .toList();
+    }
+
+    /**
+     * 실패한 환불의 다음 시도 시각을 정합니다.
+     */
+    @Transactional
+    public RetryOutcome scheduleRetry(Long orderId, int attempt) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
+        if (order.getStatus() != OrderStatus.CANCEL_REQUESTED) {
+            return RetryOutcome.ALREADY_DONE;
+        }
+        if (attempt >= properties.maxAttempts()) {
+            order.scheduleRefundRetry(null);
+            return RetryOutcome.GAVE_UP;
+        }
+        order.scheduleRefundRetry(LocalDateTime.now().plus(RetryBackoff.exponential(attempt, properties.initialBackoff(), properties.maxBackoff())));
+        return RetryOutcome.SCHEDULED;
+    }
+}
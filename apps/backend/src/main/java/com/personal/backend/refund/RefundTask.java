@@ -0,0 +1,8 @@
+package com.personal.backend.refund;
+
+/**
+ * 환불 작업이 가져간 취소 접수 주문 한 건
+ * @param attempt 이번이 몇 번째 시도인지 (1부터)
+ */
+public record RefundTask(Long orderId, String paymentKey, String reason, int attempt) {
+}
@@ -0,0 +1,123 @@
+package com.personal.backend.refund;
+
+import com.personal.backend.config.order.RefundProperties;
+import com.personal.backend.payment.PaymentGateway;
+import com.personal.backend.service.OrderService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 취소 접수된 주문을 주기적으로 모아 PG사에 환불을 요청하는 작업
+ * - 한 번에 batchSize건을 가져와 최대 concurrency건씩 동시에 PG사에 요청하고
+ * - 환불이 성공한 주문마다 취소 확정, 재고 복구, 환불액 기록을 각각 짧은 트랜잭션으로 처리하며
+ * - 실패한 주문은 지수 백오프로 다음 시도 시각을 정해 대기열에 되돌립니다.
+ * PG사 장애 중에도 취소 접수는 계속 받을 수 있고, PG사가 회복되면 밀린 환불이 순서대로 처리됩니다.
+ * 같은 주문을 다시 요청해도 PG사에서는 멱등키로 한 번만 취소되므로, 환불 뒤 DB 반영이 실패해도 안전하게 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class RefundWorker {
+
+    private static final String METRIC_NAME = "order.refund";
+
+    private final RefundService refundService;
+    private final OrderService orderService;
+    private final PaymentGateway paymentGateway;
+    private final Scheduler jdbcScheduler;
+    private final RefundProperties properties;
+
+    private final Counter refunded;
+    private final Counter retryScheduled;
+    private final Counter gaveUp;
+
+    public RefundWorker(RefundService refundService, OrderService orderService, PaymentGateway paymentGateway,
+                        Scheduler jdbcScheduler, RefundProperties properties, MeterRegistry meterRegistry) {
+        this.refundService = refundService;
+        this.orderService = orderService;
+        this.paymentGateway = paymentGateway;
+        this.jdbcScheduler = jdbcScheduler;
+        this.properties = properties;
+
+        this.refunded = Counter.builder(METRIC_NAME).tag("result", "refunded").register(meterRegistry);
+        this.retryScheduled = Counter.builder(METRIC_NAME).tag("result", "retry_scheduled").register(meterRegistry);
+        this.gaveUp = Counter.builder(METRIC_NAME).tag("result", "gave_up").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.refund.interval:PT1S}", initialDelayString = "${order.refund.interval:PT1S}")
+    public void processDue() {
+        processAll();
+    }
+
+    /**
+     * 지금 환불할 차례인 주문을 모두 처리합니다.
+     * @return 환불을 마친 주문 수
+     */
+    public int processAll() {
+        int batchSize = properties.batchSize();
+        int total = 0;
+        int claimed;
+        do {
+            List<RefundTask> tasks = refundService.claimDue(batchSize);
+            claimed = tasks.size();
+            if (claimed > 0) {
+                total += process(tasks);
+            }
+        } while (claimed == batchSize);
+        return total;
+    }
+
+    private int process(List<RefundTask> tasks) {
+        Long count = Flux.fromIterable(tasks)
+                .flatMap(this::refund, properties.concurrency())
+                .filter(Boolean::booleanValue)
+                .count()
+                .block();
+        return count == null ? 0 : count.intValue();
+    }
+
+    private Mono<Boolean> refund(RefundTask task) {
+        return paymentGateway.cancel(task.paymentKey(), task.reason())
+                .then(onJdbc(() -> {
+                    orderService.completeRefund(task.orderId());
+                    refunded.increment();
+                    return true;
+                }))
+                .onErrorResume(e -> onJdbc(() -> retryLater(task, e)))
+                // 재시도 시각조차 기록하지 못하면 lease가 지난 뒤 다시 가져가도록 두고, 같은 묶음의 다른 주문은 계속 처리합니다.
+                .onErrorResume(e -> {
+                    log.error("Failed to record refund failure for order {}, it will be retried after the lease expires", task.orderId(), e);
+                    return Mono.just(false);
+                });
+    }
+
+    private boolean retryLater(RefundTask task, Throwable error) {
+        switch (refundService.scheduleRetry(task.orderId(), task.attempt())) {
+            case SCHEDULED -> {
+                retryScheduled.increment();
+                log.warn("Refund for order {} failed (attempt {}), retrying later: {}", task.orderId(), task.attempt(), error.getMessage());
+            }
+            case GAVE_UP -> {
+                gaveUp.increment();
+                log.error("Refund for order {} failed {} times, giving up until handled manually", task.orderId(), task.attempt(), error);
+            }
+            case ALREADY_DONE -> log.info("Refund for order {} was already completed elsewhere", task.orderId());
+        }
+        return false;
+    }
+
+    private <T> Mono<T> onJdbc(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(jdbcScheduler);
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.HotStockJournal;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HotStockJournalRepository extends JpaRepository<HotStockJournal, Long> {
+
+    // 반영할 기록의 ID를 오래된 순서로 일정 개수씩 가져옵니다.
+    @Query("SELECT j.id FROM HotStockJournal j ORDER BY j.id")
+    List<Long> findPendingIds(Pageable pageable);
+
+    // 반영할 기록을 잠가서 가져옵니다. 여러 곳에서 동시에 반영하더라도 같은 기록이 두 번 더해지지 않습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM HotStockJournal j WHERE j.id IN :ids")
+    List<HotStockJournal> findByIdInForUpdate(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,8 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.HotStockProduct;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HotStockProductRepository extends JpaRepository<HotStockProduct, Long> {
+}
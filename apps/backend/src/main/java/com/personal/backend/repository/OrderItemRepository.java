@@ -0,0 +1,49 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.OrderItem;
+import com.personal.backend.domain.OrderStatus;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    // 주문 내역 한 페이지에 포함된 주문들의 항목을 한 번의 쿼리로 가져옵니다. (상품/옵션은 스냅샷 값을 쓰므로 조회하지 않음)
+    @Query("SELECT i FROM OrderItem i WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<OrderItem> findByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    // 매출 다시 집계: 기간 안에 결제된 주문 항목 (이후 취소된 주문도 결제 시점의 매출에 포함, 이전 주문은 결제 시각 대신 주문 시각)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT i.product.id AS productId, COALESCE(o.paidAt, o.orderDate) AS occurredAt, i.count AS count, i.orderPrice AS orderPrice " +
+           "FROM OrderItem i JOIN i.order o WHERE o.status IN :statuses " +
+           "AND COALESCE(o.paidAt, o.orderDate) >= :from AND COALESCE(o.paidAt, o.orderDate) < :to")
+    Stream<SalesRow> streamPaidItems(@Param("statuses") Collection<OrderStatus> statuses,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    // 매출 다시 집계: 기간 안에 취소(환불)된 주문 항목
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT i.product.id AS productId, COALESCE(o.canceledAt, o.orderDate) AS occurredAt, i.count AS count, i.orderPrice AS orderPrice " +
+           "FROM OrderItem i JOIN i.order o WHERE o.status = com.personal.backend.domain.OrderStatus.CANCELED " +
+           "AND COALESCE(o.canceledAt, o.orderDate) >= :from AND COALESCE(o.canceledAt, o.orderDate) < :to")
+    Stream<SalesRow> streamCanceledItems(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    interface SalesRow {
+        Long getProductId();
+        LocalDateTime getOccurredAt();
+        int getCount();
+        int getOrderPrice();
+    }
+}
@@ -1,11 +1,26 @@
 package com.personal.backend.repository;
 
 import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderStatus;
 import com.personal.backend.domain.User;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +28,50 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     // 특정 사용자의 모든 주문 내역을 찾는 기능을 정의합니다.
     Page<Order> findByUser(User user,Pageable pageable);
+    // COUNT 쿼리 없이 다음 페이지 여부만 확인하는 주문 내역 조회
+    Slice<Order> findSliceByUser(User user, Pageable pageable);
+    long countByUser(User user);
+    // 커서 기반 주문 내역 조회 (마지막으로 본 주문 이후만 조회)
+    Window<Order> findByUser(User user, ScrollPosition position, Limit limit, Sort sort);
     List<Order> findByUser(User user);
     Optional<Order> findByPgOrderId(String pgOrderId);
+
+    // 결제 완료/환불 접수 전에 주문 행을 잠급니다. 같은 결제의 승인 요청이 동시에 들어오거나 예약 만료 정리와 겹쳐도 차례로 처리됩니다.
+    // 주문 행을 잠그는 쪽은 모두 주문 행 -> 예약 행 -> 상품 행 순서로 잠가 서로 기다리다 교착되지 않도록 합니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.pgOrderId = :pgOrderId")
+    Optional<Order> findByPgOrderIdForUpdate(@Param("pgOrderId") String pgOrderId);
+
+    // 재고 예약을 정리할 주문 행을 ID 순서로 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 결제 완료 처리에 필요한 주문 항목, 상품, 옵션을 한 번에 가져옵니다.
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.orderItems i JOIN FETCH i.product LEFT JOIN FETCH i.option WHERE o.pgOrderId = :pgOrderId")
+    Optional<Order> findForPaymentByPgOrderId(@Param("pgOrderId") String pgOrderId);
+
+    // 아웃박스 이벤트를 처리할 때 여러 주문의 항목을 한 번에 가져옵니다.
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.orderItems WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 매출 집계를 처음 채울 때 시작 날짜로 씁니다.
+    @Query("SELECT MIN(o.orderDate) FROM Order o")
+    Optional<LocalDateTime> findFirstOrderDate();
+
+    // 환불할 차례가 된 취소 접수 주문의 ID를 오래 기다린 순서로 일정 개수씩 가져옵니다.
+    @Query("SELECT o.id FROM Order o WHERE o.status = com.personal.backend.domain.OrderStatus.CANCEL_REQUESTED " +
+           "AND o.nextRefundAt <= :now ORDER BY o.nextRefundAt, o.id")
+    List<Long> findRefundDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 환불할 주문을 잠가서 다시 확인합니다. 여러 서버가 동시에 가져가도 같은 주문을 두 번 환불 요청하지 않습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids AND o.status = com.personal.backend.domain.OrderStatus.CANCEL_REQUESTED " +
+           "AND o.nextRefundAt <= :now ORDER BY o.id")
+    List<Order> findRefundDueForUpdate(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 재고 예약이 만료된 주문 중 아직 결제 대기 상태인 것만 한 번에 상태를 바꿉니다. (이미 결제된 주문은 그대로 둠)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to WHERE o.id IN :ids AND o.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
 }
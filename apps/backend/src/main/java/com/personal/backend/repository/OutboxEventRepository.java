@@ -0,0 +1,28 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리할 차례가 된 이벤트의 ID를 오래된 순서로 일정 개수씩 가져옵니다. (실패해 뒤로 미룬 이벤트와 자동 재시도를 멈춘 이벤트는 제외)
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리할 이벤트를 잠가서 가져옵니다. 여러 서버가 동시에 처리하더라도 같은 이벤트가 두 번 처리되지 않습니다.
+    // 잠금을 기다리는 사이 다른 서버가 처리했거나 뒤로 미룬 이벤트는 빠집니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id IN :ids AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDueByIdInForUpdate(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -1,12 +1,18 @@
 package com.personal.backend.repository;
 
 import com.personal.backend.domain.ProductLike;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 
@@ -16,8 +22,16 @@ public interface ProductLikeRepository extends JpaRepository<ProductLike, Long>
 
     Page<ProductLike> findByUser_Id(Long userId, Pageable pageable);
 
+    Slice<ProductLike> findSliceByUser_Id(Long userId, Pageable pageable);
+
+    long countByUser_Id(Long userId);
+
+    Window<ProductLike> findByUser_Id(Long userId, ScrollPosition position, Limit limit, Sort sort);
+
     boolean existsByUser_IdAndProduct_Id(Long userId, Long productId);
 
-    @Query("SELECT pl.product.id FROM ProductLike pl WHERE pl.user.id = :userId")
-    Set<Long> findLikedProductIdsByUserId(@Param("userId") Long userId);
+    // 사용자의 전체 좋아요 목록이 아니라 현재 페이지에 있는 상품 id 중 좋아요한 것만 조회합니다.
+    @Query("SELECT pl.product.id FROM ProductLike pl WHERE pl.user.id = :userId AND pl.product.id IN :productIds")
+    Set<Long> findLikedProductIdsByUserIdAndProductIdIn(@Param("userId") Long userId,
+                                                        @Param("productIds") Collection<Long> productIds);
 }
\ No newline at end of file
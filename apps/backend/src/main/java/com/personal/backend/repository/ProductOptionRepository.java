@@ -2,6 +2,35 @@ package com.personal.backend.repository;
 
 import com.personal.backend.domain.ProductOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
+
+    // 목록 조회 시 한 페이지에 포함된 상품들의 옵션을 한 번의 쿼리로 가져옵니다.
+    List<ProductOption> findByProductIdIn(Collection<Long> productIds);
+
+    List<ProductOption> findByProductId(Long productId);
+
+    // 상품 요약 정보를 채울 때 상품별 옵션 개수만 필요하므로 옵션 엔티티를 읽지 않고 개수만 셉니다.
+    @Query("SELECT o.product.id AS productId, COUNT(o) AS optionCount FROM ProductOption o WHERE o.product.id IN :productIds GROUP BY o.product.id")
+    List<OptionCountRow> countOptionsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 옵션 재고도 상품 재고와 같이 조건부 UPDATE 한 문장으로 바꿉니다. (영향받은 행 수가 0이면 재고 부족)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductOption o SET o.stockQuantity = o.stockQuantity - :quantity WHERE o.id = :id AND o.stockQuantity >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductOption o SET o.stockQuantity = o.stockQuantity + :quantity WHERE o.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    interface OptionCountRow {
+        Long getProductId();
+        long getOptionCount();
+    }
 }
@@ -2,14 +2,15 @@ package com.personal.backend.repository;
 
 import com.personal.backend.domain.Product;
 
-import jakarta.persistence.LockModeType;
-
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,11 +20,101 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // Spring Data JPA의 'Query Method' 기능:
     // 메소드 이름을 규칙에 맞게 짓는 것만으로, 스프링이 알아서
     // "이름에 특정 키워드가 포함된 상품들을 찾아라"는 SQL을 자동으로 생성해 줍니다.
+    // 목록 조회용 메소드는 category(ToOne)를 페이지 쿼리에서 함께 가져와 상품마다 추가 조회가 생기지 않도록 합니다.
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByNameContaining(String keyword, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findAll(Pageable pageable);
+
     List<Product> findByName(String name);
-    
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select p from Product p where p.id = :id")
-    Optional<Product> findByIdWithPessimisticLock(Long id);
+
+    // 검색 색인에서 찾은 상품 ID로 현재 페이지의 상품만 가져옵니다.
+    @EntityGraph(attributePaths = "category")
+    List<Product> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "category")
+    Optional<Product> findWithCategoryById(Long id);
+
+    // 검색 색인을 만들 때 ID 순서대로 일정 개수씩 끊어 읽습니다. (count 쿼리 없이 마지막 ID 이후부터 조회)
+    @EntityGraph(attributePaths = "category")
+    List<Product> findByIdGreaterThan(Long id, Pageable pageable);
+
+    // 한 페이지에 포함된 상품들의 이미지 URL을 한 번의 쿼리로 가져옵니다.
+    @Query("SELECT p.id AS productId, url AS imageUrl FROM Product p JOIN p.imageUrl url WHERE p.id IN :productIds")
+    List<ImageUrlRow> findImageUrlsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 이미지 객체 키 이전: 아직 전체 URL로 저장된 값을 값 순서대로 일정 개수씩 끊어 읽습니다.
+    @Query("SELECT DISTINCT url FROM Product p JOIN p.imageUrl url WHERE url LIKE 'http%' AND url > :after ORDER BY url")
+    List<String> findAbsoluteImageUrlsAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("SELECT DISTINCT p.id FROM Product p JOIN p.imageUrl url WHERE url IN :imageUrls")
+    List<Long> findIdsByImageUrlIn(@Param("imageUrls") Collection<String> imageUrls);
+
+    // 컬렉션 테이블은 JPQL로 수정할 수 없으므로 네이티브 쿼리를 사용합니다.
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE product_image_urls SET image_url = :imageKey WHERE image_url = :imageUrl", nativeQuery = true)
+    int replaceImageUrl(@Param("imageUrl") String imageUrl, @Param("imageKey") String imageKey);
+
+    // 주문 접수 단계에서 엔티티를 불러오지 않고 주문 가능 재고(재고 - 예약 수량)만 읽습니다.
+    @Query("SELECT p.stockQuantity - p.reservedQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findAvailableStockById(@Param("id") Long id);
+
+    // 재고 변경은 읽고-확인하고-쓰는 대신 조건부 UPDATE 한 문장으로 처리하고, 영향받은 행 수(1이면 성공, 0이면 재고 부족)로 성공 여부를 판단합니다.
+    // 같은 트랜잭션에서 불러온 주문 엔티티가 분리되지 않도록 영속성 컨텍스트는 비우지 않습니다. (이미 불러온 상품 엔티티의 재고 값은 갱신되지 않음)
+
+    // 주문 생성: 주문 가능 재고(재고 - 예약 수량) 안에서만 예약 수량을 늘립니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.reservedQuantity = p.reservedQuantity + :quantity " +
+           "WHERE p.id = :id AND p.stockQuantity - p.reservedQuantity >= :quantity")
+    int reserveStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 결제 완료: 예약 수량을 실제 재고 차감으로 바꿉니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.reservedQuantity = p.reservedQuantity - :quantity " +
+           "WHERE p.id = :id AND p.reservedQuantity >= :quantity AND p.stockQuantity >= :quantity")
+    int commitReservedStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 예약 만료: 예약 수량만 되돌립니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.reservedQuantity = p.reservedQuantity - :quantity " +
+           "WHERE p.id = :id AND p.reservedQuantity >= :quantity")
+    int releaseReservedStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 결제 승인 중 예약이 만료된 주문: 예약 없이 주문 가능 재고(재고 - 예약 수량) 안에서만 재고를 바로 차감합니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity " +
+           "WHERE p.id = :id AND p.stockQuantity - p.reservedQuantity >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 주문 취소: 차감했던 재고를 되돌립니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 핫 상품: 메모리 카운터로 처리한 재고/예약 수량 변경의 합계를 한 번에 반영합니다. (조건 확인은 카운터가 이미 마침)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :stockDelta, p.reservedQuantity = p.reservedQuantity + :reservedDelta " +
+           "WHERE p.id = :id")
+    int applyStockDelta(@Param("id") Long id, @Param("stockDelta") int stockDelta, @Param("reservedDelta") int reservedDelta);
+
+    // 매출 집계: 상품의 카테고리와 판매자(등록자)를 한 번의 쿼리로 가져옵니다.
+    @Query("SELECT p.id AS productId, c.id AS categoryId, u.id AS sellerId FROM Product p " +
+           "LEFT JOIN p.category c LEFT JOIN p.user u WHERE p.id IN :ids")
+    List<SalesDimensionRow> findSalesDimensionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface SalesDimensionRow {
+        Long getProductId();
+        Long getCategoryId();
+        Long getSellerId();
+    }
+
+    interface ImageUrlRow {
+        Long getProductId();
+        String getImageUrl();
+    }
 }
@@ -0,0 +1,51 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.ProductSummary;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 목록 조회는 이 읽기 모델만 사용합니다. (상품 원본 테이블과 연관 테이블을 조인하지 않음)
+ */
+public interface ProductSummaryRepository extends JpaRepository<ProductSummary, Long> {
+
+    Page<ProductSummary> findByNameContaining(String keyword, Pageable pageable);
+
+    Page<ProductSummary> findByCategoryId(Long categoryId, Pageable pageable);
+
+    Slice<ProductSummary> findSliceByNameContaining(String keyword, Pageable pageable);
+
+    Slice<ProductSummary> findSliceByCategoryId(Long categoryId, Pageable pageable);
+
+    Slice<ProductSummary> findSliceBy(Pageable pageable);
+
+    long countByNameContaining(String keyword);
+
+    long countByCategoryId(Long categoryId);
+
+    // 커서 기반 목록 조회 (id 내림차순 keyset)
+    Window<ProductSummary> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    Window<ProductSummary> findByCategoryId(Long categoryId, ScrollPosition position, Limit limit, Sort sort);
+
+    Window<ProductSummary> findByNameContaining(String keyword, ScrollPosition position, Limit limit, Sort sort);
+
+    // 검색 색인 등에서 얻은 상품 ID로 한 페이지 분량의 요약 정보를 가져옵니다.
+    List<ProductSummary> findByIdIn(Collection<Long> productIds);
+
+    // 시작 시 요약 정보가 없는 상품을 찾아 채우기 위해 사용합니다.
+    @Query("SELECT s.id FROM ProductSummary s WHERE s.id IN :productIds")
+    List<Long> findExistingIds(@Param("productIds") Collection<Long> productIds);
+}
@@ -0,0 +1,16 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.ProductTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductTagRepository extends JpaRepository<ProductTag, Long> {
+
+    // 목록 조회 시 한 페이지에 포함된 상품들의 태그를 한 번의 쿼리로 가져옵니다.
+    @Query("SELECT pt FROM ProductTag pt JOIN FETCH pt.tag WHERE pt.product.id IN :productIds")
+    List<ProductTag> findWithTagByProductIdIn(@Param("productIds") Collection<Long> productIds);
+}
@@ -1,10 +1,21 @@
 package com.personal.backend.repository;
 
 import com.personal.backend.domain.Qna;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface QnaRepository extends JpaRepository<Qna, Long> {
     Page<Qna> findByProductId(Long productId, Pageable pageable);
+
+    Slice<Qna> findSliceByProductId(Long productId, Pageable pageable);
+
+    long countByProductId(Long productId);
+
+    Window<Qna> findByProductId(Long productId, ScrollPosition position, Limit limit, Sort sort);
 }
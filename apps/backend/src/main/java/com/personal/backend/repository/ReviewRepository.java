@@ -1,10 +1,21 @@
 package com.personal.backend.repository;
 
 import com.personal.backend.domain.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findByProductId(Long productId, Pageable pageable);
+
+    Slice<Review> findSliceByProductId(Long productId, Pageable pageable);
+
+    long countByProductId(Long productId);
+
+    Window<Review> findByProductId(Long productId, ScrollPosition position, Limit limit, Sort sort);
 }
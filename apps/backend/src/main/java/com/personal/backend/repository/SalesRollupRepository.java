@@ -0,0 +1,67 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.SalesDimension;
+import com.personal.backend.domain.SalesGranularity;
+import com.personal.backend.domain.SalesRollup;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    boolean existsByGranularity(SalesGranularity granularity);
+
+    // 변경을 더할 집계 행을 (단위, 기준)마다 한 번의 쿼리로 가져옵니다. 조건이 넓게 걸리므로 호출하는 쪽에서 정확한 키로 다시 고릅니다.
+    // 읽은 값에 더해 덮어쓰므로, 여러 서버가 같은 집계 행에 동시에 더해도 합계가 사라지지 않도록 잠가서 가져옵니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SalesRollup r WHERE r.granularity = :granularity AND r.dimension = :dimension " +
+           "AND r.dimensionId IN :dimensionIds AND r.bucketStart IN :bucketStarts ORDER BY r.dimensionId, r.bucketStart")
+    List<SalesRollup> findForMerge(@Param("granularity") SalesGranularity granularity,
+                                   @Param("dimension") SalesDimension dimension,
+                                   @Param("dimensionIds") Collection<Long> dimensionIds,
+                                   @Param("bucketStarts") Collection<LocalDateTime> bucketStarts);
+
+    // 다시 집계할 기간의 집계 행을 지웁니다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SalesRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteByBucketStartBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 구간별 집계 (dimensionId가 null이면 해당 기준의 모든 항목)
+    @Query("SELECT r FROM SalesRollup r WHERE r.granularity = :granularity AND r.dimension = :dimension " +
+           "AND (:dimensionId IS NULL OR r.dimensionId = :dimensionId) " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart, r.dimensionId")
+    List<SalesRollup> findReport(@Param("granularity") SalesGranularity granularity,
+                                 @Param("dimension") SalesDimension dimension,
+                                 @Param("dimensionId") Long dimensionId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+
+    // 기간 합계: 일별 집계를 항목별로 더합니다. (여러 달이어도 항목 수 × 일 수만큼의 행만 읽음)
+    @Query("SELECT r.dimensionId AS dimensionId, SUM(r.units) AS units, SUM(r.grossAmount) AS grossAmount, " +
+           "SUM(r.refundedUnits) AS refundedUnits, SUM(r.refundedAmount) AS refundedAmount " +
+           "FROM SalesRollup r WHERE r.granularity = com.personal.backend.domain.SalesGranularity.DAY AND r.dimension = :dimension " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "GROUP BY r.dimensionId ORDER BY SUM(r.grossAmount) - SUM(r.refundedAmount) DESC, r.dimensionId")
+    List<TotalRow> findTotals(@Param("dimension") SalesDimension dimension,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to,
+                              Pageable pageable);
+
+    interface TotalRow {
+        Long getDimensionId();
+        Long getUnits();
+        Long getGrossAmount();
+        Long getRefundedUnits();
+        Long getRefundedAmount();
+    }
+}
@@ -0,0 +1,36 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.StockReservation;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    // 결제 완료 시 예약을 실제 재고 차감으로 바꾸면서 지웁니다. 지운 행 수가 0이면 이미 만료되어 정리된 주문입니다.
+    // 같은 트랜잭션에서 불러온 주문/상품 엔티티가 분리되지 않도록 영속성 컨텍스트는 비우지 않습니다.
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM StockReservation r WHERE r.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+
+    // 만료된 예약을 가진 주문 ID를 일정 개수씩 가져옵니다.
+    @Query("SELECT DISTINCT r.orderId FROM StockReservation r WHERE r.expiresAt <= :now ORDER BY r.orderId")
+    List<Long> findExpiredOrderIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 만료된 예약 행을 잠가서 가져옵니다. 정리하는 동안 같은 주문의 결제 완료 처리가 예약을 지우지 못하도록 막아
+    // 예약 수량이 두 번 되돌려지지 않게 합니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.orderId IN :orderIds AND r.expiresAt <= :now")
+    List<StockReservation> findExpiredByOrderIdInForUpdate(@Param("orderIds") Collection<Long> orderIds,
+                                                           @Param("now") LocalDateTime now);
+}
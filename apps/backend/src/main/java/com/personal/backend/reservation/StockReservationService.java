@@ -0,0 +1,165 @@
+package com.personal.backend.reservation;
+
+import com.personal.backend.config.order.ReservationProperties;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderItem;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.StockReservation;
+import com.personal.backend.hotstock.HotStockService;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.StockReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 대기 주문의 재고 예약을 관리하는 서비스
+ * 상품별 예약 수량은 상품 행의 reservedQuantity를 조건부 UPDATE로 늘리고 줄이므로, 상품 행을 미리 잠그지 않아도
+ * 같은 상품을 동시에 주문했을 때 재고보다 많이 예약되지 않습니다.
+ * 예약 행(stock_reservations)은 주문별 만료 시각을 기록해 두었다가 결제 완료나 만료 시 지워집니다.
+ * 여러 상품을 바꿀 때는 항상 상품 ID 오름차순으로 UPDATE하여 트랜잭션끼리 행 잠금 순서가 엇갈리지 않도록 합니다.
+ * 핫 상품은 상품 행 대신 {@link HotStockService}의 메모리 카운터로 예약 수량을 바꿉니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final ReservationProperties reservationProperties;
+    private final HotStockService hotStockService;
+
+    /**
+     * 저장된 결제 대기 주문의 상품 수량만큼 재고를 예약합니다.
+     * @throws IllegalStateException 주문 가능 재고가 부족한 상품이 있을 때 (호출한 트랜잭션이 롤백되어야 함)
+     */
+    @Transactional
+    public void reserve(Order order) {
+        quantitiesByProduct(order).forEach((productId, quantity) -> {
+            boolean reserved = hotStockService.isHot(productId)
+                    ? hotStockService.reserve(productId, quantity)
+                    : productRepository.reserveStock(productId, quantity) == 1;
+            if (!reserved) {
+                throw new IllegalStateException("재고가 부족합니다. (상품 ID: " + productId + ")");
+            }
+        });
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(reservationProperties.ttl());
+        List<StockReservation> reservations = order.getOrderItems().stream()
+                .map(orderItem -> StockReservation.builder()
+                        .orderId(order.getId())
+                        .productId(orderItem.getProduct().getId())
+                        .quantity(orderItem.getCount())
+                        .expiresAt(expiresAt)
+                        .build())
+                .toList();
+        stockReservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 결제가 완료된 주문의 예약을 지우고, 예약 수량을 실제 재고 차감으로 바꿉니다.
+     * @return 이미 만료되어 정리된 주문이면 false (재고는 바뀌지 않음)
+     */
+    @Transactional
+    public boolean confirm(Order order) {
+        if (stockReservationRepository.deleteByOrderId(order.getId()) == 0) {
+            return false;
+        }
+        quantitiesByProduct(order).forEach((productId, quantity) -> {
+            if (hotStockService.isHot(productId)) {
+                hotStockService.commitReserved(productId, quantity);
+            } else if (productRepository.commitReservedStock(productId, quantity) == 0) {
+                throw new IllegalStateException("예약된 재고를 차감하지 못했습니다. (상품 ID: " + productId + ")");
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 결제 승인을 기다리는 사이 예약이 만료되어 정리된 주문의 재고를 예약 없이 주문 가능 재고에서 바로 차감합니다.
+     * @return 그 사이 다른 주문이 재고를 가져가 부족한 상품이 있으면 false (앞서 차감한 상품이 있으므로 호출한 트랜잭션이 롤백되어야 함)
+     */
+    @Transactional
+    public boolean commitWithoutReservation(Order order) {
+        for (Map.Entry<Long, Integer> entry : quantitiesByProduct(order).entrySet()) {
+            Long productId = entry.getKey();
+            int quantity = entry.getValue();
+            if (hotStockService.isHot(productId)) {
+                if (!hotStockService.reserve(productId, quantity)) {
+                    return false;
+                }
+                hotStockService.commitReserved(productId, quantity);
+            } else if (productRepository.decreaseStock(productId, quantity) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 결제 완료 처리에 실패한 주문의 예약을 만료를 기다리지 않고 풀어 줍니다.
+     * 이미 만료되어 정리된 주문이면 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void release(Order order) {
+        if (stockReservationRepository.deleteByOrderId(order.getId()) == 0) {
+            return;
+        }
+        quantitiesByProduct(order).forEach((productId, quantity) -> {
+            if (hotStockService.isHot(productId)) {
+                hotStockService.release(productId, quantity);
+            } else {
+                productRepository.releaseReservedStock(productId, quantity);
+            }
+        });
+    }
+
+    /**
+     * 만료된 예약을 최대 limit개 주문 분량만큼 풀어 주고, 해당 주문 중 아직 결제 대기 상태인 것을 만료 처리합니다.
+     * 상품 재고 자체는 바뀌지 않으므로(예약만 풀림) 상품 변경 이벤트는 발행하지 않습니다.
+     * @return 예약이 정리된 주문 수 (limit보다 작으면 더 정리할 예약이 없음)
+     */
+    @Transactional
+    public int releaseExpired(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> orderIds = stockReservationRepository.findExpiredOrderIds(now, PageRequest.of(0, limit));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        // 결제 완료 처리와 같은 순서(주문 행 -> 예약 행 -> 상품 행)로 잠가, 만료 직전에 들어온 결제와 교착되지 않도록 합니다.
+        orderRepository.findAllByIdInForUpdate(orderIds);
+        List<StockReservation> expired = stockReservationRepository.findExpiredByOrderIdInForUpdate(orderIds, now);
+        expired.stream()
+                .collect(Collectors.groupingBy(StockReservation::getProductId, TreeMap::new,
+                        Collectors.summingInt(StockReservation::getQuantity)))
+                .forEach((productId, quantity) -> {
+                    if (hotStockService.isHot(productId)) {
+                        hotStockService.release(productId, quantity);
+                    } else {
+                        productRepository.releaseReservedStock(productId, quantity);
+                    }
+                });
+        stockReservationRepository.deleteAllInBatch(expired);
+        orderRepository.updateStatusByIdIn(orderIds, OrderStatus.PENDING, OrderStatus.EXPIRED);
+        return orderIds.size();
+    }
+
+    // 같은 상품이 여러 줄에 나뉘어 담긴 경우를 합치고, 상품 ID 오름차순으로 정렬합니다.
+    private static Map<Long, Integer> quantitiesByProduct(Order order) {
+        return order.getOrderItems().stream()
+                .collect(Collectors.groupingBy(orderItem -> orderItem.getProduct().getId(), TreeMap::new,
+                        Collectors.summingInt(OrderItem::getCount)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.personal.backend.reservation;
+
+import com.personal.backend.config.order.ReservationProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제되지 않은 채 만료된 재고 예약을 주기적으로 정리하는 작업
+ * 한 번에 sweepBatchSize개 주문씩 나눠 각각 별도 트랜잭션으로 처리하므로, 쌓인 예약이 많아도 트랜잭션이 길어지지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationSweeper {
+
+    private final StockReservationService stockReservationService;
+    private final ReservationProperties reservationProperties;
+
+    @Scheduled(fixedDelayString = "${order.reservation.sweep-interval:PT1M}", initialDelayString = "${order.reservation.sweep-interval:PT1M}")
+    public void sweep() {
+        int batchSize = reservationProperties.sweepBatchSize();
+        int expiredOrders = 0;
+        int released;
+        do {
+            released = stockReservationService.releaseExpired(batchSize);
+            expiredOrders += released;
+        } while (released == batchSize);
+
+        if (expiredOrders > 0) {
+            log.info("Expired stock reservations released: {} orders", expiredOrders);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.personal.backend.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실패한 작업(환불, 아웃박스 이벤트 등)의 다음 시도까지 기다릴 시간을 정하는 지수 백오프
+ * 시도할수록 간격을 두 배씩 늘리되 상한을 넘지 않고, 장애 뒤 여러 작업의 재시도가 한꺼번에 몰리지 않도록 간격을 ±20% 흔듭니다.
+ */
+public final class RetryBackoff {
+
+    private static final double JITTER = 0.2;
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * @param attempt 지금까지 실패한 횟수 (1부터)
+     * @return initial * 2^(attempt-1) (max 이하)에 ±20%를 흔든 간격
+     */
+    public static Duration exponential(int attempt, Duration initial, Duration max) {
+        long initialMillis = initial.toMillis();
+        long maxMillis = max.toMillis();
+        long base = attempt > 30 ? maxMillis : Math.min(maxMillis, initialMillis << Math.max(0, attempt - 1));
+        double jitter = 1 + JITTER * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return Duration.ofMillis((long) (base * jitter));
+    }
+}
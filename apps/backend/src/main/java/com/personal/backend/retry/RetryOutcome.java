@@ -0,0 +1,10 @@
+package com.personal.backend.retry;
+
+/**
+ * 실패한 작업의 다음 시도를 정한 결과
+ */
+public enum RetryOutcome {
+    SCHEDULED,    // 다음 시도 시각을 정함
+    GAVE_UP,      // 최대 시도 횟수에 도달해 자동 재시도를 멈춤 (수동 처리 대상)
+    ALREADY_DONE  // 그 사이 다른 작업(서버)이 처리를 마침
+}
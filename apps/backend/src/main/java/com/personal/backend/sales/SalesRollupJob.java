@@ -0,0 +1,72 @@
+package com.personal.backend.sales;
+
+import com.personal.backend.domain.SalesGranularity;
+import com.personal.backend.outbox.OutboxRelay;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.SalesRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 매출 집계 배치 작업
+ * - 집계 테이블이 비어 있으면 시작 시 첫 주문 날짜부터 어제까지 주문 원본으로 채웁니다.
+ * - 관리자가 지난 기간을 다시 집계할 수 있습니다. (하루씩 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupJob {
+
+    private final SalesRollupService salesRollupService;
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderRepository orderRepository;
+    private final OutboxRelay outboxRelay;
+
+    // 검색 색인, 핫 상품 복구보다 늦게 실행되어도 되므로 마지막에 둡니다.
+    @Order(2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (salesRollupRepository.existsByGranularity(SalesGranularity.DAY)) {
+            return;
+        }
+        orderRepository.findFirstOrderDate()
+                .map(LocalDateTime::toLocalDate)
+                .filter(first -> first.isBefore(LocalDate.now()))
+                .ifPresent(first -> {
+                    long startedAt = System.currentTimeMillis();
+                    int days = rebuild(first, LocalDate.now().minusDays(1));
+                    log.info("Sales rollups backfilled: {} days in {} ms", days, System.currentTimeMillis() - startedAt);
+                });
+    }
+
+    /**
+     * 지난 기간(from ~ to, 모두 포함)의 집계를 주문 원본에서 다시 만듭니다.
+     * 오늘은 아직 결제/취소가 들어오는 중이므로 다시 만들 수 없습니다.
+     * @return 다시 집계한 일 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("다시 집계할 기간이 올바르지 않습니다.");
+        }
+        if (!to.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("오늘 이전 날짜까지만 다시 집계할 수 있습니다.");
+        }
+        // 아직 처리하지 않은 결제/취소 이벤트가 남아 있으면 다시 만든 집계에 또 더해지므로 먼저 모두 처리합니다.
+        outboxRelay.relayAll();
+        int days = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            salesRollupService.rebuildDay(day);
+            days++;
+        }
+        return days;
+    }
+}
@@ -0,0 +1,36 @@
+package com.personal.backend.sales;
+
+import com.personal.backend.domain.OutboxEventType;
+import com.personal.backend.outbox.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 결제 완료/취소 이벤트를 모아 매출 집계에 더합니다.
+ * 같은 집계 행을 결제마다 잠그지 않고 주기마다 한 번씩만 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupOutboxHandler implements OutboxEventHandler {
+
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    public Set<OutboxEventType> types() {
+        return Set.of(OutboxEventType.ORDER_PAID, OutboxEventType.ORDER_CANCELED);
+    }
+
+    @Override
+    public void handle(OutboxEventType type, List<Long> orderIds) {
+        if (type == OutboxEventType.ORDER_PAID) {
+            salesRollupService.recordPaid(orderIds);
+        } else {
+            salesRollupService.recordCanceled(orderIds);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.personal.backend.sales;
+
+import com.personal.backend.config.order.SalesRollupProperties;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.SalesDimension;
+import com.personal.backend.domain.SalesGranularity;
+import com.personal.backend.domain.SalesRollup;
+import com.personal.backend.dto.SalesDto;
+import com.personal.backend.repository.OrderItemRepository;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.SalesRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 상품/카테고리/판매자별 시간·일 단위 매출 집계(sales_rollups)를 관리하는 서비스
+ * 결제 완료/취소 시에는 아웃박스에 이벤트만 기록하고, 주기적으로 모인 주문들을 집계 행에 한 번에 더합니다. ({@link SalesRollupOutboxHandler})
+ * 카테고리와 판매자는 집계에 더하는 시점의 상품 정보를 기준으로 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesRollupService {
+
+    // 결제가 끝난 적이 있는 주문 상태 (취소된 주문도 결제 시점의 매출에는 포함하고 환불로 따로 뺌)
+    static final Set<OrderStatus> PAID_STATUSES = Set.of(OrderStatus.PAID, OrderStatus.CANCEL_REQUESTED, OrderStatus.COMPLETED, OrderStatus.CANCELED);
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final SalesRollupProperties properties;
+
+    /**
+     * 결제 완료된 주문들의 매출을 결제 시각 구간에 더합니다.
+     */
+    @Transactional
+    public void recordPaid(Collection<Long> orderIds) {
+        ProductHourTotals totals = new ProductHourTotals();
+        orderRepository.findWithItemsByIdIn(orderIds).forEach(order -> order.getOrderItems().forEach(item ->
+                totals.add(item.getProduct().getId(), order.getPaidAt(), item.getCount(), (long) item.getOrderPrice() * item.getCount(), 0, 0)));
+        merge(totals);
+    }
+
+    /**
+     * 취소된 주문들의 환불을 취소 시각 구간에 더합니다.
+     */
+    @Transactional
+    public void recordCanceled(Collection<Long> orderIds) {
+        ProductHourTotals totals = new ProductHourTotals();
+        orderRepository.findWithItemsByIdIn(orderIds).forEach(order -> order.getOrderItems().forEach(item ->
+                totals.add(item.getProduct().getId(), order.getCanceledAt(), 0, 0, item.getCount(), (long) item.getOrderPrice() * item.getCount())));
+        merge(totals);
+    }
+
+    /**
+     * 하루치 집계를 주문 원본에서 다시 만듭니다. 쌓인 아웃박스 이벤트를 모두 처리한 뒤, 더 이상 변경이 생기지 않는 지난 날짜에만 호출해야 합니다.
+     * 주문 항목은 커서로 읽으며 메모리에는 집계 행만 모읍니다.
+     * @return 만든 집계 행 수
+     */
+    @Transactional
+    public int rebuildDay(LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        salesRollupRepository.deleteByBucketStartBetween(from, to);
+
+        ProductHourTotals totals = new ProductHourTotals();
+        try (Stream<OrderItemRepository.SalesRow> rows = orderItemRepository.streamPaidItems(PAID_STATUSES, from, to)) {
+            rows.forEach(row -> totals.add(row.getProductId(), row.getOccurredAt(),
+                    row.getCount(), (long) row.getOrderPrice() * row.getCount(), 0, 0));
+        }
+        try (Stream<OrderItemRepository.SalesRow> rows = orderItemRepository.streamCanceledItems(from, to)) {
+            rows.forEach(row -> totals.add(row.getProductId(), row.getOccurredAt(),
+                    0, 0, row.getCount(), (long) row.getOrderPrice() * row.getCount()));
+        }
+        return merge(totals);
+    }
+
+    /**
+     * 구간별 매출을 조회합니다. (from, to 모두 포함하는 날짜)
+     */
+    public List<SalesDto.Bucket> report(SalesDimension dimension, SalesGranularity granularity, Long dimensionId, LocalDate from, LocalDate to) {
+        validateRange(from, to, granularity == SalesGranularity.HOUR ? properties.maxHourlyRange() : properties.maxDailyRange());
+        return salesRollupRepository.findReport(granularity, dimension, dimensionId, from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream()
+                .map(SalesDto.Bucket::from)
+                .toList();
+    }
+
+    /**
+     * 기간 동안의 항목별 합계를 순매출(판매 - 환불)이 큰 순서로 최대 limit개 조회합니다. 일별 집계만 읽습니다.
+     */
+    public List<SalesDto.Total> totals(SalesDimension dimension, LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to, properties.maxDailyRange());
+        return salesRollupRepository.findTotals(dimension, from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                        PageRequest.of(0, Math.clamp(limit, 1, 1000))).stream()
+                .map(SalesDto.Total::from)
+                .toList();
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to, Duration maxRange) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (Duration.ofDays(to.toEpochDay() - from.toEpochDay() + 1).compareTo(maxRange) > 0) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 기간은 최대 " + maxRange.toDays() + "일입니다.");
+        }
+    }
+
+    // 모은 합계를 (단위, 기준)마다 기존 집계 행과 한 번에 맞춰 보고, 있으면 더하고 없으면 새로 만듭니다.
+    private int merge(ProductHourTotals totals) {
+        if (totals.isEmpty()) {
+            return 0;
+        }
+        Map<Long, ProductRepository.SalesDimensionRow> dimensions = productRepository.findSalesDimensionsByIdIn(totals.productIds()).stream()
+                .collect(Collectors.toMap(ProductRepository.SalesDimensionRow::getProductId, Function.identity()));
+        Map<GroupKey, Map<RollupKey, long[]>> byGroup = new TreeMap<>();
+        totals.expand(dimensions).forEach((key, sums) -> byGroup
+                .computeIfAbsent(new GroupKey(key.granularity(), key.dimension()), group -> new TreeMap<>())
+                .put(key, sums));
+
+        int created = 0;
+        for (Map.Entry<GroupKey, Map<RollupKey, long[]>> group : byGroup.entrySet()) {
+            Map<RollupKey, long[]> sumsByKey = group.getValue();
+            Map<RollupKey, SalesRollup> existing = salesRollupRepository.findForMerge(group.getKey().granularity(), group.getKey().dimension(),
+                            sumsByKey.keySet().stream().map(RollupKey::dimensionId).collect(Collectors.toSet()),
+                            sumsByKey.keySet().stream().map(RollupKey::bucketStart).collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(RollupKey::of, Function.identity()));
+            List<SalesRollup> newRollups = new ArrayList<>();
+            sumsByKey.forEach((key, sums) -> {
+                SalesRollup rollup = existing.get(key);
+                if (rollup == null) {
+                    rollup = new SalesRollup(key.granularity(), key.dimension(), key.dimensionId(), key.bucketStart());
+                    newRollups.add(rollup);
+                }
+                rollup.add(sums[0], sums[1], sums[2], sums[3]);
+            });
+            salesRollupRepository.saveAll(newRollups);
+            created += newRollups.size();
+        }
+        return created;
+    }
+
+    /**
+     * 상품 × 시간 구간별 합계 (판매 수량, 판매 금액, 환불 수량, 환불 금액)
+     * 일 단위와 카테고리/판매자 기준 합계는 모두 이 값에서 펼쳐 만듭니다.
+     */
+    private static final class ProductHourTotals {
+        private final Map<ProductHour, long[]> sums = new HashMap<>();
+
+        void add(Long productId, LocalDateTime occurredAt, long units, long grossAmount, long refundedUnits, long refundedAmount) {
+            long[] total = sums.computeIfAbsent(new ProductHour(productId, SalesGranularity.HOUR.bucketOf(occurredAt)), key -> new long[4]);
+            total[0] += units;
+            total[1] += grossAmount;
+            total[2] += refundedUnits;
+            total[3] += refundedAmount;
+        }
+
+        boolean isEmpty() {
+            return sums.isEmpty();
+        }
+
+        Set<Long> productIds() {
+            return sums.keySet().stream().map(ProductHour::productId).collect(Collectors.toSet());
+        }
+
+        // 삭제된 상품이거나 카테고리/판매자가 없으면 UNKNOWN_DIMENSION_ID로 모읍니다.
+        Map<RollupKey, long[]> expand(Map<Long, ProductRepository.SalesDimensionRow> dimensions) {
+            Map<RollupKey, long[]> expanded = new HashMap<>();
+            sums.forEach((productHour, total) -> {
+                ProductRepository.SalesDimensionRow row = dimensions.get(productHour.productId());
+                Map<SalesDimension, Long> dimensionIds = Map.of(
+                        SalesDimension.PRODUCT, productHour.productId(),
+                        SalesDimension.CATEGORY, row != null ? Objects.requireNonNullElse(row.getCategoryId(), SalesRollup.UNKNOWN_DIMENSION_ID) : SalesRollup.UNKNOWN_DIMENSION_ID,
+                        SalesDimension.SELLER, row != null ? Objects.requireNonNullElse(row.getSellerId(), SalesRollup.UNKNOWN_DIMENSION_ID) : SalesRollup.UNKNOWN_DIMENSION_ID);
+                for (SalesGranularity granularity : SalesGranularity.values()) {
+                    LocalDateTime bucketStart = granularity.bucketOf(productHour.hour());
+                    dimensionIds.forEach((dimension, dimensionId) -> {
+                        long[] sum = expanded.computeIfAbsent(new RollupKey(granularity, dimension, dimensionId, bucketStart), key -> new long[4]);
+                        for (int i = 0; i < sum.length; i++) {
+                            sum[i] += total[i];
+                        }
+                    });
+                }
+            });
+            return expanded;
+        }
+    }
+
+    private record ProductHour(Long productId, LocalDateTime hour) {
+    }
+
+    private record GroupKey(SalesGranularity granularity, SalesDimension dimension) implements Comparable<GroupKey> {
+        @Override
+        public int compareTo(GroupKey other) {
+            int compared = granularity.compareTo(other.granularity);
+            return compared != 0 ? compared : dimension.compareTo(other.dimension);
+        }
+    }
+
+    private record RollupKey(SalesGranularity granularity, SalesDimension dimension, Long dimensionId, LocalDateTime bucketStart)
+            implements Comparable<RollupKey> {
+
+        static RollupKey of(SalesRollup rollup) {
+            return new RollupKey(rollup.getGranularity(), rollup.getDimension(), rollup.getDimensionId(), rollup.getBucketStart());
+        }
+
+        @Override
+        public int compareTo(RollupKey other) {
+            int compared = new GroupKey(granularity, dimension).compareTo(new GroupKey(other.granularity, other.dimension));
+            if (compared == 0) {
+                compared = dimensionId.compareTo(other.dimensionId);
+            }
+            return compared != 0 ? compared : bucketStart.compareTo(other.bucketStart);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.personal.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색용 n-gram 토크나이저
+ * 한국어는 띄어쓰기와 무관하게 단어 일부로도 검색되어야 하므로 형태소 분석 대신
+ * 단어를 글자 단위 바이그램(2-gram)으로 나눕니다. ("노트북" → "노트", "트북")
+ * 한 글자 단어는 유니그램 그대로 사용합니다.
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인할 텍스트를 토큰으로 나눕니다.
+     * 한 글자 검색어도 찾을 수 있도록 바이그램과 함께 각 글자(유니그램)도 토큰으로 만듭니다.
+     */
+    static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어를 토큰으로 나눕니다.
+     * 두 글자 이상인 단어는 바이그램만 사용하여 글자 순서가 맞는 상품만 찾도록 합니다.
+     */
+    static List<String> queryTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 전각/반각 문자를 통일하고 소문자로 바꾼 뒤, 글자와 숫자가 아닌 문자를 기준으로 단어를 나눕니다.
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
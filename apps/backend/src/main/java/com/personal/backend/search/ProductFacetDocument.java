@@ -0,0 +1,26 @@
+package com.personal.backend.search;
+
+import java.util.Map;
+
+/**
+ * 필터 색인에 넣을 상품 속성
+ * @param productId 상품 ID
+ * @param categoryId 카테고리 ID (없으면 null)
+ * @param categoryName 카테고리 이름
+ * @param tags 상품에 달린 태그 (태그 ID → 태그 이름)
+ * @param price 할인이 적용된 판매가
+ * @param discountRate 할인율 (0.0 ~ 1.0)
+ * @param averageRating 평균 평점
+ * @param stockQuantity 재고 수량
+ */
+public record ProductFacetDocument(
+    Long productId,
+    Long categoryId,
+    String categoryName,
+    Map<Long, String> tags,
+    int price,
+    double discountRate,
+    double averageRating,
+    int stockQuantity
+) {
+}
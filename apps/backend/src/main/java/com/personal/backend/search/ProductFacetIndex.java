@@ -0,0 +1,288 @@
+package com.personal.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리, 태그, 가격, 할인율, 평점, 재고 조건으로 상품을 거르고 항목별 개수를 세는 프로세스 내 열 지향(columnar) 색인
+ * 상품마다 슬롯 번호를 하나씩 배정하고, 숫자 속성은 슬롯 번호를 인덱스로 하는 기본형 배열에,
+ * 카테고리와 태그는 값마다 해당 상품의 슬롯을 표시한 BitSet에 저장합니다.
+ * 조회는 BitSet 교집합과 배열 순회만으로 처리하므로 DB를 거치지 않습니다.
+ */
+@Component
+public class ProductFacetIndex {
+
+    static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 슬롯별 상품 속성 (열 단위 배열)
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private float[] discountRates = new float[INITIAL_CAPACITY];
+    private float[] ratings = new float[INITIAL_CAPACITY];
+    private int[] stocks = new int[INITIAL_CAPACITY];
+    private Long[] categoryIds = new Long[INITIAL_CAPACITY];
+    private long[][] tagIds = new long[INITIAL_CAPACITY][];
+
+    // 사용 중인 슬롯
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> slotByProductId = new HashMap<>();
+    // 삭제된 상품의 슬롯은 재사용하여 배열이 계속 커지지 않도록 합니다.
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int nextSlot = 0;
+
+    private final Map<Long, BitSet> categorySlots = new HashMap<>();
+    private final Map<Long, BitSet> tagSlots = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+    private final Map<Long, String> tagNames = new HashMap<>();
+
+    // 시작 시 전체 색인이 끝나기 전에는 결과가 불완전하므로 조회를 막습니다.
+    private volatile boolean ready = false;
+
+    /**
+     * 상품을 색인합니다. 이미 색인된 상품이면 같은 슬롯의 값을 바꿉니다.
+     */
+    public void index(ProductFacetDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByProductId.get(document.productId());
+            if (slot != null) {
+                clearMembership(slot);
+            } else {
+                slot = allocateSlot();
+                slotByProductId.put(document.productId(), slot);
+            }
+
+            productIds[slot] = document.productId();
+            prices[slot] = document.price();
+            discountRates[slot] = (float) document.discountRate();
+            ratings[slot] = (float) document.averageRating();
+            stocks[slot] = document.stockQuantity();
+            categoryIds[slot] = document.categoryId();
+            if (document.categoryId() != null) {
+                categorySlots.computeIfAbsent(document.categoryId(), key -> new BitSet()).set(slot);
+                if (document.categoryName() != null) {
+                    categoryNames.put(document.categoryId(), document.categoryName());
+                }
+            }
+
+            Map<Long, String> tags = document.tags() != null ? document.tags() : Map.of();
+            long[] slotTagIds = new long[tags.size()];
+            int i = 0;
+            for (Map.Entry<Long, String> tag : tags.entrySet()) {
+                slotTagIds[i++] = tag.getKey();
+                tagSlots.computeIfAbsent(tag.getKey(), key -> new BitSet()).set(slot);
+                if (tag.getValue() != null) {
+                    tagNames.put(tag.getKey(), tag.getValue());
+                }
+            }
+            tagIds[slot] = slotTagIds;
+            live.set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByProductId.remove(productId);
+            if (slot == null) {
+                return;
+            }
+            clearMembership(slot);
+            live.clear(slot);
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 상품을 정렬해 요청한 구간만 반환하고, 항목별 상품 수를 함께 계산합니다.
+     * @param offset 건너뛸 상품 수
+     * @param limit 반환할 최대 상품 수
+     */
+    public ProductFacetResult search(ProductFacetQuery query, ProductFacetSort sort, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            // 숫자 조건(가격, 할인율, 평점)은 모든 항목 개수에 공통으로 적용됩니다.
+            BitSet base = new BitSet();
+            BitSet inStock = new BitSet();
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                if (matchesRange(query, slot)) {
+                    base.set(slot);
+                    if (stocks[slot] > 0) {
+                        inStock.set(slot);
+                    }
+                }
+            }
+            BitSet stockFiltered = Boolean.TRUE.equals(query.inStock()) ? inStock : base;
+            BitSet categoryFilter = union(categorySlots, query.categoryIds());
+            BitSet tagFilter = union(tagSlots, query.tagIds());
+
+            BitSet matched = intersect(stockFiltered, categoryFilter, tagFilter);
+            ProductFacetResult.Facets facets = new ProductFacetResult.Facets(
+                    countEach(categorySlots, categoryNames, intersect(stockFiltered, tagFilter)),
+                    countEach(tagSlots, tagNames, intersect(stockFiltered, categoryFilter)),
+                    intersect(inStock, categoryFilter, tagFilter).cardinality());
+
+            return new ProductFacetResult(page(matched, sort, offset, limit), matched.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByProductId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 저장된 값과 같은 정밀도(float)로 비교해야 경계값(예: 평점 4.3 이상)이 빠지지 않습니다.
+    private boolean matchesRange(ProductFacetQuery query, int slot) {
+        if (query.minPrice() != null && prices[slot] < query.minPrice()) {
+            return false;
+        }
+        if (query.maxPrice() != null && prices[slot] > query.maxPrice()) {
+            return false;
+        }
+        if (query.minDiscountRate() != null && discountRates[slot] < query.minDiscountRate().floatValue()) {
+            return false;
+        }
+        return query.minRating() == null || ratings[slot] >= query.minRating().floatValue();
+    }
+
+    private List<Long> page(BitSet matched, ProductFacetSort sort, long offset, int limit) {
+        if (offset >= matched.cardinality() || limit <= 0) {
+            return List.of();
+        }
+        Integer[] slots = matched.stream().boxed().toArray(Integer[]::new);
+        Arrays.sort(slots, comparator(sort));
+
+        int from = (int) offset;
+        int to = (int) Math.min(slots.length, offset + limit);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(productIds[slots[i]]);
+        }
+        return ids;
+    }
+
+    private Comparator<Integer> comparator(ProductFacetSort sort) {
+        Comparator<Integer> latest = (a, b) -> Long.compare(productIds[b], productIds[a]);
+        return switch (sort != null ? sort : ProductFacetSort.LATEST) {
+            case LATEST -> latest;
+            case PRICE_ASC -> Comparator.<Integer>comparingInt(slot -> prices[slot]).thenComparing(latest);
+            case PRICE_DESC -> Comparator.<Integer>comparingInt(slot -> -prices[slot]).thenComparing(latest);
+            case RATING_DESC -> Comparator.<Integer, Float>comparing(slot -> ratings[slot]).reversed().thenComparing(latest);
+        };
+    }
+
+    private static List<ProductFacetResult.FacetCount> countEach(Map<Long, BitSet> slotsByValue, Map<Long, String> names, BitSet scope) {
+        List<ProductFacetResult.FacetCount> counts = new ArrayList<>();
+        slotsByValue.forEach((valueId, slots) -> {
+            BitSet intersection = (BitSet) slots.clone();
+            intersection.and(scope);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.add(new ProductFacetResult.FacetCount(valueId, names.get(valueId), count));
+            }
+        });
+        counts.sort(Comparator.comparingLong(ProductFacetResult.FacetCount::count).reversed()
+                .thenComparing(ProductFacetResult.FacetCount::id));
+        return counts;
+    }
+
+    // 선택한 값이 없으면 null을 반환하여 해당 항목의 조건을 적용하지 않습니다.
+    private static BitSet union(Map<Long, BitSet> slotsByValue, List<Long> valueIds) {
+        if (valueIds.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (Long valueId : valueIds) {
+            BitSet slots = slotsByValue.get(valueId);
+            if (slots != null) {
+                union.or(slots);
+            }
+        }
+        return union;
+    }
+
+    private static BitSet intersect(BitSet first, BitSet... others) {
+        BitSet result = (BitSet) first.clone();
+        for (BitSet other : others) {
+            if (other != null) {
+                result.and(other);
+            }
+        }
+        return result;
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        int slot = nextSlot++;
+        if (slot >= productIds.length) {
+            int capacity = productIds.length * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            discountRates = Arrays.copyOf(discountRates, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            stocks = Arrays.copyOf(stocks, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            tagIds = Arrays.copyOf(tagIds, capacity);
+        }
+        return slot;
+    }
+
+    private void clearMembership(int slot) {
+        Long categoryId = categoryIds[slot];
+        if (categoryId != null) {
+            clearSlot(categorySlots, categoryNames, categoryId, slot);
+        }
+        if (tagIds[slot] != null) {
+            for (long tagId : tagIds[slot]) {
+                clearSlot(tagSlots, tagNames, tagId, slot);
+            }
+        }
+        categoryIds[slot] = null;
+        tagIds[slot] = null;
+    }
+
+    private static void clearSlot(Map<Long, BitSet> slotsByValue, Map<Long, String> names, Long valueId, int slot) {
+        BitSet slots = slotsByValue.get(valueId);
+        if (slots == null) {
+            return;
+        }
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            slotsByValue.remove(valueId);
+            names.remove(valueId);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.personal.backend.search;
+
+import java.util.List;
+
+/**
+ * 필터 색인 조회 조건. 값이 null이거나 비어 있는 조건은 적용하지 않습니다.
+ * 같은 항목 안의 여러 값(카테고리 여러 개, 태그 여러 개)은 OR로, 서로 다른 항목은 AND로 결합합니다.
+ * @param categoryIds 카테고리 ID 목록
+ * @param tagIds 태그 ID 목록
+ * @param minPrice 최소 판매가 (할인 적용가 기준, 포함)
+ * @param maxPrice 최대 판매가 (할인 적용가 기준, 포함)
+ * @param minDiscountRate 최소 할인율 (0.0 ~ 1.0)
+ * @param minRating 최소 평균 평점
+ * @param inStock true이면 재고가 있는 상품만 조회
+ */
+public record ProductFacetQuery(
+    List<Long> categoryIds,
+    List<Long> tagIds,
+    Integer minPrice,
+    Integer maxPrice,
+    Double minDiscountRate,
+    Double minRating,
+    Boolean inStock
+) {
+
+    public static ProductFacetQuery none() {
+        return new ProductFacetQuery(null, null, null, null, null, null, null);
+    }
+
+    public ProductFacetQuery {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        categoryIds = categoryIds != null ? List.copyOf(categoryIds) : List.of();
+        tagIds = tagIds != null ? List.copyOf(tagIds) : List.of();
+    }
+}
@@ -0,0 +1,37 @@
+package com.personal.backend.search;
+
+import java.util.List;
+
+/**
+ * 필터 색인 조회 결과
+ * @param productIds 요청한 페이지에 해당하는 상품 ID (정렬 순서)
+ * @param totalElements 조건에 맞는 전체 상품 수
+ * @param facets 항목별 상품 수
+ */
+public record ProductFacetResult(
+    List<Long> productIds,
+    long totalElements,
+    Facets facets
+) {
+
+    /**
+     * 항목별 상품 수. 각 항목의 개수는 그 항목 자신의 조건만 빼고 나머지 조건을 모두 적용해 계산하므로,
+     * 화면에서 다른 값을 추가로 선택했을 때 결과가 몇 개가 될지 바로 보여 줄 수 있습니다.
+     * @param categories 카테고리별 상품 수 (많은 순)
+     * @param tags 태그별 상품 수 (많은 순)
+     * @param inStock 재고가 있는 상품 수
+     */
+    public record Facets(
+        List<FacetCount> categories,
+        List<FacetCount> tags,
+        long inStock
+    ) {
+    }
+
+    public record FacetCount(
+        Long id,
+        String name,
+        long count
+    ) {
+    }
+}
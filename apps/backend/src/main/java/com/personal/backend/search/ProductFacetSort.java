@@ -0,0 +1,11 @@
+package com.personal.backend.search;
+
+/**
+ * 필터 색인 조회 결과의 정렬 기준. 값이 같으면 최신 상품(ID가 큰 상품)이 먼저 옵니다.
+ */
+public enum ProductFacetSort {
+    LATEST,
+    PRICE_ASC,
+    PRICE_DESC,
+    RATING_DESC
+}
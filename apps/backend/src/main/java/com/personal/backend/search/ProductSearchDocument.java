@@ -0,0 +1,20 @@
+package com.personal.backend.search;
+
+import java.util.List;
+
+/**
+ * 검색 색인에 넣을 상품 정보
+ * @param productId 상품 ID
+ * @param name 상품명
+ * @param description 상품 설명
+ * @param categoryName 카테고리 이름
+ * @param tagNames 상품에 달린 태그 이름 목록
+ */
+public record ProductSearchDocument(
+    Long productId,
+    String name,
+    String description,
+    String categoryName,
+    List<String> tagNames
+) {
+}
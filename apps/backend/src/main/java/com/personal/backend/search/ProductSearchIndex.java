@@ -0,0 +1,161 @@
+package com.personal.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명, 설명, 태그, 카테고리를 대상으로 하는 프로세스 내 역색인(inverted index)
+ * 토큰(n-gram)마다 그 토큰을 포함한 상품과 가중치를 저장해 두고,
+ * 검색 시 검색어의 모든 토큰을 포함한 상품만 골라 관련도 순으로 정렬합니다.
+ * 관련도는 필드 가중치(상품명 > 태그 > 카테고리 > 설명)와 토큰의 희소성(idf)으로 계산합니다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    static final float NAME_WEIGHT = 4.0f;
+    static final float TAG_WEIGHT = 2.0f;
+    static final float CATEGORY_WEIGHT = 1.5f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 → (상품 ID → 필드 가중치 합)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    // 상품 ID → 색인된 토큰 목록 (수정/삭제 시 기존 항목을 지우기 위해 보관)
+    private final Map<Long, List<String>> documentTokens = new HashMap<>();
+
+    // 시작 시 전체 색인이 끝나기 전에는 검색 결과가 불완전하므로 호출하는 쪽에서 DB 검색으로 대체합니다.
+    private volatile boolean ready = false;
+
+    /**
+     * 상품을 색인합니다. 이미 색인된 상품이면 기존 항목을 지우고 다시 색인합니다.
+     */
+    public void index(ProductSearchDocument document) {
+        Map<String, Float> weights = new HashMap<>();
+        addTokens(weights, document.name(), NAME_WEIGHT);
+        addTokens(weights, document.description(), DESCRIPTION_WEIGHT);
+        addTokens(weights, document.categoryName(), CATEGORY_WEIGHT);
+        if (document.tagNames() != null) {
+            document.tagNames().forEach(tagName -> addTokens(weights, tagName, TAG_WEIGHT));
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.productId());
+            weights.forEach((token, weight) ->
+                    postings.computeIfAbsent(token, key -> new HashMap<>()).put(document.productId(), weight));
+            documentTokens.put(document.productId(), List.copyOf(weights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함한 상품 ID를 관련도 높은 순으로 반환합니다.
+     * 관련도가 같으면 최신 상품(ID가 큰 상품)이 먼저 옵니다.
+     */
+    public List<Long> search(String keyword) {
+        List<String> queryTokens = NgramTokenizer.queryTokens(keyword).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> matched = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                Map<Long, Float> posting = postings.get(token);
+                if (posting == null) {
+                    return List.of();
+                }
+                matched.add(posting);
+            }
+            // 가장 짧은 포스팅 목록을 기준으로 나머지 목록과 교집합을 구합니다.
+            matched.sort(Comparator.comparingInt(Map::size));
+
+            int totalDocuments = documentTokens.size();
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Map.Entry<Long, Float> candidate : matched.get(0).entrySet()) {
+                Long productId = candidate.getKey();
+                double score = 0;
+                for (Map<Long, Float> posting : matched) {
+                    Float weight = posting.get(productId);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += idf(totalDocuments, posting.size()) * (weight / (weight + 1.0));
+                }
+                scores.put(productId, score);
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long productId) {
+        List<String> tokens = documentTokens.remove(productId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Map<Long, Float> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static void addTokens(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String token : NgramTokenizer.indexTokens(text)) {
+            weights.merge(token, fieldWeight, Float::sum);
+        }
+    }
+
+    private static double idf(int totalDocuments, int documentFrequency) {
+        return Math.log(1.0 + (totalDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+}
@@ -0,0 +1,124 @@
+package com.personal.backend.search;
+
+import com.personal.backend.domain.Category;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductTag;
+import com.personal.backend.domain.Tag;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductTagRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 검색 색인과 필터 색인을 DB와 동기화하는 클래스
+ * 애플리케이션이 뜬 뒤 전체 상품을 일정 크기씩 나누어 색인하고,
+ * 이후에는 {@link ProductChangedEvent}를 받아 변경된 상품만 다시 색인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+
+    static final int BUILD_CHUNK_SIZE = 500;
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductRepository productRepository;
+    private final ProductTagRepository productTagRepository;
+
+    // 전체 색인 도중 변경된 상품은 이미 읽어 간 이전 값으로 덮어써질 수 있으므로, 색인이 끝난 뒤 한 번 더 색인합니다.
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        building = true;
+        long startedAt = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Product> chunk = productRepository.findByIdGreaterThan(lastId,
+                        PageRequest.of(0, BUILD_CHUNK_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                indexAll(chunk);
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } finally {
+            building = false;
+        }
+        changedDuringBuild.forEach(this::reindex);
+        changedDuringBuild.clear();
+        productSearchIndex.markReady();
+        productFacetIndex.markReady();
+        log.info("Product search and facet indexes built: {} products in {} ms",
+                productSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 커밋된 변경만 색인에 반영하도록 트랜잭션 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (building) {
+            changedDuringBuild.add(event.productId());
+        }
+        reindex(event.productId());
+    }
+
+    void reindex(Long productId) {
+        productRepository.findWithCategoryById(productId)
+                .ifPresentOrElse(
+                        product -> indexAll(List.of(product)),
+                        () -> {
+                            productSearchIndex.remove(productId);
+                            productFacetIndex.remove(productId);
+                        });
+    }
+
+    private void indexAll(List<Product> products) {
+        Collection<Long> productIds = products.stream().map(Product::getId).toList();
+        Map<Long, List<Tag>> tagsByProductId = productTagRepository.findWithTagByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(productTag -> productTag.getProduct().getId(),
+                        Collectors.mapping(ProductTag::getTag, Collectors.toList())));
+
+        for (Product product : products) {
+            List<Tag> tags = tagsByProductId.getOrDefault(product.getId(), List.of());
+            Category category = product.getCategory();
+            productSearchIndex.index(new ProductSearchDocument(
+                    product.getId(),
+                    product.getName(),
+                    product.getDescription(),
+                    category != null ? category.getName() : null,
+                    tags.stream().map(Tag::getName).toList()));
+            productFacetIndex.index(new ProductFacetDocument(
+                    product.getId(),
+                    category != null ? category.getId() : null,
+                    category != null ? category.getName() : null,
+                    tags.stream()
+                            .filter(tag -> tag.getId() != null)
+                            .collect(Collectors.toMap(Tag::getId, Tag::getName, (first, second) -> first)),
+                    product.getDiscountedPrice(),
+                    product.getDiscountRate(),
+                    product.getAverageRating(),
+                    product.getStockQuantity()));
+        }
+    }
+}
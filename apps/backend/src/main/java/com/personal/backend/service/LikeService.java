@@ -2,18 +2,34 @@ package com.personal.backend.service;
 
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.ProductLike;
+import com.personal.backend.domain.ProductSummary;
 import com.personal.backend.domain.User;
 import com.personal.backend.dto.ProductDto;
+import com.personal.backend.event.ProductChangedEvent;
 import com.personal.backend.repository.ProductLikeRepository;
 import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
 import com.personal.backend.repository.UserRepository;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
 import jakarta.persistence.EntityNotFoundException;
+import com.personal.backend.cache.ApproximateCountCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional // 클래스 레벨에 @Transactional을 붙여 모든 public 메소드가 트랜잭션 내에서 실행되도록 함
@@ -22,6 +38,9 @@ public class LikeService {
     private final ProductLikeRepository likeRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final ProductSummaryRepository productSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void addLike(String userEmail, Long productId) {
         User user = userRepository.findByEmail(userEmail)
@@ -40,6 +59,7 @@ public class LikeService {
             // Product 엔티티의 likeCount 1 증가
             product.increaseLikeCount();
             // @Transactional에 의해 메소드 종료 시 변경된 product가 자동으로 DB에 반영됨 (dirty checking)
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
         }
     }
 
@@ -57,6 +77,7 @@ public class LikeService {
         // like.getProduct()로 프록시 객체가 아닌 실제 Product를 가져와서 업데이트
         Product product = like.getProduct();
         product.decreaseLikeCount();
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
     @Transactional(readOnly = true) // 조회만 하므로 readOnly=true로 성능 최적화
@@ -65,8 +86,56 @@ public class LikeService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
         Page<ProductLike> likedItems = likeRepository.findByUser_Id(user.getId(), pageable);
-        
-        // 찜 목록 조회 시에는 isLiked가 항상 true
-        return likedItems.map(like -> ProductDto.Response.fromEntity(like.getProduct()));
+        Map<Long, ProductSummary> summariesById = findSummaries(likedItems.getContent());
+        return likedItems.map(like -> toLikedResponse(like, summariesById));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductDto.Response> getLikedProducts(String userEmail, Pageable pageable, PageMode pageMode) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        Long userId = user.getId();
+        Slice<ProductLike> likedItems = PageMode.orDefault(pageMode).fetch(pageable,
+                () -> likeRepository.findByUser_Id(userId, pageable),
+                () -> likeRepository.findSliceByUser_Id(userId, pageable),
+                () -> approximateCountCache.get("likes:user:" + userId,
+                        () -> likeRepository.countByUser_Id(userId)));
+
+        Map<Long, ProductSummary> summariesById = findSummaries(likedItems.getContent());
+        return likedItems.map(like -> toLikedResponse(like, summariesById));
+    }
+
+    /**
+     * 찜 목록을 커서 기반으로 조회합니다. 최근에 찜한 순서(좋아요 id 내림차순)로 정렬됩니다.
+     */
+    @Transactional(readOnly = true)
+    public Window<ProductDto.Response> scrollLikedProducts(String userEmail, ScrollPosition position, Limit limit) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        Window<ProductLike> likedItems = likeRepository.findByUser_Id(user.getId(), CursorPagination.idKeyset(position), limit, CursorPagination.ID_DESC);
+        Map<Long, ProductSummary> summariesById = findSummaries(likedItems.getContent());
+        return likedItems.map(like -> toLikedResponse(like, summariesById));
+    }
+
+    // 찜한 상품들의 목록용 요약 정보를 한 번에 가져옵니다. (상품 프록시의 id만 사용하므로 상품 엔티티는 읽지 않음)
+    private Map<Long, ProductSummary> findSummaries(List<ProductLike> likes) {
+        if (likes.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> productIds = likes.stream().map(like -> like.getProduct().getId()).toList();
+        return productSummaryRepository.findByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+    }
+
+    // 찜 목록 조회 시에는 isLiked가 항상 true
+    private ProductDto.Response toLikedResponse(ProductLike like, Map<Long, ProductSummary> summariesById) {
+        ProductSummary summary = summariesById.get(like.getProduct().getId());
+        if (summary == null) {
+            // 요약 정보가 아직 채워지지 않은 상품은 원본에서 응답을 만듭니다.
+            return ProductDto.Response.fromEntity(like.getProduct()).withLiked(true);
+        }
+        return ProductDto.Response.fromSummary(summary, true);
     }
 }
\ No newline at end of file
@@ -4,27 +4,56 @@ import com.personal.backend.domain.Cart;
 import com.personal.backend.domain.Order;
 import com.personal.backend.domain.OrderItem;
 import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.OutboxEventType;
 import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductOption;
 import com.personal.backend.domain.User;
 import com.personal.backend.dto.OrderDto;
-import com.personal.backend.payment.PaymentGateway;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.exception.RetryableException;
+import com.personal.backend.hotstock.HotStockService;
 import com.personal.backend.repository.CartRepository;
+import com.personal.backend.repository.OrderItemRepository;
 import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductOptionRepository;
 import com.personal.backend.repository.ProductRepository;
 import com.personal.backend.repository.UserRepository;
+import com.personal.backend.outbox.OutboxService;
+import com.personal.backend.reservation.StockReservationService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import com.personal.backend.cache.ApproximateCountCache;
 import lombok.RequiredArgsConstructor;
 
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
+
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -32,29 +61,79 @@ import java.util.UUID;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
     private final CartRepository cartRepository;
-    private final PaymentGateway paymentGateway;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationService stockReservationService;
+    private final HotStockService hotStockService;
+    private final OutboxService outboxService;
+    private final EntityManager entityManager;
+
+    private static final long LOCK_RETRY_AFTER_SECONDS = 1;
     // 실제 구현에서는 UserRepository, ProductRepository 등도 필요합니다.
 
     public Page<OrderDto.HistoryResponse> getOrderHistory(String userEmail, Pageable pageable) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        Page<Order> orders = orderRepository.findByUser(user, pageable);
+        Map<Long, List<OrderItem>> orderItems = orderItemsOf(orders);
+        return orders.map(order -> toHistoryResponse(order, orderItems.getOrDefault(order.getId(), List.of())));
+    }
+
+    public Slice<OrderDto.HistoryResponse> getOrderHistory(String userEmail, Pageable pageable, PageMode pageMode) {
         //현재 사용자의 주문 내역을 DB에서 조회하여 DTO로 변환하는 로직
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-        Page<Order> ordersPage = orderRepository.findByUser(user, pageable);
-        return ordersPage.map(order -> new OrderDto.HistoryResponse( // 각 Order 객체를 HistoryResponse DTO로 매핑
-                        order.getId(),
-                        order.getOrderDate(),
-                        order.getStatus().name(),
-                        order.getOrderItems().stream()
-                                .map(orderItem -> new OrderDto.OrderItemResponse(
-                                        orderItem.getProduct().getName(), // 연관된 상품 엔티티에서 이름 가져오기
-                                        orderItem.getCount(),
-                                        orderItem.getOrderPrice()
-                                ))
-                                .toList() // 결과를 List<OrderItemResponse>로 수집
-                    ));
+        Slice<Order> orders = PageMode.orDefault(pageMode).fetch(pageable,
+                () -> orderRepository.findByUser(user, pageable),
+                () -> orderRepository.findSliceByUser(user, pageable),
+                () -> approximateCountCache.get("orders:user:" + user.getId(),
+                        () -> orderRepository.countByUser(user)));
+        Map<Long, List<OrderItem>> orderItems = orderItemsOf(orders);
+        return orders.map(order -> toHistoryResponse(order, orderItems.getOrDefault(order.getId(), List.of())));
+    }
+
+    /**
+     * 주문 내역을 커서 기반으로 조회합니다. 최신 주문(id 내림차순)부터 정렬됩니다.
+     */
+    public Window<OrderDto.HistoryResponse> scrollOrderHistory(String userEmail, ScrollPosition position, Limit limit) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        Window<Order> orders = orderRepository.findByUser(user, CursorPagination.idKeyset(position), limit, CursorPagination.ID_DESC);
+        Map<Long, List<OrderItem>> orderItems = orderItemsOf(orders);
+        return orders.map(order -> toHistoryResponse(order, orderItems.getOrDefault(order.getId(), List.of())));
+    }
+
+    // 한 페이지의 주문 항목을 한 번의 쿼리로 모아 두고, 주문마다 항목 컬렉션을 따로 초기화하지 않습니다.
+    private Map<Long, List<OrderItem>> orderItemsOf(Streamable<Order> orders) {
+        if (orders.isEmpty()) {
+            return Map.of();
+        }
+        return orderItemRepository.findByOrderIdIn(orders.map(Order::getId).toList()).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+    }
+
+    // 상품/옵션 엔티티 대신 주문 당시 스냅샷 값으로 변환하므로 추가 조회가 없습니다.
+    private OrderDto.HistoryResponse toHistoryResponse(Order order, List<OrderItem> orderItems) {
+        return new OrderDto.HistoryResponse(
+                order.getId(),
+                order.getOrderDate(),
+                order.getStatus().name(),
+                orderItems.stream()
+                        .map(orderItem -> new OrderDto.OrderItemResponse(
+                                orderItem.getId(),
+                                orderItem.getProduct() != null ? orderItem.getProduct().getId() : null, // 프록시의 ID는 조회 없이 읽음
+                                orderItem.getProductName(),
+                                orderItem.getOptionName(),
+                                orderItem.getImageKey(),
+                                orderItem.getCount(),
+                                orderItem.getOrderPrice()
+                        ))
+                        .toList());
     }
 
     @Transactional
@@ -66,8 +145,9 @@ public class OrderService {
         // 2. 주문 상품 목록 생성 (내부적으로 상품 조회 및 재고 확인)
         List<OrderItem> orderItems = createOrderItems(request.orderItems());
         
-        // 3. 'PENDING' 상태의 주문 엔티티 생성 및 저장
+        // 3. 'PENDING' 상태의 주문 엔티티 생성 및 저장, 결제 기한까지 재고 예약
         Order order = createAndSavePendingOrder(user, orderItems);
+        reserveStock(order);
         
         // 4. 프론트엔드에 전달할 DTO 생성
         String orderName = generateOrderName(orderItems);
@@ -85,24 +165,77 @@ public class OrderService {
     }
 
     private List<OrderItem> createOrderItems(List<OrderDto.OrderItemRequest> itemRequests) {
+        // 상품과 옵션은 잠그지 않고 읽기만 합니다. 재고는 예약 단계의 조건부 UPDATE가 최종적으로 확인합니다.
+        Map<Long, Product> products = productRepository.findAllById(distinctIds(itemRequests, OrderDto.OrderItemRequest::productId)).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, ProductOption> options = productOptionRepository.findAllById(distinctIds(itemRequests, OrderDto.OrderItemRequest::optionId)).stream()
+                .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+        Map<Long, Integer> requestedByProduct = new HashMap<>();
+        Map<Long, Integer> requestedByOption = new HashMap<>();
         return itemRequests.stream()
                 .map(itemRequest -> {
-                    Product product = productRepository.findByIdWithPessimisticLock(itemRequest.productId())
-                            .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + itemRequest.productId()));
-                    
-                    if (product.getStockQuantity() < itemRequest.count()) {
+                    Product product = products.get(itemRequest.productId());
+                    if (product == null) {
+                        throw new EntityNotFoundException("상품을 찾을 수 없습니다. id=" + itemRequest.productId());
+                    }
+
+                    // 같은 상품이 여러 줄에 나뉘어 담긴 경우 합계로 확인합니다. (다른 결제 대기 주문이 예약한 수량은 제외)
+                    int requestedCount = requestedByProduct.merge(product.getId(), itemRequest.count(), Integer::sum);
+                    int availableStock = hotStockService.isHot(product.getId())
+                            ? hotStockService.availableStock(product.getId())
+                            : product.getAvailableStock();
+                    if (availableStock < requestedCount) {
                         throw new IllegalStateException("재고가 부족합니다. (상품명: " + product.getName() + ")");
                     }
 
+                    ProductOption option = null;
+                    int orderPrice = product.getPrice();
+                    if (itemRequest.optionId() != null) {
+                        option = options.get(itemRequest.optionId());
+                        if (option == null || !option.getProduct().getId().equals(product.getId())) {
+                            throw new EntityNotFoundException("상품 옵션을 찾을 수 없습니다. id=" + itemRequest.optionId());
+                        }
+                        int requestedOptionCount = requestedByOption.merge(option.getId(), itemRequest.count(), Integer::sum);
+                        int optionStock = hotStockService.isHotOption(option.getId())
+                                ? hotStockService.optionStock(option.getId())
+                                : option.getStockQuantity();
+                        if (optionStock < requestedOptionCount) {
+                            throw new IllegalStateException("옵션 재고가 부족합니다. (옵션명: " + option.getOptionName() + ")");
+                        }
+                        orderPrice += option.getAdditionalPrice();
+                    }
+
                     return OrderItem.builder()
                             .product(product)
-                            .orderPrice(product.getPrice())
+                            .option(option)
+                            .orderPrice(orderPrice)
                             .count(itemRequest.count())
                             .build();
                 })
                 .toList();
     }
 
+    private static List<Long> distinctIds(List<OrderDto.OrderItemRequest> itemRequests, Function<OrderDto.OrderItemRequest, Long> idExtractor) {
+        return itemRequests.stream()
+                .map(idExtractor)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 주문 수량만큼 상품 재고를 예약합니다. 상품 행을 미리 잠그지 않고 상품마다 조건부 UPDATE 한 문장으로 처리합니다.
+     * UPDATE가 잡는 행 잠금을 기다리다 실패하면(교착 상태 감지, 대기 시간 초과) 다시 시도할 수 있는 오류(RetryableException)로 알립니다.
+     */
+    private void reserveStock(Order order) {
+        try {
+            stockReservationService.reserve(order);
+        } catch (PessimisticLockingFailureException e) {
+            throw new RetryableException("주문이 몰려 재고를 확인하지 못했습니다. 잠시 후 다시 시도해 주세요.",
+                    LOCK_RETRY_AFTER_SECONDS, e);
+        }
+    }
+
     private Order createAndSavePendingOrder(User user, List<OrderItem> orderItems) {
         Order order = Order.builder()
                 .user(user)
@@ -125,7 +258,7 @@ public class OrderService {
 
     private String generateOrderName(List<OrderItem> orderItems) {
         if (orderItems.isEmpty()) return "주문 상품 없음";
-        String firstProductName = orderItems.get(0).getProduct().getName();
+        String firstProductName = orderItems.get(0).getProductName();
         return orderItems.size() > 1 ? firstProductName + " 외 " + (orderItems.size() - 1) + "건" : firstProductName;
     }
 
@@ -141,16 +274,19 @@ public class OrderService {
             throw new SecurityException("해당 주문에 접근할 권한이 없습니다.");
         }
 
-        // 기존 DTO를 재활용하여 변환
-        return convertOrderToHistoryResponse(order);
+        // 기존 DTO를 재활용하여 변환 (주문 항목은 한 번의 쿼리로 조회)
+        return toHistoryResponse(order, orderItemRepository.findByOrderIdIn(List.of(order.getId())));
     }
 
+    /**
+     * 주문 취소를 접수합니다. PG사 환불은 요청 스레드와 트랜잭션 밖에서 환불 작업({@link com.personal.backend.refund.RefundWorker})이 처리하고,
+     * 재고 복구와 환불액 확정은 환불이 성공했을 때 {@link #completeRefund}에서 합니다.
+     */
     @Transactional
-    public OrderDto.HistoryResponse cancelOrder(String userEmail, Long orderId, String cancelReason) {
-        // 1. 사용자 및 주문 정보를 조회하고, 취소 권한이 있는지 확인합니다.
+    public OrderDto.HistoryResponse requestCancel(String userEmail, Long orderId, String cancelReason) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-        
+
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
 
@@ -158,39 +294,58 @@ public class OrderService {
             throw new SecurityException("해당 주문을 취소할 권한이 없습니다.");
         }
 
-        // 2. PaymentGateway를 통해 PG사에 '결제 취소'를 먼저 요청합니다.
-        //    이 과정이 실패하면(예: 이미 취소된 결제), 예외가 발생하여 아래 로직은 실행되지 않습니다.
-        paymentGateway.cancel(order.getPaymentKey(), cancelReason)
-                      .block(); // 비동기 작업이 완료될 때까지 동기적으로 기다립니다.
+        // Order 엔티티가 상태 확인과 변경을 직접 처리합니다. (결제 완료 상태가 아니면 예외)
+        order.requestCancel(cancelReason);
 
-        // 3. PG사 환불이 성공적으로 완료되었을 때만, 우리 DB의 주문 상태를 변경하고 재고를 복구합니다.
-        //    Order 엔티티가 모든 관련 비즈니스 로직을 직접 처리합니다.
-        order.cancel(cancelReason);
+        return toHistoryResponse(order, orderItemRepository.findByOrderIdIn(List.of(order.getId())));
+    }
 
-        // 4. 변경된 최종 주문 상태를 DTO로 변환하여 반환합니다.
-        //    @Transactional에 의해 이 메소드가 끝나면 order의 변경사항이 DB에 자동으로 저장됩니다.
-        return convertOrderToHistoryResponse(order);
+    /**
+     * PG사 환불이 성공한 주문의 취소를 확정하고 재고를 복구합니다.
+     * 매출 집계 등 후속 처리는 아웃박스에 기록합니다.
+     */
+    @Transactional
+    public void completeRefund(Long orderId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
+
+        // 그 사이 다른 작업이 먼저 확정했다면 예외
+        order.completeRefund();
+        if (order.isPaymentFailed()) {
+            // 결제 완료 처리에 실패해 환불한 주문은 재고를 차감하지 않았고 매출에도 들어가지 않았습니다.
+            return;
+        }
+        restoreStock(order);
+        publishStockChanged(order, true);
+        outboxService.append(OutboxEventType.ORDER_CANCELED, order.getId());
     }
 
-    private OrderDto.HistoryResponse convertOrderToHistoryResponse(Order order) {
-        return new OrderDto.HistoryResponse(
-            order.getId(),
-            order.getOrderDate(),
-            order.getStatus().name(),
-            order.getOrderItems().stream()
-                    .map(orderItem -> new OrderDto.OrderItemResponse(
-                            orderItem.getProduct().getName(),
-                            orderItem.getCount(),
-                            orderItem.getOrderPrice()
-                    ))
-                    .toList()
-        );
+    /**
+     * PG사 승인 뒤 결제 완료 처리에 실패한 주문을 환불 대기열에 넣고, 남아 있는 재고 예약을 바로 풀어 줍니다.
+     * 같은 결제로 동시에 들어온 다른 승인 요청이 이미 결제 완료 처리했다면 환불하지 않습니다.
+     * @return 처리 후 주문 상태 (PAID면 이미 결제 완료된 주문, CANCEL_REQUESTED면 환불 대기 중)
+     */
+    @Transactional
+    public OrderStatus refundFailedPayment(String pgOrderId, String paymentKey, String reason) {
+        Order order = orderRepository.findByPgOrderIdForUpdate(pgOrderId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 주문을 찾을 수 없습니다."));
+        if (paymentKey.equals(order.getPaymentKey())) {
+            return order.getStatus();
+        }
+
+        order.requestRefundForFailedPayment(paymentKey, reason);
+        stockReservationService.release(order);
+        return order.getStatus();
     }
 
     @Transactional(readOnly = true)
     public int getOrderAmountByPgOrderId(String pgOrderId) {
         Order order = orderRepository.findByPgOrderId(pgOrderId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 주문을 찾을 수 없습니다."));
+        // 결제 기한이 지나 만료된 주문 등은 PG사 승인 전에 막습니다.
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new IllegalArgumentException("결제 대기 상태의 주문이 아닙니다.");
+        }
 
         // 주문에 포함된 모든 상품의 가격 * 수량을 합산하여 반환
         return order.getOrderItems().stream()
@@ -200,22 +355,94 @@ public class OrderService {
 
     /**
      * PG사 주문 ID로 주문을 찾아 상태를 '결제 완료'로 변경합니다.
+     * 주문 항목, 상품, 옵션을 한 번에 읽고, 주문 생성 시 잡아 둔 재고 예약을 지우고 같은 트랜잭션에서 실제 재고를 차감합니다.
+     * 매출 집계처럼 결제 완료와 함께 커밋되기만 하면 되는 후속 처리는 아웃박스에 기록해 두고 나중에 모아서 처리합니다.
+     * 주문 행을 먼저 잠가, 같은 결제로 동시에 들어온 승인 요청은 한 번만 재고를 차감하고 나머지는 아무것도 하지 않습니다.
      */
     @Transactional
     public void markOrderAsPaid(String pgOrderId, String paymentKey) {
-        Order order = orderRepository.findByPgOrderId(pgOrderId)
+        Order lockedOrder = orderRepository.findByPgOrderIdForUpdate(pgOrderId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 주문을 찾을 수 없습니다."));
+        if (paymentKey.equals(lockedOrder.getPaymentKey())
+                && (lockedOrder.getStatus() == OrderStatus.PAID || lockedOrder.getStatus() == OrderStatus.COMPLETED)) {
+            return;
+        }
+        // 잠근 주문에 주문 항목, 상품, 옵션을 한 번에 채워 읽습니다.
+        Order order = orderRepository.findForPaymentByPgOrderId(pgOrderId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 주문을 찾을 수 없습니다."));
 
-        order.markAsPaid(paymentKey); // Order 엔티티의 비즈니스 메소드 호출
+        order.markAsPaid(paymentKey); // Order 엔티티의 비즈니스 메소드 호출 (결제 대기/만료 상태가 아니면 예외)
+        // PG사 승인을 기다리는 사이 예약이 만료되어 정리되었다면, 남은 주문 가능 재고에서 바로 차감해 봅니다.
+        // 그 사이 다른 주문이 재고를 가져갔다면 예외로 끝내고, 승인된 결제는 PaymentService가 환불 대기열에 넣습니다.
+        boolean reserved = stockReservationService.confirm(order);
+        if (!reserved && !stockReservationService.commitWithoutReservation(order)) {
+            throw new IllegalStateException("결제 기한이 지나는 사이 재고가 소진되어 결제를 완료할 수 없습니다.");
+        }
+        decreaseOptionStock(order);
+        // 예약을 그대로 재고 차감으로 바꿨다면 주문 가능 재고는 바뀌지 않습니다.
+        publishStockChanged(order, !reserved);
+        outboxService.append(OutboxEventType.ORDER_PAID, order.getId());
     }
 
-    @Transactional
-    public void processPostPayment(String pgOrderId) {
-    // 1. pgOrderId로 방금 결제가 완료된 주문(Order)을 찾습니다.
-        Order order = findByPgOrderId(pgOrderId)
-                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
-        
-        order.processPayment();
+    // 옵션 재고는 예약하지 않으므로 결제 완료 시 조건부 UPDATE로 바로 차감합니다.
+    // 승인을 기다리는 사이 다른 주문이 가져가 부족하면 결제 완료 처리 전체가 롤백되고, 승인된 결제는 PaymentService가 환불 대기열에 넣습니다.
+    private void decreaseOptionStock(Order order) {
+        quantitiesByOption(order).forEach((option, quantity) -> {
+            boolean decreased = hotStockService.isHotOption(option.getId())
+                    ? hotStockService.decreaseOptionStock(option.getProduct().getId(), option.getId(), quantity)
+                    : productOptionRepository.decreaseStock(option.getId(), quantity) == 1;
+            if (!decreased) {
+                throw new IllegalStateException("옵션 재고가 부족합니다. (옵션 ID: " + option.getId() + ")");
+            }
+        });
+    }
+
+    // 주문 취소 시 차감했던 상품/옵션 재고를 되돌립니다. (ID 오름차순으로 UPDATE, 핫 상품은 메모리 카운터에 반영)
+    private void restoreStock(Order order) {
+        order.getOrderItems().stream()
+                .collect(Collectors.groupingBy(orderItem -> orderItem.getProduct().getId(), TreeMap::new,
+                        Collectors.summingInt(OrderItem::getCount)))
+                .forEach((productId, quantity) -> {
+                    if (hotStockService.isHot(productId)) {
+                        hotStockService.restock(productId, quantity);
+                    } else {
+                        productRepository.increaseStock(productId, quantity);
+                    }
+                });
+        quantitiesByOption(order).forEach((option, quantity) -> {
+            if (hotStockService.isHotOption(option.getId())) {
+                hotStockService.restockOption(option.getProduct().getId(), option.getId(), quantity);
+            } else {
+                productOptionRepository.increaseStock(option.getId(), quantity);
+            }
+        });
+    }
+
+    private static Map<ProductOption, Integer> quantitiesByOption(Order order) {
+        return order.getOrderItems().stream()
+                .filter(orderItem -> orderItem.getOption() != null)
+                .collect(Collectors.groupingBy(OrderItem::getOption, () -> new TreeMap<>(Comparator.comparing(ProductOption::getId)),
+                        Collectors.summingInt(OrderItem::getCount)));
+    }
+
+    // 재고가 바뀐 상품의 캐시, 검색/필터 색인, 목록용 요약 정보가 갱신되도록 상품 변경 이벤트를 발행합니다.
+    private void publishStockChanged(Order order, boolean availableStockChanged) {
+        refreshLoadedStock(order);
+        order.getOrderItems().stream()
+                .map(orderItem -> orderItem.getProduct().getId())
+                .distinct()
+                .forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId, availableStockChanged)));
+    }
+
+    // 재고 UPDATE는 영속성 컨텍스트를 비우지 않으므로, 이미 불러온 상품/옵션 엔티티는 UPDATE 전 재고를 들고 있습니다.
+    // 같은 트랜잭션에서 이 엔티티를 다시 읽는 상품 요약 갱신(커밋 직전)과 검색/필터 색인(커밋 직후)이 바뀐 재고를 보도록 DB 값으로 다시 읽습니다.
+    // 아직 불러오지 않은 프록시는 처음 읽을 때 DB 값을 가져오므로 그대로 둡니다.
+    private void refreshLoadedStock(Order order) {
+        order.getOrderItems().stream()
+                .flatMap(orderItem -> Stream.of(orderItem.getProduct(), orderItem.getOption()))
+                .filter(entity -> entity != null && Hibernate.isInitialized(entity))
+                .distinct()
+                .forEach(entityManager::refresh);
     }
 
     private void clearCartItems(User user, List<OrderItem> orderItems) {
@@ -1,33 +1,104 @@
 package com.personal.backend.service;
 
+import com.personal.backend.domain.OrderStatus;
 import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.exception.TooManyRequestsException;
 import com.personal.backend.payment.PaymentGateway;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 결제 승인 흐름을 PG사 호출과 DB 작업으로 나눠 이어 주는 서비스 (주문 취소의 환불은 RefundWorker가 처리)
+ * DB 작업은 커넥션 풀 크기에 맞춘 jdbcScheduler에서 각각 짧은 트랜잭션으로 실행하고,
+ * PG사 응답을 기다리는 동안에는 요청 스레드도 DB 커넥션도 잡지 않습니다.
+ * PG사에 승인을 요청한 뒤에는 거절하거나 중간에 멈추지 않고, 결제 완료 처리에 실패하면 승인된 결제를 환불 대기열에 넣습니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final long JDBC_BUSY_RETRY_AFTER_SECONDS = 1;
+    private static final String FAILED_PAYMENT_REFUND_REASON = "결제 완료 처리 실패로 자동 환불";
+    // 환불 접수도 실패하면(DB 일시 장애 등) 잠시 뒤 몇 번 더 시도합니다.
+    private static final int REFUND_REQUEST_RETRIES = 3;
+    private static final Duration REFUND_REQUEST_BACKOFF = Duration.ofMillis(200);
+
     private final OrderService orderService;
     private final PaymentGateway paymentGateway; // 👇 TossPaymentGateway가 아닌 PaymentGateway 인터페이스에 의존
+    private final Scheduler jdbcScheduler;
+    private final Scheduler paymentCompletionScheduler;
 
-    @Transactional
+    /**
+     * 금액을 확인한 뒤 PG사 승인을 요청하고, 승인되면 결제 완료 처리를 하나의 트랜잭션으로 실행합니다.
+     */
     public Mono<PaymentDto.ConfirmationResponse> confirmPayment(PaymentDto.VerificationRequest request) {
-        int originalAmount = orderService.getOrderAmountByPgOrderId(request.orderId());
-
-        if (request.amount() != originalAmount) {
-            return Mono.error(new IllegalArgumentException("주문 금액이 일치하지 않습니다."));
-        }
+        return onJdbc(() -> orderService.getOrderAmountByPgOrderId(request.orderId()))
+                .flatMap(originalAmount -> !originalAmount.equals(request.amount())
+                        ? Mono.error(new IllegalArgumentException("주문 금액이 일치하지 않습니다."))
+                        : confirmAndComplete(request));
+    }
 
+    /**
+     * PG사 승인부터 결제 완료 처리까지를 요청과 분리해 끝까지 실행합니다.
+     * 클라이언트가 연결을 끊어 구독이 취소되어도 승인된 결제가 결제 대기 상태로 남지 않도록, 취소를 전달하지 않는 future로 감쌉니다.
+     */
+    private Mono<PaymentDto.ConfirmationResponse> confirmAndComplete(PaymentDto.VerificationRequest request) {
         // paymentGateway의 confirm 메소드를 호출 (이것이 Toss인지 PortOne인지 서비스는 알 필요 없음)
-        return paymentGateway.confirm(request)
-                .doOnSuccess(response -> {
+        CompletableFuture<PaymentDto.ConfirmationResponse> completion = paymentGateway.confirm(request)
+                .flatMap(response -> completeCapturedPayment(request, response))
+                .toFuture();
+        return Mono.fromFuture(completion, true);
+    }
+
+    // 승인된 결제를 결제 완료 처리합니다. 실패하면(재고 부족, 예약 만료, DB 오류 등) 승인된 결제를 환불 대기열에 넣고 실패로 알립니다.
+    private Mono<PaymentDto.ConfirmationResponse> completeCapturedPayment(PaymentDto.VerificationRequest request,
+                                                                       PaymentDto.ConfirmationResponse response) {
+        return afterCapture(() -> {
                     orderService.markOrderAsPaid(request.orderId(), request.paymentKey());
-                    orderService.processPostPayment(request.orderId());
-                });
+                    return response;
+                })
+                .onErrorResume(e -> refundCapturedPayment(request, response, e));
+    }
+
+    private Mono<PaymentDto.ConfirmationResponse> refundCapturedPayment(PaymentDto.VerificationRequest request,
+                                                                     PaymentDto.ConfirmationResponse response, Throwable cause) {
+        log.warn("Payment {} for order {} was approved but could not be completed, requesting refund: {}",
+                request.paymentKey(), request.orderId(), cause.getMessage());
+        return afterCapture(() -> orderService.refundFailedPayment(request.orderId(), request.paymentKey(), FAILED_PAYMENT_REFUND_REASON))
+                .retryWhen(Retry.backoff(REFUND_REQUEST_RETRIES, REFUND_REQUEST_BACKOFF))
+                .onErrorResume(e -> {
+                    // 정산 대사에서 결제 대기/만료 주문의 PG사 승인(STATUS_MISMATCH)으로 다시 드러납니다.
+                    log.error("Payment {} for order {} was approved but neither completed nor queued for refund, refund it manually",
+                            request.paymentKey(), request.orderId(), e);
+                    return Mono.error(new IllegalStateException("결제 완료 처리에 실패했습니다. 고객센터로 문의해 주세요.", cause));
+                })
+                .flatMap(status -> status == OrderStatus.PAID || status == OrderStatus.COMPLETED
+                        // 같은 결제로 동시에 들어온 다른 승인 요청이 이미 결제 완료 처리했습니다.
+                        ? Mono.just(response)
+                        : Mono.error(new IllegalStateException("결제를 완료하지 못해 승인된 금액을 환불합니다. (" + cause.getMessage() + ")", cause)));
+    }
+
+    // 블로킹 DB 작업을 jdbcScheduler에서 실행합니다. 대기 큐까지 가득 차면 잠시 후 다시 시도하도록 429로 돌려보냅니다.
+    private <T> Mono<T> onJdbc(Callable<T> work) {
+        return Mono.fromCallable(work)
+                .subscribeOn(jdbcScheduler)
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new TooManyRequestsException("결제 요청이 몰려 잠시 처리를 멈췄습니다. 잠시 후 다시 시도해 주세요.", JDBC_BUSY_RETRY_AFTER_SECONDS));
+    }
+
+    // PG사 승인 뒤의 DB 작업은 거절하지 않는 전용 스케줄러에서 실행합니다.
+    private <T> Mono<T> afterCapture(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(paymentCompletionScheduler);
     }
-}
\ No newline at end of file
+}
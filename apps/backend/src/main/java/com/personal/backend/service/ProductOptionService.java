@@ -3,10 +3,12 @@ package com.personal.backend.service;
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.ProductOption;
 import com.personal.backend.dto.ProductOptionDto;
+import com.personal.backend.event.ProductChangedEvent;
 import com.personal.backend.repository.ProductOptionRepository;
 import com.personal.backend.repository.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ public class ProductOptionService {
 
     private final ProductOptionRepository productOptionRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProductOptionDto.Response createOption(Long productId, ProductOptionDto.CreateRequest request) {
         Product product = productRepository.findById(productId)
@@ -31,10 +34,14 @@ public class ProductOptionService {
                 .build();
 
         ProductOption savedOption = productOptionRepository.save(option);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         return ProductOptionDto.Response.fromEntity(savedOption);
     }
 
     public void deleteOption(Long optionId) {
+        // 캐시 무효화를 위해 옵션이 속한 상품 ID를 먼저 확인합니다.
+        productOptionRepository.findById(optionId)
+                .ifPresent(option -> eventPublisher.publishEvent(new ProductChangedEvent(option.getProduct().getId())));
         productOptionRepository.deleteById(optionId);
     }
 }
@@ -1,24 +1,49 @@
 package com.personal.backend.service;
 
+import com.personal.backend.cache.ApproximateCountCache;
+import com.personal.backend.cache.ProductDetailCache;
 import com.personal.backend.domain.*;
 import com.personal.backend.dto.CategoryDto;
 import com.personal.backend.dto.ProductDto;
+import com.personal.backend.dto.ProductOptionDto;
 import com.personal.backend.dto.ShippingInfoDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.hotstock.HotStockService;
+import com.personal.backend.image.ImageUrlResolver;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
 import com.personal.backend.repository.*;
+import com.personal.backend.search.ProductFacetIndex;
+import com.personal.backend.search.ProductFacetQuery;
+import com.personal.backend.search.ProductFacetResult;
+import com.personal.backend.search.ProductFacetSort;
+import com.personal.backend.search.ProductSearchIndex;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.function.ThrowingSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +51,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductSummaryRepository productSummaryRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final ProductDetailRepository productDetailRepository;
     private final ShippingInfoRepository shippingInfoRepository;
     private final ProductLikeRepository productLikeRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageUrlResolver imageUrlResolver;
+    private final HotStockService hotStockService;
 
     @Transactional
     public ProductDto.Response createProduct(ProductDto.CreateRequest request, String userEmail) {
@@ -40,11 +74,12 @@ public class ProductService {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Product newProduct = request.toEntity(user);
+        Product newProduct = request.toEntity(user, imageUrlResolver.toKeys(request.imageUrl()));
         
         newProduct.setCategory(category);
         
         Product savedProduct = productRepository.save(newProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getId()));
         
         return ProductDto.Response.fromEntity(savedProduct);
     }
@@ -61,6 +96,11 @@ public class ProductService {
             throw new SecurityException("해당 상품을 수정할 권한이 없습니다.");
         }
 
+        // 핫 상품의 재고는 메모리 카운터가 관리하므로, 재고를 직접 바꾸면 카운터와 어긋납니다.
+        if (hotStockService.isHot(productId) && request.stockQuantity() != product.getStockQuantity()) {
+            throw new IllegalArgumentException("핫 상품으로 지정된 상품의 재고는 수정할 수 없습니다. 지정을 해제한 뒤 수정해 주세요.");
+        }
+
         Category category = categoryRepository.findById(request.categoryId())
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
 
@@ -68,18 +108,25 @@ public class ProductService {
             request.name(),
             request.description(),
             request.price(),
-            request.imageUrl(),
+            imageUrlResolver.toKeys(request.imageUrl()),
             category,
             request.stockQuantity(),
             request.discountRate()
         );
+        // 상세 본문은 요청에 담겨 온 경우에만 저장하고, 응답에도 요청 값을 그대로 사용하여 본문을 다시 읽지 않습니다.
+        if (request.detailContent() != null) {
+            saveDetailContent(product, request.detailContent());
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
 
-        Set<Long> likedProductIds = getLikedProductIds(userEmail);
-        String detailContent = productDetailRepository.findById(productId)
-                                .map(ProductDetail::getContent)
-                                .orElse(null);
+        return ProductDto.Response.from(product, isLikedBy(userEmail, productId), request.detailContent(), product.getOptions(), product.getProductTags().stream().map(ProductTag::getTag).collect(Collectors.toList()));
+    }
 
-        return ProductDto.Response.from(product, likedProductIds.contains(productId), detailContent, product.getOptions(), product.getProductTags().stream().map(ProductTag::getTag).collect(Collectors.toList()));
+    private void saveDetailContent(Product product, String content) {
+        productDetailRepository.findById(product.getId())
+                .ifPresentOrElse(
+                        detail -> detail.updateContent(content),
+                        () -> productDetailRepository.save(ProductDetail.builder().product(product).content(content).build()));
     }
 
     @Transactional
@@ -94,33 +141,212 @@ public class ProductService {
         }
 
         productRepository.deleteById(productId);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
+    /**
+     * 상품 목록을 COUNT(*)로 구한 정확한 전체 개수와 함께 조회합니다. (PageMode.EXACT와 같음)
+     */
     public Page<ProductDto.Response> findProducts(String keyword, Long categoryId, Pageable pageable, String userEmail) {
-        Page<Product> products;
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            products = productRepository.findByNameContaining(keyword, pageable);
+        Page<ProductSummary> products;
+        if (keyword != null && !keyword.trim().isEmpty() && productSearchIndex.isReady()) {
+            products = searchProducts(keyword, pageable);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            products = productSummaryRepository.findByNameContaining(keyword, pageable);
+        } else if (categoryId != null) {
+            products = productSummaryRepository.findByCategoryId(categoryId, pageable);
+        } else {
+            products = productSummaryRepository.findAll(pageable);
+        }
+
+        Set<Long> likedProductIds = getLikedProductIds(userEmail,
+                products.getContent().stream().map(ProductSummary::getId).toList());
+        List<ProductDto.Response> content = toListingResponses(products.getContent(), likedProductIds);
+        return new PageImpl<>(content, products.getPageable(), products.getTotalElements());
+    }
+
+    /**
+     * 상품 목록을 조회합니다. 목록은 상품 요약 읽기 모델(product_summary)만 읽습니다.
+     * pageMode가 SLICE/APPROXIMATE이면 COUNT(*) 쿼리를 생략하고,
+     * APPROXIMATE는 필터별로 캐시된 전체 개수를 totalElements로 채워 줍니다.
+     * 검색 색인을 사용하는 키워드 검색은 매칭된 id 수가 곧 전체 개수이므로 항상 정확한 값을 반환합니다.
+     */
+    public Slice<ProductDto.Response> findProducts(String keyword, Long categoryId, Pageable pageable, String userEmail, PageMode pageMode) {
+        PageMode mode = PageMode.orDefault(pageMode);
+        Slice<ProductSummary> products;
+        if (keyword != null && !keyword.trim().isEmpty() && productSearchIndex.isReady()) {
+            products = searchProducts(keyword, pageable);
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            // 시작 직후 검색 색인이 아직 만들어지는 중이면 DB 검색으로 대체합니다.
+            products = mode.fetch(pageable,
+                    () -> productSummaryRepository.findByNameContaining(keyword, pageable),
+                    () -> productSummaryRepository.findSliceByNameContaining(keyword, pageable),
+                    () -> approximateCountCache.get("products:keyword:" + keyword,
+                            () -> productSummaryRepository.countByNameContaining(keyword)));
         } else if (categoryId != null) {
-            products = productRepository.findByCategoryId(categoryId, pageable);
+            products = mode.fetch(pageable,
+                    () -> productSummaryRepository.findByCategoryId(categoryId, pageable),
+                    () -> productSummaryRepository.findSliceByCategoryId(categoryId, pageable),
+                    () -> approximateCountCache.get("products:category:" + categoryId,
+                            () -> productSummaryRepository.countByCategoryId(categoryId)));
+        } else {
+            products = mode.fetch(pageable,
+                    () -> productSummaryRepository.findAll(pageable),
+                    () -> productSummaryRepository.findSliceBy(pageable),
+                    () -> approximateCountCache.get("products", productSummaryRepository::count));
+        }
+
+        Set<Long> likedProductIds = getLikedProductIds(userEmail,
+                products.getContent().stream().map(ProductSummary::getId).toList());
+
+        List<ProductDto.Response> content = toListingResponses(products.getContent(), likedProductIds);
+        return products instanceof Page<ProductSummary> page
+                ? new PageImpl<>(content, page.getPageable(), page.getTotalElements())
+                : new SliceImpl<>(content, products.getPageable(), products.hasNext());
+    }
+
+    /**
+     * 상품 목록을 커서 기반으로 조회합니다.
+     * 키워드가 없으면 id 내림차순 keyset 조회를 사용하고,
+     * 키워드 검색은 관련도 순서를 유지해야 하므로 검색 결과 내의 위치(offset)를 커서로 사용합니다.
+     */
+    public Window<ProductDto.Response> scrollProducts(String keyword, Long categoryId, ScrollPosition position, Limit limit, String userEmail) {
+        Window<ProductSummary> products;
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            products = scrollSearchResults(keyword, position, limit);
         } else {
-            products = productRepository.findAll(pageable);
+            ScrollPosition keyset = CursorPagination.idKeyset(position);
+            products = categoryId != null
+                    ? productSummaryRepository.findByCategoryId(categoryId, keyset, limit, CursorPagination.ID_DESC)
+                    : productSummaryRepository.findAllBy(keyset, limit, CursorPagination.ID_DESC);
+        }
+
+        Set<Long> likedProductIds = getLikedProductIds(userEmail,
+                products.getContent().stream().map(ProductSummary::getId).toList());
+        List<ProductDto.Response> content = toListingResponses(products.getContent(), likedProductIds);
+        return Window.from(content, products::positionAt, products.hasNext());
+    }
+
+    private Window<ProductSummary> scrollSearchResults(String keyword, ScrollPosition position, Limit limit) {
+        if (position != null && !(position instanceof OffsetScrollPosition)) {
+            throw new IllegalArgumentException("검색 결과에 사용할 수 없는 커서입니다.");
+        }
+        OffsetScrollPosition offset = position != null ? (OffsetScrollPosition) position : ScrollPosition.offset();
+        if (!productSearchIndex.isReady()) {
+            return productSummaryRepository.findByNameContaining(keyword, offset, limit, CursorPagination.ID_DESC);
         }
 
-        Set<Long> likedProductIds = getLikedProductIds(userEmail);
+        List<Long> matchedIds = productSearchIndex.search(keyword);
+        int from = (int) Math.min(offset.isInitial() ? 0 : offset.getOffset() + 1, matchedIds.size());
+        int to = Math.min(from + limit.max(), matchedIds.size());
+        List<Long> windowIds = matchedIds.subList(from, to);
+        List<ProductSummary> ordered = loadInOrder(windowIds);
+        // 중간에 삭제된 상품이 빠져도 커서는 검색 결과 내의 실제 위치를 가리키도록 합니다.
+        return Window.from(ordered,
+                index -> ScrollPosition.offset(from + windowIds.indexOf(ordered.get(index).getId())),
+                to < matchedIds.size());
+    }
 
-        return products.map(product -> ProductDto.Response.from(product, likedProductIds.contains(product.getId()), null, product.getOptions(), product.getProductTags().stream().map(ProductTag::getTag).collect(Collectors.toList())));
+    /**
+     * 검색 색인에서 관련도 순으로 상품 ID를 찾고, 요청한 페이지에 해당하는 상품 요약만 DB에서 가져옵니다.
+     * 검색 결과는 관련도 순으로 정렬되므로 pageable의 정렬 조건은 사용하지 않습니다.
+     */
+    private Page<ProductSummary> searchProducts(String keyword, Pageable pageable) {
+        List<Long> matchedIds = productSearchIndex.search(keyword);
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+        return new PageImpl<>(loadInOrder(pageIds), pageable, matchedIds.size());
+    }
+
+    /**
+     * 카테고리, 태그, 가격, 할인율, 평점, 재고 조건을 함께 적용해 상품을 조회하고 항목별 상품 수를 반환합니다.
+     * 조건 판정과 정렬은 필터 색인에서 처리하고, 요청한 페이지의 상품 요약만 DB에서 가져옵니다.
+     */
+    public ProductDto.FacetSearchResponse searchByFacets(ProductFacetQuery query, ProductFacetSort sort, int page, int size, String userEmail) {
+        if (!productFacetIndex.isReady()) {
+            throw new IllegalStateException("상품 필터 색인을 준비하고 있습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        int pageNumber = Math.max(page, 0);
+        int pageSize = size > 0 ? Math.min(size, CursorPagination.MAX_SIZE) : CursorPagination.DEFAULT_SIZE;
+
+        ProductFacetResult result = productFacetIndex.search(query != null ? query : ProductFacetQuery.none(),
+                sort, (long) pageNumber * pageSize, pageSize);
+        List<ProductSummary> products = loadInOrder(result.productIds());
+        Set<Long> likedProductIds = getLikedProductIds(userEmail, products.stream().map(ProductSummary::getId).toList());
+
+        int totalPages = (int) ((result.totalElements() + pageSize - 1) / pageSize);
+        return new ProductDto.FacetSearchResponse(
+                toListingResponses(products, likedProductIds),
+                result.totalElements(),
+                totalPages,
+                pageSize,
+                pageNumber,
+                (long) (pageNumber + 1) * pageSize < result.totalElements(),
+                result.facets());
+    }
+
+    // 색인이 정한 순서대로 상품을 가져옵니다. 색인 반영 직전에 삭제된 상품은 건너뜁니다.
+    private List<ProductSummary> loadInOrder(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, ProductSummary> summariesById = productSummaryRepository.findByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductSummary::getId, summary -> summary));
+        return productIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public ProductDto.Response findProductById(Long id, String userEmail) {
+        return findProductById(id, userEmail, false);
+    }
+
+    /**
+     * 상품 상세를 조회합니다. 상세 본문(detailContent)은 includeDetail이 true일 때만 읽습니다.
+     */
+    public ProductDto.Response findProductById(Long id, String userEmail, boolean includeDetail) {
+        // 사용자와 무관한 상품 정보는 캐시에서 가져오고, isLiked만 요청마다 덧씌웁니다.
+        ProductDto.Response cached = productDetailCache.getOrLoad(id, () -> loadProductDetail(id));
+        ProductDto.Response response = cached.withLiked(isLikedBy(userEmail, id));
+
+        return includeDetail ? response.withDetailContent(findDetailContent(id)) : response;
+    }
+
+    // 캐시에는 상세 본문을 제외한 상품 정보만 담습니다.
+    private ProductDto.Response loadProductDetail(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 상품을 찾을 수 없습니다. id=" + id));
 
-        Optional<ProductDetail> productDetailOpt = productDetailRepository.findById(id);
-        String detailContent = productDetailOpt.map(ProductDetail::getContent).orElse(null);
+        return ProductDto.Response.from(product, false, null, product.getOptions(), product.getProductTags().stream().map(ProductTag::getTag).collect(Collectors.toList()));
+    }
 
-        Set<Long> likedProductIds = getLikedProductIds(userEmail);
+    public String findDetailContent(Long productId) {
+        return productDetailRepository.findById(productId)
+                .map(ProductDetail::readContent)
+                .orElse(null);
+    }
 
-        return ProductDto.Response.from(product, likedProductIds.contains(id), detailContent, product.getOptions(), product.getProductTags().stream().map(ProductTag::getTag).collect(Collectors.toList()));
+    /**
+     * 여러 상품의 상세 본문을 한 번에 조회합니다. (GraphQL에서 detailContent를 선택한 상품들)
+     */
+    public Map<Long, String> findDetailContents(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productDetailRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductDetail::getId, ProductDetail::readContent));
+    }
+
+    /**
+     * 상세 본문을 문자열로 만들지 않고 압축을 풀면서 그대로 출력 스트림에 씁니다.
+     * 출력 스트림은 상세 정보가 있는 것을 확인한 뒤에 가져오므로, 없으면 아무것도 쓰지 않고 예외가 발생합니다.
+     */
+    public void writeDetailContent(Long productId, ThrowingSupplier<OutputStream> output) {
+        ProductDetail detail = productDetailRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품 상세 정보를 찾을 수 없습니다. id=" + productId));
+        detail.writeContentTo(output.get());
     }
 
     public List<CategoryDto.Response> findAllCategories() {
@@ -136,15 +362,49 @@ public class ProductService {
         return ShippingInfoDto.Response.fromEntity(shippingInfo);
     }
 
-    private Set<Long> getLikedProductIds(String userEmail) {
-        if (userEmail == null) {
+    /**
+     * 목록 조회용 응답을 조립합니다.
+     * 대표 이미지, 카테고리 이름, 태그, 옵션 개수가 요약 정보에 미리 들어 있으므로 추가 조회가 없습니다.
+     * 목록 응답의 options는 비어 있고 optionCount만 채워집니다. (옵션 상세는 상품 상세 조회에서 제공)
+     */
+    private List<ProductDto.Response> toListingResponses(List<ProductSummary> summaries, Set<Long> likedProductIds) {
+        return summaries.stream()
+                .map(summary -> ProductDto.Response.fromSummary(summary, likedProductIds.contains(summary.getId())))
+                .toList();
+    }
+
+    /**
+     * 여러 상품의 옵션을 한 번의 쿼리로 조회합니다.
+     * 목록 응답에는 옵션 개수만 담기므로, GraphQL에서 목록의 options 필드를 요청한 경우에만 사용합니다.
+     */
+    public Map<Long, List<ProductOptionDto.Response>> findOptionsByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return productOptionRepository.findByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(option -> option.getProduct().getId(),
+                        Collectors.mapping(ProductOptionDto.Response::fromEntity, Collectors.toList())));
+    }
+
+    // 현재 페이지의 상품 id만 대상으로 좋아요 여부를 조회하므로 비용이 좋아요 이력이 아닌 페이지 크기에 비례합니다.
+    private Set<Long> getLikedProductIds(String userEmail, List<Long> productIds) {
+        if (userEmail == null || productIds.isEmpty()) {
             return Collections.emptySet();
         }
         return userRepository.findByEmail(userEmail)
-                .map(user -> productLikeRepository.findLikedProductIdsByUserId(user.getId()))
+                .map(user -> productLikeRepository.findLikedProductIdsByUserIdAndProductIdIn(user.getId(), productIds))
                 .orElse(Collections.emptySet());
     }
 
+    private boolean isLikedBy(String userEmail, Long productId) {
+        if (userEmail == null) {
+            return false;
+        }
+        return userRepository.findByEmail(userEmail)
+                .map(user -> productLikeRepository.existsByUser_IdAndProduct_Id(user.getId(), productId))
+                .orElse(false);
+    }
+
     public List<Category> findCategoriesByNameIn(Set<String> names) {
         return categoryRepository.findByNameIn(names);
     }
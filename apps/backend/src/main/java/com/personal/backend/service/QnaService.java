@@ -7,10 +7,17 @@ import com.personal.backend.dto.QnaDto;
 import com.personal.backend.repository.ProductRepository;
 import com.personal.backend.repository.QnaRepository;
 import com.personal.backend.repository.UserRepository;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
 import jakarta.persistence.EntityNotFoundException;
+import com.personal.backend.cache.ApproximateCountCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,10 +29,26 @@ public class QnaService {
     private final QnaRepository qnaRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ApproximateCountCache approximateCountCache;
 
     @Transactional(readOnly = true)
     public Page<QnaDto.Response> getQnaByProductId(Long productId, Pageable pageable) {
-        return qnaRepository.findByProductId(productId, pageable)
+        return qnaRepository.findByProductId(productId, pageable).map(QnaDto.Response::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<QnaDto.Response> getQnaByProductId(Long productId, Pageable pageable, PageMode pageMode) {
+        return PageMode.orDefault(pageMode).fetch(pageable,
+                        () -> qnaRepository.findByProductId(productId, pageable),
+                        () -> qnaRepository.findSliceByProductId(productId, pageable),
+                        () -> approximateCountCache.get("qnas:product:" + productId,
+                                () -> qnaRepository.countByProductId(productId)))
+                .map(QnaDto.Response::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<QnaDto.Response> scrollQnaByProductId(Long productId, ScrollPosition position, Limit limit) {
+        return qnaRepository.findByProductId(productId, CursorPagination.idKeyset(position), limit, CursorPagination.ID_DESC)
                 .map(QnaDto.Response::fromEntity);
     }
 
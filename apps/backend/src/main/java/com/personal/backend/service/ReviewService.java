@@ -4,13 +4,22 @@ import com.personal.backend.domain.Product;
 import com.personal.backend.domain.Review;
 import com.personal.backend.domain.User;
 import com.personal.backend.dto.ReviewDto;
+import com.personal.backend.event.ProductChangedEvent;
 import com.personal.backend.repository.ProductRepository;
 import com.personal.backend.repository.ReviewRepository;
 import com.personal.backend.repository.UserRepository;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.pagination.PageMode;
 import jakarta.persistence.EntityNotFoundException;
+import com.personal.backend.cache.ApproximateCountCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,10 +31,27 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<ReviewDto.Response> getReviewsByProductId(Long productId, Pageable pageable) {
-        return reviewRepository.findByProductId(productId, pageable)
+        return reviewRepository.findByProductId(productId, pageable).map(ReviewDto.Response::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ReviewDto.Response> getReviewsByProductId(Long productId, Pageable pageable, PageMode pageMode) {
+        return PageMode.orDefault(pageMode).fetch(pageable,
+                        () -> reviewRepository.findByProductId(productId, pageable),
+                        () -> reviewRepository.findSliceByProductId(productId, pageable),
+                        () -> approximateCountCache.get("reviews:product:" + productId,
+                                () -> reviewRepository.countByProductId(productId)))
+                .map(ReviewDto.Response::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<ReviewDto.Response> scrollReviewsByProductId(Long productId, ScrollPosition position, Limit limit) {
+        return reviewRepository.findByProductId(productId, CursorPagination.idKeyset(position), limit, CursorPagination.ID_DESC)
                 .map(ReviewDto.Response::fromEntity);
     }
 
@@ -43,6 +69,8 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        product.addReview(request.rating());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         return ReviewDto.Response.fromEntity(savedReview);
     }
 
@@ -56,7 +84,11 @@ public class ReviewService {
             throw new SecurityException("리뷰를 수정할 권한이 없습니다.");
         }
 
+        Product product = review.getProduct();
+        product.removeReview(review.getRating());
+        product.addReview(request.rating());
         review.update(request.rating(), request.comment());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         return ReviewDto.Response.fromEntity(review);
     }
 
@@ -71,5 +103,7 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        review.getProduct().removeReview(review.getRating());
+        eventPublisher.publishEvent(new ProductChangedEvent(review.getProduct().getId()));
     }
 }
@@ -0,0 +1,63 @@
+package com.personal.backend.summary;
+
+import com.personal.backend.domain.Product;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약 정보가 없는 상품(읽기 모델 도입 이전에 등록된 상품 등)을 시작 시 찾아 채웁니다.
+ * 이미 요약 정보가 있는 상품은 변경 이벤트로 갱신되고 있으므로 다시 만들지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSummaryBackfill {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductSummaryRepository productSummaryRepository;
+    private final ProductSummaryUpdater productSummaryUpdater;
+
+    // 목록 조회가 요약 정보만 읽으므로 검색 색인보다 먼저 채웁니다.
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long startedAt = System.currentTimeMillis();
+        int filled = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> productIds = productRepository.findByIdGreaterThan(lastId,
+                            PageRequest.of(0, CHUNK_SIZE, Sort.by(Sort.Direction.ASC, "id"))).stream()
+                    .map(Product::getId)
+                    .toList();
+            if (productIds.isEmpty()) {
+                break;
+            }
+            Set<Long> missing = new HashSet<>(productIds);
+            productSummaryRepository.findExistingIds(productIds).forEach(missing::remove);
+            if (!missing.isEmpty()) {
+                productSummaryUpdater.refresh(missing);
+                filled += missing.size();
+            }
+            lastId = productIds.get(productIds.size() - 1);
+        }
+        if (filled > 0) {
+            log.info("Product summary backfilled: {} products in {} ms", filled, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.personal.backend.summary;
+
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductSummary;
+import com.personal.backend.domain.ProductTag;
+import com.personal.backend.domain.Tag;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.repository.ProductOptionRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+import com.personal.backend.repository.ProductTagRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 요약 읽기 모델(product_summary)을 상품 원본과 맞춰 주는 클래스
+ * 상품, 옵션, 좋아요, 리뷰, 이미지, 재고가 바뀌면 발행되는 {@link ProductChangedEvent}를 커밋 직전에 받아
+ * 같은 트랜잭션 안에서 요약 정보를 다시 채웁니다. 따라서 원본 변경과 요약 갱신은 함께 커밋되거나 함께 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSummaryUpdater {
+
+    private final ProductSummaryRepository productSummaryRepository;
+    private final ProductRepository productRepository;
+    private final ProductTagRepository productTagRepository;
+    private final ProductOptionRepository productOptionRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        refresh(List.of(event.productId()));
+    }
+
+    /**
+     * 상품들의 요약 정보를 다시 채웁니다. 삭제된 상품의 요약 정보는 지웁니다.
+     * 연관 데이터는 상품별로 나누지 않고 항목마다 한 번의 쿼리로 가져옵니다.
+     */
+    @Transactional
+    public void refresh(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Product> productsById = productRepository.findByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, ProductSummary> summariesById = productSummaryRepository.findByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+        Map<Long, List<String>> imageUrlsByProductId = productRepository.findImageUrlsByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(ProductRepository.ImageUrlRow::getProductId,
+                        Collectors.mapping(ProductRepository.ImageUrlRow::getImageUrl, Collectors.toList())));
+        Map<Long, List<Tag>> tagsByProductId = productTagRepository.findWithTagByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(productTag -> productTag.getProduct().getId(),
+                        Collectors.mapping(ProductTag::getTag, Collectors.toList())));
+        Map<Long, Long> optionCountByProductId = productOptionRepository.countOptionsByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductOptionRepository.OptionCountRow::getProductId,
+                        ProductOptionRepository.OptionCountRow::getOptionCount));
+
+        for (Long productId : productIds) {
+            Product product = productsById.get(productId);
+            ProductSummary summary = summariesById.get(productId);
+            if (product == null) {
+                if (summary != null) {
+                    productSummaryRepository.delete(summary);
+                }
+                continue;
+            }
+            if (summary == null) {
+                summary = new ProductSummary(productId);
+            }
+            summary.refresh(product,
+                    imageUrlsByProductId.getOrDefault(productId, List.of()),
+                    tagsByProductId.getOrDefault(productId, List.of()),
+                    optionCountByProductId.getOrDefault(productId, 0L).intValue());
+            productSummaryRepository.save(summary);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.personal.backend.admission;
+
+import com.personal.backend.config.order.AdmissionProperties;
+import com.personal.backend.dto.OrderDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.exception.TooManyRequestsException;
+import com.personal.backend.repository.ProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CheckoutAdmissionGateTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+    private AtomicInteger checkouts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        checkouts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("남은 재고만큼만 주문을 보내고, 이후 주문은 DB에 보내지 않고 바로 거절")
+    void admit_RejectsOnceRemainingStockIsTaken() {
+        // given: 주문 가능 재고 3개
+        CheckoutAdmissionGate gate = gate(4, 10);
+        when(productRepository.findAvailableStockById(1L)).thenReturn(Optional.of(3));
+
+        // when
+        gate.admit(items(1L, 2), this::checkout);
+        gate.admit(items(1L, 1), this::checkout);
+
+        // then
+        assertThatThrownBy(() -> gate.admit(items(1L, 1), this::checkout))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("재고가 모두 소진");
+        assertThat(checkouts.get()).isEqualTo(2);
+        verify(productRepository, times(1)).findAvailableStockById(1L);
+        assertThat(meterRegistry.get("order.admission").tag("result", "sold_out").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 생성에 실패하면 접수했던 수량을 남은 재고에 되돌림")
+    void admit_ReturnsStockWhenCheckoutFails() {
+        // given
+        CheckoutAdmissionGate gate = gate(4, 10);
+        when(productRepository.findAvailableStockById(1L)).thenReturn(Optional.of(1));
+
+        // when
+        assertThatThrownBy(() -> gate.admit(items(1L, 1), () -> {
+            throw new IllegalStateException("재고가 부족합니다.");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(gate.admit(items(1L, 1), this::checkout)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 주문과 대기열이 모두 차면 기다리지 않고 거절")
+    void admit_RejectsWhenQueueIsFull() throws Exception {
+        // given: 동시에 1건, 대기 0건
+        CheckoutAdmissionGate gate = gate(1, 0);
+        when(productRepository.findAvailableStockById(1L)).thenReturn(Optional.of(100));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> gate.admit(items(1L, 1), () -> {
+            entered.countDown();
+            await(release);
+            return checkout();
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> gate.admit(items(1L, 1), this::checkout))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("주문이 몰려");
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(gate.admit(items(1L, 1), this::checkout)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고가 부족해도 갱신 간격이 지나거나 상품 변경 이벤트를 받으면 DB에서 재고를 다시 읽음")
+    void admit_RefreshesStockAfterIntervalOrChange() {
+        // given: 재고를 모두 접수한 뒤, 예약 만료와 주문 취소로 재고가 돌아온 상황
+        CheckoutAdmissionGate gate = gate(4, 10);
+        when(productRepository.findAvailableStockById(1L)).thenReturn(Optional.of(1));
+        gate.admit(items(1L, 1), this::checkout);
+        assertThatThrownBy(() -> gate.admit(items(1L, 1), this::checkout)).isInstanceOf(TooManyRequestsException.class);
+
+        // when & then
+        clock.advance(Duration.ofSeconds(1));
+        gate.admit(items(1L, 1), this::checkout);
+        gate.onProductChanged(new ProductChangedEvent(1L));
+        gate.admit(items(1L, 1), this::checkout);
+        assertThat(checkouts.get()).isEqualTo(3);
+        verify(productRepository, times(3)).findAvailableStockById(1L);
+    }
+
+    @Test
+    @DisplayName("결제 완료처럼 주문 가능 재고가 그대로인 상품 변경 이벤트로는 DB를 다시 읽지 않음")
+    void admit_IgnoresChangesAlreadyTracked() {
+        // given
+        CheckoutAdmissionGate gate = gate(4, 10);
+        when(productRepository.findAvailableStockById(1L)).thenReturn(Optional.of(10));
+        gate.admit(items(1L, 1), this::checkout);
+
+        // when
+        gate.onProductChanged(new ProductChangedEvent(1L, false));
+        gate.admit(items(1L, 1), this::checkout);
+
+        // then
+        assertThat(checkouts.get()).isEqualTo(2);
+        verify(productRepository, times(1)).findAvailableStockById(1L);
+    }
+
+    @Test
+    @DisplayName("찾을 수 없는 상품은 재고로 거르지 않고 주문 서비스에 맡김")
+    void admit_PassesUnknownProductThrough() {
+        // given
+        CheckoutAdmissionGate gate = gate(4, 10);
+        when(productRepository.findAvailableStockById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(gate.admit(items(99L, 1), this::checkout)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한동안 주문이 없던 상품의 접수 상태를 제거")
+    void evictIdle_RemovesIdleProducts() {
+        // given
+        CheckoutAdmissionGate gate = gate(4, 10);
+        when(productRepository.findAvailableStockById(1L)).thenReturn(Optional.of(10));
+        gate.admit(items(1L, 1), this::checkout);
+
+        // when
+        gate.evictIdle();
+        int beforeTimeout = gate.trackedProducts();
+        clock.advance(Duration.ofMinutes(10));
+        gate.evictIdle();
+
+        // then
+        assertThat(beforeTimeout).isEqualTo(1);
+        assertThat(gate.trackedProducts()).isZero();
+    }
+
+    private CheckoutAdmissionGate gate(int maxConcurrent, int queueCapacity) {
+        AdmissionProperties properties = new AdmissionProperties(true, maxConcurrent, queueCapacity,
+                Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofSeconds(1));
+        return new CheckoutAdmissionGate(properties, productRepository, meterRegistry, clock);
+    }
+
+    private List<OrderDto.OrderItemRequest> items(Long productId, int count) {
+        return List.of(new OrderDto.OrderItemRequest(productId, count));
+    }
+
+    private int checkout() {
+        return checkouts.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
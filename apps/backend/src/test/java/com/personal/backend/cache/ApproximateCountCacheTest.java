@@ -0,0 +1,133 @@
+package com.personal.backend.cache;
+
+import com.personal.backend.config.cache.ApproximateCountProperties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApproximateCountCacheTest {
+
+    private MutableClock clock;
+    private List<Runnable> pendingRefreshes;
+    private ApproximateCountCache cache;
+    private AtomicLong actualCount;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        pendingRefreshes = new ArrayList<>();
+        cache = new ApproximateCountCache(new ApproximateCountProperties(2, Duration.ofSeconds(30)), clock, pendingRefreshes::add);
+        actualCount = new AtomicLong(100);
+    }
+
+    @Test
+    @DisplayName("처음 조회한 조건은 바로 COUNT를 실행하고, TTL 안에서는 캐시된 값을 반환")
+    void get_CountsOnceWithinTtl() {
+        // when
+        long first = cache.get("reviews:product:1", actualCount::get);
+        actualCount.set(150);
+        clock.advance(Duration.ofSeconds(10));
+        long second = cache.get("reviews:product:1", actualCount::get);
+
+        // then
+        assertThat(first).isEqualTo(100);
+        assertThat(second).isEqualTo(100);
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 기존 값을 반환하고 갱신은 백그라운드에서 한 번만 실행")
+    void get_StaleValueRefreshedInBackgroundOnce() {
+        // given
+        cache.get("reviews:product:1", actualCount::get);
+        actualCount.set(150);
+        clock.advance(Duration.ofSeconds(31));
+
+        // when
+        long stale = cache.get("reviews:product:1", actualCount::get);
+        cache.get("reviews:product:1", actualCount::get);
+
+        // then
+        assertThat(stale).isEqualTo(100);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.get(0).run();
+        assertThat(cache.get("reviews:product:1", actualCount::get)).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("갱신 작업이 거절되면 기존 값을 유지하고 다음 요청에서 다시 시도")
+    void get_RejectedRefreshRetriedLater() {
+        // given
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] reject = {true};
+        ApproximateCountCache rejectingCache = new ApproximateCountCache(
+                new ApproximateCountProperties(2, Duration.ofSeconds(30)), clock, task -> {
+                    if (reject[0]) {
+                        throw new RejectedExecutionException();
+                    }
+                    accepted.add(task);
+                });
+        rejectingCache.get("orders:user:1", actualCount::get);
+        clock.advance(Duration.ofSeconds(31));
+
+        // when
+        long stale = rejectingCache.get("orders:user:1", actualCount::get);
+        reject[0] = false;
+        rejectingCache.get("orders:user:1", actualCount::get);
+
+        // then
+        assertThat(stale).isEqualTo(100);
+        assertThat(accepted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 조건부터 제거")
+    void get_EvictsLeastRecentlyUsed() {
+        // when
+        cache.get("a", () -> 1);
+        cache.get("b", () -> 2);
+        cache.get("a", () -> 1);
+        cache.get("c", () -> 3);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", () -> 20)).isEqualTo(20);
+        assertThat(cache.get("a", () -> 10)).isEqualTo(10);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
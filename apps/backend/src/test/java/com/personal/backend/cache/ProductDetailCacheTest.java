@@ -0,0 +1,149 @@
+package com.personal.backend.cache;
+
+import com.personal.backend.config.cache.ProductCacheProperties;
+import com.personal.backend.dto.ProductDto;
+import com.personal.backend.event.ProductChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductDetailCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ProductDetailCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        cache = new ProductDetailCache(new ProductCacheProperties(2, Duration.ofMinutes(5)), meterRegistry, clock);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 loader를 호출하지 않고 캐시된 값을 반환")
+    void getOrLoad_HitAfterFirstLoad() {
+        // when
+        cache.getOrLoad(1L, () -> load(1L));
+        ProductDto.Response second = cache.getOrLoad(1L, () -> load(1L));
+
+        // then
+        assertThat(second.id()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에는 사용자별 값(isLiked)을 저장하지 않음")
+    void getOrLoad_StripsLiked() {
+        // when
+        ProductDto.Response loaded = cache.getOrLoad(1L, () -> load(1L).withLiked(true));
+
+        // then
+        assertThat(loaded.isLiked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 loader를 호출")
+    void getOrLoad_ExpiresAfterTtl() {
+        // given
+        cache.getOrLoad(1L, () -> load(1L));
+
+        // when
+        clock.advance(Duration.ofMinutes(6));
+        cache.getOrLoad(1L, () -> load(1L));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거")
+    void getOrLoad_EvictsLeastRecentlyUsed() {
+        // given: 최대 크기 2
+        cache.getOrLoad(1L, () -> load(1L));
+        cache.getOrLoad(2L, () -> load(2L));
+        cache.getOrLoad(1L, () -> load(1L)); // 1번을 최근 사용으로 갱신
+
+        // when
+        cache.getOrLoad(3L, () -> load(3L));
+
+        // then: 2번이 제거되어 다시 조회 시 loader가 호출되어야 함
+        assertThat(cache.size()).isEqualTo(2);
+        cache.getOrLoad(2L, () -> load(2L));
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트를 받으면 해당 항목을 무효화")
+    void onProductChanged_Evicts() {
+        // given
+        cache.getOrLoad(1L, () -> load(1L));
+
+        // when
+        cache.onProductChanged(new ProductChangedEvent(1L));
+        cache.getOrLoad(1L, () -> load(1L));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 일어나면 읽어 온 값을 캐시에 저장하지 않음")
+    void getOrLoad_DoesNotStoreWhenInvalidatedDuringLoad() {
+        // when: loader가 실행되는 동안 다른 요청이 상품을 변경했다고 가정
+        cache.getOrLoad(1L, () -> {
+            cache.evict(1L);
+            return load(1L);
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    private ProductDto.Response load(Long id) {
+        loadCount.incrementAndGet();
+        return new ProductDto.Response(id, "상품" + id, null, 1000, 1000, 1, List.of("image.jpg"),
+                "카테고리", null, 0, 0, 0.0, 0.0, false, List.of(), List.of(), 0);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
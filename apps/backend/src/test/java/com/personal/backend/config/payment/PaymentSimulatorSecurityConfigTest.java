@@ -0,0 +1,52 @@
+package com.personal.backend.config.payment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "payment.simulator.median-latency=1ms",
+        "payment.simulator.p99-latency=1ms",
+        "payment.simulator.max-latency=1ms",
+        "payment.simulator.error-rate=0",
+        "payment.simulator.timeout-rate=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "pg-sim-http"})
+class PaymentSimulatorSecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("pg-sim-http 프로필에서는 PG 스텁을 인증 없이 호출할 수 있음")
+    void pgSim_IsPublic() throws Exception {
+        MvcResult result = mockMvc.perform(post("/pg-sim/v1/payments/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paymentKey\":\"pk-1\",\"orderId\":\"order-1\",\"amount\":1000}"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    @DisplayName("PG 스텁 외의 경로는 그대로 인증을 요구")
+    void otherPaths_StillRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/orders"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -3,14 +3,18 @@ package com.personal.backend.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.backend.dto.LikeDto;
 import com.personal.backend.dto.ProductDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.LikeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -18,10 +22,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -75,11 +81,11 @@ class LikeControllerTest {
         // given
         ProductDto.Response productResponse = new ProductDto.Response(
                 100L, "Liked Product", "Desc", 20000, 18000, 5,
-                List.of("image.jpg"), "Category", null, 1, 0, 0.0, 0.1, true, Collections.emptyList(), Collections.emptyList()
+                List.of("image.jpg"), "Category", null, 1, 0, 0.0, 0.1, true, Collections.emptyList(), Collections.emptyList(), 0
         );
         Page<ProductDto.Response> responsePage = new PageImpl<>(List.of(productResponse));
 
-        when(likeService.getLikedProducts(eq("test@user.com"), any(Pageable.class))).thenReturn(responsePage);
+        when(likeService.getLikedProducts(eq("test@user.com"), any(Pageable.class), any())).thenReturn(responsePage);
 
         // when & then
         mockMvc.perform(get("/api/likes?page=0&size=10"))
@@ -88,4 +94,54 @@ class LikeControllerTest {
                 .andExpect(jsonPath("$.content.size()").value(1))
                 .andExpect(jsonPath("$.content[0].name").value("Liked Product"));
     }
+
+    @Test
+    @DisplayName("내 찜 목록 커서 조회 API - 커서 이후의 목록과 다음 커서를 반환")
+    void scrollMyLikes_Continuation() throws Exception {
+        // given: id 5 다음부터 1개 조회
+        ProductDto.Response response = new ProductDto.Response(4L, "상품4", "설명4", 1000, 900, 10, List.of("img4.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, true, Collections.emptyList(), Collections.emptyList(), 0);
+        Window<ProductDto.Response> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(likeService.scrollLikedProducts("test@user.com", ScrollPosition.forward(Map.of("id", 5L)), Limit.of(1))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/api/likes/scroll")
+                        .param("cursor", cursorAt(5L))
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(cursorAt(4L)));
+    }
+
+    @Test
+    @DisplayName("내 찜 목록 커서 조회 API - 마지막 페이지는 다음 커서 없음")
+    void scrollMyLikes_LastPage() throws Exception {
+        // given
+        ProductDto.Response response = new ProductDto.Response(1L, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, true, Collections.emptyList(), Collections.emptyList(), 0);
+        Window<ProductDto.Response> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(likeService.scrollLikedProducts(eq("test@user.com"), eq(ScrollPosition.forward(Map.of("id", 2L))), any(Limit.class))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/api/likes/scroll")
+                        .param("cursor", cursorAt(2L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("내 찜 목록 커서 조회 API - 실패 (잘못된 커서)")
+    void scrollMyLikes_Fail_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/likes/scroll")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(likeService);
+    }
+
+    // 서버가 응답한 것과 같은 형식으로 id 위치의 커서를 만듭니다.
+    private static String cursorAt(long id) {
+        return CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", id)));
+    }
 }
@@ -1,15 +1,22 @@
 package com.personal.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.backend.admission.CheckoutAdmissionGate;
 import com.personal.backend.dto.OrderDto;
+import com.personal.backend.idempotency.IdempotencyStore;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -17,10 +24,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +49,20 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private CheckoutAdmissionGate checkoutAdmissionGate;
+
+    @MockitoBean
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        // 접수 창구와 중복 요청 저장소는 주문 생성을 그대로 실행하도록 설정합니다.
+        when(checkoutAdmissionGate.admit(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(idempotencyStore.execute(anyString(), anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+
     @Test
     @WithMockUser("test@user.com")
     @DisplayName("결제 준비 API 호출 성공")
@@ -79,7 +103,7 @@ class OrderControllerTest {
         Page<OrderDto.HistoryResponse> responsePage = new PageImpl<>(List.of(historyResponse));
         
         // 2. Mock 설정
-        when(orderService.getOrderHistory(eq(userEmail), any(Pageable.class))).thenReturn(responsePage);
+        when(orderService.getOrderHistory(eq(userEmail), any(Pageable.class), any())).thenReturn(responsePage);
 
         // when & then
         // 3. MockMvc 요청 시 URL에 페이지 파라미터 추가
@@ -121,18 +145,68 @@ class OrderControllerTest {
         String cancelReason = "고객 변심";
         
         OrderDto.HistoryResponse canceledOrderResponse = new OrderDto.HistoryResponse(
-                orderId, LocalDateTime.now(), "CANCELED", List.of()
+                orderId, LocalDateTime.now(), "CANCEL_REQUESTED", List.of()
         );
         
         // Mock 설정: 서비스가 올바른 인자들로 호출되면, 미리 준비된 DTO를 반환하도록 설정
-        when(orderService.cancelOrder(userEmail, orderId, cancelReason)).thenReturn(canceledOrderResponse);
+        when(orderService.requestCancel(userEmail, orderId, cancelReason)).thenReturn(canceledOrderResponse);
         
-        // when & then
+        // when & then: 취소는 접수만 하고 환불은 나중에 처리하므로 202 Accepted
         mockMvc.perform(delete("/orders/{orderId}", orderId)
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"reason\": \"" + cancelReason + "\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.orderStatus").value("CANCEL_REQUESTED"));
+    }
+
+    @Test
+    @DisplayName("주문 내역 커서 조회 API - 커서 이후의 목록과 다음 커서를 반환")
+    void scrollOrderHistory_Continuation() throws Exception {
+        // given: id 5 다음부터 1개 조회
+        OrderDto.HistoryResponse response = new OrderDto.HistoryResponse(4L, LocalDateTime.now(), "PAID", List.of());
+        Window<OrderDto.HistoryResponse> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(orderService.scrollOrderHistory("test@user.com", ScrollPosition.forward(Map.of("id", 5L)), Limit.of(1))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/orders/history/scroll")
+                        .param("cursor", cursorAt(5L))
+                        .param("size", "1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.orderStatus").value("CANCELED"));
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(cursorAt(4L)));
+    }
+
+    @Test
+    @DisplayName("주문 내역 커서 조회 API - 마지막 페이지는 다음 커서 없음")
+    void scrollOrderHistory_LastPage() throws Exception {
+        // given
+        OrderDto.HistoryResponse response = new OrderDto.HistoryResponse(1L, LocalDateTime.now(), "PAID", List.of());
+        Window<OrderDto.HistoryResponse> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(orderService.scrollOrderHistory(eq("test@user.com"), eq(ScrollPosition.forward(Map.of("id", 2L))), any(Limit.class))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/orders/history/scroll")
+                        .param("cursor", cursorAt(2L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("주문 내역 커서 조회 API - 실패 (잘못된 커서)")
+    void scrollOrderHistory_Fail_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/orders/history/scroll")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderService);
+    }
+
+    // 서버가 응답한 것과 같은 형식으로 id 위치의 커서를 만듭니다.
+    private static String cursorAt(long id) {
+        return CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", id)));
     }
-}
\ No newline at end of file
+}
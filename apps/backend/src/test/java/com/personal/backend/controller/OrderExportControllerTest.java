@@ -0,0 +1,95 @@
+package com.personal.backend.controller;
+
+import com.personal.backend.export.OrderExportFormat;
+import com.personal.backend.export.OrderExportService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderExportService orderExportService;
+
+    @Test
+    @WithMockUser(username = "test@user.com")
+    @DisplayName("내 주문 내보내기 API - 서비스가 쓴 내용을 첨부 파일로 그대로 내려줌")
+    void exportMyOrders_Success() throws Exception {
+        // given
+        when(orderExportService.exportUserOrders(eq("test@user.com"), eq(OrderExportFormat.NDJSON), eq(false), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<OutputStream>getArgument(3).write("{\"orderId\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // when & then
+        mockMvc.perform(get("/orders/export").param("format", "NDJSON"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.ndjson\""))
+                .andExpect(content().string("{\"orderId\":1}\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@user.com", roles = "ADMIN")
+    @DisplayName("전체 주문 내보내기 API - gzip을 요청하면 .gz 파일로 내려줌")
+    void exportOrders_Gzip() throws Exception {
+        // when & then
+        mockMvc.perform(get("/orders/export/all").param("from", "2026-03-01").param("to", "2026-03-31").param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders-2026-03-01-2026-03-31.csv.gz\""));
+        verify(orderExportService).exportOrders(eq(LocalDate.of(2026, 3, 1)), eq(LocalDate.of(2026, 3, 31)),
+                eq(OrderExportFormat.CSV), eq(true), any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@user.com", roles = "ADMIN")
+    @DisplayName("전체 주문 내보내기 API - 기간이 잘못되면 파일을 쓰기 전에 400 응답")
+    void exportOrders_InvalidRange() throws Exception {
+        // given
+        doThrow(new IllegalArgumentException("내보낼 기간이 올바르지 않습니다."))
+                .when(orderExportService).validateRange(LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1));
+
+        // when & then
+        mockMvc.perform(get("/orders/export/all").param("from", "2026-03-31").param("to", "2026-03-01"))
+                .andExpect(status().isBadRequest());
+        verify(orderExportService, never()).exportOrders(any(), any(), any(), eq(false), any());
+    }
+
+    @Test
+    @WithMockUser(username = "test@user.com")
+    @DisplayName("전체 주문 내보내기 API - 관리자가 아니면 거절")
+    void exportOrders_ForbiddenForUser() throws Exception {
+        mockMvc.perform(get("/orders/export/all").param("from", "2026-03-01").param("to", "2026-03-31"))
+                .andExpect(status().isForbidden());
+    }
+}
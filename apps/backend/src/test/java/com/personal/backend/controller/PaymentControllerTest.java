@@ -13,13 +13,18 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -48,13 +53,41 @@ class PaymentControllerTest {
         when(paymentService.confirmPayment(any(PaymentDto.VerificationRequest.class)))
                 .thenReturn(Mono.just(serviceResponse));
 
-        // when & then
-        mockMvc.perform(post("/payments/confirm-toss")
+        // when & then: 컨트롤러는 Mono를 돌려주므로 비동기 처리 결과를 다시 디스패치해서 확인
+        MvcResult result = mockMvc.perform(post("/payments/confirm-toss")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("DONE"))
                 .andExpect(jsonPath("$.totalAmount").value(10000));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "retry@user.com")
+    @DisplayName("결제 검증 API - 같은 Idempotency-Key로 다시 요청하면 PG를 다시 호출하지 않고 처음 결과를 돌려줌")
+    void confirmPayment_ReplaysWithSameIdempotencyKey() throws Exception {
+        // given
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "retry_pk", "retry_oid", 10000);
+        when(paymentService.confirmPayment(any(PaymentDto.VerificationRequest.class)))
+                .thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("DONE", "retry_oid", 10000)));
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(post("/payments/confirm-toss")
+                            .with(csrf())
+                            .header("Idempotency-Key", "confirm-retry_oid")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.orderId").value("retry_oid"));
+        }
+        verify(paymentService, times(1)).confirmPayment(any(PaymentDto.VerificationRequest.class));
+    }
+}
@@ -10,25 +10,35 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.function.ThrowingSupplier;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -52,11 +62,11 @@ class ProductControllerTest {
     void getAllProducts_SearchByKeyword_Success() throws Exception {
         // given
         String keyword = "노트북";
-        ProductDto.Response productResponse = new ProductDto.Response(1L, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList());
+        ProductDto.Response productResponse = new ProductDto.Response(1L, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
         Page<ProductDto.Response> responsePage = new PageImpl<>(List.of(productResponse));
 
         // Mock 설정: 서비스의 findProducts 메소드가 keyword와 함께 호출될 것을 예상
-        when(productService.findProducts(eq(keyword), eq(null), any(Pageable.class), anyString()))
+        when(productService.findProducts(eq(keyword), eq(null), any(Pageable.class), anyString(), any()))
                 .thenReturn(responsePage);
 
         // when & then
@@ -67,16 +77,42 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    @WithMockUser(username = "test@user.com")
+    @DisplayName("상품 목록 커서 조회 API - 성공 (다음 커서 포함)")
+    void scrollProducts_Success() throws Exception {
+        // given
+        ProductDto.Response productResponse = new ProductDto.Response(5L, "상품5", "설명5", 1000, 900, 10, List.of("img5.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
+        Window<ProductDto.Response> window = Window.from(List.of(productResponse),
+                index -> ScrollPosition.forward(Map.of("id", 5L)), true);
+        when(productService.scrollProducts(eq(null), eq(null), eq(null), eq(Limit.of(1)), anyString())).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/products/scroll?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @WithMockUser(username = "test@user.com")
+    @DisplayName("상품 목록 커서 조회 API - 실패 (잘못된 커서)")
+    void scrollProducts_Fail_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/products/scroll?cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "test@user.com")
     @DisplayName("상품 목록 조회 API - 성공 (페이지네이션 적용)")
     void getAllProducts_Success_WithPagination() throws Exception {
         // given
-        ProductDto.Response productResponse = new ProductDto.Response(1L, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList());
+        ProductDto.Response productResponse = new ProductDto.Response(1L, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
         List<ProductDto.Response> responseList = List.of(productResponse);
         Page<ProductDto.Response> responsePage = new PageImpl<>(responseList);
 
-        when(productService.findProducts(eq(null), eq(null), any(Pageable.class), anyString())).thenReturn(responsePage);
+        when(productService.findProducts(eq(null), eq(null), any(Pageable.class), anyString(), any())).thenReturn(responsePage);
 
         // when & then
         mockMvc.perform(get("/products?page=0&size=10"))
@@ -93,7 +129,7 @@ class ProductControllerTest {
     void createProduct_Success_WithAdminRole() throws Exception {
         // given
         ProductDto.CreateRequest request = new ProductDto.CreateRequest("새 상품", "새 설명", 15000, List.of("new.jpg"), 1L, 10, 0.0);
-        ProductDto.Response dummyResponse = new ProductDto.Response(1L, "새 상품", "새 설명", 15000, 13500, 10, List.of("new.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList());
+        ProductDto.Response dummyResponse = new ProductDto.Response(1L, "새 상품", "새 설명", 15000, 13500, 10, List.of("new.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
         when(productService.createProduct(any(ProductDto.CreateRequest.class), anyString())).thenReturn(dummyResponse);
 
         // when & then
@@ -140,17 +176,65 @@ class ProductControllerTest {
         // given
         Long productId = 1L;
         String detailContent = "<p>이것은 상세 설명입니다.</p>";
-        ProductDto.Response productResponse = new ProductDto.Response(productId, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", detailContent, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList());
+        ProductDto.Response productResponse = new ProductDto.Response(productId, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", detailContent, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
 
-        when(productService.findProductById(eq(productId), anyString())).thenReturn(productResponse);
+        when(productService.findProductById(eq(productId), anyString(), eq(true))).thenReturn(productResponse);
 
         // when & then
-        mockMvc.perform(get("/products/{productId}", productId))
+        mockMvc.perform(get("/products/{productId}", productId).param("includeDetail", "true"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(productId))
+                // 응답 DTO의 이미지 객체 키는 직렬화 시 기본 주소가 붙은 URL로 바뀜
+                .andExpect(jsonPath("$.imageUrl[0]").value("https://cdn.test.com/images/img1.jpg"))
                 .andExpect(jsonPath("$.detailContent").value(detailContent));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("상품 상세 조회 API - includeDetail이 없으면 상세 본문 없이 조회")
+    void getProductById_WithoutDetailByDefault() throws Exception {
+        // given
+        Long productId = 1L;
+        ProductDto.Response productResponse = new ProductDto.Response(productId, "상품1", "설명1", 1000, 900, 10, List.of("img1.jpg"), "카테고리1", null, 0, 0, 0.0, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
+
+        when(productService.findProductById(eq(productId), anyString(), eq(false))).thenReturn(productResponse);
+
+        // when & then
+        mockMvc.perform(get("/products/{productId}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.detailContent").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("상품 상세 본문 조회 API - 본문을 HTML로 스트리밍")
+    void getProductDetailContent_Success() throws Exception {
+        // given
+        Long productId = 1L;
+        doAnswer(invocation -> {
+            ThrowingSupplier<OutputStream> output = invocation.getArgument(1);
+            output.get().write("<p>상세 설명</p>".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(productService).writeDetailContent(eq(productId), any());
+
+        // when & then
+        mockMvc.perform(get("/products/{productId}/detail-content", productId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(content().string("<p>상세 설명</p>"));
+    }
+
+    @Test
+    @DisplayName("상품 상세 본문 조회 API - 본문이 없으면 404")
+    void getProductDetailContent_NotFound() throws Exception {
+        // given
+        doThrow(new EntityNotFoundException("상품 상세 정보를 찾을 수 없습니다."))
+                .when(productService).writeDetailContent(eq(99L), any());
+
+        // when & then
+        mockMvc.perform(get("/products/{productId}/detail-content", 99L))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser
     @DisplayName("상품 배송 정책 조회 API - 성공")
@@ -2,14 +2,18 @@ package com.personal.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.backend.dto.QnaDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.QnaService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -17,10 +21,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,7 +54,7 @@ class QnaControllerTest {
         QnaDto.Response qnaResponse = new QnaDto.Response(1L, "이거 재고 있나요?", null, "작성자", LocalDateTime.now(), null);
         Page<QnaDto.Response> responsePage = new PageImpl<>(List.of(qnaResponse));
 
-        when(qnaService.getQnaByProductId(eq(productId), any(Pageable.class))).thenReturn(responsePage);
+        when(qnaService.getQnaByProductId(eq(productId), any(Pageable.class), any())).thenReturn(responsePage);
 
         // when & then
         mockMvc.perform(get("/qna/product/{productId}", productId))
@@ -107,4 +113,54 @@ class QnaControllerTest {
                         .with(csrf()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @DisplayName("상품별 Q&A 커서 조회 API - 커서 이후의 목록과 다음 커서를 반환")
+    void scrollQna_Continuation() throws Exception {
+        // given: id 5 다음부터 1개 조회
+        QnaDto.Response response = new QnaDto.Response(4L, "이거 재고 있나요?", null, "작성자", LocalDateTime.now(), null);
+        Window<QnaDto.Response> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(qnaService.scrollQnaByProductId(1L, ScrollPosition.forward(Map.of("id", 5L)), Limit.of(1))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/qna/product/{productId}/scroll", 1L)
+                        .param("cursor", cursorAt(5L))
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(cursorAt(4L)));
+    }
+
+    @Test
+    @DisplayName("상품별 Q&A 커서 조회 API - 마지막 페이지는 다음 커서 없음")
+    void scrollQna_LastPage() throws Exception {
+        // given
+        QnaDto.Response response = new QnaDto.Response(1L, "배송은 언제 되나요?", null, "작성자", LocalDateTime.now(), null);
+        Window<QnaDto.Response> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(qnaService.scrollQnaByProductId(eq(1L), eq(ScrollPosition.forward(Map.of("id", 2L))), any(Limit.class))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/qna/product/{productId}/scroll", 1L)
+                        .param("cursor", cursorAt(2L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("상품별 Q&A 커서 조회 API - 실패 (잘못된 커서)")
+    void scrollQna_Fail_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/qna/product/{productId}/scroll", 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(qnaService);
+    }
+
+    // 서버가 응답한 것과 같은 형식으로 id 위치의 커서를 만듭니다.
+    private static String cursorAt(long id) {
+        return CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", id)));
+    }
 }
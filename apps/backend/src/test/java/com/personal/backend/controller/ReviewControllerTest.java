@@ -2,24 +2,30 @@ package com.personal.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.backend.dto.ReviewDto;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.service.ReviewService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,7 +53,7 @@ class ReviewControllerTest {
         ReviewDto.Response reviewResponse = new ReviewDto.Response(1L, 5, "아주 좋아요!", "작성자");
         Page<ReviewDto.Response> responsePage = new PageImpl<>(List.of(reviewResponse));
 
-        when(reviewService.getReviewsByProductId(eq(productId), any(Pageable.class))).thenReturn(responsePage);
+        when(reviewService.getReviewsByProductId(eq(productId), any(Pageable.class), any())).thenReturn(responsePage);
 
         // when & then
         mockMvc.perform(get("/reviews/product/{productId}", productId))
@@ -105,4 +111,54 @@ class ReviewControllerTest {
                         .with(csrf()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @DisplayName("상품별 리뷰 커서 조회 API - 커서 이후의 목록과 다음 커서를 반환")
+    void scrollReviews_Continuation() throws Exception {
+        // given: id 5 다음부터 1개 조회
+        ReviewDto.Response response = new ReviewDto.Response(4L, 5, "아주 좋아요!", "작성자");
+        Window<ReviewDto.Response> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(reviewService.scrollReviewsByProductId(1L, ScrollPosition.forward(Map.of("id", 5L)), Limit.of(1))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/reviews/product/{productId}/scroll", 1L)
+                        .param("cursor", cursorAt(5L))
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(cursorAt(4L)));
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 커서 조회 API - 마지막 페이지는 다음 커서 없음")
+    void scrollReviews_LastPage() throws Exception {
+        // given
+        ReviewDto.Response response = new ReviewDto.Response(1L, 4, "좋아요", "작성자");
+        Window<ReviewDto.Response> window = Window.from(List.of(response), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(reviewService.scrollReviewsByProductId(eq(1L), eq(ScrollPosition.forward(Map.of("id", 2L))), any(Limit.class))).thenReturn(window);
+
+        // when & then
+        mockMvc.perform(get("/reviews/product/{productId}/scroll", 1L)
+                        .param("cursor", cursorAt(2L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 커서 조회 API - 실패 (잘못된 커서)")
+    void scrollReviews_Fail_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/reviews/product/{productId}/scroll", 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reviewService);
+    }
+
+    // 서버가 응답한 것과 같은 형식으로 id 위치의 커서를 만듭니다.
+    private static String cursorAt(long id) {
+        return CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", id)));
+    }
 }
@@ -0,0 +1,146 @@
+package com.personal.backend.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderItem;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder().name("양말, \"3켤레\"").price(5000).stockQuantity(100).build());
+    }
+
+    @Test
+    @DisplayName("CSV: 사용자 본인의 주문 항목만 한 줄씩 내보내고, 쉼표와 따옴표가 든 값은 따옴표로 감쌈")
+    void exportUserOrders_Csv() throws IOException {
+        // given
+        User buyer = user("buyer@export.com");
+        order(buyer, LocalDateTime.of(2026, 3, 1, 10, 0), 2);
+        order(user("other@export.com"), LocalDateTime.of(2026, 3, 1, 11, 0), 1);
+        entityManager.flush();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExportService.exportUserOrders("buyer@export.com", OrderExportFormat.CSV, false, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("\uFEFForder_id,pg_order_id,order_date");
+        assertThat(lines.get(1))
+                .contains(",buyer@export.com,")
+                .contains(",\"양말, \"\"3켤레\"\"\",,2,5000,10000");
+    }
+
+    @Test
+    @DisplayName("NDJSON + gzip: 기간 안의 전체 주문을 압축해 한 줄에 JSON 하나씩 내보냄")
+    void exportOrders_NdjsonGzipWithinRange() throws IOException {
+        // given: 3월 1일, 3월 31일 주문은 포함하고 4월 1일 주문은 제외
+        User buyer = user("buyer@export.com");
+        order(buyer, LocalDateTime.of(2026, 3, 1, 0, 0), 1);
+        order(buyer, LocalDateTime.of(2026, 3, 31, 23, 59), 3);
+        order(buyer, LocalDateTime.of(2026, 4, 1, 0, 0), 5);
+        entityManager.flush();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExportService.exportOrders(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31),
+                OrderExportFormat.NDJSON, true, out);
+
+        // then
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(rows).isEqualTo(2);
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = body.lines().map(this::readTree).toList();
+        assertThat(lines).extracting(line -> line.get("count").asInt()).containsExactly(1, 3);
+        assertThat(lines.get(1).get("amount").asLong()).isEqualTo(15000);
+        assertThat(lines.get(1).get("orderDate").asText()).isEqualTo("2026-03-31T23:59:00");
+    }
+
+    @Test
+    @DisplayName("기간이 거꾸로이거나 최대 기간을 넘으면 내보내지 않음")
+    void validateRange_RejectsInvalidRange() {
+        assertThatThrownBy(() -> orderExportService.validateRange(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderExportService.validateRange(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 3, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대");
+    }
+
+    private User user(String email) {
+        return userRepository.save(User.builder().email(email).password("password").username("구매자").role(UserRole.USER).build());
+    }
+
+    private void order(User user, LocalDateTime orderDate, int count) {
+        Order order = Order.builder().user(user).orderDate(orderDate).status(OrderStatus.PAID).pgOrderId(UUID.randomUUID().toString()).build();
+        order.addOrderItem(OrderItem.builder().product(product).orderPrice(product.getPrice()).count(count).build());
+        orderRepository.save(order);
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.personal.backend.dto.QnaDto;
 import com.personal.backend.dto.ReviewDto;
 import com.personal.backend.graphql.dto.QnaInput;
 import com.personal.backend.graphql.dto.ReviewInput;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.repository.UserRepository;
 import com.personal.backend.service.QnaService;
 import com.personal.backend.service.ReviewService;
@@ -16,8 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.test.tester.GraphQlTester;
 import org.springframework.graphql.test.tester.HttpGraphQlTester;
 import org.springframework.test.context.ActiveProfiles;
@@ -28,8 +32,10 @@ import org.springframework.test.web.servlet.client.MockMvcWebTestClient;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -88,7 +94,7 @@ class CommunityGraphqlControllerTest {
     void reviews_query_success() {
         // Given
         ReviewDto.Response review = new ReviewDto.Response(1L, 5, "Great!", "user@test.com");
-        when(reviewService.getReviewsByProductId(anyLong(), any(Pageable.class)))
+        when(reviewService.getReviewsByProductId(anyLong(), any(Pageable.class), any()))
                 .thenReturn(new PageImpl<>(List.of(review)));
     
         User mockAuthor = User.builder().email("user@test.com").build();
@@ -102,7 +108,7 @@ class CommunityGraphqlControllerTest {
                 .path("reviews.content[0].id").entity(String.class).isEqualTo("1")
                 .path("reviews.content[0].author.email").entity(String.class).isEqualTo("user@test.com");
         
-        verify(reviewService).getReviewsByProductId(anyLong(), any(Pageable.class));
+        verify(reviewService).getReviewsByProductId(anyLong(), any(Pageable.class), any());
         verify(userRepository).findByEmailIn(anySet());
     }
     
@@ -111,7 +117,7 @@ class CommunityGraphqlControllerTest {
     void qnas_query_success() {
         // Given
         QnaDto.Response qna = new QnaDto.Response(1L, "Question?", null, "user@test.com", LocalDateTime.now(), null);
-        when(qnaService.getQnaByProductId(anyLong(), any(Pageable.class)))
+        when(qnaService.getQnaByProductId(anyLong(), any(Pageable.class), any()))
                 .thenReturn(new PageImpl<>(List.of(qna)));
     
         User mockAuthor = User.builder().email("user@test.com").build();
@@ -125,7 +131,7 @@ class CommunityGraphqlControllerTest {
                 .path("qnas.content[0].id").entity(String.class).isEqualTo("1")
                 .path("qnas.content[0].author.email").entity(String.class).isEqualTo("user@test.com");
     
-        verify(qnaService).getQnaByProductId(anyLong(), any(Pageable.class));
+        verify(qnaService).getQnaByProductId(anyLong(), any(Pageable.class), any());
         verify(userRepository).findByEmailIn(anySet());
     }
     
@@ -241,4 +247,118 @@ class CommunityGraphqlControllerTest {
     
         verify(qnaService).deleteQna(anyLong(), anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GraphQL Query: 상품별 리뷰 커서 조회 - after 커서 이후의 목록과 다음 커서를 반환 (reviewsConnection)")
+    void reviewsConnection_query_continuation() {
+        // Given: id 5 다음부터 1개 조회
+        ReviewDto.Response node = new ReviewDto.Response(4L, 5, "Great!", "user@test.com");
+        Window<ReviewDto.Response> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(reviewService.scrollReviewsByProductId(eq(1L), eq(ScrollPosition.forward(Map.of("id", 5L))), eq(Limit.of(1)))).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("community")
+                .operationName("ReviewsConnection")
+                .variable("productId", 1L)
+                .variable("first", 1)
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 5L))))
+                .execute()
+                .path("reviewsConnection.edges[0].node.id").entity(String.class).isEqualTo("4")
+                .path("reviewsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("reviewsConnection.pageInfo.endCursor").entity(String.class)
+                .satisfies(cursor -> assertThat(CursorPagination.decode(cursor)).isEqualTo(ScrollPosition.forward(Map.of("id", 4L))));
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 상품별 리뷰 커서 조회 - 마지막 페이지는 다음 페이지 없음 (reviewsConnection)")
+    void reviewsConnection_query_lastPage() {
+        // Given
+        ReviewDto.Response node = new ReviewDto.Response(1L, 4, "Good", "user@test.com");
+        Window<ReviewDto.Response> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(reviewService.scrollReviewsByProductId(eq(1L), eq(ScrollPosition.forward(Map.of("id", 2L))), any())).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("community")
+                .operationName("ReviewsConnection")
+                .variable("productId", 1L)
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 2L))))
+                .execute()
+                .path("reviewsConnection.edges[0].node.id").entity(String.class).isEqualTo("1")
+                .path("reviewsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 상품별 리뷰 커서 조회 - 실패 (잘못된 커서) (reviewsConnection)")
+    void reviewsConnection_query_invalidCursor() {
+        // When & Then
+        graphQlTester.documentName("community")
+                .operationName("ReviewsConnection")
+                .variable("productId", 1L)
+                .variable("after", "not-a-cursor")
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getErrorType().toString()).isEqualTo("BAD_REQUEST");
+                });
+
+        verifyNoInteractions(reviewService);
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 상품별 Q&A 커서 조회 - after 커서 이후의 목록과 다음 커서를 반환 (qnasConnection)")
+    void qnasConnection_query_continuation() {
+        // Given: id 5 다음부터 1개 조회
+        QnaDto.Response node = new QnaDto.Response(4L, "Question?", null, "user@test.com", LocalDateTime.now(), null);
+        Window<QnaDto.Response> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(qnaService.scrollQnaByProductId(eq(1L), eq(ScrollPosition.forward(Map.of("id", 5L))), eq(Limit.of(1)))).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("community")
+                .operationName("QnasConnection")
+                .variable("productId", 1L)
+                .variable("first", 1)
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 5L))))
+                .execute()
+                .path("qnasConnection.edges[0].node.id").entity(String.class).isEqualTo("4")
+                .path("qnasConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("qnasConnection.pageInfo.endCursor").entity(String.class)
+                .satisfies(cursor -> assertThat(CursorPagination.decode(cursor)).isEqualTo(ScrollPosition.forward(Map.of("id", 4L))));
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 상품별 Q&A 커서 조회 - 마지막 페이지는 다음 페이지 없음 (qnasConnection)")
+    void qnasConnection_query_lastPage() {
+        // Given
+        QnaDto.Response node = new QnaDto.Response(1L, "Question?", null, "user@test.com", LocalDateTime.now(), null);
+        Window<QnaDto.Response> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(qnaService.scrollQnaByProductId(eq(1L), eq(ScrollPosition.forward(Map.of("id", 2L))), any())).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("community")
+                .operationName("QnasConnection")
+                .variable("productId", 1L)
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 2L))))
+                .execute()
+                .path("qnasConnection.edges[0].node.id").entity(String.class).isEqualTo("1")
+                .path("qnasConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 상품별 Q&A 커서 조회 - 실패 (잘못된 커서) (qnasConnection)")
+    void qnasConnection_query_invalidCursor() {
+        // When & Then
+        graphQlTester.documentName("community")
+                .operationName("QnasConnection")
+                .variable("productId", 1L)
+                .variable("after", "not-a-cursor")
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getErrorType().toString()).isEqualTo("BAD_REQUEST");
+                });
+
+        verifyNoInteractions(qnaService);
+    }
+}
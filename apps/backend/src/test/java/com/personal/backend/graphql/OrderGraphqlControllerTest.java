@@ -11,6 +11,7 @@ import com.personal.backend.dto.OrderDto;
 import com.personal.backend.dto.PaymentDto;
 import com.personal.backend.graphql.dto.OrderInput;
 import com.personal.backend.graphql.dto.OrderItemInput;
+import com.personal.backend.pagination.CursorPagination;
 import com.personal.backend.repository.OrderRepository;
 import com.personal.backend.repository.ProductRepository;
 import com.personal.backend.repository.UserRepository;
@@ -25,8 +26,11 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.test.tester.GraphQlTester;
 import org.springframework.graphql.test.tester.HttpGraphQlTester;
 import org.springframework.test.context.ActiveProfiles;
@@ -42,10 +46,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -148,8 +154,10 @@ class OrderGraphqlControllerTest {
     @DisplayName("GraphQL Query: 내 주문 목록 조회 - 성공 (myOrders)")
     void myOrders_query_success() {
         // Given
-        Page<OrderDto.HistoryResponse> orderPage = new PageImpl<>(List.of(mockOrderHistory));
-        when(orderService.getOrderHistory(anyString(), any())).thenReturn(orderPage);
+        OrderDto.OrderItemResponse item = new OrderDto.OrderItemResponse(10L, 101L, "Test Product", "사이즈: 270", "products/a.jpg", 2, 10000);
+        Page<OrderDto.HistoryResponse> orderPage = new PageImpl<>(List.of(new OrderDto.HistoryResponse(
+                1L, LocalDateTime.now(), OrderStatus.PENDING.name(), List.of(item))));
+        when(orderService.getOrderHistory(anyString(), any(), any())).thenReturn(orderPage);
 
         // When & Then
         graphQlTester.documentName("order")
@@ -159,7 +167,10 @@ class OrderGraphqlControllerTest {
                 .execute()
                 .path("myOrders.content").entityList(Object.class).hasSize(1)
                 .path("myOrders.content[0].id").entity(String.class).isEqualTo("1")
-                .path("myOrders.content[0].status").entity(String.class).isEqualTo("PENDING");
+                .path("myOrders.content[0].status").entity(String.class).isEqualTo("PENDING")
+                .path("myOrders.content[0].totalAmount").entity(Integer.class).isEqualTo(20000)
+                .path("myOrders.content[0].items[0].productName").entity(String.class).isEqualTo("Test Product")
+                .path("myOrders.content[0].items[0].optionName").entity(String.class).isEqualTo("사이즈: 270");
     }
 
     @Test
@@ -217,7 +228,7 @@ class OrderGraphqlControllerTest {
     @DisplayName("GraphQL Mutation: 주문 생성 - 성공 (createOrder)")
     void createOrder_mutation_success() {
         // Given
-        OrderInput orderInput = new OrderInput(List.of(new OrderItemInput(101L, 1)));
+        OrderInput orderInput = new OrderInput(List.of(new OrderItemInput(101L, null, 1)));
         List<OrderDto.OrderItemRequest> orderItemRequests = orderInput.items().stream()
                 .map(item -> new OrderDto.OrderItemRequest(item.productId(), item.count()))
                 .toList();
@@ -256,10 +267,10 @@ class OrderGraphqlControllerTest {
         OrderDto.HistoryResponse canceledOrder = new OrderDto.HistoryResponse(
                 1L,
                 LocalDateTime.now(),
-                OrderStatus.CANCELED.name(),
+                OrderStatus.CANCEL_REQUESTED.name(),
                 Collections.emptyList()
         );
-        when(orderService.cancelOrder(anyString(), anyLong(), anyString())).thenReturn(canceledOrder);
+        when(orderService.requestCancel(anyString(), anyLong(), anyString())).thenReturn(canceledOrder);
 
         // When & Then
         graphQlTester.documentName("order")
@@ -268,7 +279,7 @@ class OrderGraphqlControllerTest {
                 .variable("reason", "No longer needed")
                 .execute()
                 .path("cancelOrder.id").entity(String.class).isEqualTo("1")
-                .path("cancelOrder.status").entity(String.class).isEqualTo(OrderStatus.CANCELED.name());
+                .path("cancelOrder.status").entity(String.class).isEqualTo(OrderStatus.CANCEL_REQUESTED.name());
     }
 
     @Test
@@ -295,4 +306,58 @@ class OrderGraphqlControllerTest {
                 .path("confirmTossPayment.orderId").entity(String.class).isEqualTo("pg-order-id-123")
                 .path("confirmTossPayment.status").entity(String.class).isEqualTo("DONE");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GraphQL Query: 주문 내역 커서 조회 - after 커서 이후의 목록과 다음 커서를 반환 (myOrdersConnection)")
+    void myOrdersConnection_query_continuation() {
+        // Given: id 5 다음부터 1개 조회
+        OrderDto.HistoryResponse node = new OrderDto.HistoryResponse(4L, LocalDateTime.now(), OrderStatus.PAID.name(), Collections.emptyList());
+        Window<OrderDto.HistoryResponse> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(orderService.scrollOrderHistory(eq("user@test.com"), eq(ScrollPosition.forward(Map.of("id", 5L))), eq(Limit.of(1)))).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("order")
+                .operationName("MyOrdersConnection")
+                .variable("first", 1)
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 5L))))
+                .execute()
+                .path("myOrdersConnection.edges[0].node.id").entity(String.class).isEqualTo("4")
+                .path("myOrdersConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("myOrdersConnection.pageInfo.endCursor").entity(String.class)
+                .satisfies(cursor -> assertThat(CursorPagination.decode(cursor)).isEqualTo(ScrollPosition.forward(Map.of("id", 4L))));
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 주문 내역 커서 조회 - 마지막 페이지는 다음 페이지 없음 (myOrdersConnection)")
+    void myOrdersConnection_query_lastPage() {
+        // Given
+        OrderDto.HistoryResponse node = new OrderDto.HistoryResponse(1L, LocalDateTime.now(), OrderStatus.PAID.name(), Collections.emptyList());
+        Window<OrderDto.HistoryResponse> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(orderService.scrollOrderHistory(eq("user@test.com"), eq(ScrollPosition.forward(Map.of("id", 2L))), any())).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("order")
+                .operationName("MyOrdersConnection")
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 2L))))
+                .execute()
+                .path("myOrdersConnection.edges[0].node.id").entity(String.class).isEqualTo("1")
+                .path("myOrdersConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 주문 내역 커서 조회 - 실패 (잘못된 커서) (myOrdersConnection)")
+    void myOrdersConnection_query_invalidCursor() {
+        // When & Then
+        graphQlTester.documentName("order")
+                .operationName("MyOrdersConnection")
+                .variable("after", "not-a-cursor")
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getErrorType().toString()).isEqualTo("BAD_REQUEST");
+                });
+
+        verifyNoInteractions(orderService);
+    }
+}
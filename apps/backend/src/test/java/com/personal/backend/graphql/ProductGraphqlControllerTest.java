@@ -10,6 +10,10 @@ import com.personal.backend.domain.UserRole;
 import com.personal.backend.dto.CategoryDto;
 import com.personal.backend.dto.ProductDto;
 import com.personal.backend.graphql.dto.ProductInput;
+import com.personal.backend.pagination.CursorPagination;
+import com.personal.backend.search.ProductFacetQuery;
+import com.personal.backend.search.ProductFacetResult;
+import com.personal.backend.search.ProductFacetSort;
 import com.personal.backend.repository.UserRepository;
 import com.personal.backend.service.CategoryService;
 import com.personal.backend.service.LikeService;
@@ -26,9 +30,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.test.tester.GraphQlTester;
 import org.springframework.graphql.test.tester.HttpGraphQlTester;
 import org.springframework.test.context.ActiveProfiles;
@@ -41,14 +48,20 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @SpringBootTest
 @AutoConfigureMockMvc // MockMvc를 사용하여 웹 환경을 모의합니다.
@@ -112,7 +125,7 @@ class ProductGraphqlControllerTest {
 
         mockProductDto = new ProductDto.Response(
                 1L, "Test Product", "Description", 10000, 9000, 10,
-                List.of("image.jpg"), "CategoryName", "Detail Content", 5, 3, 4.5, 0.1, false, Collections.emptyList(), Collections.emptyList()
+                List.of("image.jpg"), "CategoryName", "Detail Content", 5, 3, 4.5, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0
         );
     }
     
@@ -125,12 +138,12 @@ class ProductGraphqlControllerTest {
     void productsQuery_success() {
         // Given
         List<ProductDto.Response> productDtos = List.of(
-            new ProductDto.Response(1L, "Product A", "Desc A", 100, 90, 5, List.of("img1.jpg"), "CategoryName", "Detail", 0, 0, 0.0, 0.0, false, Collections.emptyList(), Collections.emptyList()),
-            new ProductDto.Response(2L, "Product B", "Desc B", 200, 180, 10, List.of("img2.jpg"), "CategoryName", "Detail", 0, 0, 0.0, 0.0, false, Collections.emptyList(), Collections.emptyList())
+            new ProductDto.Response(1L, "Product A", "Desc A", 100, 90, 5, List.of("img1.jpg"), "CategoryName", "Detail", 0, 0, 0.0, 0.0, false, Collections.emptyList(), Collections.emptyList(), 0),
+            new ProductDto.Response(2L, "Product B", "Desc B", 200, 180, 10, List.of("img2.jpg"), "CategoryName", "Detail", 0, 0, 0.0, 0.0, false, Collections.emptyList(), Collections.emptyList(), 0)
         );
         Page<ProductDto.Response> responsePage = new PageImpl<>(productDtos, PageRequest.of(0, 10), productDtos.size());
         
-        when(productService.findProducts(any(), any(), any(), anyString())).thenReturn(responsePage);
+        when(productService.findProducts(any(), any(), any(), anyString(), any())).thenReturn(responsePage);
         
         List<Product> mockProductsForBatch = productDtos.stream().map(dto -> {
             Product mockProduct = Mockito.mock(Product.class);
@@ -153,6 +166,81 @@ class ProductGraphqlControllerTest {
                 .path("products.content[0].user.id").entity(String.class).isEqualTo("1");
     }
 
+    @Test
+    @DisplayName("GraphQL Query: 상품 목록 커서 조회 - after 커서를 keyset 위치로 변환하여 전달 (productsConnection)")
+    void productsConnectionQuery_success() {
+        // Given
+        ScrollPosition after = ScrollPosition.forward(Map.of("id", 3L));
+        List<ProductDto.Response> productDtos = List.of(
+            new ProductDto.Response(2L, "Product B", "Desc B", 200, 180, 10, List.of("img2.jpg"), "CategoryName", null, 0, 0, 0.0, 0.0, false, Collections.emptyList(), Collections.emptyList(), 0),
+            new ProductDto.Response(1L, "Product A", "Desc A", 100, 90, 5, List.of("img1.jpg"), "CategoryName", null, 0, 0, 0.0, 0.0, false, Collections.emptyList(), Collections.emptyList(), 0)
+        );
+        Window<ProductDto.Response> window = Window.from(productDtos,
+                index -> ScrollPosition.forward(Map.of("id", productDtos.get(index).id())), true);
+        when(productService.scrollProducts(isNull(), isNull(), eq(after), any(), anyString())).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("product")
+                .operationName("ProductsConnection")
+                .variable("first", 2)
+                .variable("after", CursorPagination.toResponse(Window.from(List.of("x"), index -> after, true)).nextCursor())
+                .execute()
+                .path("productsConnection.edges[0].node.name").entity(String.class).isEqualTo("Product B")
+                .path("productsConnection.edges[1].node.id").entity(String.class).isEqualTo("1")
+                .path("productsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("productsConnection.pageInfo.endCursor").entity(String.class)
+                .satisfies(cursor -> assertThat(CursorPagination.decode(cursor)).isEqualTo(ScrollPosition.forward(Map.of("id", 1L))));
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 필터 검색 - 필터 조건을 변환해 전달하고 항목별 개수를 반환 (productSearch)")
+    void productSearchQuery_success() {
+        // Given
+        ProductFacetQuery expectedQuery = new ProductFacetQuery(List.of(1L), List.of(7L), 10000, null, null, 4.0, true);
+        ProductFacetResult.Facets facets = new ProductFacetResult.Facets(
+                List.of(new ProductFacetResult.FacetCount(1L, "CategoryName", 1)),
+                List.of(new ProductFacetResult.FacetCount(7L, "게이밍", 1)),
+                1);
+        ProductDto.FacetSearchResponse response = new ProductDto.FacetSearchResponse(
+                List.of(mockProductDto), 1, 1, 10, 0, false, facets);
+        when(productService.searchByFacets(eq(expectedQuery), eq(ProductFacetSort.PRICE_ASC), eq(0), eq(10), anyString()))
+                .thenReturn(response);
+
+        // When & Then
+        graphQlTester.documentName("product")
+                .operationName("ProductSearch")
+                .variable("filter", Map.of("categoryIds", List.of("1"), "tagIds", List.of("7"),
+                        "minPrice", 10000, "minRating", 4.0, "inStock", true))
+                .variable("sort", "PRICE_ASC")
+                .execute()
+                .path("productSearch.content[0].id").entity(String.class).isEqualTo("1")
+                .path("productSearch.totalElements").entity(Integer.class).isEqualTo(1)
+                .path("productSearch.hasNext").entity(Boolean.class).isEqualTo(false)
+                .path("productSearch.facets.categories[0].count").entity(Integer.class).isEqualTo(1)
+                .path("productSearch.facets.tags[0].name").entity(String.class).isEqualTo("게이밍")
+                .path("productSearch.facets.inStock").entity(Integer.class).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 상세 본문을 선택하면 본문을 따로 조회 (product.detailContent)")
+    void productQuery_DetailContentResolvedOnlyWhenSelected() {
+        // Given: 캐시된 상세 응답에는 본문이 없음
+        ProductDto.Response withoutDetail = new ProductDto.Response(
+                1L, "Test Product", "Description", 10000, 9000, 10,
+                List.of("image.jpg"), "CategoryName", null, 5, 3, 4.5, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0);
+        when(productService.findProductById(anyLong(), anyString())).thenReturn(withoutDetail);
+        when(productService.findDetailContents(Set.of(1L))).thenReturn(Map.of(1L, "<p>상세</p>"));
+
+        // When & Then
+        graphQlTester.documentName("product")
+                .operationName("ProductDetail")
+                .variable("id", 1L)
+                .execute()
+                .path("product.detailContent").entity(String.class).isEqualTo("<p>상세</p>")
+                // 이미지 객체 키는 응답 시 기본 주소가 붙은 URL로 바뀜
+                .path("product.imageUrl[0]").entity(String.class).isEqualTo("https://cdn.test.com/images/image.jpg");
+    }
+
     @Test
     @DisplayName("GraphQL Query: 상품 상세 조회 - 성공 (product)")
     void productQueryById_success() {
@@ -175,6 +263,8 @@ class ProductGraphqlControllerTest {
                 .path("product.name").entity(String.class).isEqualTo("Test Product")
                 .path("product.user.id").entity(String.class).isEqualTo("1")
                 .path("product.category.name").entity(String.class).isEqualTo("CategoryName");
+        // detailContent를 선택하지 않았으므로 상세 본문은 읽지 않음
+        verify(productService, never()).findDetailContents(any());
     }
 
     @Test
@@ -182,7 +272,7 @@ class ProductGraphqlControllerTest {
     void myLikesQuery_success() {
         // Given
         Page<ProductDto.Response> responsePage = new PageImpl<>(List.of(mockProductDto));
-        when(likeService.getLikedProducts(anyString(), any())).thenReturn(responsePage);
+        when(likeService.getLikedProducts(anyString(), any(), any())).thenReturn(responsePage);
 
         // When & Then
         graphQlTester.documentName("product")
@@ -244,7 +334,7 @@ class ProductGraphqlControllerTest {
         // Given
         ProductDto.Response updatedDto = new ProductDto.Response(
             1L, "Updated Name", "Updated Desc", 10000, 9000, 10,
-            List.of("image.jpg"), "CategoryName", "Detail Content", 5, 3, 4.5, 0.1, false, Collections.emptyList(), Collections.emptyList()
+            List.of("image.jpg"), "CategoryName", "Detail Content", 5, 3, 4.5, 0.1, false, Collections.emptyList(), Collections.emptyList(), 0
         );
         ProductInput input = new ProductInput("Updated Name", "Updated Desc", 10000, List.of("image.jpg"), 1L, 50, 0.0,"Detail");
         when(productService.updateProduct(anyLong(), any(), anyString())).thenReturn(updatedDto);
@@ -359,4 +449,58 @@ class ProductGraphqlControllerTest {
                     assertThat(errors.get(0).getPath()).isEqualTo("product");
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GraphQL Query: 내 찜 목록 커서 조회 - after 커서 이후의 목록과 다음 커서를 반환 (myLikesConnection)")
+    void myLikesConnection_query_continuation() {
+        // Given: id 5 다음부터 1개 조회
+        ProductDto.Response node = new ProductDto.Response(4L, "Product D", "Desc D", 400, 360, 10, List.of("img4.jpg"), "CategoryName", null, 0, 0, 0.0, 0.0, true, Collections.emptyList(), Collections.emptyList(), 0);
+        Window<ProductDto.Response> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 4L)), true);
+        when(likeService.scrollLikedProducts(eq("admin@test.com"), eq(ScrollPosition.forward(Map.of("id", 5L))), eq(Limit.of(1)))).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("product")
+                .operationName("MyLikesConnection")
+                .variable("first", 1)
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 5L))))
+                .execute()
+                .path("myLikesConnection.edges[0].node.id").entity(String.class).isEqualTo("4")
+                .path("myLikesConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("myLikesConnection.pageInfo.endCursor").entity(String.class)
+                .satisfies(cursor -> assertThat(CursorPagination.decode(cursor)).isEqualTo(ScrollPosition.forward(Map.of("id", 4L))));
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 내 찜 목록 커서 조회 - 마지막 페이지는 다음 페이지 없음 (myLikesConnection)")
+    void myLikesConnection_query_lastPage() {
+        // Given
+        ProductDto.Response node = new ProductDto.Response(1L, "Product A", "Desc A", 100, 90, 5, List.of("img1.jpg"), "CategoryName", null, 0, 0, 0.0, 0.0, true, Collections.emptyList(), Collections.emptyList(), 0);
+        Window<ProductDto.Response> window = Window.from(List.of(node), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+        when(likeService.scrollLikedProducts(eq("admin@test.com"), eq(ScrollPosition.forward(Map.of("id", 2L))), any())).thenReturn(window);
+
+        // When & Then
+        graphQlTester.documentName("product")
+                .operationName("MyLikesConnection")
+                .variable("after", CursorPagination.cursorStrategy().toCursor(ScrollPosition.forward(Map.of("id", 2L))))
+                .execute()
+                .path("myLikesConnection.edges[0].node.id").entity(String.class).isEqualTo("1")
+                .path("myLikesConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GraphQL Query: 내 찜 목록 커서 조회 - 실패 (잘못된 커서) (myLikesConnection)")
+    void myLikesConnection_query_invalidCursor() {
+        // When & Then
+        graphQlTester.documentName("product")
+                .operationName("MyLikesConnection")
+                .variable("after", "not-a-cursor")
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getErrorType().toString()).isEqualTo("BAD_REQUEST");
+                });
+
+        verifyNoInteractions(likeService);
+    }
+}
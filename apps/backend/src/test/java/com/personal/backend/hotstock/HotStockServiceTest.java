@@ -0,0 +1,191 @@
+package com.personal.backend.hotstock;
+
+import com.personal.backend.config.order.HotStockProperties;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductOption;
+import com.personal.backend.repository.HotStockJournalRepository;
+import com.personal.backend.repository.HotStockProductRepository;
+import com.personal.backend.repository.ProductOptionRepository;
+import com.personal.backend.repository.ProductRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 핫 상품 재고는 트랜잭션 결과에 맞춰 카운터가 바뀌고 DB에는 기록 반영 시점에만 쓰이므로,
+ * 테스트 트랜잭션 대신 TransactionTemplate으로 실제 커밋/롤백을 일으켜 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HotStockServiceTest {
+
+    @Autowired
+    private HotStockService hotStockService;
+
+    @Autowired
+    private HotStockProductRepository hotStockProductRepository;
+
+    @Autowired
+    private HotStockJournalRepository hotStockJournalRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private HotStockProperties hotStockProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+    private Long optionId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = productRepository.save(Product.builder().name("한정판 운동화").price(1000).stockQuantity(50).build());
+            ProductOption option = productOptionRepository.save(ProductOption.builder()
+                    .product(product).optionGroupName("사이즈").optionName("270").additionalPrice(0).stockQuantity(20).build());
+            productId = product.getId();
+            optionId = option.getId();
+        });
+        hotStockService.promote(productId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotStockService.demote(productId);
+        productOptionRepository.deleteById(optionId);
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("핫 상품은 상품 행을 바꾸지 않고 카운터에서 차감하며, 기록을 반영하면 DB 재고에 합계가 더해짐")
+    void reserveAndCommit_UpdateCounterFirstAndDatabaseOnFlush() {
+        // when: 3개 예약, 그중 2개 결제 완료, 옵션 2개 차감
+        reserve(3);
+        transactionTemplate.executeWithoutResult(status -> {
+            hotStockService.commitReserved(productId, 2);
+            hotStockService.decreaseOptionStock(productId, optionId, 2);
+        });
+
+        // then: 카운터에는 바로 보이고, DB는 반영 전까지 그대로
+        assertThat(hotStockService.availableStock(productId)).isEqualTo(47);
+        assertThat(hotStockService.optionStock(optionId)).isEqualTo(18);
+        assertThat(productRepository.findAvailableStockById(productId)).contains(50);
+
+        assertThat(hotStockService.flush(100)).isEqualTo(3);
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getStockQuantity()).isEqualTo(48);
+        assertThat(product.getReservedQuantity()).isEqualTo(1);
+        assertThat(productOptionRepository.findById(optionId).orElseThrow().getStockQuantity()).isEqualTo(18);
+        assertThat(hotStockJournalRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 차감했던 수량을 카운터에 되돌리고 기록도 남지 않음")
+    void reserve_RollbackReturnsStockToCounter() {
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            hotStockService.reserve(productId, 5);
+            throw new IllegalStateException("주문 저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(hotStockService.availableStock(productId)).isEqualTo(50);
+        assertThat(hotStockJournalRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 예약해도 카운터 재고만큼만 성공하고, 반영 후 DB 예약 수량과 일치")
+    void reserve_ParallelBuyersGetNoMoreThanStock() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when: 8개 스레드가 10번씩 1개 예약 시도 (총 80건, 재고 50개)
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < 10; n++) {
+                    if (reserve(1)) {
+                        succeeded.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(succeeded.get()).isEqualTo(50);
+        assertThat(hotStockService.availableStock(productId)).isZero();
+        hotStockService.flush(1000);
+        assertThat(productRepository.findById(productId).orElseThrow().getReservedQuantity()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("서버가 기록을 반영하기 전에 멈춰도, 다시 시작하면 남은 기록을 반영한 뒤 DB 재고로 카운터를 복구")
+    void reconcile_AppliesPendingJournalBeforeLoadingCounters() {
+        // given: 4개 예약 후 반영하지 못한 채 서버가 멈춤
+        reserve(4);
+        HotStockService restarted = new HotStockService(hotStockProductRepository, hotStockJournalRepository,
+                productRepository, productOptionRepository, hotStockProperties, eventPublisher);
+        assertThat(restarted.isHot(productId)).isFalse();
+
+        // when: 프록시가 아닌 인스턴스이므로 트랜잭션은 테스트에서 열어 줌
+        transactionTemplate.executeWithoutResult(status -> new HotStockFlusher(restarted, hotStockProperties).reconcile());
+
+        // then
+        assertThat(restarted.isHot(productId)).isTrue();
+        assertThat(restarted.availableStock(productId)).isEqualTo(46);
+        assertThat(restarted.optionStock(optionId)).isEqualTo(20);
+        assertThat(productRepository.findById(productId).orElseThrow().getReservedQuantity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("핫 상품 지정을 해제하면 쌓인 기록을 DB에 반영하고 이후에는 DB 재고로 처리")
+    void demote_FlushesJournalAndFallsBackToDatabase() {
+        // given
+        reserve(2);
+
+        // when
+        hotStockService.demote(productId);
+
+        // then
+        assertThat(hotStockService.isHot(productId)).isFalse();
+        assertThat(hotStockService.isHotOption(optionId)).isFalse();
+        assertThat(hotStockProductRepository.existsById(productId)).isFalse();
+        assertThat(productRepository.findAvailableStockById(productId)).contains(48);
+        assertThat(hotStockJournalRepository.count()).isZero();
+    }
+
+    private boolean reserve(int quantity) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> hotStockService.reserve(productId, quantity)));
+    }
+}
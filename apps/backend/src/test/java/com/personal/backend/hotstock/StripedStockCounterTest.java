@@ -0,0 +1,62 @@
+package com.personal.backend.hotstock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("한 조각만으로 부족해도 합계가 충분하면 조각을 모아 차감")
+    void tryTake_RebalancesAcrossStripes() {
+        // given: 재고 10개를 4조각에 나눔 (3, 3, 2, 2)
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        // when & then
+        assertThat(counter.tryTake(7)).isTrue();
+        assertThat(counter.available()).isEqualTo(3);
+        assertThat(counter.tryTake(4)).isFalse();
+        assertThat(counter.available()).isEqualTo(3);
+        counter.give(2);
+        assertThat(counter.tryTake(5)).isTrue();
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 차감해도 처음 재고보다 많이 차감되지 않음")
+    void tryTake_NeverOversellsUnderContention() throws InterruptedException {
+        // given
+        StripedStockCounter counter = new StripedStockCounter(8, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger taken = new AtomicInteger();
+
+        // when: 8개 스레드가 1~3개씩 300번씩 차감 시도
+        for (int i = 0; i < 8; i++) {
+            int quantity = i % 3 + 1;
+            executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < 300; n++) {
+                    if (counter.tryTake(quantity)) {
+                        taken.addAndGet(quantity);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(taken.get() + counter.available()).isEqualTo(1000);
+        assertThat(counter.available()).isLessThan(3);
+    }
+}
@@ -0,0 +1,293 @@
+package com.personal.backend.idempotency;
+
+import com.personal.backend.config.order.IdempotencyProperties;
+import com.personal.backend.exception.RetryableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    private MutableClock clock;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 다시 실행하지 않고 처음 결과를 돌려줌")
+    void execute_ReplaysFirstResult() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+
+        // when
+        int first = store.execute("createOrder", "user@test.com", "key-1", "request", this::run);
+        int second = store.execute("createOrder", "user@test.com", "key-1", "request", this::run);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 없거나, 사용자나 작업이 다르면 각각 실행")
+    void execute_ScopesKeyByOperationAndPrincipal() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+
+        // when
+        store.execute("createOrder", "user@test.com", null, "request", this::run);
+        store.execute("createOrder", "user@test.com", null, "request", this::run);
+        store.execute("createOrder", "user@test.com", "key-1", "request", this::run);
+        store.execute("createOrder", "other@test.com", "key-1", "request", this::run);
+        store.execute("confirmTossPayment", "user@test.com", "key-1", "request", this::run);
+
+        // then
+        assertThat(executions.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 요청 내용을 보내면 거절")
+    void execute_RejectsDifferentRequestWithSameKey() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+        store.execute("createOrder", "user@test.com", "key-1", "request", this::run);
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("createOrder", "user@test.com", "key-1", "other request", this::run))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.execute("createOrder", "user@test.com", " ", "request", this::run))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않아 같은 키로 다시 시도할 수 있음")
+    void execute_DoesNotKeepFailures() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+
+        // when
+        assertThatThrownBy(() -> store.execute("createOrder", "user@test.com", "key-1", "request", () -> {
+            throw new IllegalStateException("PG 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        int retried = store.execute("createOrder", "user@test.com", "key-1", "request", this::run);
+
+        // then
+        assertThat(retried).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 처리 중이면 새로 실행하지 않고 그 결과를 기다림")
+    void execute_ConcurrentDuplicateWaitsForFirst() throws Exception {
+        // given
+        IdempotencyStore store = store(100, Duration.ofSeconds(5));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> store.execute("createOrder", "user@test.com", "key-1", "request", () -> {
+            entered.countDown();
+            await(release);
+            return run();
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Integer> duplicate = CompletableFuture.supplyAsync(() -> store.execute("createOrder", "user@test.com", "key-1", "request", this::run));
+        Thread.sleep(50);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청을 maxWait까지 기다려도 끝나지 않으면 재시도 가능한 오류")
+    void execute_DuplicateTimesOutWhileFirstIsRunning() throws Exception {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> store.execute("createOrder", "user@test.com", "key-1", "request", () -> {
+            entered.countDown();
+            await(release);
+            return run();
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("createOrder", "user@test.com", "key-1", "request", this::run))
+                .isInstanceOf(RetryableException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나거나 최대 크기를 넘으면 오래된 응답을 제거")
+    void execute_EvictsExpiredAndEldestEntries() {
+        // given
+        IdempotencyStore store = store(2, Duration.ofMillis(50));
+        store.execute("createOrder", "user@test.com", "key-1", "request", this::run);
+        store.execute("createOrder", "user@test.com", "key-2", "request", this::run);
+        store.execute("createOrder", "user@test.com", "key-3", "request", this::run);
+
+        // when
+        int size = store.size();
+        clock.advance(Duration.ofHours(24));
+        store.evictExpired();
+
+        // then
+        assertThat(size).isEqualTo(2);
+        assertThat(store.size()).isZero();
+        assertThat(store.execute("createOrder", "user@test.com", "key-3", "request", this::run)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("비동기 실행 - 처리 중인 같은 키의 요청은 스레드를 잡지 않고 첫 결과를 이어받음")
+    void executeAsync_DuplicateSharesFirstResult() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofSeconds(5));
+        Sinks.One<Integer> pg = Sinks.one();
+        Mono<Integer> first = store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> {
+            run();
+            return pg.asMono();
+        });
+        Mono<Integer> duplicate = store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> Mono.fromSupplier(this::run));
+
+        // when & then
+        StepVerifier.create(Mono.zip(first, duplicate))
+                .then(() -> pg.tryEmitValue(42))
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isEqualTo(42);
+                    assertThat(results.getT2()).isEqualTo(42);
+                })
+                .verifyComplete();
+        StepVerifier.create(store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> Mono.fromSupplier(this::run)))
+                .expectNext(42)
+                .verifyComplete();
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 실행 - 실패한 요청은 보관하지 않음")
+    void executeAsync_DoesNotKeepFailures() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+
+        // when
+        StepVerifier.create(store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request",
+                        () -> Mono.<Integer>error(new IllegalStateException("PG 오류"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // then
+        assertThat(store.size()).isZero();
+        StepVerifier.create(store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> Mono.fromSupplier(this::run)))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("비동기 실행 - 구독이 취소되어도 작업은 끝까지 실행되고, 같은 키의 재시도는 다시 실행하지 않고 그 결과를 받음")
+    void executeAsync_CancelledRequestKeepsRunning() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofSeconds(5));
+        Sinks.One<Integer> pg = Sinks.one();
+        StepVerifier.create(store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> {
+                    run();
+                    return pg.asMono();
+                }))
+                .thenCancel()
+                .verify();
+
+        // when
+        assertThat(store.size()).isEqualTo(1);
+        Mono<Integer> retry = store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> Mono.fromSupplier(this::run));
+
+        // then
+        StepVerifier.create(retry)
+                .then(() -> pg.tryEmitValue(42))
+                .expectNext(42)
+                .verifyComplete();
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 실행 - 처리 중인 요청이 maxWait 안에 끝나지 않으면 재시도 가능한 오류")
+    void executeAsync_DuplicateTimesOutWhileFirstIsRunning() {
+        // given
+        IdempotencyStore store = store(100, Duration.ofMillis(50));
+        store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", Mono::<Integer>never).subscribe();
+
+        // when & then
+        StepVerifier.create(store.executeAsync("confirmTossPayment", "user@test.com", "key-1", "request", () -> Mono.fromSupplier(this::run)))
+                .expectError(RetryableException.class)
+                .verify(Duration.ofSeconds(5));
+        assertThat(executions.get()).isZero();
+    }
+
+    private IdempotencyStore store(int maximumSize, Duration maxWait) {
+        IdempotencyProperties properties = new IdempotencyProperties(maximumSize, Duration.ofHours(24), maxWait, Duration.ofSeconds(1));
+        return new IdempotencyStore(properties, new SimpleMeterRegistry(), clock);
+    }
+
+    private int run() {
+        return executions.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.personal.backend.image;
+
+import com.personal.backend.config.image.ImageProperties;
+import com.personal.backend.domain.Product;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+import com.personal.backend.summary.ProductSummaryUpdater;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@EnableConfigurationProperties(ImageProperties.class)
+@Import({ImageKeyMigration.class, ImageUrlResolver.class, ProductSummaryUpdater.class})
+class ImageKeyMigrationTest {
+
+    private static final String OCI_PREFIX = "https://objectstorage.ap-chuncheon-1.oraclecloud.com/n/ns/b/bucket/o/";
+
+    @Autowired
+    private ImageKeyMigration imageKeyMigration;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("전체 URL로 저장된 이미지는 객체 키로 바꾸고, 외부 URL은 그대로 둠")
+    void migrate_ReplacesUrlsWithKeys() {
+        // given
+        Product legacy = productRepository.save(Product.builder().name("노트북").price(1000)
+                .imageUrl(new ArrayList<>(List.of(OCI_PREFIX + "a_laptop.jpg", "https://external.com/b.jpg"))).build());
+        Product migrated = productRepository.save(Product.builder().name("키보드").price(1000)
+                .imageUrl(new ArrayList<>(List.of("c_keyboard.jpg"))).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        imageKeyMigration.migrate();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(productRepository.findById(legacy.getId()).orElseThrow().getImageUrl())
+                .containsExactlyInAnyOrder("a_laptop.jpg", "https://external.com/b.jpg");
+        assertThat(productRepository.findById(migrated.getId()).orElseThrow().getImageUrl())
+                .containsExactly("c_keyboard.jpg");
+        // 바뀐 상품의 요약 정보도 객체 키로 다시 채워짐
+        assertThat(productSummaryRepository.findById(legacy.getId())).isPresent();
+        assertThat(productSummaryRepository.findById(migrated.getId())).isEmpty();
+    }
+}
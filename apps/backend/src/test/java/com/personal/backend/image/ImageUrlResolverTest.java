@@ -0,0 +1,44 @@
+package com.personal.backend.image;
+
+import com.personal.backend.config.image.ImageProperties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageUrlResolverTest {
+
+    private final ImageUrlResolver resolver = new ImageUrlResolver(new ImageProperties("https://cdn.test.com/images"));
+
+    @Test
+    @DisplayName("객체 키에 기본 주소를 붙여 URL을 만들고, 이미 URL이면 그대로 반환")
+    void toUrl() {
+        assertThat(resolver.toUrl("uuid_laptop.jpg")).isEqualTo("https://cdn.test.com/images/uuid_laptop.jpg");
+        assertThat(resolver.toUrl("https://external.com/a.jpg")).isEqualTo("https://external.com/a.jpg");
+        assertThat(resolver.toUrl(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("기본 주소나 Object Storage 주소의 URL은 객체 키로 바꾸고, 외부 URL과 객체 키는 그대로 둠")
+    void toKey() {
+        assertThat(resolver.toKey("https://cdn.test.com/images/uuid_laptop.jpg")).isEqualTo("uuid_laptop.jpg");
+        assertThat(resolver.toKey("https://objectstorage.ap-chuncheon-1.oraclecloud.com/n/ns/b/bucket/o/uuid_keyboard.jpg"))
+                .isEqualTo("uuid_keyboard.jpg");
+        assertThat(resolver.toKey("https://external.com/a.jpg")).isEqualTo("https://external.com/a.jpg");
+        assertThat(resolver.toKey("uuid_monitor.jpg")).isEqualTo("uuid_monitor.jpg");
+    }
+
+    @Test
+    @DisplayName("목록 변환 결과는 엔티티 컬렉션에 넣을 수 있도록 변경 가능")
+    void toKeys_ReturnsMutableList() {
+        List<String> keys = resolver.toKeys(Arrays.asList("https://cdn.test.com/images/a.jpg", "b.jpg"));
+
+        keys.remove("b.jpg");
+
+        assertThat(keys).containsExactly("a.jpg");
+    }
+}
@@ -0,0 +1,61 @@
+package com.personal.backend.outbox;
+
+import com.personal.backend.config.order.OutboxProperties;
+import com.personal.backend.retry.RetryOutcome;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final OutboxProperties PROPERTIES = new OutboxProperties(Duration.ofSeconds(1), 3, 10, Duration.ofSeconds(1), Duration.ofMinutes(10));
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Test
+    @DisplayName("묶음 처리가 실패하면 이벤트를 하나씩 다시 처리해 실패한 이벤트만 뒤로 미룸")
+    void relayAll_IsolatesFailingEvent() {
+        // given
+        OutboxRelay relay = new OutboxRelay(outboxService, PROPERTIES);
+        IllegalStateException poison = new IllegalStateException("처리할 수 없는 이벤트");
+        when(outboxService.relay(3)).thenThrow(poison).thenReturn(0);
+        when(outboxService.findDueIds(3)).thenReturn(List.of(1L, 2L, 3L));
+        when(outboxService.relayOne(1L)).thenReturn(true);
+        when(outboxService.relayOne(2L)).thenThrow(poison);
+        when(outboxService.relayOne(3L)).thenReturn(true);
+        when(outboxService.recordFailure(2L, poison)).thenReturn(RetryOutcome.SCHEDULED);
+
+        // when
+        int relayed = relay.relayAll();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxService).recordFailure(2L, poison);
+    }
+
+    @Test
+    @DisplayName("묶음 처리가 성공하면 이벤트를 하나씩 처리하지 않음")
+    void relayAll_BatchSucceeds() {
+        // given
+        OutboxRelay relay = new OutboxRelay(outboxService, PROPERTIES);
+        when(outboxService.relay(3)).thenReturn(3, 1);
+
+        // when & then
+        assertThat(relay.relayAll()).isEqualTo(4);
+        verify(outboxService, never()).relayOne(anyLong());
+    }
+}
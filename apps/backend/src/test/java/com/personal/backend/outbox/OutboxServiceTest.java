@@ -0,0 +1,138 @@
+package com.personal.backend.outbox;
+
+import com.personal.backend.config.order.OutboxProperties;
+import com.personal.backend.domain.OutboxEvent;
+import com.personal.backend.domain.OutboxEventType;
+import com.personal.backend.repository.OutboxEventRepository;
+import com.personal.backend.retry.RetryOutcome;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    private static final OutboxProperties PROPERTIES = new OutboxProperties(Duration.ofSeconds(1), 500, 3, Duration.ofSeconds(1), Duration.ofSeconds(3));
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("꺼낸 이벤트를 종류별로 묶어 처리할 수 있는 핸들러에만 한 번씩 넘기고 삭제")
+    void relay_GroupsEventsByType() {
+        // given
+        RecordingHandler paidHandler = new RecordingHandler(Set.of(OutboxEventType.ORDER_PAID));
+        RecordingHandler allHandler = new RecordingHandler(Set.of(OutboxEventType.ORDER_PAID, OutboxEventType.ORDER_CANCELED));
+        OutboxService outboxService = new OutboxService(outboxEventRepository, List.of(paidHandler, allHandler), PROPERTIES);
+        List<OutboxEvent> events = List.of(
+                new OutboxEvent(OutboxEventType.ORDER_PAID, 1L),
+                new OutboxEvent(OutboxEventType.ORDER_CANCELED, 1L),
+                new OutboxEvent(OutboxEventType.ORDER_PAID, 2L));
+        when(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(10L, 11L, 12L));
+        when(outboxEventRepository.findDueByIdInForUpdate(eq(List.of(10L, 11L, 12L)), any(LocalDateTime.class))).thenReturn(events);
+
+        // when
+        int relayed = outboxService.relay(100);
+
+        // then
+        assertThat(relayed).isEqualTo(3);
+        assertThat(paidHandler.calls).containsExactly("ORDER_PAID:[1, 2]");
+        assertThat(allHandler.calls).containsExactly("ORDER_PAID:[1, 2]", "ORDER_CANCELED:[1]");
+        verify(outboxEventRepository).deleteAllInBatch(events);
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트가 없으면 아무것도 하지 않음")
+    void relay_NothingPending() {
+        // given
+        RecordingHandler handler = new RecordingHandler(Set.of(OutboxEventType.ORDER_PAID));
+        OutboxService outboxService = new OutboxService(outboxEventRepository, List.of(handler), PROPERTIES);
+        when(outboxEventRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        // when & then
+        assertThat(outboxService.relay(100)).isZero();
+        assertThat(handler.calls).isEmpty();
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("이벤트 한 건만 처리하고 삭제하며, 그 사이 다른 서버가 처리한 이벤트는 건너뜀")
+    void relayOne_HandlesSingleEvent() {
+        // given
+        RecordingHandler handler = new RecordingHandler(Set.of(OutboxEventType.ORDER_PAID));
+        OutboxService outboxService = new OutboxService(outboxEventRepository, List.of(handler), PROPERTIES);
+        List<OutboxEvent> events = List.of(new OutboxEvent(OutboxEventType.ORDER_PAID, 7L));
+        when(outboxEventRepository.findDueByIdInForUpdate(eq(List.of(10L)), any(LocalDateTime.class))).thenReturn(events);
+        when(outboxEventRepository.findDueByIdInForUpdate(eq(List.of(11L)), any(LocalDateTime.class))).thenReturn(List.of());
+
+        // when & then
+        assertThat(outboxService.relayOne(10L)).isTrue();
+        assertThat(outboxService.relayOne(11L)).isFalse();
+        assertThat(handler.calls).containsExactly("ORDER_PAID:[7]");
+        verify(outboxEventRepository).deleteAllInBatch(events);
+    }
+
+    @Test
+    @DisplayName("실패한 이벤트는 실패 횟수를 늘려 뒤로 미루고, 최대 시도 횟수에 도달하면 자동 재시도를 멈춤")
+    void recordFailure_BacksOffThenGivesUp() {
+        // given
+        OutboxService outboxService = new OutboxService(outboxEventRepository, List.of(), PROPERTIES);
+        OutboxEvent event = new OutboxEvent(OutboxEventType.ORDER_PAID, 7L);
+        when(outboxEventRepository.findById(10L)).thenReturn(Optional.of(event));
+        RuntimeException error = new IllegalStateException("집계 실패");
+
+        // when & then: 첫 실패
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(outboxService.recordFailure(10L, error)).isEqualTo(RetryOutcome.SCHEDULED);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(before);
+        assertThat(event.getLastError()).contains("집계 실패");
+
+        // when & then: 두 번째 실패는 더 뒤로 미룸
+        LocalDateTime firstRetry = event.getNextAttemptAt();
+        assertThat(outboxService.recordFailure(10L, error)).isEqualTo(RetryOutcome.SCHEDULED);
+        assertThat(event.getNextAttemptAt()).isAfter(firstRetry);
+
+        // when & then: 세 번째 실패에서 포기
+        assertThat(outboxService.recordFailure(10L, error)).isEqualTo(RetryOutcome.GAVE_UP);
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getNextAttemptAt()).isNull();
+    }
+
+    private static class RecordingHandler implements OutboxEventHandler {
+        private final Set<OutboxEventType> types;
+        private final List<String> calls = new ArrayList<>();
+
+        RecordingHandler(Set<OutboxEventType> types) {
+            this.types = types;
+        }
+
+        @Override
+        public Set<OutboxEventType> types() {
+            return types;
+        }
+
+        @Override
+        public void handle(OutboxEventType type, List<Long> aggregateIds) {
+            calls.add(type + ":" + aggregateIds);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.personal.backend.payment.client;
+
+import com.personal.backend.config.payment.PaymentClientProperties;
+import com.personal.backend.exception.RetryableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentHttpClientTest {
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger requests;
+    private Deque<HttpStatus> responses;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        meterRegistry = new SimpleMeterRegistry();
+        requests = new AtomicInteger();
+        responses = new ArrayDeque<>();
+    }
+
+    @Test
+    @DisplayName("멱등한 호출은 5xx에 재시도하고, 시도마다 endpoint별 지연 시간을 기록")
+    void callIdempotent_RetriesTransientErrors() {
+        // given
+        PaymentHttpClient client = client(10);
+        respond(HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.BAD_GATEWAY, HttpStatus.OK);
+
+        // when & then
+        StepVerifier.create(client.callIdempotent("toss.confirm", this::post))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("payment.client.requests").tag("endpoint", "toss.confirm").tag("outcome", "server_error").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("payment.client.requests").tag("endpoint", "toss.confirm").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.client.retries").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("멱등하지 않은 호출이나 4xx 응답은 재시도하지 않음")
+    void call_DoesNotRetryNonIdempotentOrClientErrors() {
+        // given
+        PaymentHttpClient client = client(10);
+        respond(HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.BAD_REQUEST);
+
+        // when & then
+        StepVerifier.create(client.call("toss.confirm", this::post))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+        StepVerifier.create(client.callIdempotent("toss.cancel", this::post))
+                .expectError(WebClientResponseException.BadRequest.class)
+                .verify();
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 비율이 기준을 넘으면 회로를 열어 PG사를 호출하지 않고, openDuration 뒤 시험 호출이 모두 성공하면 닫음")
+    void circuitBreaker_OpensAndRecoversThroughHalfOpen() {
+        // given: 최소 4번 중 50% 이상 실패하면 열림, 시험 호출 2번
+        PaymentHttpClient client = client(10);
+        respond(HttpStatus.OK, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.OK, HttpStatus.INTERNAL_SERVER_ERROR);
+        for (int i = 0; i < 4; i++) {
+            client.call("toss.confirm", this::post).onErrorResume(e -> Mono.empty()).block();
+        }
+        assertThat(client.circuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+
+        // when & then: 열린 동안은 바로 거절
+        StepVerifier.create(client.call("toss.confirm", this::post))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(RetryableException.class)
+                        .extracting(error -> ((RetryableException) error).getRetryAfterSeconds()).isEqualTo(30L))
+                .verify();
+        assertThat(requests.get()).isEqualTo(4);
+
+        // openDuration 뒤 시험 호출이 모두 성공하면 닫힘
+        clock.advance(Duration.ofSeconds(30));
+        respond(HttpStatus.OK, HttpStatus.OK);
+        StepVerifier.create(client.call("toss.confirm", this::post)).expectNext("ok").verifyComplete();
+        assertThat(client.circuitState()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+        StepVerifier.create(client.call("toss.confirm", this::post)).expectNext("ok").verifyComplete();
+        assertThat(client.circuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 회로를 다시 엶")
+    void circuitBreaker_ReopensWhenProbeFails() {
+        // given
+        PaymentHttpClient client = client(10);
+        respond(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
+        for (int i = 0; i < 4; i++) {
+            client.call("toss.confirm", this::post).onErrorResume(e -> Mono.empty()).block();
+        }
+        clock.advance(Duration.ofSeconds(30));
+
+        // when
+        respond(HttpStatus.GATEWAY_TIMEOUT);
+        StepVerifier.create(client.call("toss.confirm", this::post))
+                .expectError(WebClientResponseException.GatewayTimeout.class)
+                .verify();
+
+        // then
+        assertThat(client.circuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        StepVerifier.create(client.call("toss.confirm", this::post))
+                .expectError(RetryableException.class)
+                .verify();
+        assertThat(requests.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 호출이 한도에 차면 기다리지 않고 거절하고, 끝나면 다시 받음")
+    void bulkhead_RejectsWhenFull() {
+        // given: 동시 호출 1개, 첫 호출은 응답이 오지 않은 상태
+        PaymentHttpClient client = client(1);
+        var pending = client.call("toss.confirm", webClient -> Mono.<String>never()).subscribe();
+
+        // when & then
+        StepVerifier.create(client.call("toss.confirm", this::post))
+                .expectError(RetryableException.class)
+                .verify();
+        assertThat(meterRegistry.get("payment.client.rejected").tag("reason", "bulkhead").counter().count()).isEqualTo(1);
+
+        pending.dispose();
+        respond(HttpStatus.OK);
+        StepVerifier.create(client.call("toss.confirm", this::post))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    private Mono<String> post(WebClient webClient) {
+        return webClient.post().uri("http://pg.test/v1/payments/confirm").retrieve().bodyToMono(String.class);
+    }
+
+    private void respond(HttpStatus... statuses) {
+        responses.addAll(List.of(statuses));
+    }
+
+    private PaymentHttpClient client(int maxConcurrentCalls) {
+        PaymentClientProperties properties = new PaymentClientProperties(
+                10, 10, Duration.ofSeconds(1), Duration.ofSeconds(30),
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1),
+                maxConcurrentCalls, 50, 10, 4, Duration.ofSeconds(30), 2,
+                3, Duration.ofMillis(1), 0.5);
+        Function<HttpStatus, ClientResponse> toResponse = status -> ClientResponse.create(status).body(status.is2xxSuccessful() ? "ok" : "error").build();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.fromSupplier(() -> {
+                    requests.incrementAndGet();
+                    return toResponse.apply(responses.poll());
+                }))
+                .build();
+        return new PaymentHttpClient(properties, webClient, meterRegistry, clock);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.personal.backend.payment.simulator;
+
+import com.personal.backend.config.payment.PaymentSimulatorProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PaymentSimulatorTest {
+
+    @Test
+    @DisplayName("응답 지연은 설정한 중앙값과 p99를 따르고 상한을 넘지 않음")
+    void latency_FollowsConfiguredPercentiles() {
+        // given
+        Random random = new Random(42);
+        PaymentSimulator simulator = simulator(properties(Duration.ofMillis(80), Duration.ofMillis(400), Duration.ofSeconds(1), 0, 0), random);
+
+        // when
+        long[] millis = IntStream.range(0, 20_000)
+                .mapToLong(i -> simulator.latency(random).toMillis())
+                .sorted()
+                .toArray();
+
+        // then
+        assertThat((double) millis[10_000]).isCloseTo(80, within(8.0));
+        assertThat((double) millis[19_800]).isCloseTo(400, within(60.0));
+        assertThat(millis[millis.length - 1]).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("설정한 비율대로 정상, PG사 오류, 타임아웃 응답을 섞음")
+    void next_MixesOutcomesByConfiguredRates() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Random random = new Random(7);
+        PaymentSimulator simulator = new PaymentSimulator(properties(Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(1), 0.2, 0.05),
+                meterRegistry, () -> random);
+
+        // when: 결과는 구독하는 순간 정해지므로 지연을 기다리지 않고 바로 취소
+        for (int i = 0; i < 10_000; i++) {
+            simulator.next().subscribe().dispose();
+        }
+
+        // then
+        assertThat(meterRegistry.get("payment.simulator").tag("result", "error").counter().count()).isCloseTo(2000, within(200.0));
+        assertThat(meterRegistry.get("payment.simulator").tag("result", "timeout").counter().count()).isCloseTo(500, within(100.0));
+        assertThat(meterRegistry.get("payment.simulator").tag("result", "ok").counter().count()).isCloseTo(7500, within(300.0));
+    }
+
+    @Test
+    @DisplayName("오류와 타임아웃 비율이 0이면 항상 지연 뒤 정상 응답")
+    void next_ReturnsOkAfterDelay() {
+        PaymentSimulator simulator = simulator(properties(Duration.ofMillis(5), Duration.ofMillis(5), Duration.ofSeconds(1), 0, 0), new Random(1));
+
+        StepVerifier.create(simulator.next())
+                .expectNext(HttpStatus.OK)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("p99가 중앙값보다 작으면 시작하지 않음")
+    void rejectsInvalidPercentiles() {
+        assertThatThrownBy(() -> simulator(properties(Duration.ofMillis(100), Duration.ofMillis(10), Duration.ofSeconds(1), 0, 0), new Random(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PaymentSimulator simulator(PaymentSimulatorProperties properties, Random random) {
+        return new PaymentSimulator(properties, new SimpleMeterRegistry(), () -> random);
+    }
+
+    private static PaymentSimulatorProperties properties(Duration median, Duration p99, Duration max, double errorRate, double timeoutRate) {
+        return new PaymentSimulatorProperties(median, p99, max, errorRate, timeoutRate, Duration.ofSeconds(15));
+    }
+}
@@ -0,0 +1,74 @@
+package com.personal.backend.payment.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.payment.PaymentGateway;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "payment.simulator.median-latency=1ms",
+        "payment.simulator.p99-latency=1ms",
+        "payment.simulator.error-rate=0",
+        "payment.simulator.timeout-rate=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "pg-sim", "pg-sim-http"})
+class SimulatedPaymentGatewayTest {
+
+    @Autowired
+    private PaymentGateway paymentGateway;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("pg-sim 프로필에서는 실제 PG사 대신 시뮬레이터가 승인/취소에 응답")
+    void pgSimProfile_ReplacesTossGateway() {
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "sim_pk", "sim_oid", 10000);
+
+        assertThat(paymentGateway).isInstanceOf(SimulatedPaymentGateway.class);
+        StepVerifier.create(paymentGateway.confirm(request))
+                .expectNext(new PaymentDto.ConfirmationResponse("DONE", "sim_oid", 10000))
+                .verifyComplete();
+        StepVerifier.create(paymentGateway.cancel("sim_pk", "부하 테스트"))
+                .assertNext(response -> assertThat(response.status()).isEqualTo("CANCELED"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("pg-sim-http 프로필의 로컬 스텁은 인증 없이 토스페이먼츠 승인 API 형식으로 응답")
+    void pgSimHttpProfile_ServesTossCompatibleStub() throws Exception {
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "sim_pk", "sim_oid", 10000);
+
+        MvcResult result = mockMvc.perform(post("/pg-sim/v1/payments/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.orderId").value("sim_oid"));
+    }
+}
@@ -0,0 +1,195 @@
+package com.personal.backend.reconciliation;
+
+import com.personal.backend.config.order.ReconciliationProperties;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderItem;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReconciliationServiceTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2026, 3, 1, 10, 0);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private User buyer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(User.builder().email("buyer@reconcile.com").password("password").username("구매자").role(UserRole.USER).build());
+        product = productRepository.save(Product.builder().name("양말").price(5000).stockQuantity(100).build());
+    }
+
+    @Test
+    @DisplayName("두 쪽을 pg_order_id 순으로 병합하며 유형별 불일치를 찾는 대로 보고서에 쓰고, cutoff 이후 주문은 비교하지 않음")
+    void reconcile_ReportsEachMismatchType() throws IOException {
+        // given: 주문 금액은 모두 10,000원
+        paid("o-01", "pk-01");                           // 일치
+        paid("o-02", "pk-02");                           // 금액 불일치
+        paid("o-03", "pk-03");                           // PG사에 없음
+        order("o-05", OrderStatus.PENDING, ORDERED_AT);  // 결제 전인데 PG사에서 승인됨
+        canceled("o-06", "pk-06");                       // 환불액 불일치
+        paid("o-07", "pk-07");                           // paymentKey 불일치
+        paid("o-08", "pk-08").requestCancel("단순 변심");  // 환불 대기 중 PG사 취소 완료 -> 일치
+        order("o-09", OrderStatus.EXPIRED, ORDERED_AT);  // 만료된 주문은 PG사에 없어야 함 -> 일치
+        order("o-10", OrderStatus.PENDING, CUTOFF.plusHours(1)).markAsPaid("pk-10"); // 정산 파일 이후 주문
+        refundedAfterFailedPayment("o-11", "pk-11");     // 승인 뒤 결제 완료 처리에 실패해 환불 -> 일치
+        entityManager.flush();
+
+        Path settlementFile = settlementFile(
+                "o-01,pk-01,10000,DONE,0",
+                "o-02,pk-02,9000,DONE,0",
+                "o-04,pk-04,5000,DONE,0",
+                "o-05,pk-05,10000,DONE,0",
+                "o-06,pk-06,10000,CANCELED,5000",
+                "o-07,pk-other,10000,DONE,0",
+                "o-08,pk-08,10000,CANCELED,10000",
+                "o-11,pk-11,10000,CANCELED,10000",
+                "o-99,pk-99,3000,DONE,");
+
+        // when
+        StringWriter report = new StringWriter();
+        ReconciliationResult result = reconciliationService.reconcile(settlementFile, CUTOFF, report);
+
+        // then
+        assertThat(result.orders()).isEqualTo(9);
+        assertThat(result.settlements()).isEqualTo(9);
+        assertThat(result.matched()).isEqualTo(3);
+        assertThat(result.mismatches()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                ReconciliationMismatchType.AMOUNT_MISMATCH, 1L,
+                ReconciliationMismatchType.MISSING_IN_PG, 1L,
+                ReconciliationMismatchType.MISSING_IN_ORDERS, 2L,
+                ReconciliationMismatchType.STATUS_MISMATCH, 1L,
+                ReconciliationMismatchType.REFUND_MISMATCH, 1L,
+                ReconciliationMismatchType.PAYMENT_KEY_MISMATCH, 1L));
+
+        List<String> lines = report.toString().lines().toList();
+        assertThat(lines).containsExactly(
+                ReconciliationService.REPORT_HEADER,
+                "AMOUNT_MISMATCH,o-02,PAID,DONE,10000,9000,0,0,pk-02,pk-02",
+                "MISSING_IN_PG,o-03,PAID,,10000,,0,,pk-03,",
+                "MISSING_IN_ORDERS,o-04,,DONE,,5000,,0,,pk-04",
+                "STATUS_MISMATCH,o-05,PENDING,DONE,10000,10000,0,0,,pk-05",
+                "REFUND_MISMATCH,o-06,CANCELED,CANCELED,10000,10000,10000,5000,pk-06,pk-06",
+                "PAYMENT_KEY_MISMATCH,o-07,PAID,DONE,10000,10000,0,0,pk-07,pk-other",
+                "MISSING_IN_ORDERS,o-99,,DONE,,3000,,0,,pk-99");
+    }
+
+    @Test
+    @DisplayName("정산 파일이 pg_order_id 순으로 정렬되어 있지 않으면 잘못된 결과를 내지 않고 실패")
+    void reconcile_FailsOnUnsortedSettlementFile() throws IOException {
+        // given
+        paid("o-01", "pk-01");
+        entityManager.flush();
+        Path settlementFile = settlementFile(
+                "o-02,pk-02,10000,DONE,0",
+                "o-01,pk-01,10000,DONE,0");
+
+        // when & then
+        assertThatThrownBy(() -> reconciliationService.reconcile(settlementFile, CUTOFF, new StringWriter()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3번째 줄");
+    }
+
+    @Test
+    @DisplayName("배치 작업은 끝까지 비교한 뒤에만 날짜별 보고서 파일을 완성")
+    void job_WritesDatedReport() throws IOException {
+        // given: 정산 파일 수정 시각이 cutoff가 되므로 주문이 그보다 앞서야 함
+        paid("o-01", "pk-01");
+        entityManager.flush();
+        Path settlementFile = settlementFile("o-01,pk-01,10000,DONE,0", "o-02,pk-02,7000,DONE,0");
+        Path reportDirectory = tempDir.resolve("reports");
+        ReconciliationJob job = new ReconciliationJob(reconciliationService,
+                new ReconciliationProperties("-", settlementFile, reportDirectory, 100));
+
+        // when
+        Path report = job.run(LocalDate.of(2026, 3, 2));
+
+        // then
+        assertThat(report).isEqualTo(reportDirectory.resolve("reconciliation-2026-03-02.csv"));
+        assertThat(Files.readAllLines(report)).containsExactly(
+                ReconciliationService.REPORT_HEADER,
+                "MISSING_IN_ORDERS,o-02,,DONE,,7000,,0,,pk-02");
+        assertThat(reportDirectory.resolve("reconciliation-2026-03-02.csv.part")).doesNotExist();
+    }
+
+    private Order paid(String pgOrderId, String paymentKey) {
+        Order order = order(pgOrderId, OrderStatus.PENDING, ORDERED_AT);
+        order.markAsPaid(paymentKey);
+        return order;
+    }
+
+    private void canceled(String pgOrderId, String paymentKey) {
+        Order order = paid(pgOrderId, paymentKey);
+        order.requestCancel("단순 변심");
+        order.completeRefund();
+    }
+
+    private void refundedAfterFailedPayment(String pgOrderId, String paymentKey) {
+        Order order = order(pgOrderId, OrderStatus.PENDING, ORDERED_AT);
+        order.requestRefundForFailedPayment(paymentKey, "결제 완료 처리 실패로 자동 환불");
+        order.completeRefund();
+    }
+
+    private Order order(String pgOrderId, OrderStatus status, LocalDateTime orderDate) {
+        Order order = Order.builder().user(buyer).orderDate(orderDate).status(status).pgOrderId(pgOrderId).build();
+        order.addOrderItem(OrderItem.builder().product(product).orderPrice(product.getPrice()).count(2).build());
+        return orderRepository.save(order);
+    }
+
+    private Path settlementFile(String... lines) throws IOException {
+        Path file = tempDir.resolve("settlement.csv");
+        Files.writeString(file, SettlementFileReader.HEADER + "\n" + String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,108 @@
+package com.personal.backend.refund;
+
+import com.personal.backend.config.order.RefundProperties;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.retry.RetryOutcome;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@EnableConfigurationProperties(RefundProperties.class)
+@Import(RefundService.class)
+class RefundServiceTest {
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private RefundProperties properties;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("환불할 차례가 된 취소 접수 주문만 가져가고, 가져간 주문은 lease 동안 다시 나오지 않음")
+    void claimDue_ClaimsOnlyDueOrders() {
+        // given
+        Order due = cancelRequested("pk-due");
+        Order later = cancelRequested("pk-later");
+        later.scheduleRefundRetry(LocalDateTime.now().plusHours(1));
+        paid("pk-paid");
+        entityManager.flush();
+
+        // when
+        List<RefundTask> tasks = refundService.claimDue(10);
+
+        // then
+        assertThat(tasks).containsExactly(new RefundTask(due.getId(), "pk-due", "단순 변심", 1));
+        assertThat(due.getNextRefundAt()).isAfter(LocalDateTime.now().plus(properties.lease()).minusMinutes(1));
+        assertThat(refundService.claimDue(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 환불은 지수 백오프로 미루고, 최대 시도 횟수에 도달하면 자동 재시도를 멈춤")
+    void scheduleRetry_BacksOffThenGivesUp() {
+        // given
+        Order order = cancelRequested("pk-retry");
+        entityManager.flush();
+        RefundTask task = refundService.claimDue(10).get(0);
+
+        // when
+        RetryOutcome first = refundService.scheduleRetry(task.orderId(), task.attempt());
+
+        // then: 첫 재시도는 initialBackoff(±20%) 뒤
+        assertThat(first).isEqualTo(RetryOutcome.SCHEDULED);
+        Duration delay = Duration.between(LocalDateTime.now(), order.getNextRefundAt());
+        assertThat(delay).isBetween(properties.initialBackoff().multipliedBy(7).dividedBy(10), properties.initialBackoff().multipliedBy(12).dividedBy(10));
+
+        // 마지막 시도까지 실패하면 수동 처리 대상으로 남김
+        assertThat(refundService.scheduleRetry(task.orderId(), properties.maxAttempts())).isEqualTo(RetryOutcome.GAVE_UP);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCEL_REQUESTED);
+        assertThat(order.getNextRefundAt()).isNull();
+        entityManager.flush();
+        assertThat(refundService.claimDue(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("그 사이 환불이 확정된 주문은 다시 미루지 않음")
+    void scheduleRetry_IgnoresCompletedOrder() {
+        Order order = cancelRequested("pk-done");
+        order.completeRefund();
+        entityManager.flush();
+
+        assertThat(refundService.scheduleRetry(order.getId(), 1)).isEqualTo(RetryOutcome.ALREADY_DONE);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
+    }
+
+    private Order paid(String paymentKey) {
+        Order order = Order.builder().orderDate(LocalDateTime.now()).status(OrderStatus.PENDING).pgOrderId(UUID.randomUUID().toString()).build();
+        order.markAsPaid(paymentKey);
+        return orderRepository.save(order);
+    }
+
+    private Order cancelRequested(String paymentKey) {
+        Order order = paid(paymentKey);
+        order.requestCancel("단순 변심");
+        return order;
+    }
+}
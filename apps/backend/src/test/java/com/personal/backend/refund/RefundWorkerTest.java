@@ -0,0 +1,114 @@
+package com.personal.backend.refund;
+
+import com.personal.backend.config.order.RefundProperties;
+import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.payment.PaymentGateway;
+import com.personal.backend.retry.RetryOutcome;
+import com.personal.backend.service.OrderService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefundWorkerTest {
+
+    @Mock
+    private RefundService refundService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefundWorker refundWorker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RefundProperties properties = new RefundProperties(Duration.ofSeconds(1), 2, 4, Duration.ofMinutes(5), 10, Duration.ofSeconds(10), Duration.ofMinutes(30));
+        refundWorker = new RefundWorker(refundService, orderService, paymentGateway, Schedulers.immediate(), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("환불이 성공한 주문만 취소를 확정하고, 실패한 주문은 다음 시도로 미룸")
+    void processAll_CompletesSucceededAndReschedulesFailed() {
+        // given: 한 묶음(2건)을 가져온 뒤 남은 주문은 없음
+        when(refundService.claimDue(2)).thenReturn(List.of(
+                new RefundTask(1L, "pk-1", "단순 변심", 1),
+                new RefundTask(2L, "pk-2", "단순 변심", 3)
+        )).thenReturn(List.of());
+        when(paymentGateway.cancel("pk-1", "단순 변심")).thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("CANCELED", null, null)));
+        when(paymentGateway.cancel("pk-2", "단순 변심")).thenReturn(Mono.error(new IllegalStateException("PG 장애")));
+        when(refundService.scheduleRetry(2L, 3)).thenReturn(RetryOutcome.SCHEDULED);
+
+        // when
+        int refunded = refundWorker.processAll();
+
+        // then
+        assertThat(refunded).isEqualTo(1);
+        verify(orderService).completeRefund(1L);
+        verify(orderService, never()).completeRefund(2L);
+        verify(refundService, times(2)).claimDue(2);
+        assertThat(meterRegistry.get("order.refund").tag("result", "retry_scheduled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PG사 환불 뒤 DB 반영이 실패해도 다시 시도하도록 미루고, 같은 묶음의 다른 주문은 계속 처리")
+    void processAll_ReschedulesWhenCompletionFails() {
+        // given
+        when(refundService.claimDue(2)).thenReturn(List.of(
+                new RefundTask(1L, "pk-1", "단순 변심", 1)
+        ));
+        when(paymentGateway.cancel("pk-1", "단순 변심")).thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("CANCELED", null, null)));
+        doThrow(new QueryTimeoutException("DB 지연")).when(orderService).completeRefund(1L);
+        when(refundService.scheduleRetry(1L, 1)).thenReturn(RetryOutcome.SCHEDULED);
+
+        // when
+        int refunded = refundWorker.processAll();
+
+        // then
+        assertThat(refunded).isZero();
+        verify(refundService).scheduleRetry(1L, 1);
+    }
+
+    @Test
+    @DisplayName("재시도 시각을 기록하지 못해도 작업은 멈추지 않음 (lease가 지나면 다시 가져감)")
+    void processAll_SurvivesRescheduleFailure() {
+        // given
+        when(refundService.claimDue(2)).thenReturn(List.of(
+                new RefundTask(1L, "pk-1", "단순 변심", 1),
+                new RefundTask(2L, "pk-2", "단순 변심", 1)
+        )).thenReturn(List.of());
+        when(paymentGateway.cancel("pk-1", "단순 변심")).thenReturn(Mono.error(new IllegalStateException("PG 장애")));
+        when(paymentGateway.cancel("pk-2", "단순 변심")).thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("CANCELED", null, null)));
+        when(refundService.scheduleRetry(1L, 1)).thenThrow(new QueryTimeoutException("DB 지연"));
+
+        // when
+        int refunded = refundWorker.processAll();
+
+        // then
+        assertThat(refunded).isEqualTo(1);
+        verify(orderService).completeRefund(2L);
+        verify(refundService, never()).scheduleRetry(eq(2L), anyInt());
+    }
+}
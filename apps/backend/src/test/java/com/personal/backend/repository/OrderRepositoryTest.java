@@ -107,13 +107,16 @@ class OrderRepositoryTest {
         // when: 저장된 주문을 조회하여 cancel() 메소드를 호출합니다.
         Order foundOrder = orderRepository.findById(savedOrder.getId()).orElseThrow();
         foundOrder.markAsPaid("test_payment_key");
-        foundOrder.cancel(cancelReason);
+        foundOrder.requestCancel(cancelReason);
+        foundOrder.completeRefund();
         // @DataJpaTest는 트랜잭션을 사용하므로, 변경 감지(dirty checking)에 의해
         // save를 명시적으로 호출하지 않아도 업데이트 쿼리가 실행됩니다.
 
         // then: 주문의 상태가 CANCELED로 변경되었는지 확인합니다.
         Order canceledOrder = orderRepository.findById(savedOrder.getId()).orElseThrow();
         assertThat(canceledOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(canceledOrder.getCancelReason()).isEqualTo(cancelReason);
+        assertThat(canceledOrder.getNextRefundAt()).isNull();
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductDetail;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ProductDetailRepositoryTest {
+
+    @Autowired
+    private ProductDetailRepository productDetailRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("상세 본문은 압축해 저장하고, 다시 읽으면 원문 그대로 복원")
+    void saveAndReadCompressedContent() {
+        // given
+        Product product = productRepository.save(Product.builder().name("노트북").price(1000).build());
+        String content = "<p>상세 설명</p>".repeat(1000);
+        productDetailRepository.save(ProductDetail.builder().product(product).content(content).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ProductDetail found = productDetailRepository.findById(product.getId()).orElseThrow();
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        found.writeContentTo(streamed);
+
+        // then
+        assertThat(found.readContent()).isEqualTo(content);
+        assertThat(streamed.toString(StandardCharsets.UTF_8)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("상세 본문 수정")
+    void updateContent() {
+        // given
+        Product product = productRepository.save(Product.builder().name("노트북").price(1000).build());
+        productDetailRepository.save(ProductDetail.builder().product(product).content("이전 본문").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        productDetailRepository.findById(product.getId()).orElseThrow().updateContent("새 본문");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(productDetailRepository.findById(product.getId()).orElseThrow().readContent()).isEqualTo("새 본문");
+    }
+}
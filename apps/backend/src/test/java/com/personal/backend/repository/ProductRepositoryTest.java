@@ -78,6 +78,23 @@ class ProductRepositoryTest {
         assertThat(nonExistentProducts).isEmpty();
     }
     
+    @Test
+    @DisplayName("상품 ID 목록으로 이미지 URL 일괄 조회(findImageUrlsByProductIdIn) 테스트")
+    void findImageUrlsByProductIdInTest() {
+        // given: 이미지가 여러 장인 상품과 한 장인 상품을 저장
+        Product bag = productRepository.save(Product.builder().name("가방").price(50000).imageUrl(List.of("bag-1.jpg", "bag-2.jpg")).build());
+        Product shoes = productRepository.save(Product.builder().name("신발").price(70000).imageUrl(List.of("shoes.jpg")).build());
+        productRepository.save(Product.builder().name("모자").price(20000).imageUrl(List.of("hat.jpg")).build());
+
+        // when: 두 상품의 이미지 URL을 한 번에 조회
+        List<ProductRepository.ImageUrlRow> rows = productRepository.findImageUrlsByProductIdIn(List.of(bag.getId(), shoes.getId()));
+
+        // then: 요청한 상품들의 이미지만 조회되어야 함
+        assertThat(rows).hasSize(3);
+        assertThat(rows).extracting(ProductRepository.ImageUrlRow::getImageUrl)
+                .containsExactlyInAnyOrder("bag-1.jpg", "bag-2.jpg", "shoes.jpg");
+    }
+
     // 👇 추가된 테스트 메소드
     @Test
     @DisplayName("카테고리 ID로 상품 조회(findByCategoryId) 테스트")
@@ -0,0 +1,134 @@
+package com.personal.backend.repository;
+
+import com.personal.backend.domain.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 상품의 재고를 여러 스레드가 동시에 차감할 때 두 방식을 비교합니다.
+ * - 비관적 잠금: SELECT ... FOR UPDATE로 행을 잠그고 Java에서 재고를 확인한 뒤 새 값을 씁니다. (읽기-확인-쓰기, 왕복 2회)
+ * - 조건부 UPDATE: UPDATE ... SET stock = stock - ? WHERE id = ? AND stock >= ? 한 문장으로 처리하고 영향받은 행 수로 판단합니다.
+ * 두 방식 모두 재고보다 많이 팔리지 않아야 하며, 걸린 시간과 처리량은 로그로 남깁니다.
+ * 요청 수가 재고보다 많도록 설정하여 재고가 소진된 뒤의 실패 경로도 함께 측정합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductStockContentionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductStockContentionBenchmarkTest.class);
+
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+    private static final int INITIAL_STOCK = 300;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllById(productIds);
+    }
+
+    @Test
+    @DisplayName("비관적 잠금과 조건부 UPDATE 모두 재고보다 많이 차감하지 않으며, 처리 시간을 비교")
+    void compareStockDecrementStrategies() throws InterruptedException {
+        Long lockedProductId = saveProduct("비관적 잠금 상품");
+        Long conditionalProductId = saveProduct("조건부 UPDATE 상품");
+
+        Result pessimistic = run("pessimistic lock", () -> transactionTemplate.execute(status -> {
+            Product product = entityManager.find(Product.class, lockedProductId, LockModeType.PESSIMISTIC_WRITE);
+            if (product.getStockQuantity() < 1) {
+                return false;
+            }
+            entityManager.createQuery("UPDATE Product p SET p.stockQuantity = :stock WHERE p.id = :id")
+                    .setParameter("stock", product.getStockQuantity() - 1)
+                    .setParameter("id", lockedProductId)
+                    .executeUpdate();
+            return true;
+        }));
+        Result conditional = run("conditional update", () -> transactionTemplate.execute(status ->
+                productRepository.decreaseStock(conditionalProductId, 1) == 1));
+
+        for (Result result : List.of(pessimistic, conditional)) {
+            assertThat(result.failures()).isEmpty();
+            assertThat(result.succeeded()).isEqualTo(INITIAL_STOCK);
+        }
+        assertThat(productRepository.findById(lockedProductId).orElseThrow().getStockQuantity()).isZero();
+        assertThat(productRepository.findById(conditionalProductId).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    private Long saveProduct(String name) {
+        Long id = productRepository.save(Product.builder().name(name).price(1000).stockQuantity(INITIAL_STOCK).build()).getId();
+        productIds.add(id);
+        return id;
+    }
+
+    private Result run(String name, DecrementAttempt attempt) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = 0; n < ATTEMPTS_PER_THREAD; n++) {
+                        if (attempt.tryDecrement()) {
+                            succeeded.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        log.info("[stock contention] {}: {} attempts ({} succeeded) in {} ms, {} attempts/s",
+                name, attempts, succeeded.get(), elapsedMillis, attempts * 1000L / Math.max(1, elapsedMillis));
+        return new Result(succeeded.get(), List.copyOf(failures));
+    }
+
+    @FunctionalInterface
+    private interface DecrementAttempt {
+        boolean tryDecrement();
+    }
+
+    private record Result(int succeeded, List<Throwable> failures) {
+    }
+}
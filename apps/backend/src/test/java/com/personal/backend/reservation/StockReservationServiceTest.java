@@ -0,0 +1,166 @@
+package com.personal.backend.reservation;
+
+import com.personal.backend.config.order.HotStockProperties;
+import com.personal.backend.config.order.ReservationProperties;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderItem;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.Product;
+import com.personal.backend.hotstock.HotStockService;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.StockReservationRepository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@EnableConfigurationProperties({ReservationProperties.class, HotStockProperties.class})
+@Import({StockReservationService.class, HotStockService.class})
+class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product laptop;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        laptop = productRepository.save(Product.builder().name("노트북").price(1000).stockQuantity(10).build());
+        mouse = productRepository.save(Product.builder().name("마우스").price(100).stockQuantity(10).build());
+    }
+
+    @Test
+    @DisplayName("주문 상품 수량만큼 상품별 예약 수량을 늘리고 예약 행을 저장")
+    void reserve_IncreasesReservedQuantity() {
+        // given
+        Order order = pendingOrder(laptop, 2, mouse, 1);
+        Order other = pendingOrder(laptop, 3, mouse, 1);
+
+        // when
+        stockReservationService.reserve(order);
+        stockReservationService.reserve(other);
+
+        // then
+        assertThat(reload(laptop).getReservedQuantity()).isEqualTo(5);
+        assertThat(reload(laptop).getAvailableStock()).isEqualTo(5);
+        assertThat(reload(mouse).getReservedQuantity()).isEqualTo(2);
+        assertThat(stockReservationRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("주문 가능 재고(재고 - 예약 수량)보다 많이 예약하면 실패")
+    void reserve_FailsWhenAvailableStockIsShort() {
+        // given: 노트북 재고 10개 중 8개 예약
+        stockReservationService.reserve(pendingOrder(laptop, 8, mouse, 1));
+        Order order = pendingOrder(laptop, 3, mouse, 1);
+
+        // when & then
+        assertThatThrownBy(() -> stockReservationService.reserve(order))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("결제 완료 시 예약을 지우고 예약 수량을 실제 재고 차감으로 전환, 예약이 없으면 false 반환")
+    void confirm_CommitsReservedStock() {
+        // given
+        Order order = pendingOrder(laptop, 2, mouse, 1);
+        stockReservationService.reserve(order);
+
+        // when & then
+        assertThat(stockReservationService.confirm(order)).isTrue();
+        assertThat(reload(laptop).getStockQuantity()).isEqualTo(8);
+        assertThat(reload(laptop).getReservedQuantity()).isZero();
+        assertThat(reload(mouse).getStockQuantity()).isEqualTo(9);
+        assertThat(stockReservationRepository.count()).isZero();
+        assertThat(stockReservationService.confirm(order)).isFalse();
+        assertThat(reload(laptop).getStockQuantity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("만료된 예약의 수량을 되돌리고 결제 대기 주문만 만료 처리")
+    void releaseExpired_ExpiresPendingOrdersOnly() {
+        // given: 만료된 결제 대기 주문, 만료 직후 결제된 주문, 아직 유효한 주문
+        Order abandoned = pendingOrder(laptop, 2, mouse, 1);
+        Order paid = pendingOrder(laptop, 1, mouse, 1);
+        Order live = pendingOrder(laptop, 3, mouse, 1);
+        stockReservationService.reserve(abandoned);
+        stockReservationService.reserve(paid);
+        stockReservationService.reserve(live);
+        expire(abandoned);
+        expire(paid);
+        paid.markAsPaid("payment-key");
+        entityManager.flush();
+
+        // when
+        int released = stockReservationService.releaseExpired(100);
+
+        // then: 유효한 주문의 예약(노트북 3, 마우스 1)만 남음
+        assertThat(released).isEqualTo(2);
+        assertThat(reload(laptop).getReservedQuantity()).isEqualTo(3);
+        assertThat(reload(mouse).getReservedQuantity()).isEqualTo(1);
+        assertThat(reload(laptop).getStockQuantity()).isEqualTo(10);
+        assertThat(orderRepository.findById(abandoned.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(orderRepository.findById(paid.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PAID);
+        assertThat(orderRepository.findById(live.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PENDING);
+        assertThat(stockReservationRepository.findAll())
+                .allSatisfy(reservation -> assertThat(reservation.getOrderId()).isEqualTo(live.getId()));
+        assertThat(stockReservationService.releaseExpired(100)).isZero();
+    }
+
+    private Order pendingOrder(Product first, int firstCount, Product second, int secondCount) {
+        Order order = Order.builder()
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PENDING)
+                .pgOrderId(UUID.randomUUID().toString())
+                .build();
+        order.addOrderItem(OrderItem.builder().product(first).orderPrice(first.getPrice()).count(firstCount).build());
+        order.addOrderItem(OrderItem.builder().product(second).orderPrice(second.getPrice()).count(secondCount).build());
+        return orderRepository.save(order);
+    }
+
+    // 예약 행의 만료 시각을 과거로 옮깁니다.
+    private void expire(Order order) {
+        entityManager.createQuery("UPDATE StockReservation r SET r.expiresAt = :past WHERE r.orderId = :orderId")
+                .setParameter("past", LocalDateTime.now().minusMinutes(1))
+                .setParameter("orderId", order.getId())
+                .executeUpdate();
+    }
+
+    // 조건부 UPDATE는 영속성 컨텍스트를 거치지 않으므로 DB에서 다시 읽습니다.
+    private Product reload(Product product) {
+        entityManager.flush();
+        entityManager.clear();
+        return productRepository.findById(product.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,23 @@
+package com.personal.backend.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBackoffTest {
+
+    @Test
+    @DisplayName("재시도 간격은 실패할수록 두 배씩 늘어나되 상한을 넘지 않음 (±20%)")
+    void exponential_DoublesUpToMax() {
+        Duration initial = Duration.ofSeconds(10);
+        Duration max = Duration.ofSeconds(60);
+
+        assertThat(RetryBackoff.exponential(1, initial, max)).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(12));
+        assertThat(RetryBackoff.exponential(2, initial, max)).isBetween(Duration.ofSeconds(16), Duration.ofSeconds(24));
+        assertThat(RetryBackoff.exponential(10, initial, max)).isBetween(Duration.ofSeconds(48), Duration.ofSeconds(72));
+        assertThat(RetryBackoff.exponential(40, initial, max)).isLessThanOrEqualTo(Duration.ofSeconds(72));
+    }
+}
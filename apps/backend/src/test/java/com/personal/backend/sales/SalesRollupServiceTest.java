@@ -0,0 +1,177 @@
+package com.personal.backend.sales;
+
+import com.personal.backend.domain.Category;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderItem;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.OutboxEventType;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.SalesDimension;
+import com.personal.backend.domain.SalesGranularity;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
+import com.personal.backend.dto.SalesDto;
+import com.personal.backend.outbox.OutboxService;
+import com.personal.backend.repository.CategoryRepository;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SalesRollupServiceTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User buyer;
+    private User seller;
+    private Category category;
+    private Product socks;
+    private Product shirt;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(User.builder().email("buyer@sales.com").password("password").username("구매자").role(UserRole.USER).build());
+        seller = userRepository.save(User.builder().email("seller@sales.com").password("password").username("판매자").role(UserRole.USER).build());
+        category = categoryRepository.save(new Category("매출 테스트"));
+        socks = productRepository.save(Product.builder().name("양말").price(5000).stockQuantity(100).category(category).user(seller).build());
+        shirt = productRepository.save(Product.builder().name("셔츠").price(20000).stockQuantity(100).category(category).user(seller).build());
+    }
+
+    @Test
+    @DisplayName("아웃박스에 쌓인 결제/취소 이벤트를 처리하면 상품·카테고리·판매자 기준 집계에 판매와 환불이 함께 반영됨")
+    void relayOutbox_UpdatesAllDimensions() {
+        // given: 양말 2켤레 + 셔츠 1장 결제, 양말 3켤레 결제 후 취소
+        Order paid = order(null, OrderStatus.PENDING, item(socks, 2), item(shirt, 1));
+        paid.markAsPaid("payment-1");
+        outboxService.append(OutboxEventType.ORDER_PAID, paid.getId());
+        Order canceled = order(null, OrderStatus.PENDING, item(socks, 3));
+        canceled.markAsPaid("payment-2");
+        outboxService.append(OutboxEventType.ORDER_PAID, canceled.getId());
+        canceled.requestCancel("단순 변심");
+        canceled.completeRefund();
+        outboxService.append(OutboxEventType.ORDER_CANCELED, canceled.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int relayed = outboxService.relay(1000);
+
+        // then
+        assertThat(relayed).isEqualTo(3);
+        assertThat(outboxService.relay(1000)).isZero();
+
+        SalesDto.Bucket socksDay = single(SalesDimension.PRODUCT, SalesGranularity.DAY, socks.getId());
+        assertThat(socksDay.units()).isEqualTo(5);
+        assertThat(socksDay.grossAmount()).isEqualTo(25000);
+        assertThat(socksDay.refundedUnits()).isEqualTo(3);
+        assertThat(socksDay.refundedAmount()).isEqualTo(15000);
+        assertThat(socksDay.netAmount()).isEqualTo(10000);
+
+        SalesDto.Bucket categoryHour = single(SalesDimension.CATEGORY, SalesGranularity.HOUR, category.getId());
+        assertThat(categoryHour.units()).isEqualTo(6);
+        assertThat(categoryHour.netAmount()).isEqualTo(30000);
+
+        List<SalesDto.Total> totals = salesRollupService.totals(SalesDimension.PRODUCT, LocalDate.now().minusDays(1), LocalDate.now().plusDays(1), 10);
+        assertThat(totals)
+                .filteredOn(total -> total.dimensionId().equals(shirt.getId()) || total.dimensionId().equals(socks.getId()))
+                .extracting(SalesDto.Total::dimensionId, SalesDto.Total::netAmount)
+                .containsExactly(
+                        tuple(shirt.getId(), 20000L),
+                        tuple(socks.getId(), 10000L));
+    }
+
+    @Test
+    @DisplayName("지난 날짜를 다시 집계하면 주문 원본 기준으로 만들고, 여러 번 실행해도 값이 늘지 않음")
+    void rebuildDay_IsIdempotent() {
+        // given: 결제 시각이 없는 예전 주문은 주문 시각을 결제 시각으로 봄
+        LocalDate day = LocalDate.now().minusDays(10);
+        order(day.atTime(9, 30), OrderStatus.COMPLETED, item(socks, 4));
+        order(day.atTime(23, 10), OrderStatus.PAID, item(shirt, 1));
+        order(day.atTime(12, 0), OrderStatus.PENDING, item(shirt, 7));
+        entityManager.flush();
+
+        // when
+        salesRollupService.rebuildDay(day);
+        salesRollupService.rebuildDay(day);
+
+        // then
+        List<SalesDto.Bucket> sellerHours = salesRollupService.report(SalesDimension.SELLER, SalesGranularity.HOUR, seller.getId(), day, day);
+        assertThat(sellerHours).extracting(SalesDto.Bucket::bucketStart)
+                .containsExactly(day.atTime(9, 0).toString(), day.atTime(23, 0).toString());
+        List<SalesDto.Bucket> sellerDays = salesRollupService.report(SalesDimension.SELLER, SalesGranularity.DAY, seller.getId(), day, day);
+        assertThat(sellerDays).hasSize(1);
+        assertThat(sellerDays.get(0).units()).isEqualTo(5);
+        assertThat(sellerDays.get(0).grossAmount()).isEqualTo(40000);
+    }
+
+    @Test
+    @DisplayName("시간 단위는 최대 조회 기간이 짧고, 기간이 거꾸로면 거절")
+    void report_RejectsInvalidRange() {
+        LocalDate today = LocalDate.now();
+        assertThatThrownBy(() -> salesRollupService.report(SalesDimension.PRODUCT, SalesGranularity.HOUR, null, today.minusDays(60), today))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대");
+        assertThat(salesRollupService.report(SalesDimension.PRODUCT, SalesGranularity.DAY, socks.getId(), today.minusDays(60), today)).isEmpty();
+        assertThatThrownBy(() -> salesRollupService.totals(SalesDimension.PRODUCT, today, today.minusDays(1), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SalesDto.Bucket single(SalesDimension dimension, SalesGranularity granularity, Long dimensionId) {
+        List<SalesDto.Bucket> buckets = salesRollupService.report(dimension, granularity, dimensionId, LocalDate.now().minusDays(1), LocalDate.now().plusDays(1));
+        assertThat(buckets).hasSize(1);
+        return buckets.get(0);
+    }
+
+    private OrderItem item(Product product, int count) {
+        return OrderItem.builder().product(product).orderPrice(product.getPrice()).count(count).build();
+    }
+
+    private Order order(LocalDateTime orderDate, OrderStatus status, OrderItem... items) {
+        Order order = Order.builder().user(buyer).orderDate(orderDate != null ? orderDate : LocalDateTime.now())
+                .status(status).pgOrderId(UUID.randomUUID().toString()).build();
+        for (OrderItem item : items) {
+            order.addOrderItem(item);
+        }
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,136 @@
+package com.personal.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductFacetIndexTest {
+
+    private static final long ELECTRONICS = 1L;
+    private static final long CLOTHING = 2L;
+    private static final long GAMING = 10L;
+    private static final long OFFICE = 11L;
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex();
+        index.index(document(1L, ELECTRONICS, Map.of(GAMING, "게이밍"), 1_500_000, 0.1, 4.5, 3));
+        index.index(document(2L, ELECTRONICS, Map.of(OFFICE, "사무용"), 30_000, 0.0, 3.8, 0));
+        index.index(document(3L, ELECTRONICS, Map.of(GAMING, "게이밍", OFFICE, "사무용"), 80_000, 0.3, 4.9, 10));
+        index.index(document(4L, CLOTHING, Map.of(), 50_000, 0.5, 4.0, 5));
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 전체 상품을 최신순으로 반환")
+    void search_NoFilter_ReturnsAllLatestFirst() {
+        // when
+        ProductFacetResult result = index.search(ProductFacetQuery.none(), null, 0, 10);
+
+        // then
+        assertThat(result.productIds()).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(result.totalElements()).isEqualTo(4);
+        assertThat(result.facets().inStock()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("서로 다른 항목의 조건은 AND로, 같은 항목의 여러 값은 OR로 결합")
+    void search_CombinesFilters() {
+        // given
+        ProductFacetQuery query = new ProductFacetQuery(List.of(ELECTRONICS), List.of(GAMING, OFFICE),
+                50_000, null, null, 4.0, true);
+
+        // when
+        ProductFacetResult result = index.search(query, ProductFacetSort.PRICE_ASC, 0, 10);
+
+        // then
+        assertThat(result.productIds()).containsExactly(3L, 1L);
+        assertThat(result.totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("항목별 개수는 그 항목 자신의 조건만 빼고 계산")
+    void search_FacetCountsExcludeOwnFilter() {
+        // given
+        ProductFacetQuery query = new ProductFacetQuery(List.of(ELECTRONICS), null, null, null, null, null, true);
+
+        // when
+        ProductFacetResult result = index.search(query, null, 0, 10);
+
+        // then
+        assertThat(result.productIds()).containsExactly(3L, 1L);
+        assertThat(result.facets().categories())
+                .extracting(ProductFacetResult.FacetCount::id, ProductFacetResult.FacetCount::count)
+                .containsExactly(tuple(ELECTRONICS, 2L), tuple(CLOTHING, 1L));
+        assertThat(result.facets().tags())
+                .extracting(ProductFacetResult.FacetCount::name, ProductFacetResult.FacetCount::count)
+                .containsExactly(tuple("게이밍", 2L), tuple("사무용", 1L));
+        assertThat(result.facets().inStock()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("할인율 조건과 정렬, 페이지 구간을 적용")
+    void search_DiscountSortAndPaging() {
+        // given
+        ProductFacetQuery query = new ProductFacetQuery(null, null, null, null, 0.1, null, null);
+
+        // when
+        ProductFacetResult firstPage = index.search(query, ProductFacetSort.RATING_DESC, 0, 2);
+        ProductFacetResult secondPage = index.search(query, ProductFacetSort.RATING_DESC, 2, 2);
+
+        // then
+        assertThat(firstPage.productIds()).containsExactly(3L, 1L);
+        assertThat(secondPage.productIds()).containsExactly(4L);
+        assertThat(firstPage.totalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품을 다시 색인하면 기존 카테고리와 태그에서 빠지고, 삭제한 슬롯은 재사용")
+    void indexAndRemove_UpdatesMembership() {
+        // when
+        index.index(document(1L, CLOTHING, Map.of(), 1_500_000, 0.1, 4.5, 3));
+        index.remove(2L);
+        index.index(document(5L, ELECTRONICS, Map.of(OFFICE, "사무용"), 10_000, 0.0, 0.0, 1));
+
+        // then
+        ProductFacetResult electronics = index.search(
+                new ProductFacetQuery(List.of(ELECTRONICS), null, null, null, null, null, null), null, 0, 10);
+        assertThat(electronics.productIds()).containsExactly(5L, 3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("초기 용량보다 많은 상품도 색인")
+    void index_GrowsBeyondInitialCapacity() {
+        // when
+        for (long id = 100; id < 100 + ProductFacetIndex.INITIAL_CAPACITY * 2L; id++) {
+            index.index(document(id, CLOTHING, Map.of(), 1_000, 0.0, 0.0, 1));
+        }
+
+        // then
+        ProductFacetResult result = index.search(
+                new ProductFacetQuery(List.of(CLOTHING), null, null, null, null, null, null), null, 0, 1);
+        assertThat(result.totalElements()).isEqualTo(ProductFacetIndex.INITIAL_CAPACITY * 2L + 1);
+    }
+
+    @Test
+    @DisplayName("최소 가격이 최대 가격보다 크면 예외 발생")
+    void query_InvalidPriceRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductFacetQuery(null, null, 10_000, 5_000, null, null, null));
+    }
+
+    private static ProductFacetDocument document(Long productId, Long categoryId, Map<Long, String> tags,
+                                                 int price, double discountRate, double rating, int stock) {
+        return new ProductFacetDocument(productId, categoryId, categoryId == ELECTRONICS ? "전자기기" : "의류",
+                tags, price, discountRate, rating, stock);
+    }
+}
@@ -0,0 +1,93 @@
+package com.personal.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(new ProductSearchDocument(1L, "게이밍 노트북", "고성능 그래픽카드 탑재", "전자기기", List.of("게임")));
+        index.index(new ProductSearchDocument(2L, "무선 마우스", "노트북과 함께 쓰기 좋은 마우스", "전자기기", List.of("사무용")));
+        index.index(new ProductSearchDocument(3L, "스프링 노트", "줄노트 100매", "문구", List.of("노트북 파우치 증정")));
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 단어 일부로 검색해도 찾음")
+    void search_MatchesPartialKoreanWord() {
+        // when
+        List<Long> result = index.search("노트");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("상품명 일치가 태그나 설명 일치보다 앞에 옴")
+    void search_RanksNameAboveTagAndDescription() {
+        // when
+        List<Long> result = index.search("노트북");
+
+        // then: 상품명(1) > 태그(3) > 설명(2)
+        assertThat(result).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 상품만 반환")
+    void search_RequiresAllTokens() {
+        // when
+        List<Long> result = index.search("무선 노트북");
+
+        // then
+        assertThat(result).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("카테고리 이름과 대소문자/전각 문자를 구분하지 않고 검색")
+    void search_MatchesCategoryAndNormalizes() {
+        // given
+        index.index(new ProductSearchDocument(4L, "ＭａｃＢｏｏｋ Pro", null, "전자기기", List.of()));
+
+        // when & then
+        assertThat(index.search("macbook")).containsExactly(4L);
+        assertThat(index.search("문구")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("상품을 다시 색인하면 이전 내용은 더 이상 검색되지 않음")
+    void index_ReplacesPreviousDocument() {
+        // when
+        index.index(new ProductSearchDocument(2L, "블루투스 키보드", null, "전자기기", List.of()));
+
+        // then
+        assertThat(index.search("마우스")).isEmpty();
+        assertThat(index.search("키보드")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 검색되지 않음")
+    void remove_ExcludesProduct() {
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.search("게이밍")).isEmpty();
+        assertThat(index.search("노트북")).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 색인에 없는 검색어는 빈 결과 반환")
+    void search_EmptyResults() {
+        assertThat(index.search("   ")).isEmpty();
+        assertThat(index.search("냉장고")).isEmpty();
+    }
+}
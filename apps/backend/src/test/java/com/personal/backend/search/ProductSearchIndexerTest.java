@@ -0,0 +1,112 @@
+package com.personal.backend.search;
+
+import com.personal.backend.domain.Category;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductTag;
+import com.personal.backend.domain.Tag;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductTagRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductTagRepository productTagRepository;
+
+    private ProductSearchIndex productSearchIndex;
+    private ProductFacetIndex productFacetIndex;
+    private ProductSearchIndexer productSearchIndexer;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex();
+        productFacetIndex = new ProductFacetIndex();
+        productSearchIndexer = new ProductSearchIndexer(productSearchIndex, productFacetIndex, productRepository, productTagRepository);
+        category = new Category("전자기기");
+    }
+
+    @Test
+    @DisplayName("시작 시 상품을 ID 순서대로 나누어 읽어 전체 색인을 만듦")
+    void buildIndex_IndexesAllChunks() {
+        // given
+        Product first = product(1L, "게이밍 노트북");
+        Product second = product(2L, "무선 마우스");
+        when(productRepository.findByIdGreaterThan(eq(0L), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(productRepository.findByIdGreaterThan(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(productTagRepository.findWithTagByProductIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(ProductTag.builder().product(second).tag(new Tag("사무용")).build()));
+
+        // when
+        productSearchIndexer.buildIndex();
+
+        // then
+        assertThat(productSearchIndex.isReady()).isTrue();
+        assertThat(productSearchIndex.size()).isEqualTo(2);
+        assertThat(productSearchIndex.search("사무용")).containsExactly(2L);
+        assertThat(productFacetIndex.isReady()).isTrue();
+        assertThat(productFacetIndex.search(ProductFacetQuery.none(), null, 0, 10).productIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트를 받으면 해당 상품만 다시 색인")
+    void onProductChanged_Reindexes() {
+        // given
+        productSearchIndex.index(new ProductSearchDocument(1L, "게이밍 노트북", null, null, List.of()));
+        when(productRepository.findWithCategoryById(1L)).thenReturn(Optional.of(product(1L, "사무용 노트북")));
+
+        // when
+        productSearchIndexer.onProductChanged(new ProductChangedEvent(1L));
+
+        // then
+        assertThat(productSearchIndex.search("게이밍")).isEmpty();
+        assertThat(productSearchIndex.search("사무용")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품의 변경 이벤트를 받으면 색인에서 제거")
+    void onProductChanged_RemovesDeletedProduct() {
+        // given
+        productSearchIndex.index(new ProductSearchDocument(1L, "게이밍 노트북", null, null, List.of()));
+        productFacetIndex.index(new ProductFacetDocument(1L, null, null, Map.of(), 1000, 0.0, 0.0, 1));
+        when(productRepository.findWithCategoryById(1L)).thenReturn(Optional.empty());
+
+        // when
+        productSearchIndexer.onProductChanged(new ProductChangedEvent(1L));
+
+        // then
+        assertThat(productSearchIndex.size()).isZero();
+        assertThat(productFacetIndex.size()).isZero();
+    }
+
+    private Product product(Long id, String name) {
+        Product product = Product.builder().name(name).price(1000).category(category).build();
+        try {
+            var idField = Product.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(product, id);
+        } catch (Exception e) { e.printStackTrace(); }
+        return product;
+    }
+}
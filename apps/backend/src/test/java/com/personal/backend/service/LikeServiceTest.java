@@ -1,11 +1,15 @@
 package com.personal.backend.service;
 
+import com.personal.backend.cache.ApproximateCountCache;
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.ProductLike;
+import com.personal.backend.domain.ProductSummary;
 import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
 import com.personal.backend.dto.ProductDto;
 import com.personal.backend.repository.ProductLikeRepository;
 import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
 import com.personal.backend.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +19,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +51,15 @@ class LikeServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
+    @Mock
+    private ProductSummaryRepository productSummaryRepository;
+
     private User dummyUser;
     private Product dummyProduct;
 
@@ -153,6 +170,9 @@ class LikeServiceTest {
 
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
         when(likeRepository.findByUser_Id(dummyUser.getId(), pageable)).thenReturn(likePage);
+        ProductSummary summary = new ProductSummary(100L);
+        summary.refresh(dummyProduct, List.of("image.jpg"), List.of(), 0);
+        when(productSummaryRepository.findByIdIn(List.of(100L))).thenReturn(List.of(summary));
 
         // when
         Page<ProductDto.Response> result = likeService.getLikedProducts(userEmail, pageable);
@@ -161,5 +181,40 @@ class LikeServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).name()).isEqualTo("Test Product");
+        assertThat(result.getContent().get(0).isLiked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("찜 목록 조회 - 요약 정보가 아직 없는 상품은 원본 상품으로 응답")
+    void getLikedProducts_FallsBackWhenSummaryMissing() {
+        // given
+        String userEmail = "test@user.com";
+        Pageable pageable = PageRequest.of(0, 10);
+        ProductLike dummyLike = ProductLike.builder().user(dummyUser).product(dummyProduct).build();
+        Page<ProductLike> likePage = new PageImpl<>(List.of(dummyLike), pageable, 1);
+
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(likeRepository.findByUser_Id(dummyUser.getId(), pageable)).thenReturn(likePage);
+        when(productSummaryRepository.findByIdIn(List.of(100L))).thenReturn(List.of());
+
+        // when
+        Page<ProductDto.Response> result = likeService.getLikedProducts(userEmail, pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(ProductDto.Response::id).containsExactly(100L);
+        assertThat(result.getContent().get(0).isLiked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("찜 목록 커서 조회 실패 - 조작된 커서(offset 위치, id가 아닌 정렬 키)는 거절")
+    void scrollLikedProducts_Fail_TamperedCursor() {
+        // given
+        User user = User.builder().email("cursor@test.com").password("password").role(UserRole.USER).build();
+        when(userRepository.findByEmail("cursor@test.com")).thenReturn(Optional.of(user));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> likeService.scrollLikedProducts("cursor@test.com", ScrollPosition.offset(10), Limit.of(10)));
+        assertThrows(IllegalArgumentException.class, () -> likeService.scrollLikedProducts("cursor@test.com", ScrollPosition.forward(Map.of("createdAt", 5L)), Limit.of(10)));
+        verifyNoInteractions(likeRepository);
     }
 }
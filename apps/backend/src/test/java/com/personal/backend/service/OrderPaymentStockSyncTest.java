@@ -0,0 +1,124 @@
+package com.personal.backend.service;
+
+import com.personal.backend.domain.Cart;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductSummary;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
+import com.personal.backend.dto.OrderDto;
+import com.personal.backend.repository.CartRepository;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+import com.personal.backend.repository.StockReservationRepository;
+import com.personal.backend.repository.UserRepository;
+import com.personal.backend.search.ProductFacetIndex;
+import com.personal.backend.search.ProductFacetQuery;
+import com.personal.backend.search.ProductFacetSort;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 완료 시 조건부 UPDATE로 바꾼 재고가 같은 트랜잭션의 상품 요약 갱신과 커밋 뒤 필터 색인 갱신에 반영되는지 검증합니다.
+ * 커밋 이후 리스너까지 실행되어야 하므로 테스트 트랜잭션으로 감싸지 않습니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderPaymentStockSyncTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            productId = productRepository.save(Product.builder().name("재고 동기화 상품").price(1000).stockQuantity(10).build()).getId();
+            user = userRepository.save(User.builder().email("stock-sync@test.com").password("pw").username("재고동기화").role(UserRole.USER).build());
+            cartRepository.save(Cart.builder().user(user).build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.findByUser(user).forEach(order -> {
+                stockReservationRepository.deleteByOrderId(order.getId());
+                orderRepository.delete(order);
+            });
+            cartRepository.findByUser(user).ifPresent(cartRepository::delete);
+            userRepository.delete(user);
+            productSummaryRepository.deleteById(productId);
+            productRepository.deleteById(productId);
+        });
+        productFacetIndex.remove(productId);
+    }
+
+    @Test
+    @DisplayName("결제 완료 후 상품 요약 재고와 필터 색인의 재고 여부가 DB 재고와 같음")
+    void markOrderAsPaid_RefreshesSummaryAndFacetIndex() {
+        // when: 10개 중 3개 결제
+        pay(3);
+
+        // then
+        assertThat(productRepository.findById(productId)).get().extracting(Product::getStockQuantity).isEqualTo(7);
+        assertThat(productSummaryRepository.findById(productId)).get().extracting(ProductSummary::getStockQuantity).isEqualTo(7);
+        assertThat(inStockProductIds()).contains(productId);
+
+        // when: 남은 7개 결제
+        pay(7);
+
+        // then
+        assertThat(productRepository.findById(productId)).get().extracting(Product::getStockQuantity).isEqualTo(0);
+        assertThat(productSummaryRepository.findById(productId)).get().extracting(ProductSummary::getStockQuantity).isEqualTo(0);
+        assertThat(inStockProductIds()).doesNotContain(productId);
+    }
+
+    private void pay(int count) {
+        OrderDto.CreateResponse created = orderService.createOrder(user.getEmail(),
+                new OrderDto.CreateRequest(List.of(new OrderDto.OrderItemRequest(productId, count))));
+        orderService.markOrderAsPaid(created.pgOrderId(), "pk-" + created.pgOrderId());
+    }
+
+    private List<Long> inStockProductIds() {
+        return productFacetIndex.search(new ProductFacetQuery(null, null, null, null, null, null, true),
+                ProductFacetSort.LATEST, 0, Integer.MAX_VALUE).productIds();
+    }
+}
@@ -0,0 +1,177 @@
+package com.personal.backend.service;
+
+import com.personal.backend.domain.Cart;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
+import com.personal.backend.dto.OrderDto;
+import com.personal.backend.repository.CartRepository;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.StockReservationRepository;
+import com.personal.backend.repository.UserRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 상품들을 서로 다른 순서로 담은 주문을 동시에 생성해도
+ * 재고 잠금 때문에 교착 상태나 잠금 대기 시간 초과가 발생하지 않는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                Product product = productRepository.save(Product.builder()
+                        .name("동시 주문 상품 " + i).price(1000).stockQuantity(1000).build());
+                productIds.add(product.getId());
+            }
+            for (int i = 0; i < THREADS; i++) {
+                User user = userRepository.save(User.builder()
+                        .email("concurrent" + i + "@test.com").password("pw").username("동시주문" + i).role(UserRole.USER).build());
+                cartRepository.save(Cart.builder().user(user).build());
+                users.add(user);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (User user : users) {
+                orderRepository.findByUser(user).forEach(order -> {
+                    stockReservationRepository.deleteByOrderId(order.getId());
+                    orderRepository.delete(order);
+                });
+                cartRepository.findByUser(user).ifPresent(cartRepository::delete);
+                userRepository.delete(user);
+            }
+            productRepository.deleteAllById(productIds);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 상품을 반대 순서로 담은 주문을 동시에 생성해도 모두 성공")
+    void createOrder_ParallelCheckoutsInOppositeOrder_NoDeadlock() throws InterruptedException {
+        // given: 절반은 ID 오름차순, 절반은 내림차순으로 상품을 담은 주문
+        List<Long> reversed = new ArrayList<>(productIds);
+        Collections.reverse(reversed);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            String email = users.get(i).getEmail();
+            List<Long> itemOrder = i % 2 == 0 ? productIds : reversed;
+            OrderDto.CreateRequest request = new OrderDto.CreateRequest(itemOrder.stream()
+                    .map(productId -> new OrderDto.OrderItemRequest(productId, 1))
+                    .toList());
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = 0; n < ORDERS_PER_THREAD; n++) {
+                        orderService.createOrder(email, request);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(failures).isEmpty();
+        long createdOrders = users.stream().mapToLong(orderRepository::countByUser).sum();
+        assertThat(createdOrders).isEqualTo((long) THREADS * ORDERS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 구매자가 동시에 주문하면 재고 수량만큼만 예약되어 성공")
+    void createOrder_ParallelBuyers_ReserveNoMoreThanStock() throws InterruptedException {
+        // given: 재고 5개인 상품을 8명이 동시에 1개씩 주문
+        Long limitedProductId = transactionTemplate.execute(status -> productRepository.save(Product.builder()
+                .name("한정 상품").price(1000).stockQuantity(5).build()).getId());
+        productIds.add(limitedProductId);
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                List.of(new OrderDto.OrderItemRequest(limitedProductId, 1)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (User user : users) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderService.createOrder(user.getEmail(), request);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        // then: 5명만 주문에 성공하고, 나머지는 예약된 재고 때문에 재고 부족으로 실패
+        assertThat(finished).isTrue();
+        assertThat(failures).hasSize(THREADS - 5).allSatisfy(e -> assertThat(e).isInstanceOf(IllegalStateException.class));
+        long createdOrders = users.stream().mapToLong(orderRepository::countByUser).sum();
+        assertThat(createdOrders).isEqualTo(5);
+    }
+}
@@ -1,12 +1,19 @@
 package com.personal.backend.service;
 
+import com.personal.backend.cache.ApproximateCountCache;
 import com.personal.backend.domain.*;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
 import com.personal.backend.dto.OrderDto;
-import com.personal.backend.dto.PaymentDto;
-import com.personal.backend.payment.PaymentGateway;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.exception.RetryableException;
+import com.personal.backend.hotstock.HotStockService;
 import com.personal.backend.repository.*;
+import com.personal.backend.outbox.OutboxService;
+import com.personal.backend.reservation.StockReservationService;
 
-import reactor.core.publisher.Mono;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,20 +22,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,14 +50,30 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private ProductRepository productRepository;
     @Mock
+    private ProductOptionRepository productOptionRepository;
+    @Mock
     private CartRepository cartRepository;
 
     @Mock
-    private PaymentGateway paymentGateway;
+    private ApproximateCountCache approximateCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StockReservationService stockReservationService;
+    @Mock
+    private HotStockService hotStockService;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private EntityManager entityManager;
 
     private User dummyUser;
     private Product dummyProduct;
@@ -96,7 +122,7 @@ class OrderServiceTest {
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
         when(cartRepository.findByUser(dummyUser)).thenReturn(Optional.of(dummyCart));
         when(orderRepository.save(any(Order.class))).thenReturn(dummyOrder);
-        when(productRepository.findByIdWithPessimisticLock(100L)).thenReturn(Optional.of(dummyProduct));
+        when(productRepository.findAllById(List.of(100L))).thenReturn(List.of(dummyProduct));
 
         // when
         OrderDto.CreateResponse response = orderService.createOrder(userEmail, request);
@@ -107,6 +133,7 @@ class OrderServiceTest {
         assertThat(response.orderName()).isEqualTo("테스트 상품");
         assertThat(response.pgOrderId()).isNotNull(); // pgOrderId가 생성되었는지 확인
         assertThat(dummyCart.getCartItems()).isEmpty();
+        verify(stockReservationService, times(1)).reserve(dummyOrder);
     }
 
 
@@ -136,6 +163,31 @@ class OrderServiceTest {
         assertThat(resultPage.getContent()).hasSize(1);
         assertThat(resultPage.getTotalPages()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("주문 내역은 한 페이지의 주문 항목을 한 번에 조회하고, 상품 이름이 바뀌어도 주문 당시 스냅샷을 보여 줌")
+    void getOrderHistory_UsesOneItemQueryAndSnapshot() {
+        // given: 옵션을 골라 주문한 뒤 상품 이름과 이미지가 바뀐 상황
+        String userEmail = "test@user.com";
+        Pageable pageable = PageRequest.of(0, 10);
+        setField(Product.class, dummyProduct, "imageUrl", List.of("products/shoe.jpg"));
+        ProductOption option = ProductOption.builder().product(dummyProduct).optionGroupName("사이즈").optionName("270").build();
+        OrderItem orderItem = OrderItem.builder().order(dummyOrder).product(dummyProduct).option(option).orderPrice(10000).count(2).build();
+        setId(OrderItem.class, orderItem, 10L);
+        dummyProduct.updateDetails("바뀐 상품명", null, 10000, List.of("products/new.jpg"), null, 10, 0.0);
+
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(orderRepository.findByUser(dummyUser, pageable)).thenReturn(new PageImpl<>(List.of(dummyOrder), pageable, 1));
+        when(orderItemRepository.findByOrderIdIn(List.of(1L))).thenReturn(List.of(orderItem));
+
+        // when
+        Page<OrderDto.HistoryResponse> resultPage = orderService.getOrderHistory(userEmail, pageable);
+
+        // then
+        assertThat(resultPage.getContent().get(0).orderItems()).containsExactly(
+                new OrderDto.OrderItemResponse(10L, 100L, "테스트 상품", "사이즈: 270", "products/shoe.jpg", 2, 10000));
+        verify(orderItemRepository, times(1)).findByOrderIdIn(List.of(1L));
+    }
     
 
     @Test
@@ -161,40 +213,40 @@ class OrderServiceTest {
     }
 
     @Test
-    @DisplayName("주문 취소 성공 - PG사 호출 및 재고 복구 확인")
-    void cancelOrder_Success() {
+    @DisplayName("주문 취소 접수 - PG사를 호출하지 않고 환불 대기열에 넣음")
+    void requestCancel_Success() {
         // given
         String userEmail = "test@user.com";
         Long orderId = 1L;
-        String cancelReason = "고객 변심";
-
-        // 1. 테스트를 위해 주문에 상품(2개)과 '결제 키'를 설정하고, 상태를 PAID로 만듭니다.
-        OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).build();
-        dummyOrder.addOrderItem(orderItem);
+        dummyOrder.addOrderItem(OrderItem.builder().product(dummyProduct).count(2).orderPrice(10000).build());
         dummyOrder.markAsPaid("test_payment_key_123");
-        
-        // 초기 재고는 10개
-        assertThat(dummyProduct.getStockQuantity()).isEqualTo(10);
-
-        // 2. Mock 설정
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(dummyOrder));
-        // [수정] 어떤 문자열이든 받아들이도록 anyString() Matcher를 사용하여 유연성을 높입니다.
-        when(paymentGateway.cancel(anyString(), anyString()))
-                .thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("CANCELED", "dummy-order-id", 20000)));
+        when(orderItemRepository.findByOrderIdIn(List.of(orderId))).thenReturn(dummyOrder.getOrderItems());
 
         // when
-        orderService.cancelOrder(userEmail, orderId, cancelReason);
+        OrderDto.HistoryResponse response = orderService.requestCancel(userEmail, orderId, "고객 변심");
+
+        // then: 재고 복구와 환불액 확정은 환불이 성공한 뒤에 함
+        assertThat(response.orderStatus()).isEqualTo("CANCEL_REQUESTED");
+        assertThat(dummyOrder.getCancelReason()).isEqualTo("고객 변심");
+        assertThat(dummyOrder.getNextRefundAt()).isNotNull();
+        assertThat(dummyOrder.getRefundedAmount()).isNull();
+        verifyNoInteractions(productRepository, outboxService);
+    }
 
-        // then
-        // 3. PaymentGateway의 cancel 메소드가 올바른 인자들로 1번 호출되었는지 검증합니다.
-        verify(paymentGateway, times(1)).cancel(eq("test_payment_key_123"), eq(cancelReason));
+    @Test
+    @DisplayName("주문 취소 접수 실패 - 결제 완료 상태가 아니면 거절")
+    void requestCancel_Fail_NotPaid() {
+        // given
+        String userEmail = "test@user.com";
+        Long orderId = 1L;
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(dummyOrder));
 
-        // 4. 주문 상태가 CANCELED로 변경되었는지 확인합니다.
-        assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
-        
-        // 5. 상품 재고가 주문 수량(2개)만큼 다시 복구되었는지 확인합니다. (10 + 2 = 12)
-        assertThat(dummyProduct.getStockQuantity()).isEqualTo(12);
+        // when & then
+        assertThrows(IllegalStateException.class, () -> orderService.requestCancel(userEmail, orderId, "고객 변심"));
+        assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
     }
 
     @Test
@@ -207,9 +259,9 @@ class OrderServiceTest {
                 List.of(new OrderDto.OrderItemRequest(100L, 11))
         );
 
-        // Mock 설정: productRepository.findByIdWithPessimisticLock이 호출되면 dummyProduct를 반환
+        // Mock 설정: productRepository.findAllById가 호출되면 dummyProduct를 반환
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
-        when(productRepository.findByIdWithPessimisticLock(100L)).thenReturn(Optional.of(dummyProduct));
+        when(productRepository.findAllById(List.of(100L))).thenReturn(List.of(dummyProduct));
         // when & then
         // productService.createOrder를 실행했을 때,
         // Product 엔티티의 decreaseStock 메소드에서 IllegalStateException이 발생해야 합니다.
@@ -221,57 +273,351 @@ class OrderServiceTest {
         verify(orderRepository, never()).save(any(Order.class));
     }
 
-    // 👇 [추가] 주문 취소 시 재고 복구 시나리오 테스트
     @Test
-    @DisplayName("주문 취소 성공 - 재고 복구 확인")
-    void cancelOrder_Success_StockIncrease() {
+    @DisplayName("주문 생성 - 상품을 잠그지 않고 한 번에 읽은 뒤 재고 예약")
+    void createOrder_ReadsProductsOnceAndReserves() {
+        // given: 상품 300, 100, 300(중복) 순서로 주문
+        String userEmail = "test@user.com";
+        Product otherProduct = Product.builder().name("다른 상품").price(5000).stockQuantity(10).build();
+        setId(Product.class, otherProduct, 300L);
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(List.of(
+                new OrderDto.OrderItemRequest(300L, 1),
+                new OrderDto.OrderItemRequest(100L, 2),
+                new OrderDto.OrderItemRequest(300L, 1)
+        ));
+
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(cartRepository.findByUser(dummyUser)).thenReturn(Optional.of(dummyCart));
+        when(orderRepository.save(any(Order.class))).thenReturn(dummyOrder);
+        when(productRepository.findAllById(List.of(300L, 100L))).thenReturn(List.of(dummyProduct, otherProduct));
+
+        // when
+        OrderDto.CreateResponse response = orderService.createOrder(userEmail, request);
+
+        // then: 상품 조회는 중복 없이 한 번만 실행되고, 주문 상품은 요청 순서를 유지
+        verify(productRepository, times(1)).findAllById(List.of(300L, 100L));
+        verify(stockReservationService, times(1)).reserve(dummyOrder);
+        assertThat(response.orderName()).isEqualTo("다른 상품 외 2건");
+        assertThat(response.amount()).isEqualTo(5000 + 20000 + 5000);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 재고 행 잠금 대기 실패는 다시 시도 가능한 오류로 변환")
+    void createOrder_Fail_LockTimeoutIsRetryable() {
         // given
         String userEmail = "test@user.com";
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                List.of(new OrderDto.OrderItemRequest(100L, 1))
+        );
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(productRepository.findAllById(List.of(100L))).thenReturn(List.of(dummyProduct));
+        when(orderRepository.save(any(Order.class))).thenReturn(dummyOrder);
+        doThrow(new CannotAcquireLockException("lock timeout")).when(stockReservationService).reserve(dummyOrder);
+
+        // when & then
+        RetryableException exception = assertThrows(RetryableException.class,
+                () -> orderService.createOrder(userEmail, request));
+        assertThat(exception.getRetryAfterSeconds()).isPositive();
+        verify(cartRepository, never()).findByUser(any(User.class));
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 존재하지 않는 상품")
+    void createOrder_Fail_ProductNotFound() {
+        // given
+        String userEmail = "test@user.com";
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(List.of(
+                new OrderDto.OrderItemRequest(100L, 1),
+                new OrderDto.OrderItemRequest(999L, 1)
+        ));
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(productRepository.findAllById(List.of(100L, 999L))).thenReturn(List.of(dummyProduct));
+
+        // when & then
+        assertThrows(EntityNotFoundException.class, () -> orderService.createOrder(userEmail, request));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    // 👇 [추가] 주문 취소 시 재고 복구 시나리오 테스트
+    @Test
+    @DisplayName("환불 완료 - 취소 확정, 재고 복구, 환불액 기록, 아웃박스 기록")
+    void completeRefund_Success_StockIncrease() {
+        // given
         Long orderId = 1L;
-        String cancelReason = "고객 변심";
         
-        // 주문 상품 설정: dummyProduct 2개를 주문한 상태
-        OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).build();
+        // 주문 상품 설정: dummyProduct 2개를 주문하고 취소를 접수한 상태
+        OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).orderPrice(10000).build();
         dummyOrder.addOrderItem(orderItem);
         dummyOrder.markAsPaid("test_payment_key_123");
-        // 초기 재고는 10개
-        assertThat(dummyProduct.getStockQuantity()).isEqualTo(10);
-
+        dummyOrder.requestCancel("고객 변심");
         // Mock 설정
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(dummyOrder));
-        when(paymentGateway.cancel(anyString(), anyString()))
-                .thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("CANCELED", "dummy-order-id", 20000)));
 
         // when
-        orderService.cancelOrder(userEmail, orderId, cancelReason);
+        orderService.completeRefund(orderId);
 
         // then
-        // 주문 취소 후, 2개가 다시 복구되어 재고가 12개가 되었는지 확인
-        assertThat(dummyProduct.getStockQuantity()).isEqualTo(12);
+        // 주문 취소 후, 2개를 다시 복구하는 조건부 UPDATE가 실행되었는지 확인
+        verify(productRepository, times(1)).increaseStock(100L, 2);
         assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(dummyOrder.getRefundedAmount()).isEqualTo(20000);
+        assertThat(dummyOrder.getNextRefundAt()).isNull();
+        verify(outboxService).append(OutboxEventType.ORDER_CANCELED, orderId);
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 실패 후 환불 - 재고 예약만 풀고, 환불이 끝나면 재고 복구와 매출 반영 없이 만료로 끝남")
+    void refundFailedPayment_ReleasesReservationAndSkipsStockRestore() {
+        // given
+        Long orderId = 1L;
+        OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).orderPrice(10000).build();
+        dummyOrder.addOrderItem(orderItem);
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(dummyOrder));
+
+        // when
+        OrderStatus status = orderService.refundFailedPayment(dummyOrder.getPgOrderId(), "captured_key", "결제 완료 처리 실패로 자동 환불");
+        orderService.completeRefund(orderId);
+
+        // then
+        assertThat(status).isEqualTo(OrderStatus.CANCEL_REQUESTED);
+        verify(stockReservationService).release(dummyOrder);
+        assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(dummyOrder.getPaymentKey()).isEqualTo("captured_key");
+        assertThat(dummyOrder.getRefundedAmount()).isEqualTo(20000);
+        verifyNoInteractions(productRepository, outboxService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 실패 후 환불 - 같은 결제로 이미 결제 완료된 주문은 환불하지 않음")
+    void refundFailedPayment_AlreadyPaidWithSamePayment() {
+        // given
+        dummyOrder.markAsPaid("captured_key");
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+
+        // when
+        OrderStatus status = orderService.refundFailedPayment(dummyOrder.getPgOrderId(), "captured_key", "결제 완료 처리 실패로 자동 환불");
+
+        // then
+        assertThat(status).isEqualTo(OrderStatus.PAID);
+        verifyNoInteractions(stockReservationService);
+    }
+
+    @Test
+    @DisplayName("환불 완료 실패 - 이미 확정된 주문은 재고를 다시 복구하지 않음")
+    void completeRefund_Fail_AlreadyCanceled() {
+        // given
+        Long orderId = 1L;
+        dummyOrder.addOrderItem(OrderItem.builder().product(dummyProduct).count(2).orderPrice(10000).build());
+        dummyOrder.markAsPaid("test_payment_key_123");
+        dummyOrder.requestCancel("고객 변심");
+        dummyOrder.completeRefund();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(dummyOrder));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> orderService.completeRefund(orderId));
+        verifyNoInteractions(productRepository, outboxService);
     }
 
     @Test
-    @DisplayName("결제 후 처리(processPostPayment) 성공 - 재고 차감 및 장바구니 비우기")
-    void processPostPayment_Success() {
+    @DisplayName("결제 완료 처리 성공 - 재고 예약을 실제 재고 차감으로 전환")
+    void markOrderAsPaid_Success() {
 
         // 주문에 상품(2개) 추가
         OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).build();
         dummyOrder.addOrderItem(orderItem);
-        
-        // 장바구니에도 동일한 상품이 있다고 가정
-        CartItem cartItem = CartItem.builder().product(dummyProduct).quantity(5).build();
-        dummyCart.getCartItems().add(cartItem);
 
         // Mock 설정
-        when(orderRepository.findByPgOrderId(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(orderRepository.findForPaymentByPgOrderId(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(stockReservationService.confirm(dummyOrder)).thenReturn(true);
+
+        // when
+        orderService.markOrderAsPaid(dummyOrder.getPgOrderId(), "test_payment_key");
+
+        // then
+        // 1. 예약이 재고 차감으로 전환되고 주문이 결제 완료 상태가 되었는지 검증 (옵션 없는 주문은 옵션 재고를 건드리지 않음)
+        verify(stockReservationService, times(1)).confirm(dummyOrder);
+        verifyNoInteractions(productOptionRepository);
+        assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(dummyOrder.getPaymentKey()).isEqualTo("test_payment_key");
+        // 2. UPDATE로 바뀐 재고를 상품 엔티티에 다시 읽어 온 뒤, 목록/캐시가 갱신되도록 상품 변경 이벤트가 발행되었는지 검증
+        verify(entityManager).refresh(dummyProduct);
+        verify(eventPublisher, times(1)).publishEvent(any(ProductChangedEvent.class));
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(dummyProduct.getId(), false));
+        // 3. 매출 집계 등 후속 처리는 같은 트랜잭션의 아웃박스에 기록되었는지 검증
+        verify(outboxService, times(1)).append(OutboxEventType.ORDER_PAID, dummyOrder.getId());
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 성공 - 재고 예약이 만료되었어도 남은 재고에서 바로 차감")
+    void markOrderAsPaid_ReservationExpired_CommitsWithoutReservation() {
+        // given
+        OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).build();
+        dummyOrder.addOrderItem(orderItem);
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(orderRepository.findForPaymentByPgOrderId(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(stockReservationService.confirm(dummyOrder)).thenReturn(false);
+        when(stockReservationService.commitWithoutReservation(dummyOrder)).thenReturn(true);
+
+        // when
+        orderService.markOrderAsPaid(dummyOrder.getPgOrderId(), "test_payment_key");
+
+        // then
+        assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(outboxService).append(OutboxEventType.ORDER_PAID, dummyOrder.getId());
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 - 같은 결제로 이미 결제 완료된 주문은 재고를 다시 차감하지 않음")
+    void markOrderAsPaid_AlreadyPaidWithSamePayment() {
+        // given: 동시에 들어온 다른 승인 요청이 먼저 결제 완료 처리함
+        dummyOrder.addOrderItem(OrderItem.builder().product(dummyProduct).count(2).build());
+        dummyOrder.markAsPaid("test_payment_key");
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
 
         // when
-        orderService.processPostPayment(dummyOrder.getPgOrderId());
+        orderService.markOrderAsPaid(dummyOrder.getPgOrderId(), "test_payment_key");
 
         // then
-        // 1. 재고가 10개에서 8개로 정상적으로 차감되었는지 검증
-        assertThat(dummyProduct.getStockQuantity()).isEqualTo(8);
+        assertThat(dummyOrder.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(orderRepository, never()).findForPaymentByPgOrderId(any());
+        verifyNoInteractions(stockReservationService, productOptionRepository, eventPublisher, outboxService);
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 실패 - 재고 예약이 만료된 사이 재고가 소진된 주문")
+    void markOrderAsPaid_Fail_ReservationExpired() {
+        // given
+        OrderItem orderItem = OrderItem.builder().product(dummyProduct).count(2).build();
+        dummyOrder.addOrderItem(orderItem);
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(orderRepository.findForPaymentByPgOrderId(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(stockReservationService.confirm(dummyOrder)).thenReturn(false);
+        when(stockReservationService.commitWithoutReservation(dummyOrder)).thenReturn(false);
+
+        // when & then: 예외로 트랜잭션 전체(결제 완료 상태 변경 포함)가 롤백됩니다.
+        assertThrows(IllegalStateException.class,
+                () -> orderService.markOrderAsPaid(dummyOrder.getPgOrderId(), "test_payment_key"));
+        verifyNoInteractions(productOptionRepository, eventPublisher, outboxService);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 다른 결제 대기 주문이 예약한 수량을 뺀 재고가 부족")
+    void createOrder_Fail_StockHeldByReservations() {
+        // given: 재고 10개 중 8개가 다른 주문에 예약된 상태에서 3개를 주문
+        String userEmail = "test@user.com";
+        setField(Product.class, dummyProduct, "reservedQuantity", 8);
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                List.of(new OrderDto.OrderItemRequest(100L, 3))
+        );
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(productRepository.findAllById(List.of(100L))).thenReturn(List.of(dummyProduct));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> orderService.createOrder(userEmail, request));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(stockReservationService, never()).reserve(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("결제 금액 조회 실패 - 결제 기한이 지나 만료된 주문")
+    void getOrderAmountByPgOrderId_Fail_NotPending() {
+        // given
+        when(orderRepository.findByPgOrderId("expired-order")).thenReturn(Optional.of(
+                Order.builder().user(dummyUser).status(OrderStatus.EXPIRED).pgOrderId("expired-order").build()));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrderAmountByPgOrderId("expired-order"));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 옵션을 선택하면 추가 금액을 더한 가격으로 주문")
+    void createOrder_WithOption() {
+        // given
+        String userEmail = "test@user.com";
+        ProductOption option = ProductOption.builder().product(dummyProduct).optionGroupName("색상").optionName("블랙")
+                .additionalPrice(2000).stockQuantity(5).build();
+        setId(ProductOption.class, option, 7L);
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                List.of(new OrderDto.OrderItemRequest(100L, 7L, 2))
+        );
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(cartRepository.findByUser(dummyUser)).thenReturn(Optional.of(dummyCart));
+        when(orderRepository.save(any(Order.class))).thenReturn(dummyOrder);
+        when(productRepository.findAllById(List.of(100L))).thenReturn(List.of(dummyProduct));
+        when(productOptionRepository.findAllById(List.of(7L))).thenReturn(List.of(option));
+
+        // when
+        OrderDto.CreateResponse response = orderService.createOrder(userEmail, request);
+
+        // then: (10000 + 2000) * 2
+        assertThat(response.amount()).isEqualTo(24000);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 다른 상품의 옵션을 선택")
+    void createOrder_Fail_OptionOfOtherProduct() {
+        // given
+        String userEmail = "test@user.com";
+        Product otherProduct = Product.builder().name("다른 상품").price(5000).stockQuantity(10).build();
+        setId(Product.class, otherProduct, 300L);
+        ProductOption option = ProductOption.builder().product(otherProduct).optionName("블랙").stockQuantity(5).build();
+        setId(ProductOption.class, option, 7L);
+        OrderDto.CreateRequest request = new OrderDto.CreateRequest(
+                List.of(new OrderDto.OrderItemRequest(100L, 7L, 1))
+        );
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
+        when(productRepository.findAllById(List.of(100L))).thenReturn(List.of(dummyProduct));
+        when(productOptionRepository.findAllById(List.of(7L))).thenReturn(List.of(option));
+
+        // when & then
+        assertThrows(EntityNotFoundException.class, () -> orderService.createOrder(userEmail, request));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 - 옵션 재고를 조건부 UPDATE로 차감하고, 부족하면 실패")
+    void markOrderAsPaid_DecreasesOptionStock() {
+        // given
+        ProductOption option = ProductOption.builder().product(dummyProduct).optionName("블랙").stockQuantity(1).build();
+        setId(ProductOption.class, option, 7L);
+        dummyOrder.addOrderItem(OrderItem.builder().product(dummyProduct).option(option).count(2).build());
+        when(orderRepository.findByPgOrderIdForUpdate(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(orderRepository.findForPaymentByPgOrderId(dummyOrder.getPgOrderId())).thenReturn(Optional.of(dummyOrder));
+        when(stockReservationService.confirm(dummyOrder)).thenReturn(true);
+        when(productOptionRepository.decreaseStock(7L, 2)).thenReturn(0);
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> orderService.markOrderAsPaid(dummyOrder.getPgOrderId(), "test_payment_key"));
+        verify(productOptionRepository, times(1)).decreaseStock(7L, 2);
+    }
+
+    private static <T> void setId(Class<T> type, T target, Long id) {
+        setField(type, target, "id", id);
+    }
+
+    private static <T> void setField(Class<T> type, T target, String name, Object value) {
+        try {
+            var field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 내역 커서 조회 실패 - 조작된 커서(offset 위치, id가 아닌 정렬 키)는 거절")
+    void scrollOrderHistory_Fail_TamperedCursor() {
+        // given
+        User user = User.builder().email("cursor@test.com").password("password").role(UserRole.USER).build();
+        when(userRepository.findByEmail("cursor@test.com")).thenReturn(Optional.of(user));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> orderService.scrollOrderHistory("cursor@test.com", ScrollPosition.offset(10), Limit.of(10)));
+        assertThrows(IllegalArgumentException.class, () -> orderService.scrollOrderHistory("cursor@test.com", ScrollPosition.forward(Map.of("createdAt", 5L)), Limit.of(10)));
+        verifyNoInteractions(orderRepository);
     }
-}
\ No newline at end of file
+}
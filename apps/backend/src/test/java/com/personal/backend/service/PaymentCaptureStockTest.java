@@ -0,0 +1,233 @@
+package com.personal.backend.service;
+
+import com.personal.backend.domain.Cart;
+import com.personal.backend.domain.Order;
+import com.personal.backend.domain.OrderStatus;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductOption;
+import com.personal.backend.domain.User;
+import com.personal.backend.domain.UserRole;
+import com.personal.backend.dto.OrderDto;
+import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.payment.PaymentGateway;
+import com.personal.backend.repository.CartRepository;
+import com.personal.backend.repository.OrderRepository;
+import com.personal.backend.repository.ProductOptionRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+import com.personal.backend.repository.StockReservationRepository;
+import com.personal.backend.repository.UserRepository;
+import com.personal.backend.reservation.StockReservationService;
+import com.personal.backend.search.ProductFacetIndex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PG사 승인을 기다리는 사이 주문의 재고 예약이 만료되거나 옵션 재고가 소진된 경우의 결제 승인 흐름을 실제 DB로 검증합니다.
+ * 예약 정리 작업과 결제 완료 처리가 각자의 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션으로 감싸지 않습니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentCaptureStockTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final PaymentGateway paymentGateway = mock(PaymentGateway.class);
+    private PaymentService paymentService;
+    private Long productId;
+    private Long optionId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentService(orderService, paymentGateway, Schedulers.immediate(), Schedulers.immediate());
+        transactionTemplate.executeWithoutResult(status -> {
+            productId = productRepository.save(Product.builder().name("예약 만료 상품").price(1000).stockQuantity(5).build()).getId();
+            optionId = productOptionRepository.save(ProductOption.builder().product(productRepository.getReferenceById(productId))
+                    .optionGroupName("색상").optionName("블랙").stockQuantity(2).build()).getId();
+            user = userRepository.save(User.builder().email("reservation-expiry@test.com").password("pw").username("예약만료").role(UserRole.USER).build());
+            cartRepository.save(Cart.builder().user(user).build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.findByUser(user).forEach(order -> {
+                stockReservationRepository.deleteByOrderId(order.getId());
+                orderRepository.delete(order);
+            });
+            cartRepository.findByUser(user).ifPresent(cartRepository::delete);
+            userRepository.delete(user);
+            productOptionRepository.deleteById(optionId);
+            productSummaryRepository.deleteById(productId);
+            productRepository.deleteById(productId);
+        });
+        productFacetIndex.remove(productId);
+    }
+
+    @Test
+    @DisplayName("승인 중 예약이 만료되었어도 재고가 남아 있으면 바로 차감해 결제 완료")
+    void confirmPayment_ReservationExpired_CommitsFromAvailableStock() {
+        // given
+        OrderDto.CreateResponse created = order(3);
+        PaymentDto.VerificationRequest request = approveAfterExpiry(created, null);
+
+        // when
+        PaymentDto.ConfirmationResponse response = paymentService.confirmPayment(request).block();
+
+        // then
+        assertThat(response.status()).isEqualTo("DONE");
+        Order order = orderRepository.findByPgOrderId(created.pgOrderId()).orElseThrow();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(order.getPaymentKey()).isEqualTo(request.paymentKey());
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getStockQuantity()).isEqualTo(2);
+        assertThat(product.getReservedQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약이 만료된 주문에 같은 결제의 승인이 두 번 와도 재고는 한 번만 차감")
+    void confirmPayment_DuplicateAfterExpiry_DecreasesStockOnce() {
+        // given: PG사는 같은 멱등 키의 중복 승인에 같은 성공 응답을 돌려줌
+        OrderDto.CreateResponse created = order(2);
+        PaymentDto.VerificationRequest request = approveAfterExpiry(created, null);
+        paymentService.confirmPayment(request).block();
+
+        // when: 두 번째 요청은 금액 확인(결제 대기 상태) 뒤 PG사 승인을 기다리던 중이었다고 보고 결제 완료 처리만 다시 실행
+        orderService.markOrderAsPaid(created.pgOrderId(), request.paymentKey());
+
+        // then
+        Order order = orderRepository.findByPgOrderId(created.pgOrderId()).orElseThrow();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ? AND type = 'ORDER_PAID'",
+                Long.class, order.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("승인 중 예약이 만료되고 그 사이 다른 주문이 재고를 가져갔으면 승인된 결제를 환불 대기열에 넣음")
+    void confirmPayment_ReservationExpiredAndSoldOut_QueuesRefund() {
+        // given: 만료된 사이 다른 주문이 남은 재고 5개를 모두 예약함
+        OrderDto.CreateResponse created = order(5);
+        PaymentDto.VerificationRequest request = approveAfterExpiry(created, 5);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.confirmPayment(request).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("환불");
+
+        Order order = orderRepository.findByPgOrderId(created.pgOrderId()).orElseThrow();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCEL_REQUESTED);
+        assertThat(order.isPaymentFailed()).isTrue();
+        assertThat(order.getPaymentKey()).isEqualTo(request.paymentKey());
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getStockQuantity()).isEqualTo(5);
+        assertThat(product.getReservedQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("예약하지 않는 옵션 재고가 승인 중 소진되면 상품 재고 예약을 풀고 승인된 결제를 환불 대기열에 넣음")
+    void confirmPayment_OptionSoldOutDuringApproval_QueuesRefund() {
+        // given
+        OrderDto.CreateResponse created = orderService.createOrder(user.getEmail(),
+                new OrderDto.CreateRequest(List.of(new OrderDto.OrderItemRequest(productId, optionId, 2))));
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest(
+                "toss", "pk-" + created.pgOrderId(), created.pgOrderId(), created.amount());
+        when(paymentGateway.confirm(any())).thenReturn(Mono.fromCallable(() -> {
+            // 승인을 기다리는 사이 다른 주문이 옵션 재고 1개를 가져감
+            transactionTemplate.executeWithoutResult(status -> productOptionRepository.decreaseStock(optionId, 1));
+            return new PaymentDto.ConfirmationResponse("DONE", created.pgOrderId(), created.amount());
+        }));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.confirmPayment(request).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("환불")
+                .hasMessageContaining("옵션 재고가 부족합니다");
+
+        Order order = orderRepository.findByPgOrderId(created.pgOrderId()).orElseThrow();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCEL_REQUESTED);
+        assertThat(order.isPaymentFailed()).isTrue();
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getStockQuantity()).isEqualTo(5);
+        assertThat(product.getReservedQuantity()).isZero();
+        assertThat(productOptionRepository.findById(optionId)).get().extracting(ProductOption::getStockQuantity).isEqualTo(1);
+        assertThat(stockReservationRepository.findAll()).noneMatch(reservation -> reservation.getOrderId().equals(order.getId()));
+    }
+
+    private OrderDto.CreateResponse order(int count) {
+        return orderService.createOrder(user.getEmail(),
+                new OrderDto.CreateRequest(List.of(new OrderDto.OrderItemRequest(productId, count))));
+    }
+
+    // PG사가 승인하는 사이 주문의 예약이 만료되어 정리되고, competingCount가 있으면 다른 주문이 그만큼 예약하도록 합니다.
+    private PaymentDto.VerificationRequest approveAfterExpiry(OrderDto.CreateResponse created, Integer competingCount) {
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest(
+                "toss", "pk-" + created.pgOrderId(), created.pgOrderId(), created.amount());
+        when(paymentGateway.confirm(any())).thenReturn(Mono.fromCallable(() -> {
+            Long orderId = orderRepository.findByPgOrderId(created.pgOrderId()).orElseThrow().getId();
+            jdbcTemplate.update("UPDATE stock_reservations SET expires_at = ? WHERE order_id = ?",
+                    LocalDateTime.now().minusMinutes(1), orderId);
+            stockReservationService.releaseExpired(100);
+            if (competingCount != null) {
+                order(competingCount);
+            }
+            return new PaymentDto.ConfirmationResponse("DONE", created.pgOrderId(), created.amount());
+        }));
+        return request;
+    }
+}
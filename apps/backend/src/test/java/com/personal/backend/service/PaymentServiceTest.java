@@ -1,24 +1,31 @@
 package com.personal.backend.service;
 
+import com.personal.backend.domain.OrderStatus;
 import com.personal.backend.dto.PaymentDto;
+import com.personal.backend.exception.TooManyRequestsException;
 import com.personal.backend.payment.PaymentGateway;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
 
-    @InjectMocks
     private PaymentService paymentService;
 
     @Mock
@@ -27,6 +34,12 @@ class PaymentServiceTest {
     @Mock
     private PaymentGateway paymentGateway;
 
+    @BeforeEach
+    void setUp() {
+        // DB 작업도 호출한 스레드에서 바로 실행해 결과를 순서대로 검증합니다.
+        paymentService = new PaymentService(orderService, paymentGateway, Schedulers.immediate(), Schedulers.immediate());
+    }
+
     @Test
     @DisplayName("결제 승인 성공 시 주문 상태 변경 및 후속 처리 로직 호출 검증")
     void confirmPayment_Success() {
@@ -50,7 +63,6 @@ class PaymentServiceTest {
         
         // [핵심] 결제 성공 후, OrderService의 메소드들이 정확히 1번씩 호출되었는지 검증
         verify(orderService, times(1)).markOrderAsPaid(request.orderId(), request.paymentKey());
-        verify(orderService, times(1)).processPostPayment(request.orderId());
     }
 
     @Test
@@ -74,6 +86,72 @@ class PaymentServiceTest {
         // [핵심] 금액이 달랐으므로, PaymentGateway와 후속 처리 로직은 절대 호출되면 안 됨
         verify(paymentGateway, never()).confirm(any());
         verify(orderService, never()).markOrderAsPaid(anyString(), anyString());
-        verify(orderService, never()).processPostPayment(anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("승인 뒤 결제 완료 처리에 실패하면 승인된 결제를 환불 대기열에 넣고 실패로 응답")
+    void confirmPayment_CompletionFailsAfterCapture_RequestsRefund() {
+        // given
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "test_pk", "test_oid", 10000);
+        when(orderService.getOrderAmountByPgOrderId(request.orderId())).thenReturn(10000);
+        when(paymentGateway.confirm(request)).thenReturn(Mono.just(new PaymentDto.ConfirmationResponse("DONE", "test_oid", 10000)));
+        doThrow(new IllegalStateException("옵션 재고가 부족합니다.")).when(orderService).markOrderAsPaid(request.orderId(), request.paymentKey());
+        when(orderService.refundFailedPayment(eq(request.orderId()), eq(request.paymentKey()), anyString())).thenReturn(OrderStatus.CANCEL_REQUESTED);
+
+        // when & then
+        StepVerifier.create(paymentService.confirmPayment(request))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(IllegalStateException.class).hasMessageContaining("환불"))
+                .verify();
+        verify(orderService).refundFailedPayment(eq(request.orderId()), eq(request.paymentKey()), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 결제를 다른 요청이 먼저 결제 완료 처리했다면 환불하지 않고 성공으로 응답")
+    void confirmPayment_AlreadyCompletedByConcurrentRequest_Succeeds() {
+        // given
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "test_pk", "test_oid", 10000);
+        PaymentDto.ConfirmationResponse pgResponse = new PaymentDto.ConfirmationResponse("DONE", "test_oid", 10000);
+        when(orderService.getOrderAmountByPgOrderId(request.orderId())).thenReturn(10000);
+        when(paymentGateway.confirm(request)).thenReturn(Mono.just(pgResponse));
+        doThrow(new IllegalStateException("결제 대기 상태의 주문만 결제 완료 처리할 수 있습니다.")).when(orderService).markOrderAsPaid(request.orderId(), request.paymentKey());
+        when(orderService.refundFailedPayment(eq(request.orderId()), eq(request.paymentKey()), anyString())).thenReturn(OrderStatus.PAID);
+
+        // when & then
+        StepVerifier.create(paymentService.confirmPayment(request))
+                .expectNext(pgResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("PG사 승인을 기다리는 중 클라이언트가 연결을 끊어도 승인되면 결제 완료 처리를 끝까지 실행")
+    void confirmPayment_ClientCancelsDuringPgCall_StillCompletes() {
+        // given: 아직 응답하지 않은 PG사 승인
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "test_pk", "test_oid", 10000);
+        Sinks.One<PaymentDto.ConfirmationResponse> pgResponse = Sinks.one();
+        when(orderService.getOrderAmountByPgOrderId(request.orderId())).thenReturn(10000);
+        when(paymentGateway.confirm(request)).thenReturn(pgResponse.asMono());
+
+        // when: 구독을 취소한 뒤 PG사가 승인
+        paymentService.confirmPayment(request).subscribe().dispose();
+        pgResponse.tryEmitValue(new PaymentDto.ConfirmationResponse("DONE", "test_oid", 10000));
+
+        // then
+        verify(orderService).markOrderAsPaid(request.orderId(), request.paymentKey());
+    }
+
+    @Test
+    @DisplayName("결제 승인 실패 - DB 작업 대기열이 가득 차면 PG사를 호출하지 않고 429로 돌려보냄")
+    void confirmPayment_Fail_JdbcSchedulerSaturated() {
+        // given: 작업을 받지 않는 스케줄러
+        paymentService = new PaymentService(orderService, paymentGateway, Schedulers.fromExecutor(task -> {
+            throw new RejectedExecutionException("queue full");
+        }), Schedulers.immediate());
+        PaymentDto.VerificationRequest request = new PaymentDto.VerificationRequest("toss", "test_pk", "test_oid", 10000);
+
+        // when & then
+        StepVerifier.create(paymentService.confirmPayment(request))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+        verifyNoInteractions(orderService, paymentGateway);
+    }
+}
@@ -3,6 +3,7 @@ package com.personal.backend.service;
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.ProductOption;
 import com.personal.backend.dto.ProductOptionDto;
+import com.personal.backend.event.ProductChangedEvent;
 import com.personal.backend.repository.ProductOptionRepository;
 import com.personal.backend.repository.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -33,6 +35,9 @@ class ProductOptionServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Product dummyProduct;
 
     @BeforeEach
@@ -73,6 +78,7 @@ class ProductOptionServiceTest {
         assertThat(response.additionalPrice()).isEqualTo(1000);
         verify(productRepository, times(1)).findById(productId);
         verify(productOptionRepository, times(1)).save(any(ProductOption.class));
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangedEvent(productId));
     }
 
     @Test
@@ -94,6 +100,8 @@ class ProductOptionServiceTest {
     void deleteOption_Success() {
         // given
         Long optionId = 1L;
+        ProductOption option = ProductOption.builder().product(dummyProduct).optionName("빨강").build();
+        when(productOptionRepository.findById(optionId)).thenReturn(Optional.of(option));
         doNothing().when(productOptionRepository).deleteById(optionId);
 
         // when
@@ -101,5 +109,7 @@ class ProductOptionServiceTest {
 
         // then
         verify(productOptionRepository, times(1)).deleteById(optionId);
+        // 옵션이 속한 상품의 캐시가 무효화되도록 이벤트가 발행되어야 함
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangedEvent(1L));
     }
 }
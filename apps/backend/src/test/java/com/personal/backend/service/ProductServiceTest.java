@@ -1,20 +1,35 @@
 package com.personal.backend.service;
 
+import com.personal.backend.cache.ApproximateCountCache;
+import com.personal.backend.cache.ProductDetailCache;
+import com.personal.backend.config.image.ImageProperties;
 import com.personal.backend.domain.Category;
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.ProductDetail;
+import com.personal.backend.domain.ProductSummary;
 import com.personal.backend.domain.ShippingInfo;
 import com.personal.backend.domain.User;
 import com.personal.backend.domain.UserRole;
 import com.personal.backend.dto.CategoryDto;
 import com.personal.backend.dto.ProductDto;
 import com.personal.backend.dto.ShippingInfoDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.hotstock.HotStockService;
+import com.personal.backend.image.ImageUrlResolver;
 import com.personal.backend.repository.CategoryRepository;
 import com.personal.backend.repository.ProductDetailRepository;
 import com.personal.backend.repository.ProductLikeRepository;
+import com.personal.backend.repository.ProductOptionRepository;
 import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+import com.personal.backend.repository.ProductTagRepository;
 import com.personal.backend.repository.ShippingInfoRepository;
 import com.personal.backend.repository.UserRepository;
+import com.personal.backend.search.ProductFacetIndex;
+import com.personal.backend.search.ProductFacetQuery;
+import com.personal.backend.search.ProductFacetResult;
+import com.personal.backend.search.ProductFacetSort;
+import com.personal.backend.search.ProductSearchIndex;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,20 +38,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,6 +90,36 @@ class ProductServiceTest {
     @Mock
     private ProductDetailRepository productDetailRepository;
 
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private ProductTagRepository productTagRepository;
+
+    @Mock
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
+    @Mock
+    private HotStockService hotStockService;
+
+    @Spy
+    private ImageUrlResolver imageUrlResolver = new ImageUrlResolver(new ImageProperties("https://cdn.test.com/images/"));
+
     private Category dummyCategory;
     private Product dummyProduct;
     private User dummyUser;
@@ -128,6 +185,25 @@ class ProductServiceTest {
         verify(productRepository, times(1)).save(any(Product.class)); // productRepository.save가 1번 호출되었는지 검증
     }
 
+    @Test
+    @DisplayName("상품 생성 - 요청의 이미지 URL은 객체 키로 바꿔 저장")
+    void createProduct_StoresImageObjectKeys() {
+        // given
+        ProductDto.CreateRequest request = new ProductDto.CreateRequest("새 상품", "새 설명", 15000,
+                List.of("https://cdn.test.com/images/a_new.jpg",
+                        "https://objectstorage.ap-chuncheon-1.oraclecloud.com/n/ns/b/bucket/o/b_old.jpg"),
+                1L, 10, 0.0);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(dummyUser));
+        when(categoryRepository.findById(request.categoryId())).thenReturn(Optional.of(dummyCategory));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ProductDto.Response response = productService.createProduct(request, "test@user.com");
+
+        // then
+        assertThat(response.imageUrl()).containsExactly("a_new.jpg", "b_old.jpg");
+    }
+
     @Test
     @DisplayName("상품 생성 실패 - 존재하지 않는 카테고리")
     void createProduct_Fail_CategoryNotFound() {
@@ -150,7 +226,6 @@ class ProductServiceTest {
         ProductDto.UpdateRequest request = new ProductDto.UpdateRequest("수정된 이름", "수정된 설명", 20000, List.of("updated.jpg"), 1L,10, null, 0.0);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(dummyUser));
         when(productRepository.findById(productId)).thenReturn(Optional.of(dummyProduct));
-        when(productDetailRepository.findById(any())).thenReturn(Optional.of(dummyProductDetail));
         when(categoryRepository.findById(request.categoryId())).thenReturn(Optional.of(dummyCategory));
 
         // when
@@ -160,6 +235,29 @@ class ProductServiceTest {
         assertThat(response.name()).isEqualTo("수정된 이름");
         assertThat(response.originalPrice()).isEqualTo(20000);
         verify(productRepository, times(1)).findById(productId);
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangedEvent(productId));
+        // 상세 본문을 보내지 않았으므로 상세 정보는 읽지도 쓰지도 않음
+        verifyNoInteractions(productDetailRepository);
+    }
+
+    @Test
+    @DisplayName("상품 수정 - 상세 본문을 보내면 압축 저장하고 응답에는 요청 값을 그대로 사용")
+    void updateProduct_SavesDetailContent() {
+        // given
+        Long productId = 1L;
+        setProductId(dummyProduct, productId);
+        ProductDto.UpdateRequest request = new ProductDto.UpdateRequest("수정된 이름", "수정된 설명", 20000, List.of("updated.jpg"), 1L, 10, "<p>새 본문</p>", 0.0);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(dummyUser));
+        when(productRepository.findById(productId)).thenReturn(Optional.of(dummyProduct));
+        when(categoryRepository.findById(request.categoryId())).thenReturn(Optional.of(dummyCategory));
+        when(productDetailRepository.findById(productId)).thenReturn(Optional.of(dummyProductDetail));
+
+        // when
+        ProductDto.Response response = productService.updateProduct(productId, request, "test@user.com");
+
+        // then
+        assertThat(response.detailContent()).isEqualTo("<p>새 본문</p>");
+        assertThat(dummyProductDetail.readContent()).isEqualTo("<p>새 본문</p>");
     }
 
     @Test
@@ -177,6 +275,93 @@ class ProductServiceTest {
 
         // then
         verify(productRepository, times(1)).deleteById(productId);
+        verify(eventPublisher, times(1)).publishEvent(new ProductChangedEvent(productId));
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 캐시 미스 시 DB에서 읽어 오고 isLiked를 덧씌움")
+    @SuppressWarnings("unchecked")
+    void findProductById_LoadsOnCacheMissAndOverlaysLiked() {
+        // given
+        Long productId = 1L;
+        setProductId(dummyProduct, productId);
+        when(productDetailCache.getOrLoad(eq(productId), any()))
+                .thenAnswer(invocation -> ((Supplier<ProductDto.Response>) invocation.getArgument(1)).get());
+        when(productRepository.findById(productId)).thenReturn(Optional.of(dummyProduct));
+        when(userRepository.findByEmail("test@user.com")).thenReturn(Optional.of(dummyUser));
+        when(productLikeRepository.existsByUser_IdAndProduct_Id(1L, productId)).thenReturn(true);
+
+        // when
+        ProductDto.Response response = productService.findProductById(productId, "test@user.com");
+
+        // then
+        assertThat(response.name()).isEqualTo("테스트 상품");
+        assertThat(response.detailContent()).isNull();
+        assertThat(response.isLiked()).isTrue();
+        // 상세 본문을 요청하지 않았으므로 상세 정보 테이블은 조회하지 않음
+        verify(productDetailRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - includeDetail이면 캐시된 응답에 상세 본문을 덧씌움")
+    void findProductById_IncludeDetailReadsContent() {
+        // given
+        Long productId = 1L;
+        ProductDto.Response cached = new ProductDto.Response(productId, "캐시된 상품", null, 10000, 10000, 10,
+                List.of("image.jpg"), "테스트 카테고리", null, 0, 0, 0.0, 0.0, false, List.of(), List.of(), 0);
+        when(productDetailCache.getOrLoad(eq(productId), any())).thenReturn(cached);
+        when(productDetailRepository.findById(productId)).thenReturn(Optional.of(dummyProductDetail));
+
+        // when
+        ProductDto.Response response = productService.findProductById(productId, null, true);
+
+        // then
+        assertThat(response.detailContent()).isEqualTo("상세 정보입니다.");
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("상세 본문 스트리밍 - 압축을 풀어 출력 스트림에 그대로 씀")
+    void writeDetailContent_StreamsDecompressedContent() {
+        // given
+        when(productDetailRepository.findById(1L)).thenReturn(Optional.of(dummyProductDetail));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        productService.writeDetailContent(1L, () -> out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("상세 정보입니다.");
+    }
+
+    @Test
+    @DisplayName("상세 본문 스트리밍 - 상세 정보가 없으면 예외 발생")
+    void writeDetailContent_NotFound() {
+        // given
+        when(productDetailRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(EntityNotFoundException.class,
+                () -> productService.writeDetailContent(1L, ByteArrayOutputStream::new));
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 캐시 히트 시 상품 테이블을 다시 조회하지 않음")
+    void findProductById_CacheHitSkipsRepository() {
+        // given
+        Long productId = 1L;
+        ProductDto.Response cached = new ProductDto.Response(productId, "캐시된 상품", null, 10000, 10000, 10,
+                List.of("image.jpg"), "테스트 카테고리", null, 0, 0, 0.0, 0.0, false, List.of(), List.of(), 0);
+        when(productDetailCache.getOrLoad(eq(productId), any())).thenReturn(cached);
+
+        // when
+        ProductDto.Response response = productService.findProductById(productId, null);
+
+        // then
+        assertThat(response.name()).isEqualTo("캐시된 상품");
+        assertThat(response.isLiked()).isFalse();
+        verify(productRepository, never()).findById(anyLong());
+        verify(productDetailRepository, never()).findById(anyLong());
     }
     
     @Test
@@ -187,11 +372,11 @@ class ProductServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // 2. Mock Repository가 반환할 데이터 목록을 준비합니다.
-        List<Product> productList = List.of(dummyProduct);
-        Page<Product> productPage = new PageImpl<>(productList, pageable, productList.size());
+        List<ProductSummary> summaryList = List.of(summaryOf(dummyProduct));
+        Page<ProductSummary> summaryPage = new PageImpl<>(summaryList, pageable, summaryList.size());
 
         // 3. Mock 설정: findAll(Pageable)이 호출되면 위에서 만든 Page 객체를 반환하도록 설정합니다.
-        when(productRepository.findAll(pageable)).thenReturn(productPage);
+        when(productSummaryRepository.findAll(pageable)).thenReturn(summaryPage);
 
         // when
         // 4. 서비스 메소드 호출 시 Pageable 객체를 전달합니다.
@@ -211,18 +396,18 @@ class ProductServiceTest {
         // given
         Long categoryId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        List<Product> productList = List.of(dummyProduct);
-        Page<Product> productPage = new PageImpl<>(productList, pageable, productList.size());
+        List<ProductSummary> summaryList = List.of(summaryOf(dummyProduct));
+        Page<ProductSummary> summaryPage = new PageImpl<>(summaryList, pageable, summaryList.size());
 
         // 3. Mock 설정: findByCategoryId(Pageable)가 호출되면 Page 객체를 반환하도록 설정합니다.
-        when(productRepository.findByCategoryId(categoryId, pageable)).thenReturn(productPage);
+        when(productSummaryRepository.findByCategoryId(categoryId, pageable)).thenReturn(summaryPage);
         
         // when
         Page<ProductDto.Response> resultPage = productService.findProducts(null, categoryId, pageable, "test@user.com");
 
         // then
         assertThat(resultPage.getContent()).hasSize(1);
-        verify(productRepository, times(1)).findByCategoryId(categoryId, pageable);
+        verify(productSummaryRepository, times(1)).findByCategoryId(categoryId, pageable);
     }
 
     @Test
@@ -233,11 +418,11 @@ class ProductServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         // Mock Repository가 반환할 데이터 준비
-        List<Product> productList = List.of(dummyProduct);
-        Page<Product> productPage = new PageImpl<>(productList, pageable, productList.size());
+        List<ProductSummary> summaryList = List.of(summaryOf(dummyProduct));
+        Page<ProductSummary> summaryPage = new PageImpl<>(summaryList, pageable, summaryList.size());
 
         // Mock 설정: findByNameContaining이 호출되면 준비된 Page 객체를 반환
-        when(productRepository.findByNameContaining(keyword, pageable)).thenReturn(productPage);
+        when(productSummaryRepository.findByNameContaining(keyword, pageable)).thenReturn(summaryPage);
 
         // when
         // 서비스 호출 시 keyword를 전달하고 categoryId는 null로 전달
@@ -248,10 +433,202 @@ class ProductServiceTest {
         
         // --- 핵심 검증 ---
         // findByNameContaining 메소드가 정확히 1번 호출되었는지 확인
-        verify(productRepository, times(1)).findByNameContaining(keyword, pageable);
+        verify(productSummaryRepository, times(1)).findByNameContaining(keyword, pageable);
         // 다른 조회 메소드들은 호출되지 않았는지 확인
-        verify(productRepository, never()).findAll(any(Pageable.class));
-        verify(productRepository, never()).findByCategoryId(anyLong(), any(Pageable.class));
+        verify(productSummaryRepository, never()).findAll(any(Pageable.class));
+        verify(productSummaryRepository, never()).findByCategoryId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되면 키워드 검색은 색인의 관련도 순서대로 요청한 페이지만 조회")
+    void findProducts_SearchByKeyword_UsesIndexWhenReady() {
+        // given
+        String keyword = "노트북";
+        Pageable pageable = PageRequest.of(1, 2);
+        Product secondProduct = Product.builder()
+                .name("노트북 파우치")
+                .price(5000)
+                .category(dummyCategory)
+                .user(dummyUser)
+                .build();
+        setProductId(dummyProduct, 3L);
+        setProductId(secondProduct, 4L);
+
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(keyword)).thenReturn(List.of(1L, 2L, 4L, 3L, 5L));
+        // DB는 순서와 무관하게 반환하더라도 색인 순서를 유지해야 함
+        List<ProductSummary> summaries = List.of(summaryOf(dummyProduct), summaryOf(secondProduct));
+        when(productSummaryRepository.findByIdIn(List.of(4L, 3L))).thenReturn(summaries);
+
+        // when
+        Page<ProductDto.Response> resultPage = productService.findProducts(keyword, null, pageable, null);
+
+        // then
+        assertThat(resultPage.getContent()).extracting(ProductDto.Response::id).containsExactly(4L, 3L);
+        assertThat(resultPage.getTotalElements()).isEqualTo(5);
+        verify(productSummaryRepository, never()).findByNameContaining(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 필터 색인이 정한 순서대로 요청한 페이지의 상품만 DB에서 조회")
+    void searchByFacets_LoadsPageInIndexOrder() {
+        // given
+        ProductFacetQuery query = new ProductFacetQuery(List.of(1L), null, 10_000, null, null, 4.0, true);
+        ProductFacetResult.Facets facets = new ProductFacetResult.Facets(
+                List.of(new ProductFacetResult.FacetCount(1L, "전자기기", 3)), List.of(), 3);
+        Product secondProduct = Product.builder()
+                .name("노트북 파우치")
+                .price(15000)
+                .category(dummyCategory)
+                .user(dummyUser)
+                .build();
+        setProductId(dummyProduct, 3L);
+        setProductId(secondProduct, 4L);
+
+        when(productFacetIndex.isReady()).thenReturn(true);
+        when(productFacetIndex.search(query, ProductFacetSort.PRICE_ASC, 2L, 2))
+                .thenReturn(new ProductFacetResult(List.of(4L, 3L), 5, facets));
+        List<ProductSummary> summaries = List.of(summaryOf(dummyProduct), summaryOf(secondProduct));
+        when(productSummaryRepository.findByIdIn(List.of(4L, 3L))).thenReturn(summaries);
+
+        // when
+        ProductDto.FacetSearchResponse response = productService.searchByFacets(query, ProductFacetSort.PRICE_ASC, 1, 2, null);
+
+        // then
+        assertThat(response.content()).extracting(ProductDto.Response::id).containsExactly(4L, 3L);
+        assertThat(response.totalElements()).isEqualTo(5);
+        assertThat(response.totalPages()).isEqualTo(3);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.facets()).isEqualTo(facets);
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 시작 직후 필터 색인이 준비되지 않았으면 예외 발생")
+    void searchByFacets_Fail_IndexNotReady() {
+        // given
+        when(productFacetIndex.isReady()).thenReturn(false);
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> productService.searchByFacets(ProductFacetQuery.none(), null, 0, 10, null));
+        verify(productSummaryRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("키워드 커서 조회 - 검색 결과 내 위치(offset) 커서 이후의 상품만 조회")
+    void scrollProducts_SearchByKeyword_ContinuesFromOffsetCursor() {
+        // given
+        String keyword = "노트북";
+        setProductId(dummyProduct, 5L);
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(keyword)).thenReturn(List.of(1L, 2L, 5L, 3L));
+        List<ProductSummary> summaries = List.of(summaryOf(dummyProduct));
+        when(productSummaryRepository.findByIdIn(List.of(5L))).thenReturn(summaries);
+
+        // when: 두 번째 결과(offset 1)까지 본 상태에서 1개 조회
+        Window<ProductDto.Response> window = productService.scrollProducts(keyword, null,
+                ScrollPosition.offset(1), Limit.of(1), null);
+
+        // then
+        assertThat(window.getContent()).extracting(ProductDto.Response::id).containsExactly(5L);
+        assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.offset(2));
+        assertThat(window.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("키워드 없는 커서 조회 - keyset 위치로 id 내림차순 조회")
+    void scrollProducts_WithoutKeyword_UsesKeyset() {
+        // given
+        setProductId(dummyProduct, 2L);
+        ScrollPosition after = ScrollPosition.forward(Map.of("id", 3L));
+        Window<ProductSummary> summaries = Window.from(List.of(summaryOf(dummyProduct)), index -> ScrollPosition.forward(Map.of("id", 2L)), false);
+        when(productSummaryRepository.findAllBy(after, Limit.of(10), Sort.by(Sort.Direction.DESC, "id"))).thenReturn(summaries);
+
+        // when
+        Window<ProductDto.Response> window = productService.scrollProducts(null, null, after, Limit.of(10), null);
+
+        // then
+        assertThat(window.getContent()).extracting(ProductDto.Response::id).containsExactly(2L);
+        assertThat(window.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회는 요약 테이블만 읽고 옵션/태그/이미지 테이블은 조회하지 않음")
+    void findProducts_ReadsSummaryOnly() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        Product secondProduct = Product.builder()
+                .name("두 번째 상품")
+                .price(5000)
+                .imageUrl(List.of("second.jpg", "second-detail.jpg"))
+                .category(dummyCategory)
+                .user(dummyUser)
+                .build();
+        setProductId(dummyProduct, 1L);
+        setProductId(secondProduct, 2L);
+        ProductSummary firstSummary = new ProductSummary(1L);
+        firstSummary.refresh(dummyProduct, List.of("image.jpg"), List.of(), 2);
+        ProductSummary secondSummary = new ProductSummary(2L);
+        secondSummary.refresh(secondProduct, List.of("second.jpg", "second-detail.jpg"), List.of(), 0);
+        Page<ProductSummary> summaryPage = new PageImpl<>(List.of(firstSummary, secondSummary), pageable, 2);
+
+        when(productSummaryRepository.findAll(pageable)).thenReturn(summaryPage);
+
+        // when
+        Page<ProductDto.Response> resultPage = productService.findProducts(null, null, pageable, null);
+
+        // then
+        // 목록에는 대표 이미지만 내려가고, 옵션은 개수만 제공
+        assertThat(resultPage.getContent()).extracting(ProductDto.Response::imageUrl)
+                .containsExactly(List.of("image.jpg"), List.of("second.jpg"));
+        assertThat(resultPage.getContent()).extracting(ProductDto.Response::optionCount)
+                .containsExactly(2, 0);
+        assertThat(resultPage.getContent()).extracting(ProductDto.Response::categoryName)
+                .containsOnly("테스트 카테고리");
+        verifyNoInteractions(productOptionRepository, productTagRepository);
+        verify(productRepository, never()).findImageUrlsByProductIdIn(any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 시 좋아요 여부는 현재 페이지의 상품 id로만 조회")
+    void findProducts_LikesScopedToPageIds() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        Product secondProduct = Product.builder()
+                .name("두 번째 상품")
+                .price(5000)
+                .category(dummyCategory)
+                .user(dummyUser)
+                .build();
+        setProductId(dummyProduct, 1L);
+        setProductId(secondProduct, 2L);
+        Page<ProductSummary> summaryPage = new PageImpl<>(List.of(summaryOf(dummyProduct), summaryOf(secondProduct)), pageable, 2);
+
+        when(productSummaryRepository.findAll(pageable)).thenReturn(summaryPage);
+        when(userRepository.findByEmail("test@user.com")).thenReturn(Optional.of(dummyUser));
+        when(productLikeRepository.findLikedProductIdsByUserIdAndProductIdIn(1L, List.of(1L, 2L))).thenReturn(Set.of(2L));
+
+        // when
+        Page<ProductDto.Response> resultPage = productService.findProducts(null, null, pageable, "test@user.com");
+
+        // then
+        assertThat(resultPage.getContent()).extracting(ProductDto.Response::isLiked)
+                .containsExactly(false, true);
+        verify(productLikeRepository, times(1)).findLikedProductIdsByUserIdAndProductIdIn(1L, List.of(1L, 2L));
+    }
+
+    private void setProductId(Product product, Long id) {
+        try {
+            var idField = Product.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(product, id);
+        } catch (Exception e) { e.printStackTrace(); }
+    }
+
+    private ProductSummary summaryOf(Product product) {
+        ProductSummary summary = new ProductSummary(product.getId());
+        summary.refresh(product, product.getImageUrl() != null ? product.getImageUrl() : List.of(), List.of(), 0);
+        return summary;
     }
 
     @Test
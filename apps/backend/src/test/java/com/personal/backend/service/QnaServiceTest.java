@@ -1,5 +1,6 @@
 package com.personal.backend.service;
 
+import com.personal.backend.cache.ApproximateCountCache;
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.Qna;
 import com.personal.backend.domain.User;
@@ -15,12 +16,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +48,9 @@ class QnaServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
     private User dummyUser;
     private Product dummyProduct;
     private Qna dummyQna;
@@ -171,4 +178,13 @@ class QnaServiceTest {
         assertThrows(SecurityException.class, () -> qnaService.deleteQna(qnaId, anotherUserEmail));
         verify(qnaRepository, never()).delete(any(Qna.class));
     }
+
+    @Test
+    @DisplayName("Q&A 커서 조회 실패 - 조작된 커서(offset 위치, id가 아닌 정렬 키)는 거절")
+    void scrollQna_Fail_TamperedCursor() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> qnaService.scrollQnaByProductId(1L, ScrollPosition.offset(10), Limit.of(10)));
+        assertThrows(IllegalArgumentException.class, () -> qnaService.scrollQnaByProductId(1L, ScrollPosition.forward(Map.of("createdAt", 5L)), Limit.of(10)));
+        verifyNoInteractions(qnaRepository);
+    }
 }
@@ -1,9 +1,12 @@
 package com.personal.backend.service;
 
+import com.personal.backend.cache.ApproximateCountCache;
 import com.personal.backend.domain.Product;
 import com.personal.backend.domain.Review;
 import com.personal.backend.domain.User;
 import com.personal.backend.dto.ReviewDto;
+import com.personal.backend.event.ProductChangedEvent;
+import com.personal.backend.pagination.PageMode;
 import com.personal.backend.repository.ProductRepository;
 import com.personal.backend.repository.ReviewRepository;
 import com.personal.backend.repository.UserRepository;
@@ -14,17 +17,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +52,12 @@ class ReviewServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User dummyUser;
     private Product dummyProduct;
     private Review dummyReview;
@@ -88,6 +104,59 @@ class ReviewServiceTest {
         verify(reviewRepository, times(1)).findByProductId(productId, pageable);
     }
 
+    @Test
+    @DisplayName("SLICE 모드는 COUNT 쿼리 없이 다음 페이지 여부만 반환")
+    void getReviewsByProductId_SliceMode_SkipsCount() {
+        Long productId = 1L;
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<Review> reviewSlice = new SliceImpl<>(List.of(dummyReview), pageable, true);
+
+        when(reviewRepository.findSliceByProductId(productId, pageable)).thenReturn(reviewSlice);
+
+        Slice<ReviewDto.Response> result = reviewService.getReviewsByProductId(productId, pageable, PageMode.SLICE);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).hasSize(1);
+        verify(reviewRepository, never()).findByProductId(productId, pageable);
+        verify(reviewRepository, never()).countByProductId(productId);
+        verifyNoInteractions(approximateCountCache);
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE 모드는 캐시된 전체 개수를 totalElements로 반환")
+    void getReviewsByProductId_ApproximateMode_UsesCachedCount() {
+        Long productId = 1L;
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<Review> reviewSlice = new SliceImpl<>(List.of(dummyReview), pageable, true);
+
+        when(reviewRepository.findSliceByProductId(productId, pageable)).thenReturn(reviewSlice);
+        when(approximateCountCache.get(eq("reviews:product:1"), any())).thenReturn(57L);
+
+        Slice<ReviewDto.Response> result = reviewService.getReviewsByProductId(productId, pageable, PageMode.APPROXIMATE);
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<ReviewDto.Response>) result).getTotalElements()).isEqualTo(57L);
+        assertThat(result.hasNext()).isTrue();
+        verify(reviewRepository, never()).findByProductId(productId, pageable);
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE 모드에서 마지막 페이지면 캐시 값 대신 실제 개수를 반환")
+    void getReviewsByProductId_ApproximateMode_LastPageIsExact() {
+        Long productId = 1L;
+        Pageable pageable = PageRequest.of(2, 10);
+        Slice<Review> reviewSlice = new SliceImpl<>(List.of(dummyReview), pageable, false);
+
+        when(reviewRepository.findSliceByProductId(productId, pageable)).thenReturn(reviewSlice);
+        when(approximateCountCache.get(eq("reviews:product:1"), any())).thenReturn(57L);
+
+        Slice<ReviewDto.Response> result = reviewService.getReviewsByProductId(productId, pageable, PageMode.APPROXIMATE);
+
+        assertThat(((Page<ReviewDto.Response>) result).getTotalElements()).isEqualTo(21L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("리뷰 생성 성공")
     void createReview_Success() {
@@ -102,7 +171,10 @@ class ReviewServiceTest {
 
         assertThat(response).isNotNull();
         assertThat(response.comment()).isEqualTo(dummyReview.getComment());
+        assertThat(dummyProduct.getReviewCount()).isEqualTo(1);
+        assertThat(dummyProduct.getAverageRating()).isEqualTo(5.0);
         verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(1L));
     }
 
     @Test
@@ -112,6 +184,7 @@ class ReviewServiceTest {
         String userEmail = "test@user.com";
         ReviewDto.UpdateRequest request = new ReviewDto.UpdateRequest(4, "Good product.");
 
+        dummyProduct.addReview(5);
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(dummyReview));
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
 
@@ -120,6 +193,8 @@ class ReviewServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.rating()).isEqualTo(4);
         assertThat(response.comment()).isEqualTo("Good product.");
+        assertThat(dummyProduct.getReviewCount()).isEqualTo(1);
+        assertThat(dummyProduct.getAverageRating()).isEqualTo(4.0);
         verify(reviewRepository, times(1)).findById(reviewId);
     }
 
@@ -132,9 +207,13 @@ class ReviewServiceTest {
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(dummyReview));
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(dummyUser));
 
+        dummyProduct.addReview(5);
         reviewService.deleteReview(reviewId, userEmail);
 
         verify(reviewRepository, times(1)).delete(dummyReview);
+        assertThat(dummyProduct.getReviewCount()).isZero();
+        assertThat(dummyProduct.getAverageRating()).isZero();
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(1L));
     }
 
     @Test
@@ -155,4 +234,13 @@ class ReviewServiceTest {
         assertThrows(SecurityException.class, () -> reviewService.deleteReview(reviewId, anotherUserEmail));
         verify(reviewRepository, never()).delete(any(Review.class));
     }
+
+    @Test
+    @DisplayName("리뷰 커서 조회 실패 - 조작된 커서(offset 위치, id가 아닌 정렬 키)는 거절")
+    void scrollReviews_Fail_TamperedCursor() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> reviewService.scrollReviewsByProductId(1L, ScrollPosition.offset(10), Limit.of(10)));
+        assertThrows(IllegalArgumentException.class, () -> reviewService.scrollReviewsByProductId(1L, ScrollPosition.forward(Map.of("createdAt", 5L)), Limit.of(10)));
+        verifyNoInteractions(reviewRepository);
+    }
 }
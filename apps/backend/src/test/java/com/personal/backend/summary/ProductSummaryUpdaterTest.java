@@ -0,0 +1,122 @@
+package com.personal.backend.summary;
+
+import com.personal.backend.domain.Category;
+import com.personal.backend.domain.Product;
+import com.personal.backend.domain.ProductOption;
+import com.personal.backend.domain.ProductSummary;
+import com.personal.backend.domain.ProductTag;
+import com.personal.backend.domain.Tag;
+import com.personal.backend.repository.CategoryRepository;
+import com.personal.backend.repository.ProductOptionRepository;
+import com.personal.backend.repository.ProductRepository;
+import com.personal.backend.repository.ProductSummaryRepository;
+import com.personal.backend.repository.ProductTagRepository;
+import com.personal.backend.repository.TagRepository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ProductSummaryUpdater.class)
+class ProductSummaryUpdaterTest {
+
+    @Autowired
+    private ProductSummaryUpdater productSummaryUpdater;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(new Category("전자기기"));
+        product = productRepository.save(Product.builder()
+                .name("게이밍 노트북")
+                .price(1_000_000)
+                .imageUrl(List.of("main.jpg", "detail.jpg"))
+                .category(category)
+                .stockQuantity(5)
+                .discountRate(0.1)
+                .build());
+        Tag tag = tagRepository.save(new Tag("게이밍"));
+        productTagRepository.save(ProductTag.builder().product(product).tag(tag).build());
+        productOptionRepository.save(ProductOption.builder().product(product).optionGroupName("색상").optionName("블랙").build());
+        productOptionRepository.save(ProductOption.builder().product(product).optionGroupName("색상").optionName("화이트").build());
+    }
+
+    @Test
+    @DisplayName("상품 요약 정보에 대표 이미지, 카테고리, 태그, 옵션 개수를 함께 저장")
+    void refresh_CreatesSummary() {
+        // when
+        productSummaryUpdater.refresh(List.of(product.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        ProductSummary summary = productSummaryRepository.findById(product.getId()).orElseThrow();
+        assertThat(summary.getName()).isEqualTo("게이밍 노트북");
+        assertThat(summary.getPrimaryImageUrl()).isEqualTo("main.jpg");
+        assertThat(summary.getCategoryName()).isEqualTo("전자기기");
+        assertThat(summary.getTags()).extracting(ProductSummary.SummaryTag::name).containsExactly("게이밍");
+        assertThat(summary.getOptionCount()).isEqualTo(2);
+        assertThat(summary.getDiscountedPrice()).isEqualTo(900_000);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 기존 요약 정보를 갱신하고, 삭제되면 요약 정보도 삭제")
+    void refresh_UpdatesAndDeletesSummary() {
+        // given
+        productSummaryUpdater.refresh(List.of(product.getId()));
+        productRepository.decreaseStock(product.getId(), 2);
+        entityManager.clear();
+
+        // when
+        productSummaryUpdater.refresh(List.of(product.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(productSummaryRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+
+        // when: 상품과 연관 데이터 삭제 후 갱신
+        productOptionRepository.deleteAll(productOptionRepository.findByProductIdIn(List.of(product.getId())));
+        productTagRepository.deleteAll(productTagRepository.findWithTagByProductIdIn(List.of(product.getId())));
+        productRepository.deleteById(product.getId());
+        entityManager.flush();
+        productSummaryUpdater.refresh(List.of(product.getId()));
+        entityManager.flush();
+
+        // then
+        assertThat(productSummaryRepository.findById(product.getId())).isEmpty();
+    }
+}
@@ -41,7 +41,7 @@ export function useAdminProducts(params?: AdminListParams) {
 export function useAdminProduct(id: number) {
   return useQuery<ProductResponse, Error>({
     queryKey: ["admin-product", id],
-    queryFn: () => apiFetch<ProductResponse>(`/products/${id}`),
+    queryFn: () => apiFetch<ProductResponse>(`/products/${id}?includeDetail=true`),
     enabled: Number.isFinite(id) && id > 0,
   });
 }
@@ -5,5 +5,5 @@ import { ProductResponse } from "@/types/backend";
 export const useProduct = (id: number) =>
   useQuery({
     queryKey: ["product", id],
-    queryFn: () => apiFetch<ProductResponse>(`/products/${id}`),
+    queryFn: () => apiFetch<ProductResponse>(`/products/${id}?includeDetail=true`),
   });
@@ -135,13 +135,18 @@ export interface CartResponse {
 /** ===== 주문/결제 ===== */
 export interface OrderItemRequest {
   productId: number; // int64
+  optionId?: number; // int64, 선택한 상품 옵션
   count: number; // >=1
 }
 export interface OrderCreateRequest {
   orderItems: OrderItemRequest[]; // length >=1
 }
 export interface OrderItemResponse {
-  productName: string;
+  id: number; // int64
+  productId?: number | null; // int64
+  productName: string; // 주문 당시 상품 이름
+  optionName?: string | null; // 예: "사이즈: 270"
+  imageUrl?: string | null; // 주문 당시 대표 이미지
   count: number;
   orderPrice: number;
 }